@@ -0,0 +1,92 @@
+package com.onepiece.otboo.domain.recommendation.service.engine;
+
+import com.onepiece.otboo.domain.clothes.entity.ClothesType;
+import com.onepiece.otboo.domain.feed.dto.response.OotdDto.OotdAttribute;
+import com.onepiece.otboo.domain.recommendation.config.props.RecommendationProperties;
+import com.onepiece.otboo.domain.recommendation.entity.RecommendationParameter;
+import com.onepiece.otboo.domain.recommendation.support.WardrobeIndex;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 추천 엔진별 요청당 CPU/할당량 벤치마크
+ * <p>
+ * 합성 옷장(10, 1,000, 100,000벌)에 대해 엔진 한 번 실행 비용을 측정합니다. 할당량은 gc 프로파일러 결과의
+ * {@code gc.alloc.rate.norm}을 확인합니다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RecommendationEngineBenchmark {
+
+    private static final String[] SEASON_VALUES = {"봄", "여름", "가을", "겨울"};
+
+    @Param({"10", "1000", "100000"})
+    private int closetSize;
+
+    @Param({ScoringRecommendationEngine.NAME, RuleBasedRecommendationEngine.NAME})
+    private String engineName;
+
+    private RecommendationEngine engine;
+    private WardrobeIndex index;
+    private RecommendationParameter parameter;
+
+    @Setup
+    public void setUp() {
+        RecommendationProperties properties = new RecommendationProperties(null, null, null, null, null);
+        engine = RecommendationEngine.choose(
+            List.of(new ScoringRecommendationEngine(properties), new RuleBasedRecommendationEngine()),
+            engineName
+        );
+
+        Random random = new Random(42);
+        ClothesType[] types = ClothesType.values();
+        UUID definitionId = UUID.randomUUID();
+        List<String> selectable = List.of(SEASON_VALUES);
+
+        WardrobeIndex.Builder builder = WardrobeIndex.builder();
+        for (int i = 0; i < closetSize; i++) {
+            List<OotdAttribute> attributes = new ArrayList<>(2);
+            int seasonCount = random.nextInt(3);
+            for (int s = 0; s < seasonCount; s++) {
+                attributes.add(new OotdAttribute(definitionId, "계절", selectable,
+                    SEASON_VALUES[random.nextInt(SEASON_VALUES.length)]));
+            }
+            builder.add(UUID.randomUUID(), "의상" + i, types[random.nextInt(types.length)],
+                "clothes/" + i + ".png", random.nextInt(20), attributes);
+        }
+        index = builder.build();
+
+        parameter = RecommendationParameter.builder()
+            .curTemp(14.0)
+            .maxTemp(18.0)
+            .minTemp(9.0)
+            .humidity(55.0)
+            .windSpeed(3.0)
+            .feelHot(0.0)
+            .feelCold(0.0)
+            .tempSens(3)
+            .age(27)
+            .genderInt(0)
+            .seasonInt(3)
+            .skyStatusInt(1)
+            .build();
+    }
+
+    @Benchmark
+    public int[] recommend() {
+        return engine.recommend(index, parameter, 10);
+    }
+}
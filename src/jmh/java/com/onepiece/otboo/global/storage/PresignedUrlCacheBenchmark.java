@@ -0,0 +1,97 @@
+package com.onepiece.otboo.global.storage;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+
+/**
+ * 피드 목록 한 페이지 분량의 이미지 키를 공개 URL로 바꾸는 비용 벤치마크
+ * <p>
+ * 한 페이지는 피드 {@code pageSize}개이며, 피드마다 작성자 프로필 이미지 1개와 OOTD 의상 이미지 3개를 변환합니다.
+ * 작성자/의상 키는 한정된 풀에서 뽑아 실제 목록처럼 키가 반복되게 합니다. 서명은 네트워크 없이 로컬에서 계산됩니다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PresignedUrlCacheBenchmark {
+
+    private static final int OOTDS_PER_FEED = 3;
+    private static final Duration EXPIRATION = Duration.ofSeconds(600);
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private S3Presigner presigner;
+    private PresignedUrlCache cache;
+    private String[] pageKeys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        presigner = S3Presigner.builder()
+            .region(Region.AP_NORTHEAST_2)
+            .credentialsProvider(StaticCredentialsProvider.create(
+                AwsBasicCredentials.create("benchmark-access-key", "benchmark-secret-key")))
+            .build();
+        cache = new PresignedUrlCache(10_000, EXPIRATION.dividedBy(2));
+
+        Random random = new Random(42);
+        int authorPool = Math.max(1, pageSize / 2);
+        int clothesPool = pageSize * 2;
+        pageKeys = new String[pageSize * (1 + OOTDS_PER_FEED)];
+        int i = 0;
+        for (int feed = 0; feed < pageSize; feed++) {
+            pageKeys[i++] = "profile/" + random.nextInt(authorPool) + ".png";
+            for (int o = 0; o < OOTDS_PER_FEED; o++) {
+                pageKeys[i++] = "clothes/" + random.nextInt(clothesPool) + ".png";
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        presigner.close();
+    }
+
+    @Benchmark
+    public void pageWithoutCache(Blackhole blackhole) {
+        for (String key : pageKeys) {
+            blackhole.consume(presign(key));
+        }
+    }
+
+    @Benchmark
+    public void pageWithCache(Blackhole blackhole) {
+        for (String key : pageKeys) {
+            blackhole.consume(cache.get(key, this::presign));
+        }
+    }
+
+    private String presign(String key) {
+        GetObjectPresignRequest request = GetObjectPresignRequest.builder()
+            .signatureDuration(EXPIRATION)
+            .getObjectRequest(GetObjectRequest.builder()
+                .bucket("benchmark-bucket")
+                .key(key)
+                .build())
+            .build();
+        return presigner.presignGetObject(request).url().toString();
+    }
+}
@@ -11,6 +11,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import java.util.Collection;
 import java.util.List;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -46,6 +47,12 @@ public class Clothes extends BaseUpdatableEntity {
     @Column(name = "feed_count", nullable = false)
     private long feedCount;
 
+    /**
+     * 계절 속성(봄/여름/가을/겨울)을 {@link Season} 비트로 합친 값. 속성 저장 시 함께 갱신됩니다.
+     */
+    @Column(name = "season_mask", nullable = false)
+    private short seasonMask;
+
     @OneToMany(mappedBy = "clothes")
     private List<ClothesAttributes> attributes;
 
@@ -61,7 +68,17 @@ public class Clothes extends BaseUpdatableEntity {
         }
     }
 
+    public void updateSeasonMask(Collection<String> optionValues) {
+        this.seasonMask = (short) Season.maskOf(optionValues);
+    }
+
     public void increaseFeedCount() {
         this.feedCount++;
     }
+
+    public void decreaseFeedCount() {
+        if (this.feedCount > 0) {
+            this.feedCount--;
+        }
+    }
 }
@@ -0,0 +1,61 @@
+package com.onepiece.otboo.domain.clothes.entity;
+
+import java.util.Collection;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 의상 계절 속성을 표현하는 Enum입니다.
+ * <p>
+ * 계절 속성 값(봄/여름/가을/겨울)을 비트로 매핑해 의상별 계절 정보를 하나의 비트마스크로 다룰 때 사용합니다.
+ * </p>
+ */
+@Getter
+@RequiredArgsConstructor
+public enum Season {
+    SPRING("봄", 1),
+    SUMMER("여름", 1 << 1),
+    FALL("가을", 1 << 2),
+    WINTER("겨울", 1 << 3);
+
+    private final String label;
+    private final int bit;
+
+    /**
+     * 속성 값에 해당하는 계절 비트를 반환합니다. 계절 값이 아니면 0을 반환합니다.
+     */
+    public static int maskOf(String optionValue) {
+        if (optionValue == null) {
+            return 0;
+        }
+        for (Season season : values()) {
+            if (season.label.equals(optionValue)) {
+                return season.bit;
+            }
+        }
+        return 0;
+    }
+
+    public static int maskOf(Collection<String> optionValues) {
+        int mask = 0;
+        for (String optionValue : optionValues) {
+            mask |= maskOf(optionValue);
+        }
+        return mask;
+    }
+
+    /**
+     * 해당 월에 추천 가능한 계절 비트마스크를 반환합니다.
+     */
+    public static int recommendableMask(int month) {
+        return switch (month) {
+            case 1, 2, 3 -> WINTER.bit;
+            case 4 -> SPRING.bit | FALL.bit;
+            case 5, 6, 7, 8, 9 -> SPRING.bit | SUMMER.bit;
+            case 10 -> SPRING.bit | SUMMER.bit | FALL.bit;
+            case 11 -> SPRING.bit | FALL.bit | WINTER.bit;
+            case 12 -> FALL.bit | WINTER.bit;
+            default -> 0;
+        };
+    }
+}
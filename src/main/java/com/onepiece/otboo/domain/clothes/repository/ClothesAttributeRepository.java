@@ -1,9 +1,12 @@
 package com.onepiece.otboo.domain.clothes.repository;
 
 import com.onepiece.otboo.domain.clothes.entity.ClothesAttributes;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -13,6 +16,13 @@ public interface ClothesAttributeRepository extends JpaRepository<ClothesAttribu
 
     List<ClothesAttributes> findByClothesIdIn(List<UUID> clothesIds);
 
+    @Query("select a from ClothesAttributes a join fetch a.definition where a.clothes.id in :clothesIds")
+    List<ClothesAttributes> findWithDefinitionByClothesIdIn(
+        @Param("clothesIds") Collection<UUID> clothesIds);
+
+    @Query("select distinct a.clothes.id from ClothesAttributes a where a.definition.id = :definitionId")
+    List<UUID> findClothesIdsByDefinitionId(@Param("definitionId") UUID definitionId);
+
     void deleteByClothesId(UUID clothesId);
 
     void deleteByDefinitionId(UUID definitionId);
@@ -3,19 +3,27 @@ package com.onepiece.otboo.domain.clothes.service;
 import com.onepiece.otboo.domain.clothes.dto.data.ClothesAttributeDefDto;
 import com.onepiece.otboo.domain.clothes.dto.request.ClothesAttributeDefCreateRequest;
 import com.onepiece.otboo.domain.clothes.dto.request.ClothesAttributeDefUpdateRequest;
+import com.onepiece.otboo.domain.clothes.entity.Clothes;
 import com.onepiece.otboo.domain.clothes.entity.ClothesAttributeDefs;
 import com.onepiece.otboo.domain.clothes.entity.ClothesAttributeOptions;
+import com.onepiece.otboo.domain.clothes.entity.ClothesAttributes;
 import com.onepiece.otboo.domain.clothes.exception.ClothesAttributeDefNotFoundException;
 import com.onepiece.otboo.domain.clothes.mapper.ClothesAttributeMapper;
 import com.onepiece.otboo.domain.clothes.repository.ClothesAttributeDefRepository;
 import com.onepiece.otboo.domain.clothes.repository.ClothesAttributeOptionsRepository;
 import com.onepiece.otboo.domain.clothes.repository.ClothesAttributeRepository;
+import com.onepiece.otboo.domain.clothes.repository.ClothesRepository;
 import com.onepiece.otboo.global.enums.SortBy;
 import com.onepiece.otboo.global.enums.SortDirection;
 import com.onepiece.otboo.global.event.event.ClothesAttributeAddedEvent;
+import com.onepiece.otboo.global.event.event.WardrobeChangedEvent;
 import java.time.Instant;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -28,6 +36,10 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class ClothesAttributeDefServiceImpl implements ClothesAttributeDefService {
 
+    // 삭제한 정의를 쓰던 의상의 계절 비트를 다시 계산할 때 IN 절 하나에 넣을 최대 의상 수
+    private static final int SEASON_MASK_CHUNK_SIZE = 1000;
+
+    private final ClothesRepository clothesRepository;
     private final ClothesAttributeDefRepository clothesAttributeDefRepository;
     private final ClothesAttributeOptionsRepository clothesAttributeOptionsRepository;
     private final ClothesAttributeRepository clothesAttributeRepository;
@@ -163,8 +175,13 @@ public class ClothesAttributeDefServiceImpl implements ClothesAttributeDefServic
         clothesAttributeDefRepository.findById(definitionId)
             .orElseThrow(() -> new ClothesAttributeDefNotFoundException("의상 속성을 찾을 수 없습니다"));
 
+        List<UUID> clothesIds = clothesAttributeRepository.findClothesIdsByDefinitionId(definitionId);
+
         clothesAttributeRepository.deleteByDefinitionId(definitionId);
-        log.debug("의상 속성 삭제 완료");
+        log.debug("의상 속성 삭제 완료 - clothesCount: {}", clothesIds.size());
+
+        Set<UUID> ownerIds = recomputeSeasonMasks(clothesIds);
+        log.debug("의상 계절 속성 재계산 완료 - ownerCount: {}", ownerIds.size());
 
         clothesAttributeOptionsRepository.deleteByDefinitionId(definitionId);
         log.debug("의상 속성값 삭제 완료");
@@ -172,6 +189,35 @@ public class ClothesAttributeDefServiceImpl implements ClothesAttributeDefServic
         clothesAttributeDefRepository.deleteById(definitionId);
         log.debug("의상 속성 정의 삭제 완료");
 
+        // 속성이 빠진 옷장의 추천 인덱스/캐시를 무효화
+        Instant now = Instant.now();
+        ownerIds.forEach(ownerId ->
+            eventPublisher.publishEvent(new WardrobeChangedEvent(ownerId, now)));
+
         log.info("[의상 속성 정의] 삭제 작업 완료 - definitionId: {}", definitionId);
     }
+
+    /**
+     * 남은 속성으로 의상의 계절 비트마스크를 다시 계산합니다.
+     *
+     * @return 변경된 의상의 소유자 ID
+     */
+    private Set<UUID> recomputeSeasonMasks(List<UUID> clothesIds) {
+        Set<UUID> ownerIds = new HashSet<>();
+        for (int from = 0; from < clothesIds.size(); from += SEASON_MASK_CHUNK_SIZE) {
+            List<UUID> chunk = clothesIds.subList(from,
+                Math.min(from + SEASON_MASK_CHUNK_SIZE, clothesIds.size()));
+
+            Map<UUID, List<String>> optionValues =
+                clothesAttributeRepository.findByClothesIdIn(chunk).stream()
+                    .collect(Collectors.groupingBy(a -> a.getClothes().getId(),
+                        Collectors.mapping(ClothesAttributes::getOptionValue, Collectors.toList())));
+
+            for (Clothes clothes : clothesRepository.findAllById(chunk)) {
+                clothes.updateSeasonMask(optionValues.getOrDefault(clothes.getId(), List.of()));
+                ownerIds.add(clothes.getOwner().getId());
+            }
+        }
+        return ownerIds;
+    }
 }
@@ -29,8 +29,10 @@ import com.onepiece.otboo.domain.user.repository.UserRepository;
 import com.onepiece.otboo.global.dto.response.CursorPageResponseDto;
 import com.onepiece.otboo.global.enums.SortBy;
 import com.onepiece.otboo.global.enums.SortDirection;
+import com.onepiece.otboo.global.event.event.WardrobeChangedEvent;
 import com.onepiece.otboo.global.storage.FileStorage;
 import java.io.IOException;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -40,6 +42,7 @@ import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -60,6 +63,7 @@ public class ClothesServiceImpl implements ClothesService {
     private final ClothesAttributeMapper clothesAttributeMapper;
     private final FileStorage fileStorage;
     private final List<ClothesInfoParser> parsers;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${aws.storage.prefix.clothes}")
     private String CLOTHES_PREFIX;
@@ -174,6 +178,8 @@ public class ClothesServiceImpl implements ClothesService {
             .type(type)
             .imageUrl(imageUrl)
             .build();
+        clothes.updateSeasonMask(
+            request.attributes().stream().map(ClothesAttributeDto::value).toList());
 
         Clothes savedClothes = clothesRepository.save(clothes);
 
@@ -205,6 +211,8 @@ public class ClothesServiceImpl implements ClothesService {
                 return clothesAttributeMapper.toAttributeWithDefDto(def, value);
             }).toList();
 
+        eventPublisher.publishEvent(new WardrobeChangedEvent(ownerId, Instant.now()));
+
         // ClothesDto 반환
         return clothesMapper.toDto(savedClothes, clothesAttributeWithDefDto, fileStorage);
     }
@@ -249,6 +257,8 @@ public class ClothesServiceImpl implements ClothesService {
         if (!newAttributes.isEmpty() && !newAttributes.equals(attributes)) {
             attributeRepository.deleteAll(attributes);
             attributes = attributeRepository.saveAll(newAttributes);
+            clothes.updateSeasonMask(
+                attributes.stream().map(ClothesAttributes::getOptionValue).toList());
         }
 
         clothes.update(newName, newType, newImageUrl);
@@ -271,6 +281,9 @@ public class ClothesServiceImpl implements ClothesService {
                 return clothesAttributeMapper.toAttributeWithDefDto(def, value);
             }).toList();
 
+        eventPublisher.publishEvent(
+            new WardrobeChangedEvent(updatedClothes.getOwner().getId(), Instant.now()));
+
         return clothesMapper.toDto(updatedClothes, clothesAttributeWithDefDto, fileStorage);
     }
 
@@ -284,6 +297,9 @@ public class ClothesServiceImpl implements ClothesService {
         fileStorage.deleteFile(clothes.getImageUrl());
         attributeRepository.deleteByClothesId(clothesId);
         clothesRepository.deleteById(clothesId);
+
+        eventPublisher.publishEvent(
+            new WardrobeChangedEvent(clothes.getOwner().getId(), Instant.now()));
     }
 
     @Override
@@ -61,7 +61,7 @@ public class CommentService {
 
         feedRepository.increaseCommentCount(feedIdFromPath, 1L);
 
-        publisher.publishEvent(new FeedCommentCreatedEvent(dto, Instant.now()));
+        publisher.publishEvent(new FeedCommentCreatedEvent(dto, feed.getAuthorId(), Instant.now()));
         
         return dto;
     }
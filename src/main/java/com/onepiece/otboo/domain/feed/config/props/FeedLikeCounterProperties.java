@@ -0,0 +1,21 @@
+package com.onepiece.otboo.domain.feed.config.props;
+
+/**
+ * 좋아요 수 write-behind 카운터 설정
+ *
+ * @param flushIntervalMs     누적된 증감분을 feeds.like_count에 반영하는 주기
+ * @param reconcileIntervalMs 최근 변경된 피드의 좋아요 수를 feed_likes 기준으로 다시 계산하는 주기
+ * @param reconcileBatchSize  한 번의 재계산에서 처리할 최대 피드 수
+ */
+public record FeedLikeCounterProperties(
+    Long flushIntervalMs,
+    Long reconcileIntervalMs,
+    Integer reconcileBatchSize
+) {
+
+    public FeedLikeCounterProperties {
+        flushIntervalMs = flushIntervalMs == null ? 1_000L : flushIntervalMs;
+        reconcileIntervalMs = reconcileIntervalMs == null ? 600_000L : reconcileIntervalMs;
+        reconcileBatchSize = reconcileBatchSize == null ? 1_000 : reconcileBatchSize;
+    }
+}
@@ -0,0 +1,19 @@
+package com.onepiece.otboo.domain.feed.config.props;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "otboo.feed")
+public record FeedProperties(
+    FeedTimelineProperties timeline,
+    FeedLikeCounterProperties likeCounter,
+    LikedFeedFilterProperties likedFilter
+) {
+
+    public FeedProperties {
+        timeline = timeline == null ? new FeedTimelineProperties(null, null, null) : timeline;
+        likeCounter = likeCounter == null ? new FeedLikeCounterProperties(null, null, null)
+            : likeCounter;
+        likedFilter = likedFilter == null ? new LikedFeedFilterProperties(null, null, null, null, null)
+            : likedFilter;
+    }
+}
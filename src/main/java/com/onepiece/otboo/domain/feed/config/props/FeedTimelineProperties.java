@@ -0,0 +1,23 @@
+package com.onepiece.otboo.domain.feed.config.props;
+
+import java.time.Duration;
+
+/**
+ * 홈 타임라인 설정
+ *
+ * @param capacity     사용자별 타임라인에 보관하는 최대 피드 수 (초과분은 오래된 것부터 제거)
+ * @param fanOutLimit  작성 시 팔로워 타임라인에 밀어 넣는 최대 팔로워 수. 초과하는 작성자는 조회 시 직접 합칩니다.
+ * @param ttl          마지막 갱신 이후 타임라인 보관 기간. 만료된 사용자는 조회 시 팔로잉 작성자의 최근 피드로 다시 채웁니다.
+ */
+public record FeedTimelineProperties(
+    Integer capacity,
+    Integer fanOutLimit,
+    Duration ttl
+) {
+
+    public FeedTimelineProperties {
+        capacity = capacity == null ? 800 : capacity;
+        fanOutLimit = fanOutLimit == null ? 10_000 : fanOutLimit;
+        ttl = ttl == null ? Duration.ofDays(14) : ttl;
+    }
+}
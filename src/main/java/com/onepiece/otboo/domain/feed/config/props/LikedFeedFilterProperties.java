@@ -0,0 +1,46 @@
+package com.onepiece.otboo.domain.feed.config.props;
+
+import java.time.Duration;
+
+/**
+ * 사용자별 "좋아요한 피드" Bloom 필터 설정
+ * <p>
+ * 필터 크기는 만들 때의 좋아요 수 × {@code bitsPerLike}를 2의 거듭제곱으로 올린 값이며 {@code minBits}와
+ * {@code maxBits} 사이로 맞춥니다. 좋아요가 적은 사용자는 수십 바이트만 씁니다.
+ * </p>
+ *
+ * @param bitsPerLike 좋아요 하나당 비트 수. 16비트, 해시 5개일 때 오탐률이 약 0.1%입니다.
+ * @param minBits     사용자당 최소 필터 크기(비트)
+ * @param maxBits     사용자당 최대 필터 크기(비트). 좋아요가 많아 이 크기에 닿으면 오탐이 늘어 확인 쿼리가 많아집니다.
+ * @param hashes      피드 하나당 설정하는 비트 수
+ * @param ttl         필터 보관 기간. 만료되면 다음 조회에서 DB 기준으로 다시 만듭니다.
+ */
+public record LikedFeedFilterProperties(
+    Integer bitsPerLike,
+    Integer minBits,
+    Integer maxBits,
+    Integer hashes,
+    Duration ttl
+) {
+
+    public LikedFeedFilterProperties {
+        bitsPerLike = bitsPerLike == null ? 16 : bitsPerLike;
+        minBits = minBits == null ? 256 : minBits;
+        maxBits = maxBits == null ? 65_536 : maxBits;
+        hashes = hashes == null ? 5 : hashes;
+        ttl = ttl == null ? Duration.ofDays(1) : ttl;
+    }
+
+    /**
+     * 좋아요 {@code likes}개를 담을 필터 크기(비트). 바이트 단위로 저장할 수 있도록 8 이상의 2의 거듭제곱입니다.
+     */
+    public int bitsFor(int likes) {
+        // 0번 비트는 필터 생성 표시로 쓰므로 한 비트를 더함
+        long wanted = Math.max(minBits, (long) likes * bitsPerLike + 1);
+        long bits = 8;
+        while (bits < wanted && bits < maxBits) {
+            bits <<= 1;
+        }
+        return (int) bits;
+    }
+}
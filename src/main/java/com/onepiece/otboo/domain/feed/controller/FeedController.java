@@ -4,8 +4,10 @@ import com.onepiece.otboo.domain.feed.controller.api.FeedApi;
 import com.onepiece.otboo.domain.feed.dto.request.FeedCreateRequest;
 import com.onepiece.otboo.domain.feed.dto.request.FeedUpdateRequest;
 import com.onepiece.otboo.domain.feed.dto.response.FeedResponse;
+import com.onepiece.otboo.domain.feed.enums.FeedCountMode;
 import com.onepiece.otboo.domain.feed.service.FeedQueryService;
 import com.onepiece.otboo.domain.feed.service.FeedService;
+import com.onepiece.otboo.domain.feed.service.HomeTimelineService;
 import com.onepiece.otboo.global.dto.response.CursorPageResponseDto;
 import com.onepiece.otboo.global.enums.SortBy;
 import com.onepiece.otboo.global.enums.SortDirection;
@@ -39,6 +41,7 @@ public class FeedController implements FeedApi {
 
     private final FeedService feedService;
     private final FeedQueryService feedQueryService;
+    private final HomeTimelineService homeTimelineService;
 
     // ===== 목록 조회 =====
     @GetMapping(produces = "application/json")
@@ -51,16 +54,29 @@ public class FeedController implements FeedApi {
         @RequestParam(required = false) String keywordLike,
         @RequestParam(required = false) String skyStatusEqual,
         @RequestParam(required = false) String precipitationTypeEqual,
-        @RequestParam(required = false) UUID authorIdEqual
+        @RequestParam(required = false) UUID authorIdEqual,
+        @RequestParam(defaultValue = "EXACT") FeedCountMode countMode
     ) {
         UUID me = resolveRequesterIdOrNull(SecurityContextHolder.getContext().getAuthentication());
         var resp = feedQueryService.listFeeds(
             cursor, idAfter, limit, sortBy, sortDirection,
-            keywordLike, skyStatusEqual, precipitationTypeEqual, authorIdEqual, me
+            keywordLike, skyStatusEqual, precipitationTypeEqual, authorIdEqual, me, countMode
         );
         return ResponseEntity.ok(resp);
     }
 
+    // ===== 홈 타임라인 =====
+    @GetMapping(value = "/timeline", produces = "application/json")
+    public ResponseEntity<CursorPageResponseDto<FeedResponse>> listHomeTimeline(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) UUID idAfter,
+        @RequestParam(defaultValue = "20") int limit
+    ) {
+        UUID me = resolveRequesterId(SecurityContextHolder.getContext().getAuthentication());
+        var resp = homeTimelineService.listHomeTimeline(me, cursor, idAfter, limit);
+        return ResponseEntity.ok(resp);
+    }
+
     // ===== 등록 =====
     @PostMapping(consumes = "application/json", produces = "application/json")
     public ResponseEntity<FeedResponse> createFeed(@Valid @RequestBody FeedCreateRequest req) {
@@ -3,6 +3,7 @@ package com.onepiece.otboo.domain.feed.controller.api;
 import com.onepiece.otboo.domain.feed.dto.request.FeedCreateRequest;
 import com.onepiece.otboo.domain.feed.dto.request.FeedUpdateRequest;
 import com.onepiece.otboo.domain.feed.dto.response.FeedResponse;
+import com.onepiece.otboo.domain.feed.enums.FeedCountMode;
 import com.onepiece.otboo.global.dto.response.CursorPageResponseDto;
 import com.onepiece.otboo.global.dto.response.ErrorResponse;
 import com.onepiece.otboo.global.enums.SortBy;
@@ -202,7 +203,53 @@ public interface FeedApi {
             description = "작성자 ID 필터",
             schema = @Schema(format = "uuid")
         )
-        @RequestParam(required = false) UUID authorIdEqual
+        @RequestParam(required = false) UUID authorIdEqual,
+
+        @Parameter(
+            description = "전체 개수 계산 방식. FIRST_PAGE는 첫 페이지에서만, NONE은 계산하지 않음 (totalCount=null)",
+            schema = @Schema(allowableValues = {"EXACT", "FIRST_PAGE", "NONE"}),
+            example = "FIRST_PAGE"
+        )
+        @RequestParam(defaultValue = "EXACT") FeedCountMode countMode
+    );
+
+    @Operation(
+        summary = "홈 타임라인 조회",
+        description = "내가 팔로우한 사용자와 나의 피드를 최신순으로 조회합니다. 다음 페이지 요청 시 `nextCursor`, `nextIdAfter`를 그대로 전달하세요. totalCount는 제공하지 않습니다."
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "홈 타임라인 조회 성공",
+            content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = CursorPageResponseDto.class))),
+        @ApiResponse(responseCode = "400", description = "유효하지 않은 요청 파라미터",
+            content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "401", description = "인증 실패",
+            content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping(value = "/timeline", produces = "application/json")
+    ResponseEntity<CursorPageResponseDto<FeedResponse>> listHomeTimeline(
+        @Parameter(
+            description = "다음 페이지 커서. 마지막 항목의 createdAt (ISO-8601)",
+            example = "2025-09-10T00:21:17.683Z"
+        )
+        @RequestParam(required = false) String cursor,
+
+        @Parameter(
+            description = "다음 페이지 커서 (동률 우회 키). 마지막 항목의 UUID",
+            schema = @Schema(format = "uuid")
+        )
+        @RequestParam(required = false) UUID idAfter,
+
+        @Parameter(
+            description = "페이지 크기 (1~100)",
+            example = "20"
+        )
+        @Min(1)
+        @Max(100)
+        @RequestParam(defaultValue = "20") int limit
     );
 }
 
@@ -0,0 +1,182 @@
+package com.onepiece.otboo.domain.feed.counter;
+
+import com.onepiece.otboo.domain.feed.config.props.FeedLikeCounterProperties;
+import com.onepiece.otboo.domain.feed.config.props.FeedProperties;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 피드 좋아요 수 write-behind 카운터
+ * <p>
+ * 좋아요/취소 요청은 feeds 행을 갱신하지 않고 피드별 {@link LongAdder}에 증감분만 더합니다. 주기적인 flush가
+ * 누적분을 한 번의 JDBC 배치 UPDATE로 반영하므로, 인기 피드에 좋아요가 몰려도 같은 행 잠금을 기다리며 줄 서지
+ * 않습니다. 증감분은 트랜잭션 커밋 이후에만 더해 롤백된 요청은 반영되지 않습니다.
+ * </p>
+ * <p>
+ * 증감분이 0이 된 카운터는 바로 지우지 않고 여러 주기 동안 유휴일 때만 정리하며, 정리 직전에 카운터를 가져간 요청이
+ * 더한 값은 새 카운터로 옮기고 재계산 대상으로 남깁니다. 여러 인스턴스가 각자 증감분을 더하는 방식이라 합산은
+ * 안전하지만, 드물게 어긋난 값(반영 실패 후 재시도 전 종료 등)은 최근 변경된 피드를 feed_likes 기준으로 다시 계산하는
+ * reconcile이 보정합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class FeedLikeCounter {
+
+    private static final String FLUSH_SQL =
+        "UPDATE feeds SET like_count = GREATEST(like_count + ?, 0) WHERE id = ?";
+    private static final String RECONCILE_SQL =
+        "UPDATE feeds SET like_count = (SELECT COUNT(*) FROM feed_likes l WHERE l.feed_id = feeds.id) "
+            + "WHERE id = ?";
+
+    // 증감분이 0인 채로 이만큼 flush가 지난 카운터만 정리 (기본 주기 1초 기준 약 1분)
+    private static final int IDLE_FLUSHES_BEFORE_EVICT = 60;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FeedLikeCounterProperties properties;
+
+    private final Map<UUID, LongAdder> deltas = new ConcurrentHashMap<>();
+    // 마지막 reconcile 이후 반영된 피드
+    private final Set<UUID> dirty = ConcurrentHashMap.newKeySet();
+    // 증감분이 0인 채로 지난 flush 횟수 (flush 안에서만 접근)
+    private final Map<UUID, Integer> idleFlushes = new HashMap<>();
+
+    public FeedLikeCounter(JdbcTemplate jdbcTemplate, FeedProperties feedProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = feedProperties.likeCounter();
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 증감분을 더합니다. 트랜잭션 밖에서는 바로 더합니다.
+     */
+    public void addAfterCommit(UUID feedId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(feedId, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(feedId, delta);
+            }
+        });
+    }
+
+    public void add(UUID feedId, long delta) {
+        deltas.computeIfAbsent(feedId, k -> new LongAdder()).add(delta);
+    }
+
+    /**
+     * 아직 반영되지 않은 증감분의 합입니다.
+     */
+    public long pending(UUID feedId) {
+        LongAdder adder = deltas.get(feedId);
+        return adder == null ? 0L : adder.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${otboo.feed.like-counter.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        List<UUID> feedIds = new ArrayList<>();
+        List<Object[]> args = new ArrayList<>();
+
+        Iterator<Map.Entry<UUID, LongAdder>> it = deltas.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<UUID, LongAdder> entry = it.next();
+            LongAdder adder = entry.getValue();
+            long delta = adder.sum();
+            if (delta == 0) {
+                evictIfIdle(entry.getKey(), adder);
+                continue;
+            }
+            idleFlushes.remove(entry.getKey());
+            // 읽은 만큼만 빼서, 그 사이 더해진 증감분은 다음 flush로 넘김
+            adder.add(-delta);
+            feedIds.add(entry.getKey());
+            args.add(new Object[]{delta, entry.getKey()});
+        }
+        if (args.isEmpty()) {
+            return;
+        }
+
+        // 인스턴스 간 잠금 순서를 맞춰 교착을 피함
+        args.sort((a, b) -> ((UUID) a[1]).compareTo((UUID) b[1]));
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, args);
+            dirty.addAll(feedIds);
+            log.debug("[FeedLikeCounter] 좋아요 수 반영 - feeds: {}", args.size());
+        } catch (Exception e) {
+            // 반영에 실패한 증감분은 되돌려 다음 flush에서 다시 시도
+            for (Object[] arg : args) {
+                add((UUID) arg[1], (Long) arg[0]);
+            }
+            log.warn("[FeedLikeCounter] 좋아요 수 반영 실패, 다음 주기에 재시도 - feeds: {}", args.size(), e);
+        }
+    }
+
+    private void evictIfIdle(UUID feedId, LongAdder adder) {
+        if (idleFlushes.merge(feedId, 1, Integer::sum) < IDLE_FLUSHES_BEFORE_EVICT) {
+            return;
+        }
+        idleFlushes.remove(feedId);
+        if (!deltas.remove(feedId, adder)) {
+            return;
+        }
+        // 지우기 직전에 이 카운터를 가져간 요청이 더한 값은 새 카운터로 옮기고, 그 뒤에 더해질 수 있는 값은
+        // reconcile이 보정하도록 재계산 대상으로 남김
+        long late = adder.sum();
+        if (late != 0) {
+            adder.add(-late);
+            add(feedId, late);
+            dirty.add(feedId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${otboo.feed.like-counter.reconcile-interval-ms:600000}")
+    public synchronized void reconcile() {
+        List<Object[]> args = new ArrayList<>();
+        Iterator<UUID> it = dirty.iterator();
+        while (it.hasNext() && args.size() < properties.reconcileBatchSize()) {
+            UUID feedId = it.next();
+            // 아직 반영되지 않은 증감분이 있으면 재계산 결과에 이중으로 더해지므로 다음 주기로 미룸
+            if (pending(feedId) != 0) {
+                continue;
+            }
+            it.remove();
+            args.add(new Object[]{feedId});
+        }
+        if (args.isEmpty()) {
+            return;
+        }
+
+        args.sort((a, b) -> ((UUID) a[0]).compareTo((UUID) b[0]));
+        try {
+            jdbcTemplate.batchUpdate(RECONCILE_SQL, args);
+            log.info("[FeedLikeCounter] 좋아요 수 재계산 - feeds: {}", args.size());
+        } catch (Exception e) {
+            args.forEach(arg -> dirty.add((UUID) arg[0]));
+            log.warn("[FeedLikeCounter] 좋아요 수 재계산 실패 - feeds: {}", args.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
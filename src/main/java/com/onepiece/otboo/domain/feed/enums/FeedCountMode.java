@@ -0,0 +1,21 @@
+package com.onepiece.otboo.domain.feed.enums;
+
+/**
+ * 피드 목록 조회 시 totalCount 계산 방식
+ * <ul>
+ *     <li>EXACT: 매 페이지마다 COUNT 쿼리 실행 (기본값, 기존 동작)</li>
+ *     <li>FIRST_PAGE: 첫 페이지(커서 없음)에서만 계산하고 이후 페이지는 null</li>
+ *     <li>NONE: 계산하지 않음 (무한 스크롤)</li>
+ * </ul>
+ */
+public enum FeedCountMode {
+    EXACT, FIRST_PAGE, NONE;
+
+    public boolean shouldCount(boolean firstPage) {
+        return switch (this) {
+            case EXACT -> true;
+            case FIRST_PAGE -> firstPage;
+            case NONE -> false;
+        };
+    }
+}
@@ -0,0 +1,86 @@
+package com.onepiece.otboo.domain.feed.liked;
+
+import com.onepiece.otboo.domain.feed.config.props.FeedProperties;
+import com.onepiece.otboo.domain.feed.config.props.LikedFeedFilterProperties;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.context.annotation.Profile;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile("test | test-integration")
+public class InMemoryLikedFeedFilter implements LikedFeedFilter {
+
+    private final Map<UUID, byte[]> filters = new HashMap<>();
+    // 필터가 없을 때 들어온 좋아요
+    private final Map<UUID, Set<UUID>> pending = new HashMap<>();
+    private final LikedFeedFilterProperties properties;
+
+    public InMemoryLikedFeedFilter(FeedProperties properties) {
+        this.properties = properties.likedFilter();
+    }
+
+    @Nullable
+    @Override
+    public synchronized Set<UUID> mightContain(UUID userId, Collection<UUID> feedIds) {
+        byte[] bitmap = filters.get(userId);
+        if (bitmap == null) {
+            return null;
+        }
+        int bits = bitmap.length * 8;
+        Set<UUID> candidates = new HashSet<>();
+        for (UUID feedId : feedIds) {
+            boolean all = true;
+            for (long position : LikedFeedBloom.positions(feedId, bits, properties.hashes())) {
+                all &= LikedFeedBloom.get(bitmap, position);
+            }
+            if (all) {
+                candidates.add(feedId);
+            }
+        }
+        return candidates;
+    }
+
+    @Override
+    public synchronized void build(UUID userId, Collection<UUID> likedFeedIds) {
+        Set<UUID> feedIds = new HashSet<>(likedFeedIds);
+        Set<UUID> added = pending.remove(userId);
+        if (added != null) {
+            feedIds.addAll(added);
+        }
+
+        byte[] bitmap = new byte[properties.bitsFor(likedFeedIds.size()) / 8];
+        LikedFeedBloom.set(bitmap, LikedFeedBloom.READY_BIT);
+        feedIds.forEach(feedId -> setBits(bitmap, feedId));
+        filters.put(userId, bitmap);
+    }
+
+    @Override
+    public synchronized void add(UUID userId, UUID feedId) {
+        byte[] bitmap = filters.get(userId);
+        if (bitmap == null) {
+            pending.computeIfAbsent(userId, k -> new HashSet<>()).add(feedId);
+            return;
+        }
+        setBits(bitmap, feedId);
+    }
+
+    /**
+     * 사용자 필터의 크기(비트). 필터가 없으면 0입니다.
+     */
+    synchronized int sizeOf(UUID userId) {
+        byte[] bitmap = filters.get(userId);
+        return bitmap == null ? 0 : bitmap.length * 8;
+    }
+
+    private void setBits(byte[] bitmap, UUID feedId) {
+        for (long position : LikedFeedBloom.positions(feedId, bitmap.length * 8, properties.hashes())) {
+            LikedFeedBloom.set(bitmap, position);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.onepiece.otboo.domain.feed.liked;
+
+import java.util.UUID;
+
+/**
+ * Bloom 필터 비트 위치 계산
+ * <p>
+ * UUID의 상위/하위 64비트를 각각 섞어 두 해시를 만들고 {@code h1 + i * h2}로 k개의 위치를 얻습니다. 0번 비트는
+ * "필터가 만들어졌음" 표시용으로 예약되어 위치는 1부터 시작합니다. 바이트 배열의 비트 순서는 Redis 비트맵과 같이
+ * 바이트마다 최상위 비트가 앞입니다.
+ * </p>
+ */
+public final class LikedFeedBloom {
+
+    public static final long READY_BIT = 0L;
+
+    private LikedFeedBloom() {
+    }
+
+    public static long[] positions(UUID feedId, int bits, int hashes) {
+        long h1 = mix(feedId.getMostSignificantBits());
+        long h2 = mix(feedId.getLeastSignificantBits()) | 1L;
+        int usable = bits - 1;
+
+        long[] positions = new long[hashes];
+        for (int i = 0; i < hashes; i++) {
+            positions[i] = 1 + Math.floorMod(h1 + i * h2, usable);
+        }
+        return positions;
+    }
+
+    public static boolean get(byte[] bitmap, long position) {
+        return (bitmap[(int) (position >>> 3)] & (0x80 >>> (position & 7))) != 0;
+    }
+
+    public static void set(byte[] bitmap, long position) {
+        bitmap[(int) (position >>> 3)] |= (byte) (0x80 >>> (position & 7));
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
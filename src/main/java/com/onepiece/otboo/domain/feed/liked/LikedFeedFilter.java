@@ -0,0 +1,35 @@
+package com.onepiece.otboo.domain.feed.liked;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.lang.Nullable;
+
+/**
+ * 사용자가 좋아요한 피드의 확률적 집합 (Bloom 필터)
+ * <p>
+ * "좋아요하지 않았다"는 답은 확실하고, "좋아요했을 수 있다"는 답은 DB로 확인해야 합니다. 좋아요 취소는 필터에서 지울 수
+ * 없으므로 남은 비트는 확인 쿼리에서 걸러집니다.
+ * </p>
+ */
+public interface LikedFeedFilter {
+
+    /**
+     * 주어진 피드 중 좋아요했을 수 있는 피드를 반환합니다.
+     *
+     * @return 사용자의 필터가 아직 만들어지지 않았거나 만료된 경우 null
+     */
+    @Nullable
+    Set<UUID> mightContain(UUID userId, Collection<UUID> feedIds);
+
+    /**
+     * 사용자가 좋아요한 전체 피드로 필터를 만들고 사용 가능 상태로 표시합니다.
+     */
+    void build(UUID userId, Collection<UUID> likedFeedIds);
+
+    /**
+     * 필터에 피드를 추가합니다. 필터가 아직 만들어지지 않았어도 비트를 남겨 두어, 동시에 진행 중인 build가 읽지 못한 좋아요도
+     * 빠지지 않게 합니다.
+     */
+    void add(UUID userId, UUID feedId);
+}
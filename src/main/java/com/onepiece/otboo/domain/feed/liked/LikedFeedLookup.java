@@ -0,0 +1,75 @@
+package com.onepiece.otboo.domain.feed.liked;
+
+import com.onepiece.otboo.domain.feed.repository.FeedLikeRepository;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 피드 목록의 likedByMe 일괄 조회
+ * <p>
+ * 사용자별 {@link LikedFeedFilter}로 좋아요하지 않은 피드를 먼저 걸러내고, 남은 후보만 피드 ID 프로젝션 쿼리로
+ * 확인합니다. 대부분의 목록에서 후보가 비어 DB 조회 없이 끝납니다. 필터가 없으면 좋아요한 피드 ID를 한 번 읽어 필터를
+ * 만들고, 같은 결과로 바로 답합니다. 필터 저장소에 장애가 나면 필터 없이 주어진 피드 전체를 DB로 확인합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikedFeedLookup {
+
+    private final LikedFeedFilter filter;
+    private final FeedLikeRepository feedLikeRepository;
+
+    /**
+     * 주어진 피드 중 사용자가 좋아요한 피드를 반환합니다.
+     */
+    public Set<UUID> likedAmong(UUID userId, List<UUID> feedIds) {
+        if (feedIds.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<UUID> candidates;
+        try {
+            candidates = filter.mightContain(userId, feedIds);
+        } catch (Exception e) {
+            log.warn("[LikedFeedLookup] 좋아요 필터 조회 실패, DB로 확인 - userId: {}", userId, e);
+            return new HashSet<>(feedLikeRepository.findFeedIdsByUserIdAndFeedIdIn(userId, feedIds));
+        }
+
+        if (candidates == null) {
+            List<UUID> likedFeedIds = feedLikeRepository.findFeedIdsByUserId(userId);
+            try {
+                filter.build(userId, likedFeedIds);
+                log.debug("[LikedFeedLookup] 좋아요 필터 생성 - userId: {}, likes: {}",
+                    userId, likedFeedIds.size());
+            } catch (Exception e) {
+                log.warn("[LikedFeedLookup] 좋아요 필터 생성 실패 - userId: {}", userId, e);
+            }
+
+            Set<UUID> liked = new HashSet<>(likedFeedIds);
+            liked.retainAll(feedIds);
+            return liked;
+        }
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(feedLikeRepository.findFeedIdsByUserIdAndFeedIdIn(userId, candidates));
+    }
+
+    /**
+     * 새 좋아요를 필터에 반영합니다.
+     */
+    public void onLiked(UUID userId, UUID feedId) {
+        try {
+            filter.add(userId, feedId);
+        } catch (Exception e) {
+            // 빠진 좋아요는 확인 쿼리에서 놓칠 수 있으나, 필터 TTL이 지나 다시 만들 때 복구됨
+            log.warn("[LikedFeedLookup] 좋아요 필터 반영 실패 - userId: {}, feedId: {}", userId, feedId, e);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.onepiece.otboo.domain.feed.liked;
+
+import com.onepiece.otboo.domain.feed.config.props.FeedProperties;
+import com.onepiece.otboo.domain.feed.config.props.LikedFeedFilterProperties;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link LikedFeedFilter}의 Redis 비트맵 기반 구현체입니다.
+ *
+ * <p>키 스키마</p>
+ * <ul>
+ *     <li>{@code feed:liked-bloom:{userId}} - Bloom 필터 비트맵. 크기는 build 시 좋아요 수로 정하고 문자열 길이로
+ *     알 수 있으며, 0번 비트가 1이면 build가 끝난 필터. build와 add 시 TTL을 갱신</li>
+ *     <li>{@code feed:liked-bloom:pending:{userId}} - 필터가 없을 때 들어온 좋아요의 피드 ID 집합. 다음 build가
+ *     필터에 합친 뒤 지움</li>
+ * </ul>
+ * <p>
+ * add는 대기 집합에 먼저 넣은 뒤 필터 존재를 확인하고, build는 필터를 쓴 뒤 대기 집합을 읽으므로, 둘이 겹쳐도 어느 한쪽은
+ * 반드시 상대의 결과를 봅니다.
+ * </p>
+ */
+@Component
+@Primary
+@Profile("!test & !test-integration")
+public class RedisLikedFeedFilter implements LikedFeedFilter {
+
+    private static final String KEY_PREFIX = "feed:liked-bloom:";
+    private static final String PENDING_PREFIX = KEY_PREFIX + "pending:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final LikedFeedFilterProperties properties;
+    private final long ttlSeconds;
+
+    public RedisLikedFeedFilter(StringRedisTemplate redisTemplate, FeedProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties.likedFilter();
+        this.ttlSeconds = this.properties.ttl().toSeconds();
+    }
+
+    @Nullable
+    @Override
+    public Set<UUID> mightContain(UUID userId, Collection<UUID> feedIds) {
+        byte[] key = key(userId);
+        byte[] bitmap = redisTemplate.execute(
+            (RedisCallback<byte[]>) connection -> connection.stringCommands().get(key));
+
+        if (bitmap == null || bitmap.length == 0 || !LikedFeedBloom.get(bitmap, LikedFeedBloom.READY_BIT)) {
+            return null;
+        }
+        int bits = bitmap.length * 8;
+        Set<UUID> candidates = new HashSet<>();
+        for (UUID feedId : feedIds) {
+            boolean all = true;
+            for (long position : LikedFeedBloom.positions(feedId, bits, properties.hashes())) {
+                all &= LikedFeedBloom.get(bitmap, position);
+            }
+            if (all) {
+                candidates.add(feedId);
+            }
+        }
+        return candidates;
+    }
+
+    @Override
+    public void build(UUID userId, Collection<UUID> likedFeedIds) {
+        int bits = properties.bitsFor(likedFeedIds.size());
+        byte[] bitmap = new byte[bits / 8];
+        LikedFeedBloom.set(bitmap, LikedFeedBloom.READY_BIT);
+        for (UUID feedId : likedFeedIds) {
+            for (long position : LikedFeedBloom.positions(feedId, bits, properties.hashes())) {
+                LikedFeedBloom.set(bitmap, position);
+            }
+        }
+
+        byte[] key = key(userId);
+        byte[] pendingKey = pendingKey(userId);
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().set(key, bitmap, Expiration.seconds(ttlSeconds), SetOption.upsert());
+            connection.setCommands().sMembers(pendingKey);
+            connection.keyCommands().del(pendingKey);
+            return null;
+        });
+
+        if (results.get(1) instanceof Collection<?> pending && !pending.isEmpty()) {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Object feedId : pending) {
+                    setBits(connection, key, UUID.fromString(feedId.toString()), bits);
+                }
+                return null;
+            });
+        }
+    }
+
+    @Override
+    public void add(UUID userId, UUID feedId) {
+        byte[] key = key(userId);
+        byte[] pendingKey = pendingKey(userId);
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.setCommands().sAdd(pendingKey, feedId.toString().getBytes(StandardCharsets.UTF_8));
+            connection.keyCommands().expire(pendingKey, ttlSeconds);
+            connection.stringCommands().strLen(key);
+            return null;
+        });
+
+        if (!(results.get(2) instanceof Long length) || length == 0) {
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            setBits(connection, key, feedId, (int) (length * 8));
+            connection.keyCommands().expire(key, ttlSeconds);
+            return null;
+        });
+    }
+
+    private void setBits(RedisConnection connection, byte[] key, UUID feedId, int bits) {
+        for (long position : LikedFeedBloom.positions(feedId, bits, properties.hashes())) {
+            connection.stringCommands().setBit(key, position, true);
+        }
+    }
+
+    private byte[] key(UUID userId) {
+        return (KEY_PREFIX + userId).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] pendingKey(UUID userId) {
+        return (PENDING_PREFIX + userId).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,85 @@
+package com.onepiece.otboo.domain.feed.repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 좋아요 행을 엔티티 없이 직접 추가/삭제하는 저장소
+ * <p>
+ * 두 메서드 모두 실제로 행이 바뀌었는지를 반환하므로, 호출 측은 중복 요청을 예외 없이 구분하고 바뀐 경우에만
+ * 카운터를 조정할 수 있습니다. PostgreSQL에서는 {@code ON CONFLICT DO NOTHING}으로 중복을 처리하고, 그 외(H2)는
+ * {@code NOT EXISTS} 조건부 INSERT 후 동시 삽입으로 인한 유니크 제약 위반만 "변경 없음"으로 취급합니다.
+ * </p>
+ */
+@Slf4j
+@Repository
+public class FeedLikeCommandRepository {
+
+    private static final String POSTGRES_INSERT_SQL = """
+        INSERT INTO feed_likes (id, user_id, feed_id, created_at)
+        VALUES (?, ?, ?, ?)
+        ON CONFLICT (user_id, feed_id) DO NOTHING
+        """;
+
+    private static final String PORTABLE_INSERT_SQL = """
+        INSERT INTO feed_likes (id, user_id, feed_id, created_at)
+        SELECT ?, ?, ?, ?
+        WHERE NOT EXISTS (SELECT 1 FROM feed_likes WHERE user_id = ? AND feed_id = ?)
+        """;
+
+    private static final String DELETE_SQL =
+        "DELETE FROM feed_likes WHERE user_id = ? AND feed_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean postgres;
+
+    public FeedLikeCommandRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 좋아요 행을 추가합니다.
+     *
+     * @return 새로 추가되었으면 true, 이미 좋아요 상태였으면 false
+     */
+    public boolean insertIfAbsent(UUID userId, UUID feedId) {
+        UUID id = UUID.randomUUID();
+        Timestamp now = Timestamp.from(Instant.now());
+
+        if (isPostgres()) {
+            return jdbcTemplate.update(POSTGRES_INSERT_SQL, id, userId, feedId, now) > 0;
+        }
+        try {
+            return jdbcTemplate.update(PORTABLE_INSERT_SQL, id, userId, feedId, now, userId, feedId) > 0;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 좋아요 행을 삭제합니다.
+     *
+     * @return 삭제되었으면 true, 좋아요 상태가 아니었으면 false
+     */
+    public boolean deleteIfPresent(UUID userId, UUID feedId) {
+        return jdbcTemplate.update(DELETE_SQL, userId, feedId) > 0;
+    }
+
+    private boolean isPostgres() {
+        Boolean cached = postgres;
+        if (cached == null) {
+            String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+            cached = product != null && product.toLowerCase().contains("postgres");
+            postgres = cached;
+            log.debug("[FeedLikeCommandRepository] DB 종류 확인 - product: {}", product);
+        }
+        return cached;
+    }
+}
@@ -6,13 +6,22 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface FeedLikeRepository extends JpaRepository<FeedLike, UUID> {
     boolean existsByUser_IdAndFeed_Id(UUID userId, UUID feedId);
     Optional<FeedLike> findByUser_IdAndFeed_Id(UUID userId, UUID feedId);
-    void deleteByUser_IdAndFeed_Id(UUID userId, UUID feedId);
+    long deleteByUser_IdAndFeed_Id(UUID userId, UUID feedId);
     long countByFeed_Id(UUID feedId);
 
-    List<FeedLike> findAllByUser_IdAndFeed_IdIn(UUID userId, Collection<UUID> feedIds);
+    @Query("select fl.feed.id from FeedLike fl where fl.user.id = :userId")
+    List<UUID> findFeedIdsByUserId(@Param("userId") UUID userId);
+
+    @Query("select fl.feed.id from FeedLike fl where fl.user.id = :userId and fl.feed.id in :feedIds")
+    List<UUID> findFeedIdsByUserIdAndFeedIdIn(
+        @Param("userId") UUID userId,
+        @Param("feedIds") Collection<UUID> feedIds
+    );
 }
 
@@ -0,0 +1,42 @@
+package com.onepiece.otboo.domain.feed.search;
+
+import com.querydsl.core.types.Predicate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 피드 본문 키워드 검색 백엔드
+ * <p>
+ * 키워드를 피드 목록/개수 쿼리에 붙일 조건식으로 변환합니다. 정렬과 키셋 페이지네이션은 기존 쿼리가 그대로 담당하므로,
+ * 백엔드는 어떤 피드가 키워드에 일치하는지만 결정합니다.
+ * </p>
+ */
+public interface FeedSearchBackend {
+
+    static FeedSearchBackend choose(List<FeedSearchBackend> backends, String name) {
+        return backends.stream()
+            .filter(b -> b.supports(name))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 피드 검색 백엔드: " + name));
+    }
+
+    boolean supports(String name);
+
+    /**
+     * @param keyword 공백이 아닌 검색 키워드
+     * @return QFeed 기준 조건식
+     */
+    Predicate keywordCondition(String keyword);
+
+    /**
+     * 피드 작성/수정 시 호출됩니다. 자체 색인을 갖는 백엔드만 구현합니다.
+     */
+    default void index(UUID feedId, String content) {
+    }
+
+    /**
+     * 피드 삭제 시 호출됩니다. 자체 색인을 갖는 백엔드만 구현합니다.
+     */
+    default void remove(UUID feedId) {
+    }
+}
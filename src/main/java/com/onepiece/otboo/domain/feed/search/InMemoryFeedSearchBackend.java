@@ -0,0 +1,182 @@
+package com.onepiece.otboo.domain.feed.search;
+
+import static com.onepiece.otboo.domain.feed.entity.QFeed.feed;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 프로세스 내 검색 백엔드 (H2, 테스트용)
+ * <p>
+ * 소문자로 바꾼 본문의 글자 단위 bigram으로 역색인을 만들고, 키워드의 모든 n-gram을 가진 피드
+ * ID를 후보로 고릅니다. 후보에 대해서는 원래의 부분 일치 조건을 함께 걸어 정확도를 보장하며, DB는 PK 조건으로 후보 행만
+ * 확인합니다. 색인은 기동 시 전체 피드로 만들고 이후 작성/수정/삭제 이벤트로 갱신합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "otboo.feed.search.backend", havingValue = InMemoryFeedSearchBackend.NAME)
+public class InMemoryFeedSearchBackend implements FeedSearchBackend {
+
+    public static final String NAME = "inmemory";
+
+    // 후보가 이보다 많으면 IN 목록 대신 부분 일치 조건만 사용
+    private static final int MAX_CANDIDATES = 1_000;
+
+    private final JPAQueryFactory qf;
+
+    private final Map<String, Set<UUID>> postings = new HashMap<>();
+    private final Map<UUID, Set<String>> gramsByFeed = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public boolean supports(String name) {
+        return NAME.equalsIgnoreCase(name);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        List<Tuple> rows = qf.select(feed.id, feed.content).from(feed).fetch();
+
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            gramsByFeed.clear();
+            for (Tuple row : rows) {
+                put(row.get(feed.id), row.get(feed.content));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("[InMemoryFeedSearchBackend] 피드 검색 색인 생성 - count: {}", rows.size());
+    }
+
+    @Override
+    public Predicate keywordCondition(String keyword) {
+        // 한 글자 키워드는 bigram이 없으므로 부분 일치 조건만 사용
+        Set<String> grams = grams(keyword);
+        if (grams.isEmpty()) {
+            return feed.content.containsIgnoreCase(keyword);
+        }
+
+        Set<UUID> candidates = candidates(grams);
+        if (candidates.isEmpty()) {
+            return Expressions.FALSE.isTrue();
+        }
+        if (candidates.size() > MAX_CANDIDATES) {
+            return feed.content.containsIgnoreCase(keyword);
+        }
+        return feed.id.in(candidates).and(feed.content.containsIgnoreCase(keyword));
+    }
+
+    @Override
+    public void index(UUID feedId, String content) {
+        if (feedId == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeInternal(feedId);
+            put(feedId, content);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(UUID feedId) {
+        if (feedId == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeInternal(feedId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Set<UUID> candidates(Set<String> grams) {
+        lock.readLock().lock();
+        try {
+            // 가장 짧은 posting부터 교집합
+            List<Set<UUID>> lists = new ArrayList<>(grams.size());
+            for (String gram : grams) {
+                Set<UUID> ids = postings.get(gram);
+                if (ids == null) {
+                    return Set.of();
+                }
+                lists.add(ids);
+            }
+            lists.sort((a, b) -> Integer.compare(a.size(), b.size()));
+
+            Set<UUID> result = new HashSet<>(lists.get(0));
+            for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+                result.retainAll(lists.get(i));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(UUID feedId, String content) {
+        Set<String> grams = grams(content);
+        if (grams.isEmpty()) {
+            return;
+        }
+        gramsByFeed.put(feedId, grams);
+        for (String gram : grams) {
+            postings.computeIfAbsent(gram, g -> new HashSet<>()).add(feedId);
+        }
+    }
+
+    private void removeInternal(UUID feedId) {
+        Set<String> grams = gramsByFeed.remove(feedId);
+        if (grams == null) {
+            return;
+        }
+        for (String gram : grams) {
+            Set<UUID> ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(feedId);
+                if (ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    static Set<String> grams(String text) {
+        if (text == null || text.isBlank()) {
+            return Set.of();
+        }
+        String normalized = text.toLowerCase(Locale.ROOT);
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 2 <= normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + 2));
+        }
+        return grams;
+    }
+}
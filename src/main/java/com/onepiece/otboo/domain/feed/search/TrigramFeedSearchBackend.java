@@ -0,0 +1,41 @@
+package com.onepiece.otboo.domain.feed.search;
+
+import static com.onepiece.otboo.domain.feed.entity.QFeed.feed;
+
+import com.querydsl.core.types.Predicate;
+import java.util.Locale;
+import org.springframework.stereotype.Component;
+
+/**
+ * DB 검색 백엔드 (PostgreSQL pg_trgm)
+ * <p>
+ * 조건식은 {@code lower(content) like '%kw%' escape '!'}로 고정합니다. PostgreSQL에서는
+ * {@code db/postgresql/feed-search.sql}의 {@code idx_feeds_content_trgm}이 정확히 같은 식
+ * {@code lower(content)}에 걸려 있어야 순차 스캔 없이 처리되므로, 조건식을 바꿀 때는 인덱스 식도 함께 바꿔야 합니다
+ * ({@code ILIKE}나 {@code upper(content)}로는 이 인덱스를 타지 않습니다). H2에서는 같은 조건이 일반 LIKE로 동작합니다.
+ * 형태소 단위로 끊기는 tsvector와 달리 "후드"로 "후드티"를 찾는 부분 일치가 그대로 유지되며, 세 글자 미만 키워드는
+ * trigram을 뽑을 수 없어 인덱스 전체를 훑습니다.
+ * </p>
+ */
+@Component
+public class TrigramFeedSearchBackend implements FeedSearchBackend {
+
+    public static final String NAME = "trigram";
+
+    private static final char ESCAPE = '!';
+
+    @Override
+    public boolean supports(String name) {
+        return NAME.equalsIgnoreCase(name);
+    }
+
+    @Override
+    public Predicate keywordCondition(String keyword) {
+        String pattern = "%" + escape(keyword.toLowerCase(Locale.ROOT)) + "%";
+        return feed.content.lower().like(pattern, ESCAPE);
+    }
+
+    private static String escape(String keyword) {
+        return keyword.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+}
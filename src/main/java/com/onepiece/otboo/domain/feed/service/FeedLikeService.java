@@ -1,21 +1,16 @@
 package com.onepiece.otboo.domain.feed.service;
 
-import com.onepiece.otboo.domain.feed.dto.response.AuthorDto;
-import com.onepiece.otboo.domain.feed.dto.response.FeedResponse;
+import com.onepiece.otboo.domain.feed.counter.FeedLikeCounter;
 import com.onepiece.otboo.domain.feed.entity.Feed;
-import com.onepiece.otboo.domain.feed.entity.FeedLike;
+import com.onepiece.otboo.domain.feed.liked.LikedFeedLookup;
+import com.onepiece.otboo.domain.feed.repository.FeedLikeCommandRepository;
 import com.onepiece.otboo.domain.feed.repository.FeedLikeRepository;
 import com.onepiece.otboo.domain.feed.repository.FeedRepository;
-import com.onepiece.otboo.domain.profile.entity.Profile;
-import com.onepiece.otboo.domain.profile.repository.ProfileRepository;
-import com.onepiece.otboo.domain.user.entity.User;
-import com.onepiece.otboo.domain.user.repository.UserRepository;
 import com.onepiece.otboo.global.event.event.FeedLikedEvent;
 import com.onepiece.otboo.global.exception.ErrorCode;
 import com.onepiece.otboo.global.exception.GlobalException;
 import jakarta.persistence.EntityManager;
 import java.time.Instant;
-import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
@@ -30,69 +25,47 @@ public class FeedLikeService {
 
     private final FeedRepository feedRepository;
     private final FeedLikeRepository feedLikeRepository;
-    private final UserRepository userRepository;
-    private final ProfileRepository profileRepository;
+    private final FeedLikeCommandRepository feedLikeCommandRepository;
     private final EntityManager em;
     private final ApplicationEventPublisher eventPublisher;
+    private final FeedLikeCounter likeCounter;
+    private final LikedFeedLookup likedFeedLookup;
 
 
+    /**
+     * 좋아요를 추가합니다. 이미 좋아요 상태면 아무것도 하지 않으며, 실제로 추가된 경우에만 카운터와 알림 이벤트에 반영합니다.
+     */
     public void like(UUID userId, UUID feedId) {
-        Feed feed = feedRepository.findById(feedId)
-            .orElseThrow(() -> new GlobalException(ErrorCode.FEED_NOT_FOUND));
-        User liker = userRepository.findById(userId)
-            .orElseThrow(() -> new GlobalException(ErrorCode.USER_NOT_FOUND));
-
+        boolean inserted;
         try {
-            feedLikeRepository.save(FeedLike.of(liker, feed));
-        } catch (DataIntegrityViolationException ignore) {
+            inserted = feedLikeCommandRepository.insertIfAbsent(userId, feedId);
+        } catch (DataIntegrityViolationException e) {
+            // 중복은 위에서 처리되므로 여기서는 외래 키 위반 (존재하지 않는 피드)
+            throw new GlobalException(ErrorCode.FEED_NOT_FOUND);
+        }
+        if (!inserted) {
+            return;
         }
 
-        syncLikeCount(feedId);
-
-        Profile profile = profileRepository.findByUserId(feed.getAuthorId())
-            .orElseThrow(() -> new GlobalException(ErrorCode.PROFILE_NOT_FOUND));
-
-        AuthorDto authorDto = AuthorDto.builder()
-            .userId(feed.getAuthorId())
-            .name(profile.getNickname())
-            .profileImageUrl(profile.getProfileImageUrl())
-            .build();
-
-        FeedResponse feedResponse = new FeedResponse(
-            feed.getId(),
-            feed.getCreatedAt(),
-            feed.getUpdatedAt(),
-            authorDto,
-            null,
-            List.of(),
-            feed.getContent(),
-            feed.getLikeCount(),
-            feed.getCommentCount(),
-            false
-        );
-
-        eventPublisher.publishEvent(
-            new FeedLikedEvent(feedResponse, userId, Instant.now())
-        );
+        likeCounter.addAfterCommit(feedId, 1);
+        // 커밋 전에 비트를 남겨도 롤백 시 확인 쿼리에서 걸러지므로 안전
+        likedFeedLookup.onLiked(userId, feedId);
+        publishLiked(userId, feedId);
     }
 
     public void unlike(UUID userId, UUID feedId) {
-        feedLikeRepository.deleteByUser_IdAndFeed_Id(userId, feedId);
-        syncLikeCount(feedId);
+        if (feedLikeCommandRepository.deleteIfPresent(userId, feedId)) {
+            likeCounter.addAfterCommit(feedId, -1);
+        }
     }
 
     public boolean toggle(UUID userId, UUID feedId) {
-        var existing = feedLikeRepository.findByUser_IdAndFeed_Id(userId, feedId);
-        boolean liked;
-        if (existing.isPresent()) {
-            feedLikeRepository.delete(existing.get());
-            liked = false;
-        } else {
-            like(userId, feedId);
-            return true;
+        if (feedLikeCommandRepository.deleteIfPresent(userId, feedId)) {
+            likeCounter.addAfterCommit(feedId, -1);
+            return false;
         }
-        syncLikeCount(feedId);
-        return liked;
+        like(userId, feedId);
+        return true;
     }
 
     @Transactional(readOnly = true)
@@ -100,8 +73,12 @@ public class FeedLikeService {
         return feedLikeRepository.countByFeed_Id(feedId);
     }
 
-    private void syncLikeCount(UUID feedId) {
-        long realCount = feedLikeRepository.countByFeed_Id(feedId);
-        feedRepository.updateLikeCount(feedId, realCount);
+    private void publishLiked(UUID userId, UUID feedId) {
+        Feed feed = feedRepository.findById(feedId)
+            .orElseThrow(() -> new GlobalException(ErrorCode.FEED_NOT_FOUND));
+
+        eventPublisher.publishEvent(
+            new FeedLikedEvent(feedId, feed.getAuthorId(), userId, Instant.now())
+        );
     }
-}
\ No newline at end of file
+}
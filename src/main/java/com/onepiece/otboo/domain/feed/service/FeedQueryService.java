@@ -11,8 +11,11 @@ import com.onepiece.otboo.domain.feed.dto.response.AuthorDto;
 import com.onepiece.otboo.domain.feed.dto.response.FeedResponse;
 import com.onepiece.otboo.domain.feed.dto.response.OotdDto;
 import com.onepiece.otboo.domain.feed.entity.Feed;
+import com.onepiece.otboo.domain.feed.enums.FeedCountMode;
+import com.onepiece.otboo.domain.feed.liked.LikedFeedLookup;
 import com.onepiece.otboo.domain.feed.mapper.FeedMapper;
-import com.onepiece.otboo.domain.feed.repository.FeedLikeRepository;
+import com.onepiece.otboo.domain.feed.search.FeedSearchBackend;
+import com.onepiece.otboo.domain.feed.search.TrigramFeedSearchBackend;
 import com.onepiece.otboo.domain.weather.dto.response.PrecipitationDto;
 import com.onepiece.otboo.domain.weather.dto.response.TemperatureDto;
 import com.onepiece.otboo.domain.weather.dto.response.WeatherSummaryDto;
@@ -28,6 +31,7 @@ import com.onepiece.otboo.global.storage.S3Storage;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -37,7 +41,6 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.Nullable;
@@ -50,13 +53,17 @@ public class FeedQueryService {
 
     private final JPAQueryFactory qf;
     private final FeedMapper feedMapper;
-    private final FeedLikeRepository feedLikeRepository;
+    private final LikedFeedLookup likedFeedLookup;
     private final WeatherMapper weatherMapper;
     private final FileStorage storage;
+    private final List<FeedSearchBackend> searchBackends;
 
     @Value("${app.cdn-base-url:}")
     private String cdnBaseUrl;
 
+    @Value("${otboo.feed.search.backend:" + TrigramFeedSearchBackend.NAME + "}")
+    private String searchBackendName = TrigramFeedSearchBackend.NAME;
+
     @Transactional(readOnly = true)
     public CursorPageResponseDto<FeedResponse> listFeeds(
         @Nullable String cursor,
@@ -69,6 +76,28 @@ public class FeedQueryService {
         @Nullable String precipitationTypeEqual,
         @Nullable UUID authorIdEqual,
         @Nullable UUID me
+    ) {
+        return listFeeds(cursor, idAfter, limit, sortBy, sortDirection, keywordLike, skyStatusEqual,
+            precipitationTypeEqual, authorIdEqual, me, FeedCountMode.EXACT);
+    }
+
+    /**
+     * 피드 목록을 조회합니다. 무한 스크롤처럼 전체 개수가 필요 없는 경우 {@code countMode}로 COUNT 쿼리를 생략할 수 있으며,
+     * 생략된 페이지의 totalCount는 null입니다.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<FeedResponse> listFeeds(
+        @Nullable String cursor,
+        @Nullable UUID idAfter,
+        int limit,
+        SortBy sortBy,
+        SortDirection sortDirection,
+        @Nullable String keywordLike,
+        @Nullable String skyStatusEqual,
+        @Nullable String precipitationTypeEqual,
+        @Nullable UUID authorIdEqual,
+        @Nullable UUID me,
+        @Nullable FeedCountMode countMode
     ) {
         if (limit <= 0 || limit > 100) throw new IllegalArgumentException("limit must be between 1 and 100");
 
@@ -77,7 +106,11 @@ public class FeedQueryService {
 
         BooleanBuilder where = new BooleanBuilder();
         if (authorIdEqual != null) where.and(feed.authorId.eq(authorIdEqual));
-        if (keywordLike != null && !keywordLike.isBlank()) where.and(feed.content.containsIgnoreCase(keywordLike));
+        // 키워드 검색은 설정된 검색 백엔드로 위임 (개수 쿼리에서도 같은 조건 재사용)
+        Predicate keywordCondition = (keywordLike != null && !keywordLike.isBlank())
+            ? FeedSearchBackend.choose(searchBackends, searchBackendName).keywordCondition(keywordLike.trim())
+            : null;
+        if (keywordCondition != null) where.and(keywordCondition);
 
         boolean joinWeather = false;
 
@@ -131,13 +164,32 @@ public class FeedQueryService {
         boolean hasNext = rows.size() > limit;
         if (hasNext) rows = new ArrayList<>(rows.subList(0, limit));
 
+        List<FeedResponse> data = toResponses(rows, me);
+
+        String nextCursor = null;
+        UUID nextIdAfter = null;
+        if (hasNext && !rows.isEmpty()) {
+            Feed last = rows.get(rows.size() - 1);
+            nextCursor = (sb == SortBy.CREATED_AT) ? last.getCreatedAt().toString() : String.valueOf(last.getLikeCount());
+            nextIdAfter = last.getId();
+        }
+
+        boolean firstPage = cursor == null || idAfter == null;
+        FeedCountMode mode = (countMode != null) ? countMode : FeedCountMode.EXACT;
+        Long totalCount = mode.shouldCount(firstPage)
+            ? countAllWithoutCursor(keywordCondition, skyStatusEqual, precipitationTypeEqual, authorIdEqual, joinWeather)
+            : null;
+        return new CursorPageResponseDto<>(data, nextCursor, nextIdAfter, hasNext, totalCount, sb, sd);
+    }
+
+    /**
+     * 조회한 피드 행에 작성자, 날씨, OOTD, 좋아요 여부를 ID 기준 일괄 조회로 채워 응답으로 변환합니다. 순서는 입력 그대로입니다.
+     */
+    @Transactional(readOnly = true)
+    public List<FeedResponse> toResponses(List<Feed> rows, @Nullable UUID me) {
         List<UUID> feedIds = rows.stream().map(Feed::getId).toList();
 
-        Set<UUID> likedIds = (me != null && !feedIds.isEmpty())
-            ? feedLikeRepository.findAllByUser_IdAndFeed_IdIn(me, feedIds).stream()
-            .map(fl -> fl.getFeed().getId())
-            .collect(Collectors.toSet())
-            : Set.of();
+        Set<UUID> likedIds = me != null ? likedFeedLookup.likedAmong(me, feedIds) : Set.of();
 
         // ---- Authors ----
         List<UUID> authorIds = rows.stream().map(Feed::getAuthorId).distinct().toList();
@@ -207,7 +259,7 @@ public class FeedQueryService {
         }
 
         // ---- Assemble ----
-        List<FeedResponse> data = rows.stream()
+        return rows.stream()
             .map(f -> feedMapper.toResponse(
                 f,
                 authorMap.getOrDefault(f.getAuthorId(), new AuthorDto(null, "", null)),
@@ -217,21 +269,10 @@ public class FeedQueryService {
             ))
             .map(this::ensureDefaults)
             .toList();
-
-        String nextCursor = null;
-        UUID nextIdAfter = null;
-        if (hasNext && !rows.isEmpty()) {
-            Feed last = rows.get(rows.size() - 1);
-            nextCursor = (sb == SortBy.CREATED_AT) ? last.getCreatedAt().toString() : String.valueOf(last.getLikeCount());
-            nextIdAfter = last.getId();
-        }
-
-        long totalCount = countAllWithoutCursor(keywordLike, skyStatusEqual, precipitationTypeEqual, authorIdEqual, joinWeather);
-        return new CursorPageResponseDto<>(data, nextCursor, nextIdAfter, hasNext, totalCount, sb, sd);
     }
 
     private long countAllWithoutCursor(
-        @Nullable String keywordLike,
+        @Nullable Predicate keywordCondition,
         @Nullable String skyStatusEqual,
         @Nullable String precipitationTypeEqual,
         @Nullable UUID authorIdEqual,
@@ -239,7 +280,7 @@ public class FeedQueryService {
     ) {
         BooleanBuilder where = new BooleanBuilder();
         if (authorIdEqual != null) where.and(feed.authorId.eq(authorIdEqual));
-        if (keywordLike != null && !keywordLike.isBlank()) where.and(feed.content.containsIgnoreCase(keywordLike));
+        if (keywordCondition != null) where.and(keywordCondition);
         if (skyStatusEqual != null && !skyStatusEqual.isBlank()) where.and(weather.skyStatus.eq(SkyStatus.valueOf(skyStatusEqual.toUpperCase())));
         if (precipitationTypeEqual != null && !precipitationTypeEqual.isBlank()) where.and(weather.precipitationType.eq(PrecipitationType.valueOf(precipitationTypeEqual.toUpperCase())));
 
@@ -20,6 +20,8 @@ import com.onepiece.otboo.domain.weather.entity.Weather;
 import com.onepiece.otboo.domain.weather.mapper.WeatherMapper;
 import com.onepiece.otboo.domain.weather.repository.WeatherRepository;
 import com.onepiece.otboo.global.event.event.FeedCreatedEvent;
+import com.onepiece.otboo.global.event.event.FeedDeletedEvent;
+import com.onepiece.otboo.global.event.event.FeedUpdatedEvent;
 import com.onepiece.otboo.global.exception.ErrorCode;
 import com.onepiece.otboo.global.exception.GlobalException;
 import com.onepiece.otboo.global.storage.FileStorage;
@@ -108,6 +110,7 @@ public class FeedService {
                 .build();
             link.setFeed(feed);
             feed.getFeedClothes().add(link);
+            c.increaseFeedCount();
         }
 
         Feed saved = feedRepository.save(feed);
@@ -144,7 +147,18 @@ public class FeedService {
             throw new GlobalException(ErrorCode.FEED_FORBIDDEN);
         }
 
+        // 작성 시 올린 의상별 피드 수를 되돌림 (이미 삭제된 의상은 건너뜀)
+        List<UUID> clothesIds = feed.getFeedClothes().stream()
+            .map(FeedClothes::getClothesId)
+            .toList();
+        if (!clothesIds.isEmpty()) {
+            clothesRepository.findAllById(clothesIds).forEach(Clothes::decreaseFeedCount);
+        }
+
         feedRepository.delete(feed);
+
+        eventPublisher.publishEvent(
+            new FeedDeletedEvent(feedId, feed.getAuthorId(), Instant.now()));
     }
 
     @Transactional
@@ -156,6 +170,7 @@ public class FeedService {
         }
 
         feed.updateContent(req.content());
+        eventPublisher.publishEvent(new FeedUpdatedEvent(feedId, req.content(), Instant.now()));
 
         // Author
         Profile profile = profileRepository.findByUserId(feed.getAuthorId())
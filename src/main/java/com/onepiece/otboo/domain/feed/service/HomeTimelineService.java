@@ -0,0 +1,172 @@
+package com.onepiece.otboo.domain.feed.service;
+
+import static com.onepiece.otboo.domain.feed.entity.QFeed.feed;
+
+import com.onepiece.otboo.domain.feed.config.props.FeedProperties;
+import com.onepiece.otboo.domain.feed.dto.response.FeedResponse;
+import com.onepiece.otboo.domain.feed.entity.Feed;
+import com.onepiece.otboo.domain.feed.timeline.HomeTimelineStore;
+import com.onepiece.otboo.domain.follow.repository.FollowRepository;
+import com.onepiece.otboo.global.dto.response.CursorPageResponseDto;
+import com.onepiece.otboo.global.enums.SortBy;
+import com.onepiece.otboo.global.enums.SortDirection;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 팔로우한 작성자들의 피드를 모아 보는 홈 타임라인
+ * <p>
+ * 피드 작성 시 팔로워들의 타임라인에 (작성 시각, 피드 ID)를 미리 밀어 넣고(fan-out-on-write), 조회는 타임라인 범위
+ * 조회 한 번과 ID 기반 피드 조회로 끝냅니다. 팔로워가 {@code fanOutLimit}을 넘는 작성자는 쓰기 시 fan-out 대신 조회
+ * 시점에 해당 작성자의 피드를 같은 쿼리에 합칩니다(fan-out-on-read). 채워지지 않았거나 만료된 타임라인은 조회 시
+ * 팔로잉 작성자들의 최근 피드로 다시 채운 뒤 읽습니다. 팔로우/언팔로우 시에는 타임라인을 지워 다음 조회에서 바뀐
+ * 팔로잉 기준으로 다시 채웁니다.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HomeTimelineService {
+
+    private final HomeTimelineStore timelineStore;
+    private final FollowRepository followRepository;
+    private final FeedQueryService feedQueryService;
+    private final JPAQueryFactory qf;
+    private final FeedProperties feedProperties;
+
+    /**
+     * 새 피드를 작성자 본인과 팔로워들의 타임라인에 추가합니다.
+     */
+    @Transactional(readOnly = true)
+    public void fanOut(UUID feedId, UUID authorId, Instant createdAt) {
+        long followerCount = followRepository.countByFollowingId(authorId);
+        if (followerCount > feedProperties.timeline().fanOutLimit()) {
+            timelineStore.markLargeAuthor(authorId);
+            timelineStore.push(List.of(authorId), feedId, createdAt);
+            log.debug("[HomeTimelineService] 팔로워가 많아 조회 시 병합 - authorId: {}, followerCount: {}",
+                authorId, followerCount);
+            return;
+        }
+
+        List<UUID> receivers = new ArrayList<>(followRepository.findFollowerIdsByFollowingId(authorId));
+        receivers.add(authorId);
+        timelineStore.push(receivers, feedId, createdAt);
+        log.debug("[HomeTimelineService] 타임라인 fan-out 완료 - feedId: {}, receivers: {}",
+            feedId, receivers.size());
+    }
+
+    /**
+     * 팔로잉이 바뀐 사용자의 타임라인을 지웁니다.
+     */
+    public void invalidate(UUID userId) {
+        timelineStore.invalidate(userId);
+        log.debug("[HomeTimelineService] 팔로잉 변경으로 타임라인 무효화 - userId: {}", userId);
+    }
+
+    /**
+     * 홈 타임라인을 최신순으로 조회합니다. 커서 형식은 피드 목록(createdAt 정렬)과 같습니다.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<FeedResponse> listHomeTimeline(
+        UUID me,
+        @Nullable String cursor,
+        @Nullable UUID idAfter,
+        int limit
+    ) {
+        if (limit <= 0 || limit > 100) throw new IllegalArgumentException("limit must be between 1 and 100");
+
+        Instant before = null;
+        if (cursor != null && idAfter != null) {
+            try { before = Instant.parse(cursor); }
+            catch (Exception e) { throw new IllegalArgumentException("Invalid cursor for createdAt: " + cursor); }
+        }
+
+        List<UUID> timelineIds = timelineStore.range(me, before, limit + 1);
+        if (timelineIds == null) {
+            // 만료 후 새 피드만 push 된 타임라인은 일부만 담고 있으므로 다시 채운 뒤 조회
+            materialize(me);
+            timelineIds = timelineStore.range(me, before, limit + 1);
+        }
+
+        // 조회 시 직접 합칠 작성자: 타임라인을 쓸 수 없으면 팔로잉 전체, 있으면 팔로워가 많은 작성자만
+        Set<UUID> readAuthors = new HashSet<>();
+        if (timelineIds == null) {
+            readAuthors.addAll(followRepository.findFollowingIdsByFollowerId(me));
+            readAuthors.add(me);
+        } else {
+            Set<UUID> largeAuthors = timelineStore.largeAuthors();
+            if (!largeAuthors.isEmpty()) {
+                for (UUID followingId : followRepository.findFollowingIdsByFollowerId(me)) {
+                    if (largeAuthors.contains(followingId)) readAuthors.add(followingId);
+                }
+            }
+        }
+
+        List<Feed> rows = List.of();
+        boolean hasTimelineIds = timelineIds != null && !timelineIds.isEmpty();
+        if (hasTimelineIds || !readAuthors.isEmpty()) {
+            BooleanBuilder source = new BooleanBuilder();
+            if (hasTimelineIds) source.or(feed.id.in(timelineIds));
+            if (!readAuthors.isEmpty()) source.or(feed.authorId.in(readAuthors));
+
+            BooleanBuilder where = new BooleanBuilder(source);
+            if (before != null) {
+                where.and(feed.createdAt.lt(before)
+                    .or(feed.createdAt.eq(before).and(feed.id.lt(idAfter))));
+            }
+
+            rows = qf.selectFrom(feed)
+                .where(where)
+                .orderBy(feed.createdAt.desc(), feed.id.desc())
+                .limit(limit + 1L)
+                .fetch();
+        }
+
+        // 삭제된 피드가 타임라인에 남아 있으면 DB 결과가 모자랄 수 있으므로 타임라인 쪽 여분도 함께 확인
+        boolean hasNext = rows.size() > limit || (timelineIds != null && timelineIds.size() > limit);
+        if (rows.size() > limit) rows = new ArrayList<>(rows.subList(0, limit));
+        if (rows.isEmpty()) hasNext = false;
+
+        List<FeedResponse> data = feedQueryService.toResponses(rows, me);
+
+        String nextCursor = null;
+        UUID nextIdAfter = null;
+        if (hasNext) {
+            Feed last = rows.get(rows.size() - 1);
+            nextCursor = last.getCreatedAt().toString();
+            nextIdAfter = last.getId();
+        }
+        return new CursorPageResponseDto<>(data, nextCursor, nextIdAfter, hasNext, null,
+            SortBy.CREATED_AT, SortDirection.DESCENDING);
+    }
+
+    private void materialize(UUID me) {
+        Set<UUID> authors = new HashSet<>(followRepository.findFollowingIdsByFollowerId(me));
+        authors.add(me);
+
+        Map<UUID, Instant> feeds = new LinkedHashMap<>();
+        qf.select(feed.id, feed.createdAt)
+            .from(feed)
+            .where(feed.authorId.in(authors))
+            .orderBy(feed.createdAt.desc(), feed.id.desc())
+            .limit(feedProperties.timeline().capacity())
+            .fetch()
+            .forEach(row -> feeds.put(row.get(feed.id), row.get(feed.createdAt)));
+
+        timelineStore.materialize(me, feeds);
+        log.debug("[HomeTimelineService] 타임라인 다시 채움 - userId: {}, feeds: {}", me, feeds.size());
+    }
+}
@@ -0,0 +1,51 @@
+package com.onepiece.otboo.domain.feed.timeline;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.lang.Nullable;
+
+/**
+ * 사용자별 홈 타임라인 저장소
+ * <p>
+ * 타임라인은 (작성 시각, 피드 ID) 목록이며 작성 시각 내림차순으로 조회합니다. 피드 본문은 담지 않고,
+ * 조회 측에서 ID로 한 번에 읽어 옵니다. 타임라인은 {@link #materialize}로 채워진 뒤에만 완전한 것으로 보며,
+ * 만료된 뒤 새 피드가 push 되어 키가 다시 생긴 경우에도 다시 채우기 전까지는 조회되지 않습니다.
+ * </p>
+ */
+public interface HomeTimelineStore {
+
+    /**
+     * 여러 사용자의 타임라인에 피드를 추가합니다. 용량을 넘는 오래된 항목은 제거됩니다.
+     */
+    void push(Collection<UUID> userIds, UUID feedId, Instant createdAt);
+
+    /**
+     * {@code before}보다 이전에 작성된 피드 ID를 최신순으로 최대 {@code count}개 반환합니다.
+     *
+     * @return 타임라인이 아직 채워지지 않았거나 만료된 경우 null
+     */
+    @Nullable
+    List<UUID> range(UUID userId, @Nullable Instant before, int count);
+
+    /**
+     * 사용자의 타임라인에 최근 피드(피드 ID, 작성 시각)를 채우고 완전한 타임라인으로 표시합니다. 그 사이 push 된 항목을
+     * 잃지 않도록 기존 항목은 지우지 않고 합칩니다.
+     */
+    void materialize(UUID userId, Map<UUID, Instant> feeds);
+
+    /**
+     * 사용자의 타임라인과 채움 표시를 지웁니다. 다음 조회에서 현재 팔로잉 기준으로 다시 채웁니다.
+     */
+    void invalidate(UUID userId);
+
+    /**
+     * 팔로워가 많아 쓰기 시점 fan-out을 하지 않는 작성자로 등록합니다.
+     */
+    void markLargeAuthor(UUID authorId);
+
+    Set<UUID> largeAuthors();
+}
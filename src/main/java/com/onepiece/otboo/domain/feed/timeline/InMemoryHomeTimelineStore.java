@@ -0,0 +1,98 @@
+package com.onepiece.otboo.domain.feed.timeline;
+
+import com.onepiece.otboo.domain.feed.config.props.FeedProperties;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import org.springframework.context.annotation.Profile;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile("test | test-integration")
+public class InMemoryHomeTimelineStore implements HomeTimelineStore {
+
+    private static final Comparator<Entry> NEWEST_FIRST = Comparator
+        .comparing(Entry::createdAt, Comparator.reverseOrder())
+        .thenComparing(Entry::feedId, Comparator.reverseOrder());
+
+    private final Map<UUID, NavigableSet<Entry>> timelines = new ConcurrentHashMap<>();
+    private final Set<UUID> materialized = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> largeAuthors = ConcurrentHashMap.newKeySet();
+    private final int capacity;
+
+    public InMemoryHomeTimelineStore(FeedProperties properties) {
+        this.capacity = properties.timeline().capacity();
+    }
+
+    @Override
+    public void push(Collection<UUID> userIds, UUID feedId, Instant createdAt) {
+        Entry entry = new Entry(createdAt, feedId);
+        for (UUID userId : userIds) {
+            add(userId, entry);
+        }
+    }
+
+    private void add(UUID userId, Entry entry) {
+        NavigableSet<Entry> timeline = timelines.computeIfAbsent(userId,
+            k -> new ConcurrentSkipListSet<>(NEWEST_FIRST));
+        timeline.add(entry);
+        while (timeline.size() > capacity) {
+            timeline.pollLast();
+        }
+    }
+
+    @Nullable
+    @Override
+    public List<UUID> range(UUID userId, @Nullable Instant before, int count) {
+        if (!materialized.contains(userId)) {
+            return null;
+        }
+        NavigableSet<Entry> timeline = timelines.getOrDefault(userId, Collections.emptyNavigableSet());
+        List<UUID> result = new ArrayList<>(count);
+        for (Entry entry : timeline) {
+            if (result.size() >= count) {
+                break;
+            }
+            if (before == null || entry.createdAt().isBefore(before)) {
+                result.add(entry.feedId());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void materialize(UUID userId, Map<UUID, Instant> feeds) {
+        feeds.forEach((feedId, createdAt) -> add(userId, new Entry(createdAt, feedId)));
+        materialized.add(userId);
+    }
+
+    @Override
+    public void invalidate(UUID userId) {
+        materialized.remove(userId);
+        timelines.remove(userId);
+    }
+
+    @Override
+    public void markLargeAuthor(UUID authorId) {
+        largeAuthors.add(authorId);
+    }
+
+    @Override
+    public Set<UUID> largeAuthors() {
+        return Set.copyOf(largeAuthors);
+    }
+
+    private record Entry(Instant createdAt, UUID feedId) {
+
+    }
+}
@@ -0,0 +1,151 @@
+package com.onepiece.otboo.domain.feed.timeline;
+
+import com.onepiece.otboo.domain.feed.config.props.FeedProperties;
+import com.onepiece.otboo.domain.feed.config.props.FeedTimelineProperties;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link HomeTimelineStore}의 Redis 기반 구현체입니다.
+ *
+ * <p>키 스키마</p>
+ * <ul>
+ *     <li>{@code feed:timeline:{userId}} - member: 피드 ID, score: 작성 시각(epoch 마이크로초)인 sorted set.
+ *     용량 초과분은 쓰기 시 잘라내고, 마지막 쓰기 이후 TTL이 지나면 만료</li>
+ *     <li>{@code feed:timeline:materialized:{userId}} - 타임라인을 팔로잉 피드로 채운 뒤 TTL 동안 유지되는 표시.
+ *     없으면 타임라인 키가 있어도(만료 후 push로 다시 생긴 경우) 불완전한 것으로 보고 null을 반환</li>
+ *     <li>{@code feed:timeline:large-authors} - 쓰기 시 fan-out을 하지 않는 작성자 ID 집합</li>
+ * </ul>
+ */
+@Component
+@Primary
+@Profile("!test & !test-integration")
+public class RedisHomeTimelineStore implements HomeTimelineStore {
+
+    private static final String KEY_PREFIX = "feed:timeline:";
+    private static final String LARGE_AUTHORS_KEY = KEY_PREFIX + "large-authors";
+    private static final String MATERIALIZED_PREFIX = KEY_PREFIX + "materialized:";
+
+    // 파이프라인 한 번에 처리할 사용자 수
+    private static final int PIPELINE_BATCH = 500;
+
+    private final StringRedisTemplate redisTemplate;
+    private final int capacity;
+    private final long ttlSeconds;
+
+    public RedisHomeTimelineStore(StringRedisTemplate redisTemplate, FeedProperties properties) {
+        FeedTimelineProperties props = properties.timeline();
+        this.redisTemplate = redisTemplate;
+        this.capacity = props.capacity();
+        this.ttlSeconds = props.ttl().toSeconds();
+    }
+
+    @Override
+    public void push(Collection<UUID> userIds, UUID feedId, Instant createdAt) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        double score = toScore(createdAt);
+        byte[] member = feedId.toString().getBytes(StandardCharsets.UTF_8);
+
+        List<UUID> targets = new ArrayList<>(userIds);
+        for (int from = 0; from < targets.size(); from += PIPELINE_BATCH) {
+            List<UUID> batch = targets.subList(from, Math.min(from + PIPELINE_BATCH, targets.size()));
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (UUID userId : batch) {
+                    write(connection, key(userId), score, member);
+                }
+                return null;
+            });
+        }
+    }
+
+    private void write(RedisConnection connection, String key, double score, byte[] member) {
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        connection.zSetCommands().zAdd(rawKey, score, member);
+        connection.zSetCommands().zRemRange(rawKey, 0, -(capacity + 1L));
+        connection.keyCommands().expire(rawKey, ttlSeconds);
+    }
+
+    @Nullable
+    @Override
+    public List<UUID> range(UUID userId, @Nullable Instant before, int count) {
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(materializedKey(userId)))) {
+            return null;
+        }
+        String key = key(userId);
+        // score는 정수 마이크로초이므로 1을 빼서 before를 제외
+        double max = before == null ? Double.POSITIVE_INFINITY : toScore(before) - 1;
+        Set<String> members = redisTemplate.opsForZSet()
+            .reverseRangeByScore(key, Double.NEGATIVE_INFINITY, max, 0, count);
+
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+        return members.stream().map(UUID::fromString).toList();
+    }
+
+    @Override
+    public void materialize(UUID userId, Map<UUID, Instant> feeds) {
+        String key = key(userId);
+        if (!feeds.isEmpty()) {
+            Set<TypedTuple<String>> tuples = feeds.entrySet().stream()
+                .map(e -> TypedTuple.of(e.getKey().toString(), toScore(e.getValue())))
+                .collect(Collectors.toSet());
+            redisTemplate.opsForZSet().add(key, tuples);
+            redisTemplate.opsForZSet().removeRange(key, 0, -(capacity + 1L));
+        }
+        // 표시가 타임라인보다 먼저 만료되도록 표시를 먼저 쓰고 타임라인 TTL을 그 뒤에 갱신
+        redisTemplate.opsForValue().set(materializedKey(userId), "1", Duration.ofSeconds(ttlSeconds));
+        redisTemplate.expire(key, Duration.ofSeconds(ttlSeconds));
+    }
+
+    @Override
+    public void invalidate(UUID userId) {
+        // 표시를 먼저 지워 타임라인만 남는 순간에도 불완전한 타임라인으로 취급되게 함
+        redisTemplate.delete(materializedKey(userId));
+        redisTemplate.delete(key(userId));
+    }
+
+    @Override
+    public void markLargeAuthor(UUID authorId) {
+        redisTemplate.opsForSet().add(LARGE_AUTHORS_KEY, authorId.toString());
+    }
+
+    @Override
+    public Set<UUID> largeAuthors() {
+        Set<String> members = redisTemplate.opsForSet().members(LARGE_AUTHORS_KEY);
+        if (members == null || members.isEmpty()) {
+            return Set.of();
+        }
+        return members.stream().map(UUID::fromString).collect(Collectors.toSet());
+    }
+
+    private String key(UUID userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private String materializedKey(UUID userId) {
+        return MATERIALIZED_PREFIX + userId;
+    }
+
+    private double toScore(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000L + instant.getNano() / 1_000L;
+    }
+}
@@ -5,8 +5,11 @@ import com.onepiece.otboo.domain.user.entity.User;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface FollowRepository extends JpaRepository<Follow, UUID>, FollowRepositoryCustom {
 
@@ -32,4 +35,23 @@ public interface FollowRepository extends JpaRepository<Follow, UUID>, FollowRep
 
     @EntityGraph(attributePaths = {"follower.profile", "following.profile"})
     List<Follow> findAllByFollowingId(UUID followingId);
+
+    long countByFollowingId(UUID followingId);
+
+    @Query("select f.follower.id from Follow f where f.following.id = :followingId")
+    List<UUID> findFollowerIdsByFollowingId(@Param("followingId") UUID followingId);
+
+    /**
+     * 팔로워 ID를 키셋 방식으로 나눠 조회합니다. {@link com.onepiece.otboo.global.util.KeysetIdStreamer}와 함께 사용합니다.
+     */
+    @Query("select f.follower.id from Follow f where f.following.id = :followingId "
+        + "and f.follower.id > :afterId order by f.follower.id")
+    List<UUID> findFollowerIdsAfter(
+        @Param("followingId") UUID followingId,
+        @Param("afterId") UUID afterId,
+        Limit limit
+    );
+
+    @Query("select f.following.id from Follow f where f.follower.id = :followerId")
+    List<UUID> findFollowingIdsByFollowerId(@Param("followerId") UUID followerId);
 }
\ No newline at end of file
@@ -17,6 +17,7 @@ import com.onepiece.otboo.global.dto.response.CursorPageResponseDto;
 import com.onepiece.otboo.global.enums.SortBy;
 import com.onepiece.otboo.global.enums.SortDirection;
 import com.onepiece.otboo.global.event.event.FollowCreatedEvent;
+import com.onepiece.otboo.global.event.event.FollowDeletedEvent;
 import com.onepiece.otboo.global.exception.ErrorCode;
 import com.onepiece.otboo.global.storage.FileStorage;
 import com.onepiece.otboo.infra.security.userdetails.CustomUserDetails;
@@ -181,10 +182,17 @@ public class FollowServiceImpl implements FollowService {
      */
     @Override
     public void deleteFollow(UUID followId) {
-        if (!followRepository.existsById(followId)) {
-            throw new FollowNotFoundException(ErrorCode.FOLLOW_NOT_FOUND);
-        }
+        Follow follow = followRepository.findById(followId)
+            .orElseThrow(() -> new FollowNotFoundException(ErrorCode.FOLLOW_NOT_FOUND));
         followRepository.deleteById(followId);
+
+        eventPublisher.publishEvent(
+            new FollowDeletedEvent(
+                follow.getFollower().getId(),
+                follow.getFollowing().getId(),
+                Instant.now()
+            )
+        );
     }
 
     /**
@@ -64,16 +64,17 @@ public class NotificationController {
      * 알림 읽음 처리
      */
     @DeleteMapping("/{id}")
-    @Operation(summary = "알림 삭제(읽음 처리)", description = "특정 알림을 읽음 처리(삭제)합니다.")
+    @Operation(summary = "알림 삭제(읽음 처리)", description = "특정 알림을 읽음 처리(삭제)합니다. 전체 대상 알림은 본인에게만 숨겨집니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "204", description = "알림 삭제 성공"),
         @ApiResponse(responseCode = "404", description = "존재하지 않는 알림 ID")
     })
     public ResponseEntity<Void> deleteNotification(
+        @AuthenticationPrincipal CustomUserDetails principal,
         @Parameter(description = "알림 ID", required = true)
         @PathVariable UUID id
     ) {
-        notificationService.deleteNotification(id);
+        notificationService.dismiss(principal.getUserId(), id);
         return ResponseEntity.noContent().build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.onepiece.otboo.domain.notification.dto.data;
+
+import com.onepiece.otboo.domain.notification.enums.Level;
+import java.util.UUID;
+
+/**
+ * 저장 전 알림 한 건
+ * 수신자마다 내용이 다른 알림을 한 번에 저장할 때 사용합니다.
+ */
+public record NotificationDraft(
+    UUID receiverId,
+    String title,
+    String content,
+    Level level
+) {
+
+}
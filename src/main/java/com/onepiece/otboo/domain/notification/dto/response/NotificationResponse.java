@@ -5,12 +5,14 @@ import java.time.Instant;
 import java.util.UUID;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 /**
  * 알림 정보 DTO
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
+@Jacksonized
 @Schema(description = "알림 정보 DTO")
 public class NotificationResponse {
 
@@ -0,0 +1,74 @@
+package com.onepiece.otboo.domain.notification.entity;
+
+import com.onepiece.otboo.domain.notification.enums.Level;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UuidGenerator;
+
+/**
+ * 전체 사용자 대상 알림
+ * <p>
+ * 수신자별로 복제하지 않고 한 행만 저장하며, 조회 시 각 사용자의 개인 알림 목록에 합쳐집니다. 사용자가 읽음 처리한 경우만
+ * {@link BroadcastNotificationDismissal}에 기록합니다.
+ * </p>
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "broadcast_notifications")
+public class BroadcastNotification {
+
+    @Id
+    @GeneratedValue
+    @UuidGenerator
+    private UUID id;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false)
+    private String content;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Level level;
+
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Builder
+    public BroadcastNotification(String title, String content, Level level, Instant createdAt) {
+        this.title = title;
+        this.content = content;
+        this.level = level;
+        this.createdAt = createdAt != null ? createdAt : Instant.now();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BroadcastNotification that)) {
+            return false;
+        }
+        return id != null && id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+}
@@ -0,0 +1,38 @@
+package com.onepiece.otboo.domain.notification.entity;
+
+import com.onepiece.otboo.global.base.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자가 읽음 처리한 전체 알림
+ */
+@Entity
+@Table(name = "broadcast_notification_dismissals",
+    uniqueConstraints = @UniqueConstraint(name = "uk_broadcast_dismissals_user_broadcast",
+        columnNames = {"user_id", "broadcast_id"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BroadcastNotificationDismissal extends BaseEntity {
+
+    @Column(name = "broadcast_id", nullable = false)
+    private UUID broadcastId;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    private BroadcastNotificationDismissal(UUID broadcastId, UUID userId) {
+        this.broadcastId = broadcastId;
+        this.userId = userId;
+    }
+
+    public static BroadcastNotificationDismissal of(UUID broadcastId, UUID userId) {
+        return new BroadcastNotificationDismissal(broadcastId, userId);
+    }
+}
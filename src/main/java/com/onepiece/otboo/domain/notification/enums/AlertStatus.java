@@ -9,8 +9,8 @@ package com.onepiece.otboo.domain.notification.enums;
  * <ul>
  *   <li>{@link #PENDING} - 알림이 생성되었지만 아직 발송되지 않은 상태</li>
  *   <li>{@link #SENDING} - 알림이 사용자에게 발송 중인 상태</li>
- *   <li>{@link #SEND} - 알림이 정상적으로 사용자에게 발송된 상태</li>
- *   <li>{@link #FAILED} - 알림 발송 중 오류가 발생한 상태</li>
+ *   <li>{@link #SEND} - 알림이 모든 대상 사용자에게 정상적으로 발송된 상태</li>
+ *   <li>{@link #FAILED} - 알림 발송 중 오류가 발생한 상태 (일부 대상만 실패한 경우 포함)</li>
  * </ul>
  *
  * <p>이 상태값은 배치(Tasklet) 또는 메시지 브로커 기반 발송 로직에서
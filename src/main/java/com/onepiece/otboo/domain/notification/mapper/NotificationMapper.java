@@ -1,11 +1,22 @@
 package com.onepiece.otboo.domain.notification.mapper;
 
 import com.onepiece.otboo.domain.notification.dto.response.NotificationResponse;
+import com.onepiece.otboo.domain.notification.entity.BroadcastNotification;
 import com.onepiece.otboo.domain.notification.entity.Notification;
+import java.util.UUID;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface NotificationMapper {
 
     NotificationResponse toResponse(Notification notification);
+
+    @Mapping(target = "id", source = "broadcast.id")
+    @Mapping(target = "createdAt", source = "broadcast.createdAt")
+    @Mapping(target = "receiverId", source = "receiverId")
+    @Mapping(target = "title", source = "broadcast.title")
+    @Mapping(target = "content", source = "broadcast.content")
+    @Mapping(target = "level", source = "broadcast.level")
+    NotificationResponse toResponse(BroadcastNotification broadcast, UUID receiverId);
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.onepiece.otboo.domain.notification.repository;
+
+import com.onepiece.otboo.domain.notification.entity.BroadcastNotificationDismissal;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BroadcastNotificationDismissalRepository
+    extends JpaRepository<BroadcastNotificationDismissal, UUID> {
+
+    boolean existsByBroadcastIdAndUserId(UUID broadcastId, UUID userId);
+}
@@ -0,0 +1,11 @@
+package com.onepiece.otboo.domain.notification.repository;
+
+import com.onepiece.otboo.domain.notification.entity.BroadcastNotification;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BroadcastNotificationRepository extends JpaRepository<BroadcastNotification, UUID> {
+
+}
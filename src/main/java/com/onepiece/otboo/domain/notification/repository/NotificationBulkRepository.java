@@ -0,0 +1,112 @@
+package com.onepiece.otboo.domain.notification.repository;
+
+import com.onepiece.otboo.domain.notification.dto.response.NotificationResponse;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 여러 수신자에게 같은 알림을 한 번에 저장하는 저장소
+ * <p>
+ * 엔티티를 한 건씩 persist하지 않고 ID와 생성 시각을 미리 정한 행을 JDBC 배치로 나눠 INSERT합니다. PostgreSQL에서는
+ * {@code reWriteBatchedInserts} 설정으로 배치가 다중 행 INSERT로 바뀌어 왕복 수가 더 줄어듭니다.
+ * </p>
+ * <p>
+ * 재처리로 같은 알림이 다시 들어올 수 있는 경우에는 {@link #insertAllIfAbsent}로 이미 있는 ID를 건너뜁니다.
+ * PostgreSQL에서는 {@code ON CONFLICT DO NOTHING}, 그 외(H2)는 {@code NOT EXISTS} 조건부 INSERT를 씁니다.
+ * </p>
+ */
+@Repository
+public class NotificationBulkRepository {
+
+    public static final int BATCH_SIZE = 1_000;
+
+    private static final String INSERT_SQL = """
+        INSERT INTO notifications (id, receiver_id, title, content, level, created_at)
+        VALUES (?, ?, ?, ?, ?, ?)
+        """;
+
+    private static final String POSTGRES_INSERT_IF_ABSENT_SQL = """
+        INSERT INTO notifications (id, receiver_id, title, content, level, created_at)
+        VALUES (?, ?, ?, ?, ?, ?)
+        ON CONFLICT (id) DO NOTHING
+        """;
+
+    private static final String PORTABLE_INSERT_IF_ABSENT_SQL = """
+        INSERT INTO notifications (id, receiver_id, title, content, level, created_at)
+        SELECT ?, ?, ?, ?, ?, ?
+        WHERE NOT EXISTS (SELECT 1 FROM notifications WHERE id = ?)
+        """;
+
+    private static final String EXISTING_IDS_SQL = "SELECT id FROM notifications WHERE id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean postgres;
+
+    public NotificationBulkRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insertAll(List<NotificationResponse> notifications) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, notifications, BATCH_SIZE, (ps, n) -> {
+            ps.setObject(1, n.getId());
+            ps.setObject(2, n.getReceiverId());
+            ps.setString(3, n.getTitle());
+            ps.setString(4, n.getContent());
+            ps.setString(5, n.getLevel());
+            ps.setTimestamp(6, Timestamp.from(n.getCreatedAt()));
+        });
+    }
+
+    /**
+     * 같은 ID의 행이 없을 때만 저장합니다. 동시에 같은 알림을 저장하는 경우에도 행은 하나만 남습니다.
+     */
+    public void insertAllIfAbsent(List<NotificationResponse> notifications) {
+        boolean postgres = isPostgres();
+        String sql = postgres ? POSTGRES_INSERT_IF_ABSENT_SQL : PORTABLE_INSERT_IF_ABSENT_SQL;
+        jdbcTemplate.batchUpdate(sql, notifications, BATCH_SIZE, (ps, n) -> {
+            ps.setObject(1, n.getId());
+            ps.setObject(2, n.getReceiverId());
+            ps.setString(3, n.getTitle());
+            ps.setString(4, n.getContent());
+            ps.setString(5, n.getLevel());
+            ps.setTimestamp(6, Timestamp.from(n.getCreatedAt()));
+            if (!postgres) {
+                ps.setObject(7, n.getId());
+            }
+        });
+    }
+
+    /**
+     * 주어진 ID 중 이미 저장된 ID를 반환합니다.
+     */
+    public Set<UUID> findExistingIds(Collection<UUID> ids) {
+        List<UUID> targets = List.copyOf(ids);
+        Set<UUID> existing = new HashSet<>();
+        for (int from = 0; from < targets.size(); from += BATCH_SIZE) {
+            List<UUID> chunk = targets.subList(from, Math.min(from + BATCH_SIZE, targets.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            existing.addAll(jdbcTemplate.queryForList(EXISTING_IDS_SQL.formatted(placeholders),
+                UUID.class, chunk.toArray()));
+        }
+        return existing;
+    }
+
+    private boolean isPostgres() {
+        Boolean cached = postgres;
+        if (cached == null) {
+            String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+            cached = product != null && product.toLowerCase().contains("postgres");
+            postgres = cached;
+        }
+        return cached;
+    }
+}
@@ -1,5 +1,6 @@
 package com.onepiece.otboo.domain.notification.repository;
 
+import com.onepiece.otboo.domain.notification.entity.BroadcastNotification;
 import com.onepiece.otboo.domain.notification.entity.Notification;
 import java.time.Instant;
 import java.util.List;
@@ -17,10 +18,23 @@ public interface NotificationRepositoryCustom {
      */
     List<Notification> findNotifications(UUID receiverId, Instant cursor, UUID idAfter, int limit);
 
+    /**
+     * 사용자에게 보이는 전체 대상 알림 조회 (가입 이후 생성, 읽음 처리 제외). 커서는 개인 알림과 같은 기준입니다.
+     *
+     * @param limit 조회 개수
+     * @return 전체 대상 알림 목록 (createdAt, id 내림차순)
+     */
+    List<BroadcastNotification> findBroadcasts(UUID receiverId, Instant cursor, UUID idAfter, int limit);
+
     /**
      * 전체 알림 개수 (receiverId 기준)
      */
     long countByReceiverId(UUID receiverId);
 
+    /**
+     * 사용자에게 보이는 전체 대상 알림 개수
+     */
+    long countBroadcasts(UUID receiverId);
+
     long countAll();
 }
\ No newline at end of file
@@ -1,9 +1,16 @@
 package com.onepiece.otboo.domain.notification.repository;
 
+import static com.onepiece.otboo.domain.notification.entity.QBroadcastNotification.broadcastNotification;
+import static com.onepiece.otboo.domain.notification.entity.QBroadcastNotificationDismissal.broadcastNotificationDismissal;
 import static com.onepiece.otboo.domain.notification.entity.QNotification.notification;
+import static com.onepiece.otboo.domain.user.entity.QUser.user;
 
+import com.onepiece.otboo.domain.notification.entity.BroadcastNotification;
 import com.onepiece.otboo.domain.notification.entity.Notification;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparablePath;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.Instant;
 import java.util.List;
@@ -24,23 +31,54 @@ public class NotificationRepositoryImpl implements NotificationRepositoryCustom
             .selectFrom(notification)
             .where(
                 notification.receiverId.eq(receiverId)
-                    .and(buildCursorCondition(cursor, idAfter))
+                    .and(buildCursorCondition(notification.createdAt, notification.id, cursor, idAfter))
             )
             .orderBy(notification.createdAt.desc(), notification.id.desc())
             .limit(limit + 1)
             .fetch();
     }
 
-    private BooleanExpression buildCursorCondition(Instant cursor, UUID idAfter) {
+    @Override
+    public List<BroadcastNotification> findBroadcasts(UUID receiverId, Instant cursor, UUID idAfter,
+        int limit) {
+        return queryFactory
+            .selectFrom(broadcastNotification)
+            .where(
+                visibleTo(receiverId),
+                buildCursorCondition(broadcastNotification.createdAt, broadcastNotification.id,
+                    cursor, idAfter)
+            )
+            .orderBy(broadcastNotification.createdAt.desc(), broadcastNotification.id.desc())
+            .limit(limit)
+            .fetch();
+    }
+
+    /**
+     * 가입 이후에 생성되었고 아직 읽음 처리하지 않은 전체 알림
+     */
+    private BooleanExpression visibleTo(UUID receiverId) {
+        return broadcastNotification.createdAt.goe(
+                JPAExpressions.select(user.createdAt).from(user).where(user.id.eq(receiverId)))
+            .and(JPAExpressions.selectOne()
+                .from(broadcastNotificationDismissal)
+                .where(
+                    broadcastNotificationDismissal.broadcastId.eq(broadcastNotification.id),
+                    broadcastNotificationDismissal.userId.eq(receiverId)
+                )
+                .notExists());
+    }
+
+    private BooleanExpression buildCursorCondition(DateTimePath<Instant> createdAt,
+        ComparablePath<UUID> id, Instant cursor, UUID idAfter) {
         if (cursor == null) {
             return null;
         }
 
-        BooleanExpression beforeCreatedAt = notification.createdAt.lt(cursor);
-        BooleanExpression sameTimeSmallerId = notification.createdAt.eq(cursor);
+        BooleanExpression beforeCreatedAt = createdAt.lt(cursor);
+        BooleanExpression sameTimeSmallerId = createdAt.eq(cursor);
 
         if (idAfter != null) {
-            sameTimeSmallerId = sameTimeSmallerId.and(notification.id.lt(idAfter));
+            sameTimeSmallerId = sameTimeSmallerId.and(id.lt(idAfter));
         }
 
         return beforeCreatedAt.or(sameTimeSmallerId);
@@ -57,6 +95,17 @@ public class NotificationRepositoryImpl implements NotificationRepositoryCustom
         return count != null ? count : 0L;
     }
 
+    @Override
+    public long countBroadcasts(UUID receiverId) {
+        Long count = queryFactory
+            .select(broadcastNotification.count())
+            .from(broadcastNotification)
+            .where(visibleTo(receiverId))
+            .fetchOne();
+
+        return count != null ? count : 0L;
+    }
+
     @Override
     public long countAll() {
         Long count = queryFactory
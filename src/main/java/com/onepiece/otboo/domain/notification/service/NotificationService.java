@@ -1,8 +1,10 @@
 package com.onepiece.otboo.domain.notification.service;
 
+import com.onepiece.otboo.domain.notification.dto.data.NotificationDraft;
 import com.onepiece.otboo.domain.notification.dto.response.NotificationResponse;
 import com.onepiece.otboo.domain.notification.enums.Level;
 import com.onepiece.otboo.global.dto.response.CursorPageResponseDto;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
@@ -17,5 +19,16 @@ public interface NotificationService {
 
     void create(Set<UUID> receiverIds, String title, String content, Level level);
 
+    /**
+     * 같은 원천({@code sourceId})으로 다시 호출돼도 수신자마다 알림이 하나만 남도록 생성합니다.
+     */
+    void createOnce(UUID sourceId, Set<UUID> receiverIds, String title, String content, Level level);
+
+    void createAll(List<NotificationDraft> drafts);
+
+    void broadcast(String title, String content, Level level);
+
     void deleteNotification(UUID id);
+
+    void dismiss(UUID receiverId, UUID id);
 }
\ No newline at end of file
@@ -1,38 +1,58 @@
 package com.onepiece.otboo.domain.notification.service;
 
+import com.onepiece.otboo.domain.notification.dto.data.NotificationDraft;
 import com.onepiece.otboo.domain.notification.dto.response.NotificationResponse;
+import com.onepiece.otboo.domain.notification.entity.BroadcastNotification;
+import com.onepiece.otboo.domain.notification.entity.BroadcastNotificationDismissal;
 import com.onepiece.otboo.domain.notification.entity.Notification;
 import com.onepiece.otboo.domain.notification.enums.Level;
 import com.onepiece.otboo.domain.notification.exception.NotificationNotFoundException;
 import com.onepiece.otboo.domain.notification.mapper.NotificationMapper;
+import com.onepiece.otboo.domain.notification.repository.BroadcastNotificationDismissalRepository;
+import com.onepiece.otboo.domain.notification.repository.BroadcastNotificationRepository;
+import com.onepiece.otboo.domain.notification.repository.NotificationBulkRepository;
 import com.onepiece.otboo.domain.notification.repository.NotificationRepository;
 import com.onepiece.otboo.global.dto.response.CursorPageResponseDto;
 import com.onepiece.otboo.global.enums.SortBy;
 import com.onepiece.otboo.global.enums.SortDirection;
-import com.onepiece.otboo.global.sse.SseService;
+import com.onepiece.otboo.global.event.event.BroadcastNotificationCreatedEvent;
+import com.onepiece.otboo.global.event.event.NotificationsCreatedEvent;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 알림 서비스 구현체
  * <p>
- * - 알림 목록 조회 (커서 기반) - 알림 생성 - 알림 읽음 처리
+ * - 알림 목록 조회 (커서 기반, 개인 알림 + 전체 알림 병합) - 알림 생성 - 전체 알림 생성 - 알림 읽음 처리
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class NotificationServiceImpl implements NotificationService {
 
+    private static final Comparator<NotificationResponse> NEWEST_FIRST =
+        Comparator.comparing(NotificationResponse::getCreatedAt)
+            .thenComparing(NotificationResponse::getId, NotificationServiceImpl::compareUnsigned)
+            .reversed();
+
     private final NotificationRepository notificationRepository;
+    private final BroadcastNotificationRepository broadcastNotificationRepository;
+    private final BroadcastNotificationDismissalRepository dismissalRepository;
     private final NotificationMapper notificationMapper;
-    private final SseService sseService;
+    private final NotificationBulkRepository notificationBulkRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 알림 목록 조회 (receiverId + cursor + idAfter 기반)
@@ -54,26 +74,33 @@ public class NotificationServiceImpl implements NotificationService {
             }
         }
 
-        List<Notification> notifications =
-            notificationRepository.findNotifications(receiverId, cursorInstant, idAfter, limit + 1);
+        List<NotificationResponse> personal =
+            notificationRepository.findNotifications(receiverId, cursorInstant, idAfter, limit + 1)
+                .stream()
+                .map(notificationMapper::toResponse)
+                .collect(Collectors.toList());
+        List<NotificationResponse> broadcasts =
+            notificationRepository.findBroadcasts(receiverId, cursorInstant, idAfter, limit + 1)
+                .stream()
+                .map(broadcast -> notificationMapper.toResponse(broadcast, receiverId))
+                .collect(Collectors.toList());
+
+        List<NotificationResponse> data = merge(personal, broadcasts, limit + 1);
 
-        boolean hasNext = notifications.size() > limit;
+        boolean hasNext = data.size() > limit;
         if (hasNext) {
-            notifications = notifications.subList(0, limit);
+            data = data.subList(0, limit);
         }
 
         Instant nextCursor = hasNext
-            ? notifications.get(notifications.size() - 1).getCreatedAt()
+            ? data.get(data.size() - 1).getCreatedAt()
             : null;
         UUID nextIdAfter = hasNext
-            ? notifications.get(notifications.size() - 1).getId()
+            ? data.get(data.size() - 1).getId()
             : null;
 
-        long totalCount = notificationRepository.countByReceiverId(receiverId);
-
-        List<NotificationResponse> data = notifications.stream()
-            .map(notificationMapper::toResponse)
-            .collect(Collectors.toList());
+        long totalCount = notificationRepository.countByReceiverId(receiverId)
+            + notificationRepository.countBroadcasts(receiverId);
 
         return new CursorPageResponseDto<>(
             data,
@@ -87,33 +114,145 @@ public class NotificationServiceImpl implements NotificationService {
     }
 
     /**
-     * 알림 생성 + SSE 실시간 전송
+     * 알림 일괄 생성
+     * <p>
+     * 모든 수신자의 행을 같은 생성 시각으로 만들어 JDBC 배치로 저장하고, SSE 전송은 커밋 이후 비동기로 진행합니다.
+     * </p>
      */
     @Transactional
     @Override
     public void create(Set<UUID> receiverIds, String title, String content, Level level) {
-        receiverIds.forEach(receiverId -> {
-            Notification notification = Notification.builder()
+        if (receiverIds.isEmpty()) {
+            return;
+        }
+
+        Instant now = Instant.now();
+        List<NotificationResponse> notifications = receiverIds.stream()
+            .map(receiverId -> NotificationResponse.builder()
+                .id(UUID.randomUUID())
+                .createdAt(now)
                 .receiverId(receiverId)
                 .title(title)
                 .content(content)
-                .level(level)
-                .createdAt(Instant.now())
-                .build();
+                .level(level.name())
+                .build())
+            .toList();
 
-            Notification saved = notificationRepository.save(notification);
+        saveAndPublish(notifications);
+        log.debug("[NotificationServiceImpl] 알림 일괄 생성 - receivers={}, title={}",
+            notifications.size(), title);
+    }
 
-            NotificationResponse response = notificationMapper.toResponse(saved);
+    /**
+     * 재처리에 안전한 알림 일괄 생성
+     * <p>
+     * 알림 ID를 (원천 ID, 수신자 ID)로 정해 두어, 메시지 재전달이나 재시도로 같은 수신자 목록이 다시 들어와도 이미 저장된
+     * 알림은 건너뛰고 새로 저장된 알림만 SSE로 보냅니다.
+     * </p>
+     */
+    @Transactional
+    @Override
+    public void createOnce(UUID sourceId, Set<UUID> receiverIds, String title, String content,
+        Level level) {
+        if (receiverIds.isEmpty()) {
+            return;
+        }
 
-            try {
-                sseService.send(receiverId, "notifications", response);
-                log.debug("[NotificationServiceImpl] SSE 전송 완료 - receiverId={}, title={}",
-                    receiverId, title);
-            } catch (Exception e) {
-                log.warn("[NotificationServiceImpl] SSE 전송 실패 - receiverId={}, 이유={}", receiverId,
-                    e.getMessage());
-            }
-        });
+        Instant now = Instant.now();
+        List<NotificationResponse> candidates = receiverIds.stream()
+            .map(receiverId -> NotificationResponse.builder()
+                .id(notificationId(sourceId, receiverId))
+                .createdAt(now)
+                .receiverId(receiverId)
+                .title(title)
+                .content(content)
+                .level(level.name())
+                .build())
+            .toList();
+
+        Set<UUID> existing = notificationBulkRepository.findExistingIds(
+            candidates.stream().map(NotificationResponse::getId).toList());
+        List<NotificationResponse> notifications = existing.isEmpty() ? candidates
+            : candidates.stream().filter(n -> !existing.contains(n.getId())).toList();
+        if (notifications.isEmpty()) {
+            log.debug("[NotificationServiceImpl] 이미 생성된 알림, 생략 - sourceId={}, receivers={}",
+                sourceId, receiverIds.size());
+            return;
+        }
+
+        notificationBulkRepository.insertAllIfAbsent(notifications);
+        publish(notifications);
+        log.debug("[NotificationServiceImpl] 알림 일괄 생성 - sourceId={}, receivers={}, skipped={}",
+            sourceId, notifications.size(), existing.size());
+    }
+
+    static UUID notificationId(UUID sourceId, UUID receiverId) {
+        return UUID.nameUUIDFromBytes(
+            (sourceId + ":" + receiverId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 수신자마다 내용이 다른 알림 일괄 생성
+     * <p>
+     * Kafka 배치 리스너가 한 번의 poll로 받은 알림을 한 트랜잭션에 저장할 때 사용합니다.
+     * </p>
+     */
+    @Transactional
+    @Override
+    public void createAll(List<NotificationDraft> drafts) {
+        if (drafts.isEmpty()) {
+            return;
+        }
+
+        Instant now = Instant.now();
+        List<NotificationResponse> notifications = drafts.stream()
+            .map(draft -> NotificationResponse.builder()
+                .id(UUID.randomUUID())
+                .createdAt(now)
+                .receiverId(draft.receiverId())
+                .title(draft.title())
+                .content(draft.content())
+                .level(draft.level().name())
+                .build())
+            .toList();
+
+        saveAndPublish(notifications);
+        log.debug("[NotificationServiceImpl] 알림 일괄 생성 - notifications={}", notifications.size());
+    }
+
+    private void saveAndPublish(List<NotificationResponse> notifications) {
+        notificationBulkRepository.insertAll(notifications);
+        publish(notifications);
+    }
+
+    private void publish(List<NotificationResponse> notifications) {
+        // 전송 스레드 여러 개가 나눠 보내도록 배치 단위로 이벤트 발행
+        for (int from = 0; from < notifications.size(); from += NotificationBulkRepository.BATCH_SIZE) {
+            int to = Math.min(from + NotificationBulkRepository.BATCH_SIZE, notifications.size());
+            eventPublisher.publishEvent(new NotificationsCreatedEvent(notifications.subList(from, to)));
+        }
+    }
+
+    /**
+     * 전체 사용자 대상 알림 생성
+     * <p>
+     * 수신자별 행을 만들지 않고 한 행만 저장합니다. SSE는 커밋 이후 현재 연결된 사용자에게만 전송합니다.
+     * </p>
+     */
+    @Transactional
+    @Override
+    public void broadcast(String title, String content, Level level) {
+        BroadcastNotification saved = broadcastNotificationRepository.save(
+            BroadcastNotification.builder()
+                .title(title)
+                .content(content)
+                .level(level)
+                .createdAt(Instant.now())
+                .build());
+
+        eventPublisher.publishEvent(
+            new BroadcastNotificationCreatedEvent(notificationMapper.toResponse(saved, null)));
+        log.debug("[NotificationServiceImpl] 전체 알림 생성 - id={}, title={}", saved.getId(), title);
     }
 
     /**
@@ -127,4 +266,55 @@ public class NotificationServiceImpl implements NotificationService {
 
         notificationRepository.deleteById(id);
     }
+
+    /**
+     * 사용자 기준 알림 읽음 처리
+     * <p>
+     * 개인 알림은 삭제하고, 전체 알림은 해당 사용자의 읽음 기록만 남깁니다.
+     * </p>
+     */
+    @Transactional
+    @Override
+    public void dismiss(UUID receiverId, UUID id) {
+        Optional<Notification> personal = notificationRepository.findById(id);
+        if (personal.isPresent()) {
+            if (!personal.get().getReceiverId().equals(receiverId)) {
+                throw new NotificationNotFoundException(id);
+            }
+            notificationRepository.deleteById(id);
+            return;
+        }
+
+        if (!broadcastNotificationRepository.existsById(id)) {
+            throw new NotificationNotFoundException(id);
+        }
+        if (!dismissalRepository.existsByBroadcastIdAndUserId(id, receiverId)) {
+            dismissalRepository.save(BroadcastNotificationDismissal.of(id, receiverId));
+        }
+    }
+
+    /**
+     * (createdAt, id) 내림차순으로 정렬된 두 목록을 합칩니다. UUID는 DB와 같은 부호 없는 순서로 비교합니다.
+     */
+    private List<NotificationResponse> merge(List<NotificationResponse> left,
+        List<NotificationResponse> right, int limit) {
+        List<NotificationResponse> merged = new ArrayList<>(Math.min(limit, left.size() + right.size()));
+        int i = 0;
+        int j = 0;
+        while (merged.size() < limit && (i < left.size() || j < right.size())) {
+            if (j >= right.size()
+                || (i < left.size() && NEWEST_FIRST.compare(left.get(i), right.get(j)) <= 0)) {
+                merged.add(left.get(i++));
+            } else {
+                merged.add(right.get(j++));
+            }
+        }
+        return merged;
+    }
+
+    private static int compareUnsigned(UUID a, UUID b) {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high
+            : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
 }
\ No newline at end of file
@@ -1,10 +1,12 @@
 package com.onepiece.otboo.domain.profile.repository;
 
 import com.onepiece.otboo.domain.profile.entity.Profile;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -12,5 +14,11 @@ public interface ProfileRepository extends JpaRepository<Profile, UUID> {
 
     Optional<Profile> findByUserId(UUID userId);
 
+    List<Profile> findAllByUserIdIn(Collection<UUID> userIds);
+
     List<Profile> findAllByLocationId(UUID locationId);
+
+    @Query("select distinct p.location.id from Profile p where p.location is not null "
+        + "order by p.location.id")
+    List<UUID> findDistinctLocationIds();
 }
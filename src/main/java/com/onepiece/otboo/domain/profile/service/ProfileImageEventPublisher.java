@@ -2,7 +2,9 @@ package com.onepiece.otboo.domain.profile.service;
 
 import com.onepiece.otboo.domain.profile.entity.Profile;
 import com.onepiece.otboo.global.event.event.ProfileImageReplaceEvent;
+import com.onepiece.otboo.global.event.event.ProfileUpdatedEvent;
 import com.onepiece.otboo.global.storage.payload.UploadPayload;
+import java.time.Instant;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
@@ -19,4 +21,8 @@ public class ProfileImageEventPublisher {
         UUID userId = profile.getUser().getId();
         publisher.publishEvent(new ProfileImageReplaceEvent(userId, prefix, payload, oldKey));
     }
-}
\ No newline at end of file
+
+    public void publishUpdated(UUID userId) {
+        publisher.publishEvent(new ProfileUpdatedEvent(userId, Instant.now()));
+    }
+}
@@ -80,6 +80,7 @@ public class ProfileServiceImpl implements ProfileService {
         updateProfileImageAsync(profile, profileImage);
 
         Profile updatedProfile = profileRepository.save(profile);
+        profileImageEventPublisher.publishUpdated(userId);
 
         log.info("[ProfileService] 프로필 업데이트 성공 - userId: {}", userId);
 
@@ -0,0 +1,109 @@
+package com.onepiece.otboo.domain.recommendation.batch.config;
+
+import static com.onepiece.otboo.domain.profile.entity.QProfile.profile;
+
+import com.onepiece.otboo.domain.profile.entity.Profile;
+import com.onepiece.otboo.domain.recommendation.batch.dto.PrecomputedRecommendation;
+import com.onepiece.otboo.domain.recommendation.batch.partitioner.LocationRangePartitioner;
+import com.onepiece.otboo.domain.recommendation.batch.processor.RecommendationPrecomputeProcessor;
+import com.onepiece.otboo.domain.recommendation.batch.writer.RecommendationPrecomputeWriter;
+import com.onepiece.otboo.domain.recommendation.cache.RecommendationCache;
+import com.onepiece.otboo.domain.recommendation.config.props.RecommendationPrecomputeProperties;
+import com.onepiece.otboo.domain.recommendation.config.props.RecommendationProperties;
+import com.onepiece.otboo.domain.weather.batch.reader.QuerydslPagingItemReader;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 추천 결과 사전 계산 배치
+ * <p>
+ * 날씨 수집 배치 직후 실행되어, 프로필 위치 기준으로 나눈 파티션을 병렬로 처리하며 사용자별 추천 결과를
+ * 추천 캐시(Redis)에 미리 채웁니다. 아침 조회 폭주 시간대의 추천 요청이 캐시에서 처리되도록 하는 것이 목적입니다.
+ * </p>
+ */
+@Configuration
+@RequiredArgsConstructor
+public class RecommendationBatchConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final EntityManagerFactory entityManagerFactory;
+    private final LocationRangePartitioner locationRangePartitioner;
+    private final RecommendationPrecomputeProcessor recommendationPrecomputeProcessor;
+    private final RecommendationCache recommendationCache;
+    private final RecommendationProperties recommendationProperties;
+
+    @Bean
+    public Job precomputeRecommendationJob(Step precomputeRecommendationStep) {
+        return new JobBuilder("precomputeRecommendationJob", jobRepository)
+            .start(precomputeRecommendationStep)
+            .build();
+    }
+
+    @Bean
+    public Step precomputeRecommendationStep(
+        @Qualifier("recommendationPrecomputeExecutor") TaskExecutor taskExecutor
+    ) {
+        return new StepBuilder("precomputeRecommendationStep", jobRepository)
+            .partitioner("precomputeRecommendationWorkerStep", locationRangePartitioner)
+            .step(precomputeRecommendationWorkerStep())
+            .gridSize(recommendationProperties.precompute().gridSize())
+            .taskExecutor(taskExecutor)
+            .build();
+    }
+
+    @Bean
+    public Step precomputeRecommendationWorkerStep() {
+        RecommendationPrecomputeProperties props = recommendationProperties.precompute();
+
+        return new StepBuilder("precomputeRecommendationWorkerStep", jobRepository)
+            .<Profile, List<PrecomputedRecommendation>>chunk(props.chunkSize(), transactionManager)
+            .reader(profileItemReader(null, null))
+            .processor(recommendationPrecomputeProcessor)
+            .writer(new RecommendationPrecomputeWriter(recommendationCache))
+            .faultTolerant()
+            .skip(RuntimeException.class)
+            .skipLimit(1000)
+            .build();
+    }
+
+    @Bean
+    @StepScope
+    public QuerydslPagingItemReader<Profile> profileItemReader(
+        @Value("#{stepExecutionContext['" + LocationRangePartitioner.MIN_LOCATION_ID + "']}")
+        String minLocationId,
+        @Value("#{stepExecutionContext['" + LocationRangePartitioner.MAX_LOCATION_ID + "']}")
+        String maxLocationId
+    ) {
+        UUID min = UUID.fromString(minLocationId);
+        UUID max = UUID.fromString(maxLocationId);
+
+        return new QuerydslPagingItemReader<>(
+            entityManagerFactory,
+            recommendationProperties.precompute().chunkSize(),
+            (JPAQueryFactory qf) -> {
+                JPAQuery<Profile> q = qf
+                    .selectFrom(profile)
+                    .where(profile.location.id.between(min, max))
+                    .orderBy(profile.location.id.asc(), profile.id.asc());
+                return q;
+            }
+        );
+    }
+}
@@ -0,0 +1,13 @@
+package com.onepiece.otboo.domain.recommendation.batch.dto;
+
+import com.onepiece.otboo.domain.recommendation.dto.data.RecommendationDto;
+
+/**
+ * 사전 계산된 추천 결과와 저장할 캐시 키
+ */
+public record PrecomputedRecommendation(
+    String cacheKey,
+    RecommendationDto recommendation
+) {
+
+}
@@ -0,0 +1,56 @@
+package com.onepiece.otboo.domain.recommendation.batch.partitioner;
+
+import com.onepiece.otboo.domain.profile.repository.ProfileRepository;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프로필이 존재하는 위치 ID를 정렬해 연속 구간으로 나누는 파티셔너
+ * <p>
+ * 같은 위치의 사용자는 항상 같은 파티션에 묶이므로, 파티션 안에서는 위치별 날씨를 한 번만 조회하면 됩니다.
+ * 각 파티션의 ExecutionContext에는 {@code minLocationId}, {@code maxLocationId}가 담깁니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocationRangePartitioner implements Partitioner {
+
+    public static final String MIN_LOCATION_ID = "minLocationId";
+    public static final String MAX_LOCATION_ID = "maxLocationId";
+
+    private final ProfileRepository profileRepository;
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        List<UUID> locationIds = profileRepository.findDistinctLocationIds();
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        if (locationIds.isEmpty()) {
+            log.info("[LocationRangePartitioner] 위치가 설정된 프로필이 없어 파티션을 만들지 않음");
+            return partitions;
+        }
+
+        int partitionCount = Math.max(1, Math.min(gridSize, locationIds.size()));
+        int rangeSize = (locationIds.size() + partitionCount - 1) / partitionCount;
+
+        for (int start = 0, i = 0; start < locationIds.size(); start += rangeSize, i++) {
+            int end = Math.min(start + rangeSize, locationIds.size()) - 1;
+
+            ExecutionContext context = new ExecutionContext();
+            context.putString(MIN_LOCATION_ID, locationIds.get(start).toString());
+            context.putString(MAX_LOCATION_ID, locationIds.get(end).toString());
+            partitions.put("partition" + i, context);
+        }
+
+        log.info("[LocationRangePartitioner] 위치 {}개를 {}개 파티션으로 분할", locationIds.size(),
+            partitions.size());
+        return partitions;
+    }
+}
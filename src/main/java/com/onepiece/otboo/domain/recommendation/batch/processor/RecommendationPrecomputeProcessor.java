@@ -0,0 +1,125 @@
+package com.onepiece.otboo.domain.recommendation.batch.processor;
+
+import com.onepiece.otboo.domain.profile.entity.Profile;
+import com.onepiece.otboo.domain.recommendation.batch.dto.PrecomputedRecommendation;
+import com.onepiece.otboo.domain.recommendation.cache.RecommendationCache;
+import com.onepiece.otboo.domain.recommendation.config.props.RecommendationProperties;
+import com.onepiece.otboo.domain.recommendation.dto.data.RecommendationDto;
+import com.onepiece.otboo.domain.recommendation.service.RecommendationService;
+import com.onepiece.otboo.domain.weather.entity.Weather;
+import com.onepiece.otboo.domain.weather.service.WeatherCacheHelper;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프로필별로 현재 시각 전후의 날씨에 대한 추천 결과를 계산합니다.
+ * <p>
+ * 대상 날씨는 날씨 조회 API와 같은 기준(가까운 정시에 가장 가까운 예보)으로 고르므로, 사용자가 앱에서 받는
+ * weatherId와 캐시 키가 일치합니다. 리더가 위치 순으로 정렬해 읽기 때문에 위치별 대상 날씨는 직전 위치만 기억해
+ * 재사용합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@StepScope
+@RequiredArgsConstructor
+public class RecommendationPrecomputeProcessor implements
+    ItemProcessor<Profile, List<PrecomputedRecommendation>> {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final RecommendationService recommendationService;
+    private final RecommendationCache recommendationCache;
+    private final WeatherCacheHelper weatherCacheHelper;
+    private final RecommendationProperties recommendationProperties;
+    private final Clock clock;
+
+    private List<ZonedDateTime> targetsKst;
+    private UUID lastLocationId;
+    private List<Weather> lastWeathers = List.of();
+
+    @Override
+    public List<PrecomputedRecommendation> process(Profile profile) {
+        if (profile.getLocation() == null) {
+            return null;
+        }
+
+        List<Weather> weathers = targetWeathers(profile.getLocation().getId());
+        if (weathers.isEmpty()) {
+            return null;
+        }
+
+        UUID userId = profile.getUser().getId();
+        List<PrecomputedRecommendation> result = new ArrayList<>(weathers.size());
+        for (Weather weather : weathers) {
+            String cacheKey = recommendationCache.keyOf(userId, weather.getId());
+            if (cacheKey == null) {
+                continue;
+            }
+            RecommendationDto recommendation =
+                recommendationService.precomputeRecommendation(weather, userId, profile);
+            result.add(new PrecomputedRecommendation(cacheKey, recommendation));
+        }
+        return result.isEmpty() ? null : result;
+    }
+
+    private List<Weather> targetWeathers(UUID locationId) {
+        if (locationId.equals(lastLocationId)) {
+            return lastWeathers;
+        }
+
+        Map<LocalDate, List<Weather>> byDay = new HashMap<>();
+        Map<UUID, Weather> picked = new LinkedHashMap<>();
+        for (ZonedDateTime targetKst : targets()) {
+            long targetMillis = targetKst.toInstant().toEpochMilli();
+            List<Weather> ofDay = byDay.computeIfAbsent(targetKst.toLocalDate(),
+                day -> weatherCacheHelper.getWeathersOfDay(locationId, day));
+
+            ofDay.stream()
+                .filter(Objects::nonNull)
+                .min(Comparator.comparingLong(w ->
+                    Math.abs(w.getForecastAt().toEpochMilli() - targetMillis)))
+                .ifPresent(w -> picked.putIfAbsent(w.getId(), w));
+        }
+
+        if (picked.isEmpty()) {
+            log.debug("[RecommendationPrecomputeProcessor] 대상 날씨 없음 - locationId: {}",
+                locationId);
+        }
+        lastLocationId = locationId;
+        lastWeathers = List.copyOf(picked.values());
+        return lastWeathers;
+    }
+
+    /**
+     * 스텝 시작 시각의 가까운 정시에 설정된 시간 오프셋을 더한 대상 시각 목록 (스텝 동안 고정)
+     */
+    private List<ZonedDateTime> targets() {
+        if (targetsKst == null) {
+            ZonedDateTime nowKst = ZonedDateTime.now(clock).withZoneSameInstant(KST);
+            ZonedDateTime baseHourKst = nowKst.getMinute() >= 30
+                ? nowKst.plusHours(1).withMinute(0).withSecond(0).withNano(0)
+                : nowKst.withMinute(0).withSecond(0).withNano(0);
+
+            targetsKst = recommendationProperties.precompute().leadHours().stream()
+                .map(baseHourKst::plusHours)
+                .toList();
+        }
+        return targetsKst;
+    }
+}
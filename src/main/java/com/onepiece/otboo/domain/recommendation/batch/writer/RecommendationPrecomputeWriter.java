@@ -0,0 +1,37 @@
+package com.onepiece.otboo.domain.recommendation.batch.writer;
+
+import com.onepiece.otboo.domain.recommendation.batch.dto.PrecomputedRecommendation;
+import com.onepiece.otboo.domain.recommendation.cache.RecommendationCache;
+import com.onepiece.otboo.domain.recommendation.dto.data.RecommendationDto;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+
+@Slf4j
+@RequiredArgsConstructor
+public class RecommendationPrecomputeWriter implements ItemWriter<List<PrecomputedRecommendation>> {
+
+    private final RecommendationCache recommendationCache;
+
+    @Override
+    public void write(Chunk<? extends List<PrecomputedRecommendation>> chunk) {
+        Map<String, RecommendationDto> recommendations = new LinkedHashMap<>();
+        chunk.getItems().stream()
+            .filter(Objects::nonNull)
+            .flatMap(List::stream)
+            .forEach(p -> recommendations.put(p.cacheKey(), p.recommendation()));
+
+        if (recommendations.isEmpty()) {
+            return;
+        }
+
+        int stored = recommendationCache.putAllRemote(recommendations);
+        log.info("[RecommendationPrecomputeWriter] 사전 계산 추천 {}건 중 {}건 캐시 저장",
+            recommendations.size(), stored);
+    }
+}
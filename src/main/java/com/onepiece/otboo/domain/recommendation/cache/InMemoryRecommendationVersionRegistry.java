@@ -0,0 +1,36 @@
+package com.onepiece.otboo.domain.recommendation.cache;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile("test | test-integration")
+public class InMemoryRecommendationVersionRegistry implements RecommendationVersionRegistry {
+
+    private final Map<UUID, AtomicLong> wardrobeVersions = new ConcurrentHashMap<>();
+    private final Map<UUID, AtomicLong> profileVersions = new ConcurrentHashMap<>();
+
+    @Override
+    public RecommendationVersions getVersions(UUID userId) {
+        AtomicLong wardrobe = wardrobeVersions.get(userId);
+        AtomicLong profile = profileVersions.get(userId);
+        return new RecommendationVersions(
+            wardrobe == null ? 0L : wardrobe.get(),
+            profile == null ? 0L : profile.get()
+        );
+    }
+
+    @Override
+    public void increaseWardrobeVersion(UUID userId) {
+        wardrobeVersions.computeIfAbsent(userId, k -> new AtomicLong()).incrementAndGet();
+    }
+
+    @Override
+    public void increaseProfileVersion(UUID userId) {
+        profileVersions.computeIfAbsent(userId, k -> new AtomicLong()).incrementAndGet();
+    }
+}
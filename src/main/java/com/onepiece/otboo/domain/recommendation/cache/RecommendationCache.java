@@ -0,0 +1,147 @@
+package com.onepiece.otboo.domain.recommendation.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.onepiece.otboo.domain.recommendation.config.props.RecommendationCacheProperties;
+import com.onepiece.otboo.domain.recommendation.config.props.RecommendationProperties;
+import com.onepiece.otboo.domain.recommendation.dto.data.RecommendationDto;
+import com.onepiece.otboo.global.config.CacheConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * 추천 결과 2단계 캐시 (로컬 Caffeine near 캐시 + Redis 캐시)
+ * <p>
+ * 키는 (userId, weatherId, 옷장 버전, 프로필 버전)으로 구성되어, 의상/프로필이 바뀌면 버전이 올라가
+ * 이전 결과는 자연스럽게 조회되지 않고 TTL로 정리됩니다. 캐시되는 DTO의 imageUrl에는 저장소 키가 담겨 있으며,
+ * 공개 URL 변환은 조회 측에서 수행합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class RecommendationCache {
+
+    private static final String METRIC_NAME = "otboo.recommendation.cache";
+
+    private final RecommendationVersionRegistry versionRegistry;
+    private final Cache<String, RecommendationDto> nearCache;
+    private final org.springframework.cache.Cache redisCache;
+
+    private final Counter nearHitCounter;
+    private final Counter redisHitCounter;
+    private final Counter missCounter;
+
+    public RecommendationCache(
+        RecommendationVersionRegistry versionRegistry,
+        CacheManager cacheManager,
+        MeterRegistry meterRegistry,
+        RecommendationProperties properties
+    ) {
+        RecommendationCacheProperties props = properties.cache();
+
+        this.versionRegistry = versionRegistry;
+        this.redisCache = cacheManager.getCache(CacheConfig.CACHE_RECOMMENDATIONS);
+        this.nearCache = Caffeine.newBuilder()
+            .maximumSize(props.nearMaximumSize())
+            .expireAfterWrite(props.nearTtl())
+            .recordStats()
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, nearCache, "recommendations.near");
+        this.nearHitCounter = Counter.builder(METRIC_NAME).tag("result", "near_hit")
+            .register(meterRegistry);
+        this.redisHitCounter = Counter.builder(METRIC_NAME).tag("result", "redis_hit")
+            .register(meterRegistry);
+        this.missCounter = Counter.builder(METRIC_NAME).tag("result", "miss")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 현재 버전을 반영한 캐시 키를 반환합니다. 버전 조회에 실패하면 null을 반환하며, 이 경우 캐시를 사용하지 않습니다.
+     */
+    public String keyOf(UUID userId, UUID weatherId) {
+        try {
+            RecommendationVersions versions = versionRegistry.getVersions(userId);
+            return userId + ":" + weatherId + ":" + versions.wardrobe() + ":" + versions.profile();
+        } catch (Exception e) {
+            log.warn("[RecommendationCache] 버전 조회 실패로 캐시 미사용 - userId: {}", userId, e);
+            return null;
+        }
+    }
+
+    public RecommendationDto get(String key) {
+        if (key == null) {
+            return null;
+        }
+
+        RecommendationDto cached = nearCache.getIfPresent(key);
+        if (cached != null) {
+            nearHitCounter.increment();
+            return cached;
+        }
+
+        cached = getFromRedis(key);
+        if (cached != null) {
+            redisHitCounter.increment();
+            nearCache.put(key, cached);
+            return cached;
+        }
+
+        missCounter.increment();
+        return null;
+    }
+
+    public void put(String key, RecommendationDto recommendation) {
+        if (key == null || recommendation == null) {
+            return;
+        }
+        nearCache.put(key, recommendation);
+        if (redisCache == null) {
+            return;
+        }
+        try {
+            redisCache.put(key, recommendation);
+        } catch (Exception e) {
+            log.warn("[RecommendationCache] Redis 캐시 저장 실패 - key: {}", key, e);
+        }
+    }
+
+    /**
+     * 배치에서 사전 계산한 결과를 Redis 캐시에만 저장합니다. 로컬 near 캐시는 실제 조회 시 채워지도록 비워 둡니다.
+     *
+     * @return 저장에 성공한 항목 수
+     */
+    public int putAllRemote(Map<String, RecommendationDto> recommendations) {
+        if (redisCache == null || recommendations.isEmpty()) {
+            return 0;
+        }
+        int stored = 0;
+        for (Map.Entry<String, RecommendationDto> entry : recommendations.entrySet()) {
+            try {
+                redisCache.put(entry.getKey(), entry.getValue());
+                stored++;
+            } catch (Exception e) {
+                log.warn("[RecommendationCache] Redis 캐시 저장 실패 - key: {}", entry.getKey(), e);
+            }
+        }
+        return stored;
+    }
+
+    private RecommendationDto getFromRedis(String key) {
+        if (redisCache == null) {
+            return null;
+        }
+        try {
+            return redisCache.get(key, RecommendationDto.class);
+        } catch (Exception e) {
+            log.warn("[RecommendationCache] Redis 캐시 조회 실패 - key: {}", key, e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.onepiece.otboo.domain.recommendation.cache;
+
+import java.util.UUID;
+
+public interface RecommendationVersionRegistry {
+
+    RecommendationVersions getVersions(UUID userId);
+
+    void increaseWardrobeVersion(UUID userId);
+
+    void increaseProfileVersion(UUID userId);
+}
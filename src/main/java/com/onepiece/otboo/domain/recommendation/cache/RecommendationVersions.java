@@ -0,0 +1,14 @@
+package com.onepiece.otboo.domain.recommendation.cache;
+
+/**
+ * 추천 결과 캐시 키에 포함되는 사용자별 버전 정보
+ *
+ * @param wardrobe 옷장(의상, 피드 작성) 변경 버전
+ * @param profile  프로필 변경 버전
+ */
+public record RecommendationVersions(
+    long wardrobe,
+    long profile
+) {
+
+}
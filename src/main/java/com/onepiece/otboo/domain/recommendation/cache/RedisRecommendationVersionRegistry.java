@@ -0,0 +1,56 @@
+package com.onepiece.otboo.domain.recommendation.cache;
+
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link RecommendationVersionRegistry}의 Redis 기반 구현체입니다.
+ *
+ * <p>키 스키마</p>
+ * <ul>
+ *     <li>{@code recommendation:version:{userId}} - {@code wardrobe}, {@code profile} 필드를 가진 해시.
+ *     필드가 없으면 버전 0으로 취급</li>
+ * </ul>
+ */
+@Component
+@Primary
+@Profile("!test & !test-integration")
+@RequiredArgsConstructor
+public class RedisRecommendationVersionRegistry implements RecommendationVersionRegistry {
+
+    private static final String KEY_PREFIX = "recommendation:version:";
+    private static final String WARDROBE_FIELD = "wardrobe";
+    private static final String PROFILE_FIELD = "profile";
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public RecommendationVersions getVersions(UUID userId) {
+        List<Object> values = redisTemplate.opsForHash()
+            .multiGet(key(userId), List.of(WARDROBE_FIELD, PROFILE_FIELD));
+        return new RecommendationVersions(toLong(values.get(0)), toLong(values.get(1)));
+    }
+
+    @Override
+    public void increaseWardrobeVersion(UUID userId) {
+        redisTemplate.opsForHash().increment(key(userId), WARDROBE_FIELD, 1);
+    }
+
+    @Override
+    public void increaseProfileVersion(UUID userId) {
+        redisTemplate.opsForHash().increment(key(userId), PROFILE_FIELD, 1);
+    }
+
+    private String key(UUID userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private long toLong(Object value) {
+        return value == null ? 0L : Long.parseLong(value.toString());
+    }
+}
@@ -0,0 +1,27 @@
+package com.onepiece.otboo.domain.recommendation.config.props;
+
+/**
+ * 추천 이력(감사) 저장 설정
+ *
+ * @param enabled         추천 이력 저장 여부
+ * @param sampleRate      저장할 추천의 비율 (0.0 ~ 1.0)
+ * @param queueCapacity   저장 대기열 최대 크기, 가득 차면 새 이력은 버려집니다
+ * @param batchSize       한 번의 flush에서 저장할 최대 이력 수
+ * @param flushIntervalMs flush 주기
+ */
+public record RecommendationAuditProperties(
+    Boolean enabled,
+    Double sampleRate,
+    Integer queueCapacity,
+    Integer batchSize,
+    Long flushIntervalMs
+) {
+
+    public RecommendationAuditProperties {
+        enabled = enabled != null && enabled;
+        sampleRate = sampleRate == null ? 1.0 : Math.max(0.0, Math.min(1.0, sampleRate));
+        queueCapacity = queueCapacity == null ? 10_000 : queueCapacity;
+        batchSize = batchSize == null ? 500 : batchSize;
+        flushIntervalMs = flushIntervalMs == null ? 5_000L : flushIntervalMs;
+    }
+}
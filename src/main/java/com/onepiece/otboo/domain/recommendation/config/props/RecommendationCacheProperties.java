@@ -0,0 +1,23 @@
+package com.onepiece.otboo.domain.recommendation.config.props;
+
+import java.time.Duration;
+
+/**
+ * 추천 결과 캐시 설정
+ *
+ * @param ttl             Redis 캐시 TTL, 배치 사전 계산 결과가 다음 배치 주기까지 유지되도록 6시간 기본값
+ * @param nearMaximumSize 로컬(near) 캐시 최대 항목 수
+ * @param nearTtl         로컬(near) 캐시 TTL, Redis TTL보다 길면 Redis TTL로 맞춤
+ */
+public record RecommendationCacheProperties(
+    Duration ttl,
+    Long nearMaximumSize,
+    Duration nearTtl
+) {
+
+    public RecommendationCacheProperties {
+        ttl = ttl == null ? Duration.ofHours(6) : ttl;
+        nearMaximumSize = nearMaximumSize == null ? 10_000L : nearMaximumSize;
+        nearTtl = nearTtl == null || nearTtl.compareTo(ttl) > 0 ? ttl : nearTtl;
+    }
+}
@@ -0,0 +1,18 @@
+package com.onepiece.otboo.domain.recommendation.config.props;
+
+/**
+ * 추천 엔진 설정
+ *
+ * @param name 사용할 추천 엔진 이름 (scoring, rule)
+ * @param topK 점수 기반 엔진에서 타입별로 남길 상위 후보 수, 이 중 하나를 무작위로 고릅니다
+ */
+public record RecommendationEngineProperties(
+    String name,
+    Integer topK
+) {
+
+    public RecommendationEngineProperties {
+        name = name == null || name.isBlank() ? "scoring" : name;
+        topK = topK == null || topK < 1 ? 3 : topK;
+    }
+}
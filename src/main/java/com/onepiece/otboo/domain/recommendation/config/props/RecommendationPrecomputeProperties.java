@@ -0,0 +1,27 @@
+package com.onepiece.otboo.domain.recommendation.config.props;
+
+import java.util.List;
+
+/**
+ * 추천 결과 사전 계산 배치 설정
+ *
+ * @param enabled   날씨 수집 배치 완료 후 사전 계산 배치 실행 여부
+ * @param gridSize  위치 기준 파티션 수
+ * @param chunkSize 파티션별 청크 크기 (프로필 수)
+ * @param leadHours 배치 실행 시각(가까운 정시) 기준으로 미리 계산할 시간 오프셋 목록
+ */
+public record RecommendationPrecomputeProperties(
+    Boolean enabled,
+    Integer gridSize,
+    Integer chunkSize,
+    List<Integer> leadHours
+) {
+
+    public RecommendationPrecomputeProperties {
+        enabled = enabled == null || enabled;
+        gridSize = gridSize == null ? 4 : gridSize;
+        chunkSize = chunkSize == null ? 200 : chunkSize;
+        leadHours = leadHours == null || leadHours.isEmpty() ? List.of(0, 1, 2, 3)
+            : List.copyOf(leadHours);
+    }
+}
@@ -0,0 +1,24 @@
+package com.onepiece.otboo.domain.recommendation.config.props;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "otboo.recommendation")
+public record RecommendationProperties(
+    RecommendationEngineProperties engine,
+    WardrobeIndexProperties wardrobeIndex,
+    RecommendationAuditProperties audit,
+    RecommendationCacheProperties cache,
+    RecommendationPrecomputeProperties precompute
+) {
+
+    public RecommendationProperties {
+        engine = engine == null ? new RecommendationEngineProperties(null, null) : engine;
+        wardrobeIndex = wardrobeIndex == null ? new WardrobeIndexProperties(null, null)
+            : wardrobeIndex;
+        audit = audit == null ? new RecommendationAuditProperties(null, null, null, null, null)
+            : audit;
+        cache = cache == null ? new RecommendationCacheProperties(null, null, null) : cache;
+        precompute = precompute == null
+            ? new RecommendationPrecomputeProperties(null, null, null, null) : precompute;
+    }
+}
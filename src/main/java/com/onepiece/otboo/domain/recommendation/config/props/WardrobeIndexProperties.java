@@ -0,0 +1,20 @@
+package com.onepiece.otboo.domain.recommendation.config.props;
+
+import java.time.Duration;
+
+/**
+ * 사용자별 옷장 인덱스 캐시 설정
+ *
+ * @param maximumSize       캐시에 보관할 최대 사용자 수
+ * @param expireAfterAccess 마지막 조회 후 인덱스를 유지할 시간
+ */
+public record WardrobeIndexProperties(
+    Long maximumSize,
+    Duration expireAfterAccess
+) {
+
+    public WardrobeIndexProperties {
+        maximumSize = maximumSize == null ? 10_000L : maximumSize;
+        expireAfterAccess = expireAfterAccess == null ? Duration.ofMinutes(30) : expireAfterAccess;
+    }
+}
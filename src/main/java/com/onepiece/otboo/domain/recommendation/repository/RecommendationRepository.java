@@ -6,7 +6,6 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface RecommendationRepository extends JpaRepository<Recommendation, UUID>,
-    RecommendationCustomRepository {
+public interface RecommendationRepository extends JpaRepository<Recommendation, UUID> {
 
 }
@@ -0,0 +1,182 @@
+package com.onepiece.otboo.domain.recommendation.service;
+
+import com.onepiece.otboo.domain.clothes.repository.ClothesRepository;
+import com.onepiece.otboo.domain.recommendation.config.props.RecommendationAuditProperties;
+import com.onepiece.otboo.domain.recommendation.config.props.RecommendationProperties;
+import com.onepiece.otboo.domain.recommendation.entity.Recommendation;
+import com.onepiece.otboo.domain.recommendation.entity.RecommendationClothes;
+import com.onepiece.otboo.domain.recommendation.entity.RecommendationParameter;
+import com.onepiece.otboo.domain.recommendation.repository.RecommendationClothesRepository;
+import com.onepiece.otboo.domain.recommendation.repository.RecommendationParameterRepository;
+import com.onepiece.otboo.domain.recommendation.repository.RecommendationRepository;
+import com.onepiece.otboo.domain.recommendation.support.RecommendationAudit;
+import com.onepiece.otboo.domain.user.repository.UserRepository;
+import com.onepiece.otboo.domain.weather.repository.WeatherRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 추천 이력을 요청 스레드 밖에서 배치로 저장합니다.
+ * <p>
+ * 추천 조회는 결과만 계산해 반환하고, 이 기록기는 설정된 비율로 샘플링한 이력을 제한된 대기열에 쌓아 두었다가
+ * 주기적으로 한 트랜잭션에서 저장합니다. 비활성화 상태에서는 아무것도 저장하지 않습니다.
+ * </p>
+ * <p>
+ * 제약 위반으로 배치가 롤백되면 건별로 다시 저장해 문제가 된 이력만 로그를 남기고 건너뛰며, 그 밖의 실패는 배치를
+ * 대기열에 되돌려 다음 주기에 다시 시도합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class RecommendationAuditRecorder {
+
+    private final RecommendationRepository recommendationRepository;
+    private final RecommendationParameterRepository parameterRepository;
+    private final RecommendationClothesRepository recommendationClothesRepository;
+    private final WeatherRepository weatherRepository;
+    private final UserRepository userRepository;
+    private final ClothesRepository clothesRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final RecommendationAuditProperties properties;
+    private final BlockingQueue<RecommendationAudit> queue;
+
+    public RecommendationAuditRecorder(
+        RecommendationRepository recommendationRepository,
+        RecommendationParameterRepository parameterRepository,
+        RecommendationClothesRepository recommendationClothesRepository,
+        WeatherRepository weatherRepository,
+        UserRepository userRepository,
+        ClothesRepository clothesRepository,
+        PlatformTransactionManager transactionManager,
+        RecommendationProperties recommendationProperties
+    ) {
+        this.recommendationRepository = recommendationRepository;
+        this.parameterRepository = parameterRepository;
+        this.recommendationClothesRepository = recommendationClothesRepository;
+        this.weatherRepository = weatherRepository;
+        this.userRepository = userRepository;
+        this.clothesRepository = clothesRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = recommendationProperties.audit();
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, properties.queueCapacity()));
+    }
+
+    public void record(RecommendationAudit audit) {
+        if (!properties.enabled()) {
+            return;
+        }
+        if (ThreadLocalRandom.current().nextDouble() >= properties.sampleRate()) {
+            return;
+        }
+        if (!queue.offer(audit)) {
+            log.debug("[RecommendationAuditRecorder] 대기열이 가득 차 추천 이력을 버림 - userId: {}",
+                audit.userId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${otboo.recommendation.audit.flush-interval-ms:5000}")
+    public void flush() {
+        if (queue.isEmpty()) {
+            return;
+        }
+
+        List<RecommendationAudit> batch = new ArrayList<>(properties.batchSize());
+        queue.drainTo(batch, properties.batchSize());
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> save(batch));
+            log.info("[RecommendationAuditRecorder] 추천 이력 저장 - count: {}, remaining: {}",
+                batch.size(), queue.size());
+        } catch (DataIntegrityViolationException e) {
+            // 한 건의 제약 위반(삭제된 날씨/의상 등)으로 배치 전체가 롤백되므로 건별로 다시 저장
+            log.warn("[RecommendationAuditRecorder] 추천 이력 배치 저장 실패, 건별로 재시도 - count: {}",
+                batch.size(), e);
+            saveEach(batch);
+        } catch (RuntimeException e) {
+            // DB 연결 문제 등 일시적인 실패는 다음 주기에 다시 시도 (대기열이 가득 차면 버림)
+            int dropped = 0;
+            for (RecommendationAudit audit : batch) {
+                if (!queue.offer(audit)) {
+                    dropped++;
+                }
+            }
+            log.warn("[RecommendationAuditRecorder] 추천 이력 저장 실패, 다음 주기에 재시도 - "
+                + "count: {}, dropped: {}", batch.size(), dropped, e);
+        }
+    }
+
+    private void saveEach(List<RecommendationAudit> batch) {
+        int saved = 0;
+        for (RecommendationAudit audit : batch) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> save(List.of(audit)));
+                saved++;
+            } catch (RuntimeException e) {
+                log.warn("[RecommendationAuditRecorder] 추천 이력 저장 실패로 건너뜀 - "
+                        + "weatherId: {}, userId: {}, clothesIds: {}, cause: {}",
+                    audit.weatherId(), audit.userId(), audit.clothesIds(), e.getMessage());
+            }
+        }
+        log.info("[RecommendationAuditRecorder] 추천 이력 건별 저장 - saved: {}, skipped: {}",
+            saved, batch.size() - saved);
+    }
+
+    private void save(List<RecommendationAudit> audits) {
+        List<Recommendation> recommendations = new ArrayList<>(audits.size());
+        List<RecommendationParameter> parameters = new ArrayList<>(audits.size());
+        List<RecommendationClothes> recommendationClothes = new ArrayList<>();
+
+        for (RecommendationAudit audit : audits) {
+            Recommendation recommendation = Recommendation.builder()
+                .weather(weatherRepository.getReferenceById(audit.weatherId()))
+                .user(userRepository.getReferenceById(audit.userId()))
+                .build();
+            recommendations.add(recommendation);
+
+            // 롤백된 시도에서 ID가 채워졌을 수 있으므로 매번 새 파라미터 엔티티로 저장
+            RecommendationParameter parameter = copyOf(audit.parameter());
+            parameter.setRecommendation(recommendation);
+            parameters.add(parameter);
+
+            for (UUID clothesId : audit.clothesIds()) {
+                recommendationClothes.add(RecommendationClothes.builder()
+                    .recommendation(recommendation)
+                    .clothes(clothesRepository.getReferenceById(clothesId))
+                    .build());
+            }
+        }
+
+        recommendationRepository.saveAll(recommendations);
+        parameterRepository.saveAll(parameters);
+        recommendationClothesRepository.saveAll(recommendationClothes);
+    }
+
+    private static RecommendationParameter copyOf(RecommendationParameter parameter) {
+        return RecommendationParameter.builder()
+            .seasonInt(parameter.getSeasonInt())
+            .skyStatusInt(parameter.getSkyStatusInt())
+            .maxTemp(parameter.getMaxTemp())
+            .minTemp(parameter.getMinTemp())
+            .curTemp(parameter.getCurTemp())
+            .humidity(parameter.getHumidity())
+            .windSpeed(parameter.getWindSpeed())
+            .feelHot(parameter.getFeelHot())
+            .feelCold(parameter.getFeelCold())
+            .genderInt(parameter.getGenderInt())
+            .age(parameter.getAge())
+            .tempSens(parameter.getTempSens())
+            .build();
+    }
+}
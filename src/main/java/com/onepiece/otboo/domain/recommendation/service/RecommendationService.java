@@ -1,9 +1,13 @@
 package com.onepiece.otboo.domain.recommendation.service;
 
+import com.onepiece.otboo.domain.profile.entity.Profile;
 import com.onepiece.otboo.domain.recommendation.dto.data.RecommendationDto;
+import com.onepiece.otboo.domain.weather.entity.Weather;
 import java.util.UUID;
 
 public interface RecommendationService {
 
     RecommendationDto getRecommendation(UUID weatherId, UUID userId);
+
+    RecommendationDto precomputeRecommendation(Weather weather, UUID userId, Profile profile);
 }
@@ -1,23 +1,17 @@
 package com.onepiece.otboo.domain.recommendation.service;
 
-import com.onepiece.otboo.domain.clothes.entity.Clothes;
-import com.onepiece.otboo.domain.clothes.entity.ClothesType;
-import com.onepiece.otboo.domain.clothes.repository.ClothesAttributeDefRepository;
-import com.onepiece.otboo.domain.clothes.repository.ClothesAttributeOptionsRepository;
-import com.onepiece.otboo.domain.clothes.repository.ClothesAttributeRepository;
-import com.onepiece.otboo.domain.clothes.repository.ClothesRepository;
+import com.onepiece.otboo.domain.feed.dto.response.OotdDto;
 import com.onepiece.otboo.domain.profile.entity.Profile;
 import com.onepiece.otboo.domain.profile.enums.Gender;
 import com.onepiece.otboo.domain.profile.repository.ProfileRepository;
+import com.onepiece.otboo.domain.recommendation.cache.RecommendationCache;
+import com.onepiece.otboo.domain.recommendation.config.props.RecommendationProperties;
 import com.onepiece.otboo.domain.recommendation.dto.data.RecommendationDto;
-import com.onepiece.otboo.domain.recommendation.entity.Recommendation;
-import com.onepiece.otboo.domain.recommendation.entity.RecommendationClothes;
 import com.onepiece.otboo.domain.recommendation.entity.RecommendationParameter;
 import com.onepiece.otboo.domain.recommendation.mapper.RecommendationMapper;
-import com.onepiece.otboo.domain.recommendation.repository.RecommendationClothesRepository;
-import com.onepiece.otboo.domain.recommendation.repository.RecommendationParameterRepository;
-import com.onepiece.otboo.domain.recommendation.repository.RecommendationRepository;
-import com.onepiece.otboo.domain.user.entity.User;
+import com.onepiece.otboo.domain.recommendation.service.engine.RecommendationEngine;
+import com.onepiece.otboo.domain.recommendation.support.RecommendationAudit;
+import com.onepiece.otboo.domain.recommendation.support.WardrobeIndex;
 import com.onepiece.otboo.domain.user.exception.UserNotFoundException;
 import com.onepiece.otboo.domain.user.repository.UserRepository;
 import com.onepiece.otboo.domain.weather.entity.Weather;
@@ -27,199 +21,119 @@ import com.onepiece.otboo.global.storage.FileStorage;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
-@Transactional
 @RequiredArgsConstructor
 public class RecommendationServiceImpl implements RecommendationService {
 
-    private static final Random random = new Random();
-
-    private final RecommendationRepository recommendationRepository;
-    private final RecommendationClothesRepository recommendationClothesRepository;
-    private final RecommendationParameterRepository parameterRepository;
     private final WeatherRepository weatherRepository;
     private final UserRepository userRepository;
     private final ProfileRepository profileRepository;
-    private final ClothesRepository clothesRepository;
-    private final ClothesAttributeRepository attributeRepository;
-    private final ClothesAttributeDefRepository defRepository;
-    private final ClothesAttributeOptionsRepository optionRepository;
+    private final WardrobeIndexProvider wardrobeIndexProvider;
+    private final RecommendationAuditRecorder auditRecorder;
+    private final RecommendationCache recommendationCache;
+    private final List<RecommendationEngine> engines;
+    private final RecommendationProperties recommendationProperties;
     private final RecommendationMapper recommendationMapper;
 
     private final FileStorage fileStorage;
 
+    /**
+     * 추천 결과를 조회합니다.
+     * <p>
+     * 캐시 적중 시에는 DB를 조회하지 않도록 트랜잭션 없이 동작하며, 옷장 인덱스 적재만 별도 읽기 트랜잭션에서 수행됩니다.
+     * </p>
+     */
     @Override
     public RecommendationDto getRecommendation(UUID weatherId, UUID userId) {
 
         log.info("[추천 조회] 작업 시작 - weatherId: {}, userId: {}", weatherId, userId);
 
-        Weather weather = weatherRepository.findById(weatherId).orElseThrow();
-
-        User user = userRepository.findById(userId).orElseThrow(
-            () -> UserNotFoundException.byId(userId)
-        );
+        String cacheKey = recommendationCache.keyOf(userId, weatherId);
+        RecommendationDto cached = recommendationCache.get(cacheKey);
+        if (cached != null) {
+            log.debug("[추천 조회] 캐시 적중 - weatherId: {}, userId: {}", weatherId, userId);
+            return toPublicDto(cached);
+        }
 
-        log.debug("추천 객체 생성 - weather: {}, user: {}", weatherId, userId);
-        Recommendation recommendation =
-            Recommendation.builder()
-                .weather(weather)
-                .user(user)
-                .build();
+        Weather weather = weatherRepository.findById(weatherId).orElseThrow();
 
-        log.debug("추천 객체 저장 - recommendationId: {}", recommendation.getId());
-        Recommendation savedRecommendation = recommendationRepository.save(recommendation);
+        if (!userRepository.existsById(userId)) {
+            throw UserNotFoundException.byId(userId);
+        }
+        Profile profile = profileRepository.findByUserId(userId).orElseThrow();
 
-        log.debug("추천 객체 저장 완료 - savedRecommendationId: {}", savedRecommendation.getId());
+        RecommendationDto recommendation =
+            recommend(weather, userId, profile, wardrobeIndexProvider.get(userId), true);
 
-        List<RecommendationClothes> recommendationClothesList = getRecommendationClothes(
-            savedRecommendation);
+        // 캐시에는 저장소 키 그대로 보관하고, 응답 시점에 공개 URL로 변환
+        recommendationCache.put(cacheKey, recommendation);
 
-        return recommendationMapper.toDto(savedRecommendation, recommendationClothesList,
-            fileStorage);
+        return toPublicDto(recommendation);
     }
 
-    public List<RecommendationClothes> getRecommendationClothes(Recommendation recommendation) {
-        // 추천 로직 실행
-        List<Clothes> clothesList = recommendClothes(recommendation);
-
-        List<RecommendationClothes> recommendationClothesList = clothesList.stream().map(
-            c -> {
-                return recommendationMapper.toRecommendationClothes(recommendation, c);
-            }
-        ).toList();
-
-        log.debug("추천 의상 저장 - recommendationId: {}", recommendation.getId());
-
-        return recommendationClothesRepository.saveAll(recommendationClothesList);
+    /**
+     * 배치 사전 계산용 추천 결과를 계산합니다.
+     * <p>
+     * 옷장 인덱스 캐시와 추천 이력을 건드리지 않으며, 반환되는 DTO의 imageUrl에는 캐시 보관용 저장소 키가 담깁니다.
+     * </p>
+     */
+    @Override
+    public RecommendationDto precomputeRecommendation(Weather weather, UUID userId,
+        Profile profile) {
+        return recommend(weather, userId, profile, wardrobeIndexProvider.peekOrLoad(userId),
+            false);
     }
 
-    public List<Clothes> recommendClothes(Recommendation recommendation) {
-
-        log.info("의상 추천 로직 실행");
-        List<Clothes> clothesList = new ArrayList<>();
+    private RecommendationDto recommend(Weather weather, UUID userId, Profile profile,
+        WardrobeIndex index, boolean audit) {
 
         // 계절, 날씨, 사용자 데이터 활용하기
-        RecommendationParameter parameter = extractData(recommendation);
-
-        Double maxTemp = parameter.getMaxTemp();
-        Double curTemp = parameter.getCurTemp();
-        Double feelHot = parameter.getFeelHot();
-        Double feelCold = parameter.getFeelCold();
+        RecommendationParameter parameter = extractData(weather, profile);
 
-        // 체감 온도
-        double feelTemp = curTemp + feelHot - feelCold;
-
-        // 아우터 제외
-        boolean excludeOuter = (maxTemp != null && maxTemp >= 30) || feelTemp >= 30;
-
-        // 상하의 / 원피스 케이스 나누기
-        UUID userId = recommendation.getUser().getId();
-
-        boolean hasDress =
-            clothesRepository.countClothesByOwnerIdAndType(userId, ClothesType.DRESS) > 0;
-
-        long totalFeedCount = clothesRepository.getClothesByOwnerId(userId)
-            .stream().map(c -> c.getFeedCount()).reduce(0L, Long::sum);
-
-        long dressFeedCount = clothesRepository.getClothesByOwnerIdAndType(userId,
-                ClothesType.DRESS)
-            .stream().map(c -> c.getFeedCount()).reduce(0L, Long::sum);
-
-        // 원피스 고르는 비율 조정
-        double feedDress = (double) dressFeedCount / (double) totalFeedCount;
-
-        if (totalFeedCount == 0) {
-            feedDress = 0.0;
+        // 추천 로직 실행
+        RecommendationEngine engine =
+            RecommendationEngine.choose(engines, recommendationProperties.engine().name());
+        int[] positions = engine.recommend(index, parameter, LocalDate.now().getMonthValue());
+
+        List<UUID> clothesIds = new ArrayList<>(positions.length);
+        List<OotdDto> clothes = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            clothesIds.add(index.id(position));
+            clothes.add(index.toOotdDto(position));
         }
 
-        boolean chooseDress = hasDress && random.nextDouble() < (0.2 + feedDress * 2);
-
-        // 속성이 하나라도 있는 경우 계절 반영하여 조회한 옷장에서 추천
-        List<Clothes> userClothesList = recommendationRepository.getClothesByOwnerIdAndAttributesAndParameters(
-            userId, parameter.getId());
-
-        if (userClothesList.size() > 0) {
-            if (chooseDress) {
-                for (ClothesType type : ClothesType.values()) {
-                    if (type == ClothesType.TOP || type == ClothesType.BOTTOM) {
-                        continue;
-                    }
-                    int size = (int) userClothesList.stream().filter(c -> c.getType().equals(type))
-                        .count();
-                    if (size != 0) {
-                        clothesList.add(
-                            userClothesList.stream().filter(c -> c.getType().equals(type)).toList()
-                                .get(random.nextInt(size))
-                        );
-                    }
-                }
-            } else {
-                for (ClothesType type : ClothesType.values()) {
-                    if (type == ClothesType.DRESS) {
-                        continue;
-                    }
-                    int size = (int) userClothesList.stream().filter(c -> c.getType().equals(type))
-                        .count();
-                    if (size != 0) {
-                        clothesList.add(
-                            userClothesList.stream().filter(c -> c.getType().equals(type)).toList()
-                                .get(random.nextInt(size))
-                        );
-                    }
-                }
-            }
-        } else {
-            // 속성이 하나도 없을 경우 전체 의상에서 추천
-            if (chooseDress) {
-                for (ClothesType type : ClothesType.values()) {
-                    if (type == ClothesType.TOP || type == ClothesType.BOTTOM) {
-                        continue;
-                    }
-                    if (excludeOuter && type == ClothesType.OUTER) {
-                        continue;
-                    }
-                    int size = clothesRepository.countClothesByOwnerIdAndType(userId, type);
-                    if (size != 0) {
-                        clothesList.add(
-                            clothesRepository.getClothesByOwnerIdAndType(userId, type)
-                                .get(random.nextInt(size))
-                        );
-                    }
-                }
-            } else {
-                for (ClothesType type : ClothesType.values()) {
-                    if (type == ClothesType.DRESS) {
-                        continue;
-                    }
-                    if (excludeOuter && type == ClothesType.OUTER) {
-                        continue;
-                    }
-                    int size = clothesRepository.countClothesByOwnerIdAndType(userId, type);
-                    if (size != 0) {
-                        clothesList.add(
-                            clothesRepository.getClothesByOwnerIdAndType(userId, type)
-                                .get(random.nextInt(size))
-                        );
-                    }
-                }
-            }
+        // 추천 이력은 요청 스레드에서 저장하지 않고 감사 기록기에 위임 (비활성화 시 무시)
+        if (audit) {
+            auditRecorder.record(
+                new RecommendationAudit(weather.getId(), userId, parameter, clothesIds));
         }
-        return clothesList;
+
+        return new RecommendationDto(weather.getId(), userId, clothes);
     }
 
-    public RecommendationParameter extractData(Recommendation recommendation) {
+    private RecommendationDto toPublicDto(RecommendationDto recommendation) {
+        List<OotdDto> clothes = recommendation.clothes().stream()
+            .map(c -> new OotdDto(
+                c.clothesId(),
+                c.name(),
+                recommendationMapper.toPublicUrl(c.imageUrl(), fileStorage),
+                c.type(),
+                c.attributes()
+            ))
+            .toList();
+        return new RecommendationDto(recommendation.weatherId(), recommendation.userId(), clothes);
+    }
 
-        Weather weather = recommendation.getWeather();
-        User user = recommendation.getUser();
-        Profile profile = profileRepository.findByUserId(user.getId()).orElseThrow();
+    /**
+     * 날씨와 프로필로 추천 파라미터를 계산합니다. 반환된 파라미터는 저장되지 않은 상태입니다.
+     */
+    public RecommendationParameter extractData(Weather weather, Profile profile) {
 
         // 계절 파라미터
         LocalDate now = LocalDate.now();
@@ -267,25 +181,20 @@ public class RecommendationServiceImpl implements RecommendationService {
 
         // TODO: 체감온도 가중치 업데이트 코드 작성
 
-        log.info("추천 관련 파라미터 객체 생성");
-        RecommendationParameter parameter =
-            RecommendationParameter.builder()
-                .recommendation(recommendation)
-                .age(age)
-                .genderInt(genderInt)
-                .tempSens(tempSens)
-                .feelHot(feelHot)
-                .feelCold(feelCold)
-                .seasonInt(seasonInt)
-                .skyStatusInt(skyStatusInt)
-                .curTemp(curTemp)
-                .minTemp(minTemp)
-                .maxTemp(maxTemp)
-                .windSpeed(windSpeed)
-                .humidity(humidity)
-                .build();
-
-        log.debug("추천 관련 파라미터 저장 - recommendationId: {}", recommendation.getId());
-        return parameterRepository.save(parameter);
+        log.debug("추천 관련 파라미터 객체 생성");
+        return RecommendationParameter.builder()
+            .age(age)
+            .genderInt(genderInt)
+            .tempSens(tempSens)
+            .feelHot(feelHot)
+            .feelCold(feelCold)
+            .seasonInt(seasonInt)
+            .skyStatusInt(skyStatusInt)
+            .curTemp(curTemp)
+            .minTemp(minTemp)
+            .maxTemp(maxTemp)
+            .windSpeed(windSpeed)
+            .humidity(humidity)
+            .build();
     }
 }
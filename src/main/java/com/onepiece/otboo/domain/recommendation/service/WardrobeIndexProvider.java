@@ -0,0 +1,145 @@
+package com.onepiece.otboo.domain.recommendation.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.onepiece.otboo.domain.clothes.entity.Clothes;
+import com.onepiece.otboo.domain.clothes.entity.ClothesAttributes;
+import com.onepiece.otboo.domain.clothes.repository.ClothesAttributeRepository;
+import com.onepiece.otboo.domain.clothes.repository.ClothesRepository;
+import com.onepiece.otboo.domain.recommendation.cache.RecommendationVersionRegistry;
+import com.onepiece.otboo.domain.recommendation.config.props.RecommendationProperties;
+import com.onepiece.otboo.domain.recommendation.config.props.WardrobeIndexProperties;
+import com.onepiece.otboo.domain.recommendation.mapper.RecommendationMapper;
+import com.onepiece.otboo.domain.recommendation.support.WardrobeIndex;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 사용자별 옷장 인덱스({@link WardrobeIndex})를 적재하고 캐싱합니다.
+ * <p>
+ * 인덱스는 최초 조회 시 의상/속성 쿼리 두 번으로 만들어지며, 의상 변경이나 피드 작성 시
+ * {@link #invalidate(UUID)}로 무효화됩니다.
+ * </p>
+ * <p>
+ * 로컬 무효화는 변경을 처리한 인스턴스에만 적용되므로, 인덱스는 적재 직전에 읽은 공유 옷장 버전과 함께 보관하고
+ * 사용할 때마다 현재 버전과 비교합니다. 다른 인스턴스에서 버전이 올라갔으면 다시 적재해, 이전 옷장으로 계산한 결과가
+ * 새 버전 키로 추천 캐시에 저장되지 않게 합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class WardrobeIndexProvider {
+
+    private static final long UNKNOWN_VERSION = -1L;
+
+    private final ClothesRepository clothesRepository;
+    private final ClothesAttributeRepository attributeRepository;
+    private final RecommendationMapper recommendationMapper;
+    private final RecommendationVersionRegistry versionRegistry;
+    private final Cache<UUID, VersionedIndex> indexes;
+
+    public WardrobeIndexProvider(
+        ClothesRepository clothesRepository,
+        ClothesAttributeRepository attributeRepository,
+        RecommendationMapper recommendationMapper,
+        RecommendationVersionRegistry versionRegistry,
+        RecommendationProperties properties
+    ) {
+        this.clothesRepository = clothesRepository;
+        this.attributeRepository = attributeRepository;
+        this.recommendationMapper = recommendationMapper;
+        this.versionRegistry = versionRegistry;
+
+        WardrobeIndexProperties props = properties.wardrobeIndex();
+        this.indexes = Caffeine.newBuilder()
+            .maximumSize(props.maximumSize())
+            .expireAfterAccess(props.expireAfterAccess())
+            .build();
+    }
+
+    @Transactional(readOnly = true)
+    public WardrobeIndex get(UUID ownerId) {
+        // 버전을 먼저 읽어야 적재한 인덱스가 적어도 그 버전 시점의 옷장을 반영함
+        long version = currentVersion(ownerId);
+        VersionedIndex cached = indexes.getIfPresent(ownerId);
+        if (cached != null && cached.matches(version)) {
+            return cached.index();
+        }
+
+        WardrobeIndex index = load(ownerId);
+        indexes.put(ownerId, new VersionedIndex(version, index));
+        return index;
+    }
+
+    /**
+     * 캐시된 인덱스가 현재 버전이면 반환하고, 아니면 적재만 하고 캐시에는 넣지 않습니다. 배치처럼 전체 사용자를 훑는
+     * 경우 요청 경로의 캐시가 밀려나지 않도록 사용합니다.
+     */
+    @Transactional(readOnly = true)
+    public WardrobeIndex peekOrLoad(UUID ownerId) {
+        long version = currentVersion(ownerId);
+        VersionedIndex cached = indexes.getIfPresent(ownerId);
+        return cached != null && cached.matches(version) ? cached.index() : load(ownerId);
+    }
+
+    public void invalidate(UUID ownerId) {
+        if (ownerId == null) {
+            return;
+        }
+        indexes.invalidate(ownerId);
+        log.debug("[WardrobeIndexProvider] 옷장 인덱스 무효화 - ownerId: {}", ownerId);
+    }
+
+    private long currentVersion(UUID ownerId) {
+        try {
+            return versionRegistry.getVersions(ownerId).wardrobe();
+        } catch (Exception e) {
+            // 버전을 모르면 추천 캐시 키도 만들어지지 않아 결과가 공유 캐시에 저장되지 않으므로 로컬 인덱스를 그대로 사용
+            log.warn("[WardrobeIndexProvider] 옷장 버전 조회 실패 - ownerId: {}", ownerId, e);
+            return UNKNOWN_VERSION;
+        }
+    }
+
+    private WardrobeIndex load(UUID ownerId) {
+        List<Clothes> clothes = clothesRepository.getClothesByOwnerId(ownerId);
+        if (clothes.isEmpty()) {
+            return WardrobeIndex.empty();
+        }
+
+        List<UUID> clothesIds = clothes.stream().map(Clothes::getId).toList();
+        Map<UUID, List<ClothesAttributes>> attributesByClothesId =
+            attributeRepository.findWithDefinitionByClothesIdIn(clothesIds).stream()
+                .collect(Collectors.groupingBy(a -> a.getClothes().getId()));
+
+        WardrobeIndex.Builder builder = WardrobeIndex.builder();
+        for (Clothes c : clothes) {
+            builder.add(
+                c.getId(),
+                c.getName(),
+                c.getType(),
+                c.getImageUrl(),
+                c.getFeedCount(),
+                c.getSeasonMask(),
+                recommendationMapper.toOotdAttribute(
+                    attributesByClothesId.getOrDefault(c.getId(), List.of()))
+            );
+        }
+
+        WardrobeIndex index = builder.build();
+        log.debug("[WardrobeIndexProvider] 옷장 인덱스 적재 - ownerId: {}, size: {}", ownerId,
+            index.size());
+        return index;
+    }
+
+    private record VersionedIndex(long version, WardrobeIndex index) {
+
+        boolean matches(long current) {
+            return current == UNKNOWN_VERSION || current == version;
+        }
+    }
+}
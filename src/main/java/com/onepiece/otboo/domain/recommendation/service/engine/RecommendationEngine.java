@@ -0,0 +1,31 @@
+package com.onepiece.otboo.domain.recommendation.service.engine;
+
+import com.onepiece.otboo.domain.recommendation.entity.RecommendationParameter;
+import com.onepiece.otboo.domain.recommendation.support.WardrobeIndex;
+import java.util.List;
+
+/**
+ * 옷장 인덱스와 추천 파라미터로 의상을 고르는 추천 엔진
+ * <p>
+ * 구현체는 상태를 갖지 않아야 하며, 결과로 {@link WardrobeIndex} 내 의상 위치 배열을 반환합니다.
+ * </p>
+ */
+public interface RecommendationEngine {
+
+    static RecommendationEngine choose(List<RecommendationEngine> engines, String name) {
+        return engines.stream()
+            .filter(e -> e.supports(name))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 추천 엔진: " + name));
+    }
+
+    boolean supports(String name);
+
+    /**
+     * @param index     사용자 옷장 인덱스
+     * @param parameter 날씨/사용자 추천 파라미터
+     * @param month     추천 기준 월 (1 ~ 12)
+     * @return 추천된 의상의 인덱스 내 위치 배열 (타입별 최대 1개)
+     */
+    int[] recommend(WardrobeIndex index, RecommendationParameter parameter, int month);
+}
@@ -0,0 +1,79 @@
+package com.onepiece.otboo.domain.recommendation.service.engine;
+
+import com.onepiece.otboo.domain.clothes.entity.ClothesType;
+import com.onepiece.otboo.domain.recommendation.entity.RecommendationParameter;
+import com.onepiece.otboo.domain.recommendation.support.WardrobeIndex;
+import java.util.Random;
+
+/**
+ * 추천 엔진들이 공유하는 파라미터 해석 로직
+ */
+final class RecommendationFeatures {
+
+    private static final int NEUTRAL_TEMP_SENS = 3;
+
+    private RecommendationFeatures() {
+    }
+
+    /**
+     * 체감 온도 (현재 기온 + 체감온도 가중치)
+     */
+    static double feelTemp(RecommendationParameter parameter) {
+        return valueOf(parameter.getCurTemp()) + valueOf(parameter.getFeelHot())
+            - valueOf(parameter.getFeelCold());
+    }
+
+    /**
+     * 체감 온도에 온도 민감도, 바람, 습도를 반영한 사용자 기준 온도
+     * <p>
+     * 온도 민감도는 1(추위를 많이 탐) ~ 5(더위를 많이 탐)이며 3을 기준으로 보정합니다. 선선할 때는 바람이 강할수록 춥게,
+     * 더울 때는 습도가 높을수록 덥게 느끼도록 보정합니다.
+     * </p>
+     */
+    static double effectiveTemp(RecommendationParameter parameter) {
+        double temp = feelTemp(parameter);
+
+        Integer tempSens = parameter.getTempSens();
+        if (tempSens != null) {
+            temp += (tempSens - NEUTRAL_TEMP_SENS) * 1.5;
+        }
+
+        Double windSpeed = parameter.getWindSpeed();
+        if (windSpeed != null && temp < 15) {
+            temp -= windSpeed * 0.5;
+        }
+
+        Double humidity = parameter.getHumidity();
+        if (humidity != null && temp >= 25) {
+            temp += (humidity - 60) / 20;
+        }
+        return temp;
+    }
+
+    /**
+     * 원피스 추천 여부. 원피스가 있을 때 기본 20%에 피드 작성 비율을 반영한 확률로 고릅니다.
+     */
+    static boolean chooseDress(WardrobeIndex index, Random random) {
+        if (index.count(ClothesType.DRESS) == 0) {
+            return false;
+        }
+        long totalFeedCount = index.totalFeedCount();
+        double feedDress = totalFeedCount == 0 ? 0.0
+            : (double) index.feedCount(ClothesType.DRESS) / (double) totalFeedCount;
+        return random.nextDouble() < (0.2 + feedDress * 2);
+    }
+
+    /**
+     * 원피스를 고르면 상의/하의를, 아니면 원피스를 제외합니다.
+     */
+    static boolean skipForDress(ClothesType type, boolean chooseDress) {
+        if (chooseDress) {
+            return type == ClothesType.TOP || type == ClothesType.BOTTOM;
+        }
+        return type == ClothesType.DRESS;
+    }
+
+    private static double valueOf(Double value) {
+        return value == null ? 0.0 : value;
+    }
+}
@@ -0,0 +1,82 @@
+package com.onepiece.otboo.domain.recommendation.service.engine;
+
+import com.onepiece.otboo.domain.clothes.entity.ClothesType;
+import com.onepiece.otboo.domain.clothes.entity.Season;
+import com.onepiece.otboo.domain.recommendation.entity.RecommendationParameter;
+import com.onepiece.otboo.domain.recommendation.support.WardrobeIndex;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.stereotype.Component;
+
+/**
+ * 규칙 기반 추천 엔진
+ * <p>
+ * 계절 속성이 맞는 의상이 하나라도 있으면 그 의상들 안에서, 없으면 전체 의상에서 타입별로 하나씩 무작위로 고릅니다.
+ * </p>
+ */
+@Component
+public class RuleBasedRecommendationEngine implements RecommendationEngine {
+
+    public static final String NAME = "rule";
+
+    private static final ClothesType[] TYPES = ClothesType.values();
+
+    @Override
+    public boolean supports(String name) {
+        return NAME.equalsIgnoreCase(name);
+    }
+
+    @Override
+    public int[] recommend(WardrobeIndex index, RecommendationParameter parameter, int month) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        Double maxTemp = parameter.getMaxTemp();
+        double feelTemp = RecommendationFeatures.feelTemp(parameter);
+
+        // 아우터 제외
+        boolean excludeOuter = (maxTemp != null && maxTemp >= 30) || feelTemp >= 30;
+
+        // 상하의 / 원피스 케이스 나누기
+        boolean chooseDress = RecommendationFeatures.chooseDress(index, random);
+
+        // 속성이 하나라도 있는 경우 계절 반영하여 조회한 옷장에서 추천
+        BitSet seasonal = index.seasonCandidates(Season.recommendableMask(month));
+        boolean useSeasonal = !seasonal.isEmpty();
+
+        int[] picked = new int[TYPES.length];
+        int count = 0;
+        for (ClothesType type : TYPES) {
+            if (RecommendationFeatures.skipForDress(type, chooseDress)) {
+                continue;
+            }
+            // 속성이 하나도 없을 경우 전체 의상에서 추천하며, 이때만 아우터 제외 조건 적용
+            if (!useSeasonal && excludeOuter && type == ClothesType.OUTER) {
+                continue;
+            }
+            int position = pickOne(index.positions(type), useSeasonal ? seasonal : null, random);
+            if (position >= 0) {
+                picked[count++] = position;
+            }
+        }
+        return Arrays.copyOf(picked, count);
+    }
+
+    /**
+     * 후보 위치 중 하나를 균등 확률로 고릅니다(reservoir sampling). 후보가 없으면 -1을 반환합니다.
+     */
+    private int pickOne(int[] positions, BitSet filter, ThreadLocalRandom random) {
+        int chosen = -1;
+        int seen = 0;
+        for (int position : positions) {
+            if (filter != null && !filter.get(position)) {
+                continue;
+            }
+            seen++;
+            if (random.nextInt(seen) == 0) {
+                chosen = position;
+            }
+        }
+        return chosen;
+    }
+}
@@ -0,0 +1,143 @@
+package com.onepiece.otboo.domain.recommendation.service.engine;
+
+import com.onepiece.otboo.domain.clothes.entity.ClothesType;
+import com.onepiece.otboo.domain.clothes.entity.Season;
+import com.onepiece.otboo.domain.recommendation.config.props.RecommendationProperties;
+import com.onepiece.otboo.domain.recommendation.entity.RecommendationParameter;
+import com.onepiece.otboo.domain.recommendation.support.WardrobeIndex;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.stereotype.Component;
+
+/**
+ * 점수 기반 추천 엔진 (기본 엔진)
+ * <p>
+ * 의상마다 특징 벡터 [계절 적합도, 월 적합도, 인기도]를 만들고 요청별 가중치 벡터와 내적한 점수로 타입별 상위 k개를
+ * 추린 뒤, 그 중 하나를 무작위로 골라 매번 같은 조합만 추천되지 않도록 합니다.
+ * </p>
+ * <ul>
+ *     <li>계절 적합도: 기온, 습도, 바람, 온도 민감도를 반영한 사용자 기준 온도에서 각 계절이 얼마나 어울리는지</li>
+ *     <li>월 적합도: 현재 월에 추천 가능한 계절 속성을 가졌는지 (규칙 기반 엔진의 계절 필터와 동일한 기준)</li>
+ *     <li>인기도: 해당 의상으로 작성한 피드 수 (옷장 내 최대값 기준 로그 정규화)</li>
+ * </ul>
+ * <p>
+ * 연령은 인기도 가중치에만 반영하며, 성별은 고정관념에 따른 추천을 피하기 위해 점수에 사용하지 않습니다.
+ * </p>
+ */
+@Component
+public class ScoringRecommendationEngine implements RecommendationEngine {
+
+    public static final String NAME = "scoring";
+
+    private static final ClothesType[] TYPES = ClothesType.values();
+    private static final Season[] SEASONS = Season.values();
+    private static final int MASK_COUNT = 1 << SEASONS.length;
+
+    // 계절 속성이 없는 의상의 계절 적합도
+    private static final double UNTAGGED_SEASON_FIT = 0.3;
+
+    private static final double SEASON_WEIGHT = 1.0;
+    private static final double CALENDAR_WEIGHT = 0.6;
+    private static final double POPULARITY_WEIGHT = 0.4;
+    private static final double YOUNG_POPULARITY_BOOST = 1.25;
+    private static final int YOUNG_AGE_LIMIT = 30;
+
+    // 이 온도 이상이면 아우터, 스카프를 추천하지 않음
+    private static final double OUTER_EXCLUDE_TEMP = 28.0;
+    private static final double SCARF_EXCLUDE_TEMP = 15.0;
+
+    private final int topK;
+
+    public ScoringRecommendationEngine(RecommendationProperties properties) {
+        this.topK = properties.engine().topK();
+    }
+
+    @Override
+    public boolean supports(String name) {
+        return NAME.equalsIgnoreCase(name);
+    }
+
+    @Override
+    public int[] recommend(WardrobeIndex index, RecommendationParameter parameter, int month) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        double temp = RecommendationFeatures.effectiveTemp(parameter);
+        double[] seasonFitByMask = seasonFitByMask(temp);
+        int calendarMask = Season.recommendableMask(month);
+
+        double popularityWeight = popularityWeight(parameter.getAge(), index.maxFeedCount());
+
+        boolean chooseDress = RecommendationFeatures.chooseDress(index, random);
+
+        TopKSelector selector = new TopKSelector(topK);
+        int[] picked = new int[TYPES.length];
+        int count = 0;
+        for (ClothesType type : TYPES) {
+            if (RecommendationFeatures.skipForDress(type, chooseDress) || excluded(type, temp)) {
+                continue;
+            }
+
+            selector.reset();
+            for (int position : index.positions(type)) {
+                int mask = index.seasonMask(position);
+                double score = SEASON_WEIGHT * seasonFitByMask[mask]
+                    + CALENDAR_WEIGHT * ((mask & calendarMask) != 0 ? 1.0 : 0.0)
+                    + popularityWeight * Math.log1p(index.feedCount(position));
+                selector.offer(score, position);
+            }
+
+            if (selector.size() > 0) {
+                picked[count++] = selector.position(random.nextInt(selector.size()));
+            }
+        }
+        return Arrays.copyOf(picked, count);
+    }
+
+    private boolean excluded(ClothesType type, double temp) {
+        return (type == ClothesType.OUTER && temp >= OUTER_EXCLUDE_TEMP)
+            || (type == ClothesType.SCARF && temp >= SCARF_EXCLUDE_TEMP);
+    }
+
+    /**
+     * 인기도 가중치. 로그 피드 수를 옷장 내 최대값으로 나눠 0 ~ 1로 정규화되도록 가중치에 미리 반영합니다.
+     */
+    private double popularityWeight(Integer age, long maxFeedCount) {
+        if (maxFeedCount == 0) {
+            return 0.0;
+        }
+        double weight = POPULARITY_WEIGHT / Math.log1p(maxFeedCount);
+        if (age != null && age < YOUNG_AGE_LIMIT) {
+            weight *= YOUNG_POPULARITY_BOOST;
+        }
+        return weight;
+    }
+
+    /**
+     * 계절 비트마스크(0 ~ 15)별 적합도 테이블. 여러 계절 속성을 가진 의상은 가장 잘 맞는 계절 기준입니다.
+     */
+    private double[] seasonFitByMask(double temp) {
+        double[] fitBySeason = new double[SEASONS.length];
+        fitBySeason[Season.SUMMER.ordinal()] = clamp((temp - 18) / 10);
+        fitBySeason[Season.WINTER.ordinal()] = clamp((12 - temp) / 10);
+        double transitional = clamp(1 - Math.abs(temp - 16) / 10);
+        fitBySeason[Season.SPRING.ordinal()] = transitional;
+        fitBySeason[Season.FALL.ordinal()] = transitional;
+
+        double[] table = new double[MASK_COUNT];
+        table[0] = UNTAGGED_SEASON_FIT;
+        for (int mask = 1; mask < MASK_COUNT; mask++) {
+            double best = 0.0;
+            for (Season season : SEASONS) {
+                if ((mask & season.getBit()) != 0) {
+                    best = Math.max(best, fitBySeason[season.ordinal()]);
+                }
+            }
+            table[mask] = best;
+        }
+        return table;
+    }
+
+    private double clamp(double value) {
+        return Math.max(0.0, Math.min(1.0, value));
+    }
+}
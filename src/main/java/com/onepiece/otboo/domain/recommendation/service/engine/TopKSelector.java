@@ -0,0 +1,82 @@
+package com.onepiece.otboo.domain.recommendation.service.engine;
+
+/**
+ * 점수 상위 k개의 위치를 유지하는 크기 제한 최소 힙
+ * <p>
+ * 박싱 없이 기본형 배열만 사용하며, {@link #reset()}으로 재사용할 수 있습니다.
+ * </p>
+ */
+final class TopKSelector {
+
+    private final double[] scores;
+    private final int[] positions;
+    private int size;
+
+    TopKSelector(int k) {
+        this.scores = new double[Math.max(1, k)];
+        this.positions = new int[Math.max(1, k)];
+    }
+
+    void reset() {
+        size = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int position(int i) {
+        return positions[i];
+    }
+
+    void offer(double score, int position) {
+        if (size < scores.length) {
+            scores[size] = score;
+            positions[size] = position;
+            siftUp(size++);
+            return;
+        }
+        if (score <= scores[0]) {
+            return;
+        }
+        scores[0] = score;
+        positions[0] = position;
+        siftDown(0);
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (scores[parent] <= scores[i]) {
+                return;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) {
+                return;
+            }
+            int right = left + 1;
+            int smallest = right < size && scores[right] < scores[left] ? right : left;
+            if (scores[i] <= scores[smallest]) {
+                return;
+            }
+            swap(i, smallest);
+            i = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        double score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+        int position = positions[a];
+        positions[a] = positions[b];
+        positions[b] = position;
+    }
+}
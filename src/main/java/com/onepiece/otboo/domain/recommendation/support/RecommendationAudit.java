@@ -0,0 +1,22 @@
+package com.onepiece.otboo.domain.recommendation.support;
+
+import com.onepiece.otboo.domain.recommendation.entity.RecommendationParameter;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 추천 이력 저장을 위해 요청 스레드에서 넘겨받는 추천 결과 스냅샷
+ *
+ * @param weatherId  추천에 사용한 날씨 ID
+ * @param userId     추천 대상 사용자 ID
+ * @param parameter  저장되지 않은 추천 파라미터
+ * @param clothesIds 추천된 의상 ID 목록
+ */
+public record RecommendationAudit(
+    UUID weatherId,
+    UUID userId,
+    RecommendationParameter parameter,
+    List<UUID> clothesIds
+) {
+
+}
@@ -0,0 +1,229 @@
+package com.onepiece.otboo.domain.recommendation.support;
+
+import com.onepiece.otboo.domain.clothes.entity.ClothesType;
+import com.onepiece.otboo.domain.clothes.entity.Season;
+import com.onepiece.otboo.domain.feed.dto.response.OotdDto;
+import com.onepiece.otboo.domain.feed.dto.response.OotdDto.OotdAttribute;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 사용자 옷장의 추천용 인덱스 스냅샷입니다.
+ * <p>
+ * 의상을 위치(position) 기반 배열로 보관하고 타입별 위치 버킷, 피드 수 합계, 계절 비트셋을 미리 계산해 두어
+ * 추천 한 번을 추가 쿼리 없이 단일 패스로 처리할 수 있게 합니다. 생성 후에는 변경되지 않습니다.
+ * </p>
+ */
+public final class WardrobeIndex {
+
+    private static final ClothesType[] TYPES = ClothesType.values();
+    private static final Season[] SEASONS = Season.values();
+
+    private final UUID[] ids;
+    private final String[] names;
+    private final String[] imageKeys;
+    private final ClothesType[] types;
+    private final long[] feedCounts;
+    private final int[] seasonMasks;
+    private final List<List<OotdAttribute>> attributes;
+
+    private final int[][] positionsByType;
+    private final long[] feedCountByType;
+    private final long totalFeedCount;
+    private final long maxFeedCount;
+    private final BitSet[] positionsBySeason;
+
+    private WardrobeIndex(Builder builder) {
+        int size = builder.ids.size();
+        this.ids = builder.ids.toArray(new UUID[0]);
+        this.names = builder.names.toArray(new String[0]);
+        this.imageKeys = builder.imageKeys.toArray(new String[0]);
+        this.types = builder.types.toArray(new ClothesType[0]);
+        this.feedCounts = Arrays.copyOf(builder.feedCounts, size);
+        this.seasonMasks = Arrays.copyOf(builder.seasonMasks, size);
+        this.attributes = List.copyOf(builder.attributes);
+
+        int[] typeSizes = new int[TYPES.length];
+        long[] typeFeedCounts = new long[TYPES.length];
+        long total = 0L;
+        long max = 0L;
+        BitSet[] seasons = new BitSet[SEASONS.length];
+        for (int s = 0; s < SEASONS.length; s++) {
+            seasons[s] = new BitSet(size);
+        }
+
+        for (int i = 0; i < size; i++) {
+            int t = types[i].ordinal();
+            typeSizes[t]++;
+            typeFeedCounts[t] += feedCounts[i];
+            total += feedCounts[i];
+            max = Math.max(max, feedCounts[i]);
+            for (int s = 0; s < SEASONS.length; s++) {
+                if ((seasonMasks[i] & SEASONS[s].getBit()) != 0) {
+                    seasons[s].set(i);
+                }
+            }
+        }
+
+        int[][] buckets = new int[TYPES.length][];
+        int[] cursor = new int[TYPES.length];
+        for (int t = 0; t < TYPES.length; t++) {
+            buckets[t] = new int[typeSizes[t]];
+        }
+        for (int i = 0; i < size; i++) {
+            int t = types[i].ordinal();
+            buckets[t][cursor[t]++] = i;
+        }
+
+        this.positionsByType = buckets;
+        this.feedCountByType = typeFeedCounts;
+        this.totalFeedCount = total;
+        this.maxFeedCount = max;
+        this.positionsBySeason = seasons;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static WardrobeIndex empty() {
+        return new Builder().build();
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public boolean isEmpty() {
+        return ids.length == 0;
+    }
+
+    /**
+     * 해당 타입 의상들의 위치 배열을 반환합니다. 반환된 배열은 수정하면 안 됩니다.
+     */
+    public int[] positions(ClothesType type) {
+        return positionsByType[type.ordinal()];
+    }
+
+    public int count(ClothesType type) {
+        return positionsByType[type.ordinal()].length;
+    }
+
+    public long feedCount(ClothesType type) {
+        return feedCountByType[type.ordinal()];
+    }
+
+    public long totalFeedCount() {
+        return totalFeedCount;
+    }
+
+    public long maxFeedCount() {
+        return maxFeedCount;
+    }
+
+    /**
+     * 주어진 계절 비트마스크 중 하나라도 속성으로 가진 의상 위치 집합을 반환합니다.
+     */
+    public BitSet seasonCandidates(int seasonMask) {
+        BitSet result = new BitSet(ids.length);
+        for (int s = 0; s < SEASONS.length; s++) {
+            if ((seasonMask & SEASONS[s].getBit()) != 0) {
+                result.or(positionsBySeason[s]);
+            }
+        }
+        return result;
+    }
+
+    public UUID id(int position) {
+        return ids[position];
+    }
+
+    public String name(int position) {
+        return names[position];
+    }
+
+    public String imageKey(int position) {
+        return imageKeys[position];
+    }
+
+    public ClothesType type(int position) {
+        return types[position];
+    }
+
+    public long feedCount(int position) {
+        return feedCounts[position];
+    }
+
+    public int seasonMask(int position) {
+        return seasonMasks[position];
+    }
+
+    public List<OotdAttribute> attributes(int position) {
+        return attributes.get(position);
+    }
+
+    /**
+     * 위치에 해당하는 의상을 OotdDto로 변환합니다. imageUrl에는 저장소 키가 그대로 담깁니다.
+     */
+    public OotdDto toOotdDto(int position) {
+        return new OotdDto(
+            ids[position],
+            names[position],
+            imageKeys[position],
+            types[position].name(),
+            attributes.get(position)
+        );
+    }
+
+    public static final class Builder {
+
+        private final List<UUID> ids = new ArrayList<>();
+        private final List<String> names = new ArrayList<>();
+        private final List<String> imageKeys = new ArrayList<>();
+        private final List<ClothesType> types = new ArrayList<>();
+        private final List<List<OotdAttribute>> attributes = new ArrayList<>();
+        private long[] feedCounts = new long[16];
+        private int[] seasonMasks = new int[16];
+
+        private Builder() {
+        }
+
+        /**
+         * 계절 비트마스크를 속성 값에서 계산해 추가합니다.
+         */
+        public Builder add(UUID id, String name, ClothesType type, String imageKey,
+            long feedCount, List<OotdAttribute> attributes) {
+            int seasonMask = attributes == null ? 0
+                : Season.maskOf(attributes.stream().map(OotdAttribute::value).toList());
+            return add(id, name, type, imageKey, feedCount, seasonMask, attributes);
+        }
+
+        /**
+         * 저장된 계절 비트마스크({@code clothes.season_mask})로 추가합니다.
+         */
+        public Builder add(UUID id, String name, ClothesType type, String imageKey,
+            long feedCount, int seasonMask, List<OotdAttribute> attributes) {
+            List<OotdAttribute> attrs = attributes == null ? List.of() : List.copyOf(attributes);
+            int position = ids.size();
+            if (position == feedCounts.length) {
+                feedCounts = Arrays.copyOf(feedCounts, position * 2);
+                seasonMasks = Arrays.copyOf(seasonMasks, position * 2);
+            }
+            ids.add(id);
+            names.add(name);
+            types.add(type);
+            imageKeys.add(imageKey);
+            this.attributes.add(attrs);
+            feedCounts[position] = feedCount;
+            seasonMasks[position] = seasonMask;
+            return this;
+        }
+
+        public WardrobeIndex build() {
+            return new WardrobeIndex(this);
+        }
+    }
+}
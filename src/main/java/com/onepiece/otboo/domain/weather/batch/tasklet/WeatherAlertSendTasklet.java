@@ -48,8 +48,9 @@ public class WeatherAlertSendTasklet implements Tasklet {
                 continue;
             }
 
-            outbox.updateStatus(AlertStatus.SENDING);
-            
+            // 발행 결과는 WeatherAlertOutboxService가 수신자 수 기준으로 집계해 완료 처리
+            outbox.startSending(profiles.size());
+
             for (Profile p : profiles) {
                 UUID userId = p.getUser().getId();
                 publisher.publishEvent(new WeatherChangeEvent(outboxId, userId, outbox.getTitle(),
@@ -34,6 +34,16 @@ public class WeatherAlertOutbox extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private AlertStatus status;
 
+    // fan-out 대상 수와 Kafka 발행 결과 집계, 성공/실패 합이 대상 수에 닿으면 발송이 끝난 것으로 봄
+    @Column(nullable = false)
+    private int recipientCount;
+
+    @Column(nullable = false)
+    private int sentCount;
+
+    @Column(nullable = false)
+    private int failedCount;
+
     public static WeatherAlertOutbox create(UUID locId, String title, String msg) {
         return WeatherAlertOutbox.builder()
             .locationId(locId)
@@ -46,4 +56,9 @@ public class WeatherAlertOutbox extends BaseEntity {
     public void updateStatus(AlertStatus status) {
         this.status = status;
     }
+
+    public void startSending(int recipientCount) {
+        this.status = AlertStatus.SENDING;
+        this.recipientCount = recipientCount;
+    }
 }
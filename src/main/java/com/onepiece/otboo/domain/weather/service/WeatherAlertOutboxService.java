@@ -1,20 +1,180 @@
 package com.onepiece.otboo.domain.weather.service;
 
-import com.onepiece.otboo.domain.notification.enums.AlertStatus;
-import com.onepiece.otboo.domain.weather.repository.WeatherAlertOutboxRepository;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * 날씨 알림 outbox의 Kafka 발행 결과 집계
+ * <p>
+ * outbox 하나는 해당 지역의 모든 프로필로 fan-out 되므로, ack마다 행을 조회/갱신하면 같은 행이 수신자 수만큼
+ * 갱신됩니다. ack는 outbox별 성공/실패 수에 더하기만 하고, 주기적인 flush가 누적분을 {@code WHERE id IN (...)}
+ * UPDATE 한 번으로 반영합니다. 같은 트랜잭션에서 성공/실패 합이 수신자 수에 닿은 outbox를 완료 처리하며, 하나라도
+ * 실패했으면 FAILED, 모두 성공했으면 SEND가 됩니다.
+ * </p>
+ * <p>
+ * 집계는 메모리에만 있어 인스턴스가 반영 전에 죽으면 그 ack는 사라지고 outbox가 SENDING에 머뭅니다. 주기적인
+ * 정리가 생성 후 {@code stale-timeout}이 지난 SENDING outbox를 그때까지의 집계로 완료 처리하며, 결과가 모자라면
+ * FAILED로 남깁니다. 성공/실패 수는 바꾸지 않으므로 늦게 반영된 ack도 그대로 더해집니다.
+ * </p>
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class WeatherAlertOutboxService {
 
-    private final WeatherAlertOutboxRepository outboxRepository;
+    // CASE 절까지 outbox당 바인드 파라미터 5개를 쓰므로 PostgreSQL 한도(65535) 안에 들도록 나눠 반영
+    private static final int FLUSH_CHUNK_SIZE = 500;
 
-    @Transactional
-    public void updateStatus(UUID id, AlertStatus status) {
-        outboxRepository.findById(id).ifPresent(o -> o.updateStatus(status));
+    private static final String ADD_COUNTS_SQL = """
+        UPDATE weather_alert_outboxes
+        SET sent_count = sent_count + CASE id %1$s ELSE 0 END,
+            failed_count = failed_count + CASE id %1$s ELSE 0 END
+        WHERE id IN (%2$s)
+        """;
+
+    private static final String COMPLETE_SQL = """
+        UPDATE weather_alert_outboxes
+        SET status = CASE WHEN failed_count > 0 THEN 'FAILED' ELSE 'SEND' END
+        WHERE id IN (%s)
+          AND status = 'SENDING'
+          AND sent_count + failed_count >= recipient_count
+        """;
+
+    private static final String FINALIZE_STALE_SQL = """
+        UPDATE weather_alert_outboxes
+        SET status = CASE
+            WHEN failed_count = 0 AND sent_count >= recipient_count THEN 'SEND'
+            ELSE 'FAILED' END
+        WHERE status = 'SENDING'
+          AND created_at < ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Duration staleTimeout;
+
+    private final Map<UUID, Tally> tallies = new ConcurrentHashMap<>();
+
+    public WeatherAlertOutboxService(JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        @Value("${otboo.weather.alert-outbox.stale-timeout:30m}") Duration staleTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.staleTimeout = staleTimeout;
+    }
+
+    public void recordSent(UUID outboxId) {
+        tallies.merge(outboxId, Tally.SENT, Tally::plus);
+    }
+
+    public void recordFailed(UUID outboxId) {
+        tallies.merge(outboxId, Tally.FAILED, Tally::plus);
+    }
+
+    @Scheduled(fixedDelayString = "${otboo.weather.alert-outbox.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        if (tallies.isEmpty()) {
+            return;
+        }
+
+        // 키 단위로 꺼내므로 꺼낸 뒤 들어온 ack는 새 항목으로 쌓여 다음 flush로 넘어감
+        List<UUID> outboxIds = new ArrayList<>(tallies.keySet());
+        // 인스턴스 간 잠금 순서를 맞춰 교착을 피함
+        Collections.sort(outboxIds);
+
+        for (int from = 0; from < outboxIds.size(); from += FLUSH_CHUNK_SIZE) {
+            Map<UUID, Tally> chunk = new LinkedHashMap<>();
+            for (UUID outboxId : outboxIds.subList(from,
+                Math.min(from + FLUSH_CHUNK_SIZE, outboxIds.size()))) {
+                Tally tally = tallies.remove(outboxId);
+                if (tally != null) {
+                    chunk.put(outboxId, tally);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                flushChunk(chunk);
+            }
+        }
+    }
+
+    /**
+     * 결과가 다 모이지 않은 채 {@code stale-timeout}이 지난 SENDING outbox를 완료 처리합니다.
+     */
+    @Scheduled(fixedDelayString = "${otboo.weather.alert-outbox.sweep-interval-ms:60000}")
+    public void finalizeStale() {
+        Timestamp cutoff = Timestamp.from(Instant.now().minus(staleTimeout));
+        try {
+            int finalized = jdbcTemplate.update(FINALIZE_STALE_SQL, cutoff);
+            if (finalized > 0) {
+                log.warn("[WeatherAlertOutboxService] 발행 결과가 모이지 않은 outbox 완료 처리 - outboxes: {}",
+                    finalized);
+            }
+        } catch (Exception e) {
+            log.warn("[WeatherAlertOutboxService] 오래된 SENDING outbox 정리 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void flushChunk(Map<UUID, Tally> chunk) {
+        // 파라미터 타입을 추론하지 못하는 DB(H2)가 있어 CASE 안의 파라미터는 타입을 명시
+        String whens = String.join(" ",
+            Collections.nCopies(chunk.size(), "WHEN CAST(? AS UUID) THEN CAST(? AS INTEGER)"));
+        String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+
+        List<Object> args = new ArrayList<>(chunk.size() * 5);
+        chunk.forEach((id, tally) -> {
+            args.add(id);
+            args.add(tally.sent());
+        });
+        chunk.forEach((id, tally) -> {
+            args.add(id);
+            args.add(tally.failed());
+        });
+        args.addAll(chunk.keySet());
+
+        try {
+            Integer completed = transactionTemplate.execute(status -> {
+                jdbcTemplate.update(ADD_COUNTS_SQL.formatted(whens, placeholders), args.toArray());
+                return jdbcTemplate.update(COMPLETE_SQL.formatted(placeholders),
+                    chunk.keySet().toArray());
+            });
+            log.debug("[WeatherAlertOutboxService] 발행 결과 반영 - outboxes: {}, completed: {}",
+                chunk.size(), completed);
+        } catch (Exception e) {
+            // 반영에 실패한 집계는 되돌려 다음 flush에서 다시 시도
+            chunk.forEach((id, tally) -> tallies.merge(id, tally, Tally::plus));
+            log.warn("[WeatherAlertOutboxService] 발행 결과 반영 실패, 다음 주기에 재시도 - outboxes: {}",
+                chunk.size(), e);
+        }
+    }
+
+    private record Tally(int sent, int failed) {
+
+        static final Tally SENT = new Tally(1, 0);
+        static final Tally FAILED = new Tally(0, 1);
+
+        Tally plus(Tally other) {
+            return new Tally(sent + other.sent, failed + other.failed);
+        }
     }
 }
@@ -1,8 +1,11 @@
 package com.onepiece.otboo.global.batch;
 
+import com.onepiece.otboo.domain.recommendation.config.props.RecommendationProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.launch.JobLauncher;
@@ -16,6 +19,8 @@ public class BatchScheduler {
 
     private final JobLauncher jobLauncher;
     private final Job collectWeatherJob;
+    private final Job precomputeRecommendationJob;
+    private final RecommendationProperties recommendationProperties;
 
     @Scheduled(cron = "0 15 0,6,12,18 * * *", zone = "Asia/Seoul")
     //@Scheduled(cron = "0 */1 * * * *", zone = "Asia/Seoul")
@@ -27,9 +32,31 @@ public class BatchScheduler {
 
             log.info("[BatchScheduler] 날씨 데이터 배치 실행");
 
-            jobLauncher.run(collectWeatherJob, params);
+            JobExecution execution = jobLauncher.run(collectWeatherJob, params);
+
+            // 날씨가 갱신된 뒤에만 추천 결과를 사전 계산
+            if (execution.getStatus() == BatchStatus.COMPLETED) {
+                runPrecomputeRecommendationJob();
+            }
         } catch (Exception e) {
             log.warn("[BatchScheduler] 날씨 데이터 배치 실패: {}", e.getMessage());
         }
     }
+
+    private void runPrecomputeRecommendationJob() {
+        if (!recommendationProperties.precompute().enabled()) {
+            return;
+        }
+        try {
+            JobParameters params = new JobParametersBuilder()
+                .addLong("timestamp", System.currentTimeMillis())
+                .toJobParameters();
+
+            log.info("[BatchScheduler] 추천 사전 계산 배치 실행");
+
+            jobLauncher.run(precomputeRecommendationJob, params);
+        } catch (Exception e) {
+            log.warn("[BatchScheduler] 추천 사전 계산 배치 실패: {}", e.getMessage());
+        }
+    }
 }
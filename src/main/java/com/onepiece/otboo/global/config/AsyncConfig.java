@@ -1,6 +1,8 @@
 package com.onepiece.otboo.global.config;
 
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor.AbortPolicy;
 import java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
@@ -37,6 +39,9 @@ public class AsyncConfig implements AsyncConfigurer {
 
     private static final String BINARY_THREAD_PREFIX = "binaryContent-exec";
     private static final String MAIL_THREAD_PREFIX = "mail-exec";
+    private static final String RECOMMENDATION_THREAD_PREFIX = "recommendation-exec";
+    private static final String NOTIFICATION_SSE_THREAD_PREFIX = "notificationSse-exec";
+    private static final String SSE_DISPATCH_THREAD_PREFIX = "sseDispatch-exec";
 
     @Bean(name = "binaryContentExecutor")
     public ThreadPoolTaskExecutor binaryContentExecutor(
@@ -58,6 +63,42 @@ public class AsyncConfig implements AsyncConfigurer {
         return buildExecutor(core, max, queue, keepAlive, MAIL_THREAD_PREFIX);
     }
 
+    @Bean(name = "recommendationPrecomputeExecutor")
+    public ThreadPoolTaskExecutor recommendationPrecomputeExecutor(
+        @Value("${async.executors.recommendation-precompute.core-size}") int core,
+        @Value("${async.executors.recommendation-precompute.max-size}") int max,
+        @Value("${async.executors.recommendation-precompute.queue-capacity}") int queue,
+        @Value("${async.executors.recommendation-precompute.keep-alive}") int keepAlive
+    ) {
+        return buildExecutor(core, max, queue, keepAlive, RECOMMENDATION_THREAD_PREFIX);
+    }
+
+    @Bean(name = "notificationSseExecutor")
+    public ThreadPoolTaskExecutor notificationSseExecutor(
+        @Value("${async.executors.notification-sse.core-size}") int core,
+        @Value("${async.executors.notification-sse.max-size}") int max,
+        @Value("${async.executors.notification-sse.queue-capacity}") int queue,
+        @Value("${async.executors.notification-sse.keep-alive}") int keepAlive
+    ) {
+        return buildExecutor(core, max, queue, keepAlive, NOTIFICATION_SSE_THREAD_PREFIX);
+    }
+
+    /**
+     * SSE 전송 스레드풀. 전송은 블로킹 쓰기라 호출 스레드(Kafka 컨슈머, 하트비트)에서 대신 실행하면 느린 연결 하나가
+     * 호출 측을 멈추므로, 포화 시 거절하고 {@link com.onepiece.otboo.global.sse.SseDispatcher}가 이벤트를 연결
+     * 대기열에 남겨 다음 예약 때 다시 시도합니다.
+     */
+    @Bean(name = "sseDispatchExecutor")
+    public ThreadPoolTaskExecutor sseDispatchExecutor(
+        @Value("${async.executors.sse-dispatch.core-size}") int core,
+        @Value("${async.executors.sse-dispatch.max-size}") int max,
+        @Value("${async.executors.sse-dispatch.queue-capacity}") int queue,
+        @Value("${async.executors.sse-dispatch.keep-alive}") int keepAlive
+    ) {
+        return buildExecutor(core, max, queue, keepAlive, SSE_DISPATCH_THREAD_PREFIX,
+            new AbortPolicy());
+    }
+
     /**
      * ThreadPoolTaskExecutor 공통 빌더
      *
@@ -70,6 +111,11 @@ public class AsyncConfig implements AsyncConfigurer {
      */
     private ThreadPoolTaskExecutor buildExecutor(int core, int max, int queue, int keepAlive,
         String prefix) {
+        return buildExecutor(core, max, queue, keepAlive, prefix, new CallerRunsPolicy());
+    }
+
+    private ThreadPoolTaskExecutor buildExecutor(int core, int max, int queue, int keepAlive,
+        String prefix, RejectedExecutionHandler rejectedHandler) {
 
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 
@@ -78,7 +124,7 @@ public class AsyncConfig implements AsyncConfigurer {
         executor.setQueueCapacity(queue);
         executor.setKeepAliveSeconds(keepAlive);
         executor.setThreadNamePrefix(prefix + "-");
-        executor.setRejectedExecutionHandler(new CallerRunsPolicy());
+        executor.setRejectedExecutionHandler(rejectedHandler);
         executor.setWaitForTasksToCompleteOnShutdown(
             DEFAULT_WAIT_FOR_TASKS_TO_COMPLETE_ON_SHUTDOWN);
         executor.setAwaitTerminationSeconds(DEFAULT_AWAIT_TERMINATION_SECONDS);
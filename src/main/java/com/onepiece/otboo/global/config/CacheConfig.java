@@ -5,6 +5,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectMapper.DefaultTyping;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.onepiece.otboo.domain.recommendation.config.props.RecommendationProperties;
+import com.onepiece.otboo.domain.recommendation.dto.data.RecommendationDto;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
@@ -15,6 +17,7 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -26,6 +29,7 @@ public class CacheConfig {
 
     public static final String CACHE_LOC_BY_ROUNDED_LATLON = "locByRoundedLatLon";
     public static final String CACHE_WEATHERS_BY_DAY = "weathersByDay";
+    public static final String CACHE_RECOMMENDATIONS = "recommendations";
 
     /**
      * 기본 RedisCacheConfiguration (직렬화/프리픽스/널 미캐싱)
@@ -68,7 +72,9 @@ public class CacheConfig {
     @Bean
     public RedisCacheManager redisCacheManager(
         RedisConnectionFactory connectionFactory,
-        RedisCacheConfiguration baseRedisCacheConfiguration
+        RedisCacheConfiguration baseRedisCacheConfiguration,
+        RecommendationProperties recommendationProperties,
+        ObjectMapper objectMapper
     ) {
         Map<String, RedisCacheConfiguration> perCacheConfigs = new HashMap<>();
 
@@ -84,6 +90,18 @@ public class CacheConfig {
             baseRedisCacheConfiguration.entryTtl(Duration.ofHours(3))
         );
 
+        // 추천 결과 캐싱: record는 final이라 기본 직렬화기가 타입 정보를 남기지 않으므로 타입을 고정해 직렬화
+        perCacheConfigs.put(
+            CACHE_RECOMMENDATIONS,
+            baseRedisCacheConfiguration
+                .serializeValuesWith(
+                    RedisSerializationContext.SerializationPair.fromSerializer(
+                        new Jackson2JsonRedisSerializer<>(objectMapper, RecommendationDto.class)
+                    )
+                )
+                .entryTtl(recommendationProperties.cache().ttl())
+        );
+
         return RedisCacheManager.builder(connectionFactory)
             .cacheDefaults(baseRedisCacheConfiguration) // 기본값(10분)
             .withInitialCacheConfigurations(perCacheConfigs) // 캐시별 TTL 오버라이드
@@ -0,0 +1,23 @@
+package com.onepiece.otboo.global.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 실행 중인 인스턴스의 고유 식별자
+ * <p>
+ * {@code random.uuid}는 참조할 때마다 새 값이 만들어지므로, 인스턴스 ID가 필요한 곳(Kafka 브로드캐스트 그룹, SSE 접속
+ * 위치 등)은 모두 이 빈을 통해 같은 값을 사용합니다.
+ * </p>
+ */
+@Getter
+@Component
+public class InstanceIdentity {
+
+    private final String id;
+
+    public InstanceIdentity(@Value("${INSTANCE_ID:${HOSTNAME:${random.uuid}}}") String id) {
+        this.id = id;
+    }
+}
@@ -1,18 +1,37 @@
 package com.onepiece.otboo.global.config;
 
+import com.onepiece.otboo.global.event.config.props.KafkaConcurrencyProperties;
+import com.onepiece.otboo.global.event.config.props.KafkaEventProperties;
+import com.onepiece.otboo.global.event.config.props.KafkaTopicProperties;
+import com.onepiece.otboo.global.event.event.BroadcastNotificationCreatedEvent;
+import com.onepiece.otboo.global.event.event.ClothesAttributeAddedEvent;
+import com.onepiece.otboo.global.event.event.DirectMessageCreatedEvent;
+import com.onepiece.otboo.global.event.event.FeedCommentCreatedEvent;
+import com.onepiece.otboo.global.event.event.FeedCreatedEvent;
+import com.onepiece.otboo.global.event.event.FeedLikedEvent;
+import com.onepiece.otboo.global.event.event.FollowCreatedEvent;
+import com.onepiece.otboo.global.event.event.NotificationsCreatedEvent;
+import com.onepiece.otboo.global.event.event.RoleUpdatedEvent;
+import com.onepiece.otboo.global.event.event.WeatherChangeEvent;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaAdmin;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
@@ -25,7 +44,25 @@ import org.springframework.util.backoff.FixedBackOff;
 @RequiredArgsConstructor
 public class KafkaConfig {
 
+    /**
+     * "otboo." + 클래스 이름으로 발행되는 이벤트. 시작 시 토픽과 .DLT 토픽을 같은 파티션 수로 만듭니다.
+     */
+    private static final List<Class<?>> EVENT_TYPES = List.of(
+        WeatherChangeEvent.class,
+        DirectMessageCreatedEvent.class,
+        ClothesAttributeAddedEvent.class,
+        FeedCommentCreatedEvent.class,
+        FeedLikedEvent.class,
+        FollowCreatedEvent.class,
+        FeedCreatedEvent.class,
+        RoleUpdatedEvent.class,
+        NotificationsCreatedEvent.class,
+        BroadcastNotificationCreatedEvent.class
+    );
+
     private final KafkaProperties kafkaProperties;
+    private final KafkaEventProperties eventProperties;
+    private final InstanceIdentity instance;
 
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrap;
@@ -33,41 +70,98 @@ public class KafkaConfig {
     @Value("${spring.application.name:discodeit}")
     private String appName;
 
-    // 각 인스턴스 고유 식별자
-    @Value("${INSTANCE_ID:${HOSTNAME:${random.uuid}}}")
-    private String instanceId;
-
     /**
-     * Processing(단일 처리) 컨테이너 팩토리 - 공유 그룹 (알림 생성)
+     * Processing(배치 처리) 컨테이너 팩토리 - 공유 그룹 (알림 생성)
+     * <p>
+     * 리스너가 poll 한 번에 받은 레코드를 {@code List<ConsumerRecord>}로 받아 한 트랜잭션에 저장합니다. 특정 레코드에서
+     * 실패하면 리스너가 {@link org.springframework.kafka.listener.BatchListenerFailedException}으로 위치를 알려,
+     * 앞선 레코드는 커밋되고 실패한 레코드만 재시도 후 DLT로 보내집니다.
+     * </p>
      */
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, String> processingKafkaListenerContainerFactory(
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> processingBatchKafkaListenerContainerFactory(
         DefaultErrorHandler errorHandler) {
 
         String groupId = appName + ".processing.notifications";
-        return buildListenerFactory(groupId, errorHandler);
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> f =
+            buildListenerFactory(groupId, errorHandler);
+        f.setBatchListener(true);
+        f.setConcurrency(concurrency().processing());
+        return f;
     }
 
     /**
      * Processing(단일 처리) 컨테이너 팩토리 - 공유 그룹 (WebSocket 메시지 구독)
      */
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, String> subscriptionKafkaListenerContainerFactory(
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> subscriptionKafkaListenerContainerFactory(
         DefaultErrorHandler errorHandler) {
 
         String groupId = appName + ".processing.subscribe";
-        return buildListenerFactory(groupId, errorHandler);
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> f =
+            buildListenerFactory(groupId, errorHandler);
+        f.setConcurrency(concurrency().subscription());
+        return f;
+    }
+
+    /**
+     * Processing(단일 처리) 컨테이너 팩토리 - 공유 그룹 (홈 타임라인 fan-out)
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> timelineKafkaListenerContainerFactory(
+        DefaultErrorHandler errorHandler) {
+
+        String groupId = appName + ".processing.timeline";
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> f =
+            buildListenerFactory(groupId, errorHandler);
+        f.setConcurrency(concurrency().timeline());
+        return f;
     }
 
     /**
-     * Broadcast(모든 인스턴스) 컨테이너 팩토리 - 인스턴스별 고유 그룹
+     * Broadcast(모든 인스턴스) 컨테이너 팩토리 - 인스턴스별 고유 그룹 (SSE 전송)
+     * <p>
+     * 새로 뜬 인스턴스가 지난 메시지를 처음부터 다시 전송하지 않도록 최신 오프셋부터 읽습니다.
+     * </p>
      */
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, String> broadcastKafkaListenerContainerFactory(
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> broadcastKafkaListenerContainerFactory(
         DefaultErrorHandler errorHandler) {
 
-        String groupId = appName + ".broadcast." + instanceId;
-        return buildListenerFactory(groupId, errorHandler);
+        String groupId = appName + ".broadcast." + instance.getId();
+        Map<String, Object> props = consumerProps(groupId);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> f =
+            buildListenerFactory(new DefaultKafkaConsumerFactory<>(props), errorHandler);
+        f.setConcurrency(concurrency().broadcast());
+        return f;
+    }
+
+    /**
+     * 이벤트 토픽과 DLT 토픽 생성. 이미 있으면 파티션 수가 모자랄 때만 늘립니다.
+     * <p>
+     * DLT는 원본과 같은 파티션 번호로 보내므로 원본과 파티션 수를 맞춥니다.
+     * </p>
+     */
+    @Bean
+    public KafkaAdmin.NewTopics eventTopics() {
+        KafkaTopicProperties topicProps = eventProperties.topics();
+
+        List<NewTopic> topics = new ArrayList<>();
+        for (Class<?> type : EVENT_TYPES) {
+            String topic = "otboo." + type.getSimpleName();
+            for (String name : List.of(topic, topic + ".DLT")) {
+                topics.add(TopicBuilder.name(name)
+                    .partitions(topicProps.partitions())
+                    .replicas(topicProps.replicas())
+                    .build());
+            }
+        }
+        return new KafkaAdmin.NewTopics(topics.toArray(NewTopic[]::new));
+    }
+
+    private KafkaConcurrencyProperties concurrency() {
+        return eventProperties.concurrency();
     }
 
     /**
@@ -80,16 +174,16 @@ public class KafkaConfig {
         p.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
         p.put(ConsumerConfig.CLIENT_ID_CONFIG,
             kafkaProperties.getClientId() != null ? kafkaProperties.getClientId()
-                : appName + "." + instanceId);
+                : appName + "." + instance.getId());
         p.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
         p.put(ConsumerConfig.ISOLATION_LEVEL_CONFIG, "read_committed");
         p.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
 
-        // 역직렬화 에러 핸들링 래퍼 유지
+        // 역직렬화 에러 핸들링 래퍼 유지. 값은 바이트 그대로 받아 EventCodec이 헤더를 보고 해석
         p.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
         p.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
         p.put(ErrorHandlingDeserializer.KEY_DESERIALIZER_CLASS, StringDeserializer.class);
-        p.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, StringDeserializer.class);
+        p.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, ByteArrayDeserializer.class);
         return p;
     }
 
@@ -102,20 +196,20 @@ public class KafkaConfig {
         p.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
         p.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
         p.put(ConsumerConfig.ISOLATION_LEVEL_CONFIG, "read_committed");
-        p.put(ConsumerConfig.CLIENT_ID_CONFIG, appName + "." + instanceId);
+        p.put(ConsumerConfig.CLIENT_ID_CONFIG, appName + "." + instance.getId());
 
         // 역직렬화 오류를 안전하게 처리하기 위한 래퍼 사용
         p.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
         p.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
         p.put(ErrorHandlingDeserializer.KEY_DESERIALIZER_CLASS, StringDeserializer.class);
-        p.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, StringDeserializer.class);
+        p.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, ByteArrayDeserializer.class);
         return p;
     }
 
     /**
      * ConsumerFactory 생성
      */
-    private DefaultKafkaConsumerFactory<String, String> buildConsumerFactory(String groupId) {
+    private DefaultKafkaConsumerFactory<String, byte[]> buildConsumerFactory(String groupId) {
         Map<String, Object> props = consumerProps(groupId);
         return new DefaultKafkaConsumerFactory<>(props);
     }
@@ -123,11 +217,17 @@ public class KafkaConfig {
     /**
      * ListenerContainerFactory 생성
      */
-    private ConcurrentKafkaListenerContainerFactory<String, String> buildListenerFactory(
+    private ConcurrentKafkaListenerContainerFactory<String, byte[]> buildListenerFactory(
         String groupId, DefaultErrorHandler errorHandler) {
 
-        ConcurrentKafkaListenerContainerFactory<String, String> f = new ConcurrentKafkaListenerContainerFactory<>();
-        f.setConsumerFactory(buildConsumerFactory(groupId));
+        return buildListenerFactory(buildConsumerFactory(groupId), errorHandler);
+    }
+
+    private ConcurrentKafkaListenerContainerFactory<String, byte[]> buildListenerFactory(
+        DefaultKafkaConsumerFactory<String, byte[]> consumerFactory, DefaultErrorHandler errorHandler) {
+
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> f = new ConcurrentKafkaListenerContainerFactory<>();
+        f.setConsumerFactory(consumerFactory);
         f.setCommonErrorHandler(errorHandler);
 
         // 수동 ACK 모드 설정(리스너에서 Acknowledgment 객체로 수동 커밋)
@@ -138,7 +238,7 @@ public class KafkaConfig {
     }
 
     /**
-     * 에러 핸들러 + DLT 1초 간격으로 3회 재시도 후 &lt;원본토픽&gt;.DLT 로 전송. (주의) DLT 토픽은 미리 생성되어 있어야 합니다.
+     * 에러 핸들러 + DLT 1초 간격으로 3회 재시도 후 &lt;원본토픽&gt;.DLT 로 전송. DLT 토픽은 {@link #eventTopics()}가 만듭니다.
      */
     @Bean
     public DefaultErrorHandler errorHandler(KafkaTemplate<Object, Object> kafkaTemplate) {
@@ -0,0 +1,130 @@
+package com.onepiece.otboo.global.event.codec;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.onepiece.otboo.global.event.config.props.KafkaEventProperties;
+import java.io.IOException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.stereotype.Component;
+
+/**
+ * Kafka 이벤트를 버전이 붙은 envelope로 직렬화/역직렬화합니다.
+ * <p>
+ * 본문은 {@code otboo.kafka.event-format}으로 정한 형식(기본 Smile 바이너리)으로 쓰고, 형식/스키마 이름/스키마 버전을
+ * 헤더에 함께 싣습니다. 레코드 키는 {@link EventKeyResolver}가 이벤트 타입별로 정합니다. 읽는 쪽은 설정과 무관하게 헤더를 보고 형식을 고르므로, 배포 중 생산자 형식이 섞여도 모두 읽을 수
+ * 있습니다. 헤더가 없는 레코드는 envelope 도입 전의 JSON v1으로 취급합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class EventCodec {
+
+    public static final String CONTENT_TYPE_HEADER = "otboo-content-type";
+    public static final String SCHEMA_HEADER = "otboo-schema";
+    public static final String SCHEMA_VERSION_HEADER = "otboo-schema-version";
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper smileMapper;
+    private final EventSchemaRegistry schemaRegistry;
+    private final EventKeyResolver keyResolver;
+    private final EventFormat producerFormat;
+
+    public EventCodec(
+        ObjectMapper objectMapper,
+        EventSchemaRegistry schemaRegistry,
+        EventKeyResolver keyResolver,
+        KafkaEventProperties properties
+    ) {
+        this.jsonMapper = objectMapper;
+        // 같은 모듈/설정(JavaTimeModule 등)을 그대로 쓰도록 애플리케이션 ObjectMapper에서 복사
+        this.smileMapper = objectMapper.copyWith(new SmileFactory());
+        this.schemaRegistry = schemaRegistry;
+        this.keyResolver = keyResolver;
+        this.producerFormat = properties.eventFormat();
+    }
+
+    /**
+     * 이벤트를 직렬화해 키와 헤더가 채워진 레코드를 만듭니다.
+     *
+     * @throws SerializationException 직렬화에 실패한 경우
+     */
+    public ProducerRecord<String, byte[]> encode(String topic, Object event) {
+        Class<?> type = event.getClass();
+        byte[] payload;
+        try {
+            payload = mapper(producerFormat).writeValueAsBytes(event);
+        } catch (IOException e) {
+            throw new SerializationException("Failed to encode " + type.getSimpleName(), e);
+        }
+
+        ProducerRecord<String, byte[]> record = new ProducerRecord<>(topic, keyResolver.keyOf(event), payload);
+        record.headers()
+            .add(CONTENT_TYPE_HEADER, producerFormat.contentType().getBytes(UTF_8))
+            .add(SCHEMA_HEADER, schemaRegistry.name(type).getBytes(UTF_8))
+            .add(SCHEMA_VERSION_HEADER,
+                String.valueOf(schemaRegistry.currentVersion(type)).getBytes(UTF_8));
+        return record;
+    }
+
+    /**
+     * 헤더의 형식/버전에 맞춰 레코드를 읽고, 이전 버전이면 현재 버전으로 변환합니다.
+     *
+     * @throws SerializationException 형식/스키마가 맞지 않거나 본문을 읽을 수 없는 경우
+     */
+    public <T> T decode(ConsumerRecord<String, byte[]> record, Class<T> type) {
+        Headers headers = record.headers();
+        EventFormat format = EventFormat.fromContentType(header(headers, CONTENT_TYPE_HEADER));
+
+        String schema = header(headers, SCHEMA_HEADER);
+        if (schema != null && !schema.equals(schemaRegistry.name(type))) {
+            throw new SerializationException(
+                "Schema mismatch: expected " + schemaRegistry.name(type) + " but was " + schema);
+        }
+        if (record.value() == null) {
+            throw new SerializationException("Empty payload for " + type.getSimpleName());
+        }
+
+        int version = version(header(headers, SCHEMA_VERSION_HEADER));
+        ObjectMapper mapper = mapper(format);
+        try {
+            if (version == schemaRegistry.currentVersion(type)) {
+                return mapper.readValue(record.value(), type);
+            }
+
+            log.debug("[EventCodec] 이전 스키마 변환 - schema: {}, version: {}", type.getSimpleName(), version);
+            JsonNode node = schemaRegistry.upcast(type, version, mapper.readTree(record.value()));
+            return mapper.treeToValue(node, type);
+        } catch (IOException e) {
+            throw new SerializationException(
+                "Failed to decode " + type.getSimpleName() + " (" + format + " v" + version + ")", e);
+        }
+    }
+
+    private ObjectMapper mapper(EventFormat format) {
+        return format == EventFormat.SMILE ? smileMapper : jsonMapper;
+    }
+
+    private static String header(Headers headers, String key) {
+        Header header = headers.lastHeader(key);
+        return header == null || header.value() == null ? null : new String(header.value(), UTF_8);
+    }
+
+    private static int version(String value) {
+        if (value == null) {
+            return 1;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new SerializationException("Invalid schema version: " + value);
+        }
+    }
+}
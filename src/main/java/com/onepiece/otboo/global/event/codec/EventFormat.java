@@ -0,0 +1,36 @@
+package com.onepiece.otboo.global.event.codec;
+
+import java.util.Arrays;
+import org.apache.kafka.common.errors.SerializationException;
+
+/**
+ * Kafka 이벤트 본문 형식. 레코드의 content-type 헤더 값으로 구분합니다.
+ */
+public enum EventFormat {
+
+    JSON("application/json"),
+    SMILE("application/x-jackson-smile");
+
+    private final String contentType;
+
+    EventFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    /**
+     * 헤더 값으로 형식을 찾습니다. 헤더가 없으면 envelope 도입 전 레코드이므로 JSON으로 봅니다.
+     */
+    public static EventFormat fromContentType(String contentType) {
+        if (contentType == null) {
+            return JSON;
+        }
+        return Arrays.stream(values())
+            .filter(format -> format.contentType.equals(contentType))
+            .findFirst()
+            .orElseThrow(() -> new SerializationException("Unsupported content type: " + contentType));
+    }
+}
@@ -0,0 +1,59 @@
+package com.onepiece.otboo.global.event.codec;
+
+import com.onepiece.otboo.global.event.event.ClothesAttributeAddedEvent;
+import com.onepiece.otboo.global.event.event.DirectMessageCreatedEvent;
+import com.onepiece.otboo.global.event.event.FeedCommentCreatedEvent;
+import com.onepiece.otboo.global.event.event.FeedCreatedEvent;
+import com.onepiece.otboo.global.event.event.FeedLikedEvent;
+import com.onepiece.otboo.global.event.event.FollowCreatedEvent;
+import com.onepiece.otboo.global.event.event.RoleUpdatedEvent;
+import com.onepiece.otboo.global.event.event.WeatherChangeEvent;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이벤트 타입별 Kafka 레코드 키(파티션 키)
+ * <p>
+ * 알림/전송 순서가 중요한 단위(수신자, 피드 작성자 등)를 키로 삼아 같은 키의 레코드가 한 파티션에 순서대로 쌓이게 합니다.
+ * 덕분에 소비자 동시성을 늘려도 같은 수신자의 이벤트는 한 스레드가 차례로 처리합니다. 등록되지 않은 이벤트는 키 없이
+ * 파티션에 고르게 분산됩니다.
+ * </p>
+ * <p>
+ * outbox를 거쳐 발행하는 이벤트는 릴레이가 같은 키의 순서를 보장하지 않으므로, 파티션 안의 순서도 생성 순서와 다를 수
+ * 있습니다({@link com.onepiece.otboo.global.event.outbox.EventOutboxRelay} 참고).
+ * </p>
+ */
+@Component
+public class EventKeyResolver {
+
+    private final Map<Class<?>, Function<Object, UUID>> keys = new HashMap<>();
+
+    public EventKeyResolver() {
+        register(WeatherChangeEvent.class, WeatherChangeEvent::userId);
+        register(DirectMessageCreatedEvent.class, event -> event.data().receiver().userId());
+        register(FeedLikedEvent.class, FeedLikedEvent::feedAuthorId);
+        register(FeedCommentCreatedEvent.class, FeedCommentCreatedEvent::feedAuthorId);
+        register(FollowCreatedEvent.class, event -> event.data().followee().userId());
+        register(FeedCreatedEvent.class, event -> event.data().author().userId());
+        register(RoleUpdatedEvent.class, event -> event.data().id());
+        register(ClothesAttributeAddedEvent.class, event -> event.data().id());
+    }
+
+    @Nullable
+    public String keyOf(Object event) {
+        Function<Object, UUID> key = keys.get(event.getClass());
+        if (key == null) {
+            return null;
+        }
+        UUID id = key.apply(event);
+        return id == null ? null : id.toString();
+    }
+
+    private <T> void register(Class<T> type, Function<T, UUID> key) {
+        keys.put(type, event -> key.apply(type.cast(event)));
+    }
+}
@@ -0,0 +1,83 @@
+package com.onepiece.otboo.global.event.codec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.onepiece.otboo.global.event.event.FeedLikedEvent;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import org.apache.kafka.common.errors.SerializationException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이벤트 스키마 버전과 이전 버전 변환기(upcaster)를 코드로 관리하는 레지스트리
+ * <p>
+ * 외부 스키마 레지스트리 없이 동작하도록 스키마 이름은 이벤트 클래스 이름, 버전은 여기 등록한 값(미등록 시 1)을 씁니다.
+ * 이벤트 구조를 호환되지 않게 바꿀 때는 버전을 올리고 직전 버전을 변환하는 upcaster를 함께 등록해, 토픽에 남아 있는
+ * 이전 레코드도 현재 타입으로 읽을 수 있게 합니다.
+ * </p>
+ */
+@Component
+public class EventSchemaRegistry {
+
+    private static final int INITIAL_VERSION = 1;
+
+    private final Map<Class<?>, EventSchema> schemas = new HashMap<>();
+
+    public EventSchemaRegistry() {
+        register(FeedLikedEvent.class, 2, Map.of(1, EventSchemaRegistry::feedLikedV1ToV2));
+    }
+
+    public String name(Class<?> type) {
+        return type.getSimpleName();
+    }
+
+    public int currentVersion(Class<?> type) {
+        EventSchema schema = schemas.get(type);
+        return schema == null ? INITIAL_VERSION : schema.version();
+    }
+
+    /**
+     * {@code fromVersion}의 본문을 현재 버전까지 차례로 변환합니다.
+     *
+     * @throws SerializationException 현재보다 새 버전이거나 변환기가 없는 경우
+     */
+    public JsonNode upcast(Class<?> type, int fromVersion, JsonNode node) {
+        int current = currentVersion(type);
+        if (fromVersion > current) {
+            throw new SerializationException(
+                "Unknown schema version " + fromVersion + " for " + name(type) + " (current: " + current + ")");
+        }
+
+        JsonNode result = node;
+        for (int version = fromVersion; version < current; version++) {
+            UnaryOperator<ObjectNode> upcaster = schemas.get(type).upcasters().get(version);
+            if (upcaster == null || !result.isObject()) {
+                throw new SerializationException(
+                    "Cannot upcast " + name(type) + " from version " + version);
+            }
+            result = upcaster.apply(((ObjectNode) result).deepCopy());
+        }
+        return result;
+    }
+
+    private void register(Class<?> type, int version, Map<Integer, UnaryOperator<ObjectNode>> upcasters) {
+        schemas.put(type, new EventSchema(version, upcasters));
+    }
+
+    /**
+     * v1: {@code {feed: FeedResponse, likerId, createdAt}} → v2: {@code {feedId, feedAuthorId, likerId, createdAt}}
+     */
+    private static ObjectNode feedLikedV1ToV2(ObjectNode node) {
+        JsonNode feed = node.remove("feed");
+        if (feed != null) {
+            node.set("feedId", feed.get("id"));
+            node.set("feedAuthorId", feed.path("author").get("userId"));
+        }
+        return node;
+    }
+
+    private record EventSchema(int version, Map<Integer, UnaryOperator<ObjectNode>> upcasters) {
+
+    }
+}
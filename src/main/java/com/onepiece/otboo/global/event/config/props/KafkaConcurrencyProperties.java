@@ -0,0 +1,24 @@
+package com.onepiece.otboo.global.event.config.props;
+
+/**
+ * 리스너 컨테이너 팩토리별 소비 스레드 수. 파티션 수를 넘는 스레드는 할당받을 파티션이 없어 쉬게 됩니다.
+ *
+ * @param processing   알림 생성 (배치)
+ * @param subscription WebSocket 메시지 구독
+ * @param timeline     홈 타임라인 fan-out
+ * @param broadcast    인스턴스별 SSE 전송
+ */
+public record KafkaConcurrencyProperties(
+    Integer processing,
+    Integer subscription,
+    Integer timeline,
+    Integer broadcast
+) {
+
+    public KafkaConcurrencyProperties {
+        processing = processing == null ? 3 : processing;
+        subscription = subscription == null ? 3 : subscription;
+        timeline = timeline == null ? 3 : timeline;
+        broadcast = broadcast == null ? 1 : broadcast;
+    }
+}
@@ -0,0 +1,24 @@
+package com.onepiece.otboo.global.event.config.props;
+
+import com.onepiece.otboo.global.event.codec.EventFormat;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param eventFormat 생산자가 쓰는 이벤트 본문 형식. 소비자는 레코드 헤더를 보고 형식을 고릅니다.
+ */
+@ConfigurationProperties(prefix = "otboo.kafka")
+public record KafkaEventProperties(
+    EventFormat eventFormat,
+    KafkaTopicProperties topics,
+    KafkaConcurrencyProperties concurrency,
+    KafkaOutboxProperties outbox
+) {
+
+    public KafkaEventProperties {
+        eventFormat = eventFormat == null ? EventFormat.SMILE : eventFormat;
+        topics = topics == null ? new KafkaTopicProperties(null, null) : topics;
+        concurrency = concurrency == null
+            ? new KafkaConcurrencyProperties(null, null, null, null) : concurrency;
+        outbox = outbox == null ? new KafkaOutboxProperties(null, null, null, null, null, null, null) : outbox;
+    }
+}
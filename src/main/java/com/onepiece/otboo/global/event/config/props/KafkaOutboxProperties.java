@@ -0,0 +1,45 @@
+package com.onepiece.otboo.global.event.config.props;
+
+import java.time.Duration;
+
+/**
+ * 이벤트 outbox 릴레이 설정
+ *
+ * @param batchSize       한 번에 선점해 발행할 최대 행 수
+ * @param maxAttempts     브로커가 거절한 발행이 이만큼 쌓인 행은 FAILED로 남기고 더 이상 재시도하지 않습니다. 브로커에 닿지
+ *                        못한 실패(타임아웃, 연결 불가 등)는 세지 않습니다.
+ * @param sendTimeout     배치 전체의 Kafka 수신 확인을 기다리는 시간. 넘기면 브로커에 닿지 못한 것으로 보고 다시 대기시킵니다.
+ * @param leaseTimeout    선점한 행을 발행 중으로 잡아 두는 시간. {@code sendTimeout}보다 길어야 하며, 릴레이가 결과를
+ *                        반영하지 못하고 멈추면 이 시간이 지난 뒤 다른 릴레이가 다시 가져갑니다.
+ * @param retryBackoff    첫 재시도까지의 대기 시간. 실패가 이어질 때마다 두 배로 늘립니다.
+ * @param maxRetryBackoff 재시도 대기 시간의 상한
+ * @param retention       발행된 행을 지우기 전까지 보관하는 기간
+ */
+public record KafkaOutboxProperties(
+    Integer batchSize,
+    Integer maxAttempts,
+    Duration sendTimeout,
+    Duration leaseTimeout,
+    Duration retryBackoff,
+    Duration maxRetryBackoff,
+    Duration retention
+) {
+
+    public KafkaOutboxProperties {
+        batchSize = batchSize == null ? 500 : batchSize;
+        maxAttempts = maxAttempts == null ? 10 : maxAttempts;
+        sendTimeout = sendTimeout == null ? Duration.ofSeconds(10) : sendTimeout;
+        leaseTimeout = leaseTimeout == null ? Duration.ofMinutes(1) : leaseTimeout;
+        retryBackoff = retryBackoff == null ? Duration.ofSeconds(1) : retryBackoff;
+        maxRetryBackoff = maxRetryBackoff == null ? Duration.ofMinutes(5) : maxRetryBackoff;
+        retention = retention == null ? Duration.ofDays(1) : retention;
+    }
+
+    /**
+     * {@code failures}번 이어서 실패한 뒤의 재시도 대기 시간
+     */
+    public Duration backoff(int failures) {
+        Duration backoff = retryBackoff.multipliedBy(1L << Math.min(Math.max(failures, 0), 20));
+        return backoff.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : backoff;
+    }
+}
@@ -0,0 +1,19 @@
+package com.onepiece.otboo.global.event.config.props;
+
+/**
+ * 애플리케이션 시작 시 만드는 otboo.* 토픽(및 .DLT) 설정
+ *
+ * @param partitions 토픽별 파티션 수. 리스너 동시성의 상한이며, 늘리면 키와 파티션의 대응이 바뀌므로 한 번 정한 뒤에는
+ *                   트래픽이 적을 때만 늘립니다.
+ * @param replicas   복제 수. 운영 클러스터의 최소 복제 수 이상이어야 합니다.
+ */
+public record KafkaTopicProperties(
+    Integer partitions,
+    Integer replicas
+) {
+
+    public KafkaTopicProperties {
+        partitions = partitions == null ? 6 : partitions;
+        replicas = replicas == null ? 1 : replicas;
+    }
+}
@@ -0,0 +1,9 @@
+package com.onepiece.otboo.global.event.event;
+
+import com.onepiece.otboo.domain.notification.dto.response.NotificationResponse;
+
+public record BroadcastNotificationCreatedEvent(
+    NotificationResponse notification
+) {
+
+}
@@ -2,9 +2,11 @@ package com.onepiece.otboo.global.event.event;
 
 import com.onepiece.otboo.domain.comment.dto.response.CommentDto;
 import java.time.Instant;
+import java.util.UUID;
 
 public record FeedCommentCreatedEvent(
     CommentDto data,
+    UUID feedAuthorId,
     Instant createdAt
 ) {
 
@@ -0,0 +1,12 @@
+package com.onepiece.otboo.global.event.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record FeedDeletedEvent(
+    UUID feedId,
+    UUID authorId,
+    Instant createdAt
+) {
+
+}
@@ -1,13 +1,20 @@
 package com.onepiece.otboo.global.event.event;
 
-import com.onepiece.otboo.domain.feed.dto.response.FeedResponse;
 import java.time.Instant;
 import java.util.UUID;
 
+/**
+ * 피드 좋아요 이벤트 (스키마 v2)
+ * <p>
+ * 알림에 필요한 ID만 담습니다. v1은 피드 전체({@code FeedResponse})를 담았으며, 이전 레코드는
+ * {@link com.onepiece.otboo.global.event.codec.EventSchemaRegistry}가 v2로 변환합니다.
+ * </p>
+ */
 public record FeedLikedEvent(
-    FeedResponse feed,
+    UUID feedId,
+    UUID feedAuthorId,
     UUID likerId,
     Instant createdAt
 ) {
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,12 @@
+package com.onepiece.otboo.global.event.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record FeedUpdatedEvent(
+    UUID feedId,
+    String content,
+    Instant createdAt
+) {
+
+}
@@ -0,0 +1,12 @@
+package com.onepiece.otboo.global.event.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record FollowDeletedEvent(
+    UUID followerId,
+    UUID followingId,
+    Instant createdAt
+) {
+
+}
@@ -0,0 +1,25 @@
+package com.onepiece.otboo.global.event.event;
+
+import com.onepiece.otboo.domain.notification.dto.response.NotificationResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * @param notifications 생성된 알림
+ * @param eventIds      알림 ID별 SSE 기록 이벤트 ID. 커밋 직후의 애플리케이션 이벤트에는 아직 기록 전이라 비어 있고,
+ *                      SSE 전송 토픽으로 발행할 때 채워집니다.
+ */
+public record NotificationsCreatedEvent(
+    List<NotificationResponse> notifications,
+    Map<UUID, String> eventIds
+) {
+
+    public NotificationsCreatedEvent {
+        eventIds = eventIds == null ? Map.of() : eventIds;
+    }
+
+    public NotificationsCreatedEvent(List<NotificationResponse> notifications) {
+        this(notifications, Map.of());
+    }
+}
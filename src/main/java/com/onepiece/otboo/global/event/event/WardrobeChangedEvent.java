@@ -0,0 +1,11 @@
+package com.onepiece.otboo.global.event.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record WardrobeChangedEvent(
+    UUID ownerId,
+    Instant createdAt
+) {
+
+}
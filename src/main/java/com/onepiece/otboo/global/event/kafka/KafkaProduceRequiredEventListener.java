@@ -1,9 +1,7 @@
 package com.onepiece.otboo.global.event.kafka;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.onepiece.otboo.domain.notification.enums.AlertStatus;
 import com.onepiece.otboo.domain.weather.service.WeatherAlertOutboxService;
+import com.onepiece.otboo.global.event.codec.EventCodec;
 import com.onepiece.otboo.global.event.event.ClothesAttributeAddedEvent;
 import com.onepiece.otboo.global.event.event.DirectMessageCreatedEvent;
 import com.onepiece.otboo.global.event.event.FeedCommentCreatedEvent;
@@ -12,23 +10,37 @@ import com.onepiece.otboo.global.event.event.FeedLikedEvent;
 import com.onepiece.otboo.global.event.event.FollowCreatedEvent;
 import com.onepiece.otboo.global.event.event.RoleUpdatedEvent;
 import com.onepiece.otboo.global.event.event.WeatherChangeEvent;
+import com.onepiece.otboo.global.event.outbox.EventOutboxCommandRepository;
 import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.SerializationException;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+/**
+ * 도메인 이벤트를 Kafka 토픽으로 내보냅니다.
+ * <p>
+ * 일반 이벤트는 발행한 비즈니스 트랜잭션이 커밋되기 직전에 같은 트랜잭션으로 {@code event_outbox}에 기록하고,
+ * {@link com.onepiece.otboo.global.event.outbox.EventOutboxRelay}가 Kafka로 옮깁니다. 따라서 요청 처리 시간이 Kafka
+ * 상태에 좌우되지 않고, Kafka가 내려가 있어도 이벤트가 유실되지 않습니다. 날씨 알림은 배치가 자체 outbox
+ * ({@code weather_alert_outboxes})로 상태를 관리하므로 커밋 후 바로 보내고, ack는
+ * {@link WeatherAlertOutboxService}에 모아 한꺼번에 반영합니다.
+ * </p>
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class KafkaProduceRequiredEventListener {
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
-    private final ObjectMapper objectMapper;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final EventCodec eventCodec;
     private final WeatherAlertOutboxService outboxService;
+    private final EventOutboxCommandRepository eventOutboxRepository;
 
     private static final String TOPIC_PREFIX = "otboo.";
 
@@ -37,81 +49,77 @@ public class KafkaProduceRequiredEventListener {
         send(event);
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
     public void on(DirectMessageCreatedEvent event) {
         send(event);
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
     public void on(ClothesAttributeAddedEvent event) {
         send(event);
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
     public void on(FeedCommentCreatedEvent event) {
         send(event);
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
     public void on(FeedLikedEvent event) {
         send(event);
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
     public void on(FollowCreatedEvent event) {
         send(event);
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
     public void on(FeedCreatedEvent event) {
         send(event);
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
     public void on(RoleUpdatedEvent event) {
         send(event);
     }
 
 
-    // 일반적인 이벤트 처리
+    // 일반적인 이벤트 처리: 현재 트랜잭션의 outbox에 기록
     private void send(Object event) {
-        try {
-            String topic = TOPIC_PREFIX + event.getClass().getSimpleName();
-            String payload = objectMapper.writeValueAsString(event);
+        String topic = TOPIC_PREFIX + event.getClass().getSimpleName();
+        ProducerRecord<String, byte[]> record = eventCodec.encode(topic, event);
 
-            log.debug("[KafkaProduceRequiredEventListener] 이벤트 발행 - topic: {} payload: {}",
-                topic, payload);
+        log.debug("[KafkaProduceRequiredEventListener] outbox 기록 - topic: {} bytes: {}",
+            topic, record.value().length);
 
-            kafkaTemplate.send(topic, payload);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
-        }
+        eventOutboxRepository.insert(record);
     }
 
     // 날씨 변화 이벤트 처리
     private void send(WeatherChangeEvent event) {
         final String topic = TOPIC_PREFIX + WeatherChangeEvent.class.getSimpleName();
-        final String payload;
+        final ProducerRecord<String, byte[]> record;
 
         try {
-            payload = objectMapper.writeValueAsString(event);
-        } catch (JsonProcessingException e) {
-            outboxService.updateStatus(event.outboxId(), AlertStatus.FAILED);
+            record = eventCodec.encode(topic, event);
+        } catch (SerializationException e) {
+            outboxService.recordFailed(event.outboxId());
             log.error("[KafkaProducer] 직렬화 오류 - outboxId={}, topic={}", event.outboxId(), topic, e);
             return;
         }
 
-        log.debug("[KafkaProducer] 발행 요청 - topic: {}, payload: {}", topic, payload);
+        log.debug("[KafkaProducer] 발행 요청 - topic: {}, bytes: {}", topic, record.value().length);
 
-        CompletableFuture<SendResult<String, String>> future = kafkaTemplate.send(topic, payload);
+        CompletableFuture<SendResult<String, byte[]>> future = kafkaTemplate.send(record);
 
         future.whenComplete((result, ex) -> {
             if (ex == null) {
-                outboxService.updateStatus(event.outboxId(), AlertStatus.SEND);
+                outboxService.recordSent(event.outboxId());
                 log.info("[Kafka] 발행 성공 - outboxId={}, topic={}, offset={}",
                     event.outboxId(), topic, result.getRecordMetadata().offset());
             } else {
-                outboxService.updateStatus(event.outboxId(), AlertStatus.FAILED);
+                outboxService.recordFailed(event.outboxId());
                 log.error("[Kafka] 발행 실패 - outboxId={}, topic={}, cause={}",
                     event.outboxId(), topic, ex.getMessage(), ex);
             }
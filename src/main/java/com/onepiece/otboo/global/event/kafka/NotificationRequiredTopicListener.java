@@ -1,17 +1,16 @@
 package com.onepiece.otboo.global.event.kafka;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.onepiece.otboo.domain.feed.entity.Feed;
 import com.onepiece.otboo.domain.feed.repository.FeedRepository;
 import com.onepiece.otboo.domain.follow.repository.FollowRepository;
+import com.onepiece.otboo.domain.notification.dto.data.NotificationDraft;
 import com.onepiece.otboo.domain.notification.enums.Level;
+import com.onepiece.otboo.domain.notification.repository.NotificationBulkRepository;
 import com.onepiece.otboo.domain.notification.service.NotificationService;
 import com.onepiece.otboo.domain.profile.entity.Profile;
 import com.onepiece.otboo.domain.profile.exception.ProfileNotFoundException;
 import com.onepiece.otboo.domain.profile.repository.ProfileRepository;
-import com.onepiece.otboo.domain.user.entity.User;
-import com.onepiece.otboo.domain.user.repository.UserRepository;
+import com.onepiece.otboo.global.event.codec.EventCodec;
 import com.onepiece.otboo.global.event.event.ClothesAttributeAddedEvent;
 import com.onepiece.otboo.global.event.event.DirectMessageCreatedEvent;
 import com.onepiece.otboo.global.event.event.FeedCommentCreatedEvent;
@@ -20,178 +19,184 @@ import com.onepiece.otboo.global.event.event.FeedLikedEvent;
 import com.onepiece.otboo.global.event.event.FollowCreatedEvent;
 import com.onepiece.otboo.global.event.event.RoleUpdatedEvent;
 import com.onepiece.otboo.global.event.event.WeatherChangeEvent;
+import com.onepiece.otboo.global.util.KeysetIdStreamer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.errors.SerializationException;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
+/**
+ * 알림 생성이 필요한 이벤트를 poll 단위로 모아 처리하는 리스너
+ * <p>
+ * 토픽마다 poll 한 번에 받은 레코드를 파싱하고, 필요한 프로필/피드를 {@code IN} 조회 한 번으로 가져온 뒤, 만든 알림을
+ * 한 트랜잭션에 저장합니다. 같은 알림은 하나로 합치고, 좋아요는 수신자별로 묶어 "OO님 외 N명" 알림 하나로 만듭니다.
+ * </p>
+ * <p>
+ * 레코드 하나가 파싱/처리에 실패하면 그 앞 레코드의 알림까지만 저장하고 {@link BatchListenerFailedException}으로 실패
+ * 위치를 알립니다. 에러 핸들러는 앞선 오프셋을 커밋하고 실패한 레코드만 재시도한 뒤 {@code .DLT}로 보냅니다.
+ * </p>
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class NotificationRequiredTopicListener {
 
-    private final ObjectMapper objectMapper;
+    private final EventCodec eventCodec;
     private final NotificationService notificationService;
     private final ProfileRepository profileRepository;
     private final FeedRepository feedRepository;
     private final FollowRepository followRepository;
-    private final UserRepository userRepository;
 
 
     @KafkaListener(
         topics = "otboo.WeatherChangeEvent",
-        containerFactory = "processingKafkaListenerContainerFactory"
+        containerFactory = "processingBatchKafkaListenerContainerFactory"
     )
-    public void onWeatherChanged(String kafkaEvent, Acknowledgment ack) {
-        handle(
-            kafkaEvent, ack,
+    public void onWeatherChanged(List<ConsumerRecord<String, byte[]>> records, Acknowledgment ack) {
+        handleBatch(
+            records, ack,
             "WeatherChangeEvent",
             WeatherChangeEvent.class,
-            event -> {
-                UUID userId = event.userId();
-                String title = event.title();
-                String content = event.message();
-
-                notificationService.create(Set.of(userId), title, content, Level.INFO);
-                log.debug("[NotificationRequiredTopicListener] 날씨 변화 알림 생성 완료 - userId: {}",
-                    userId);
-            }
+            events -> perEvent(event -> List.of(
+                new NotificationDraft(event.userId(), event.title(), event.message(), Level.INFO)))
         );
     }
 
     @KafkaListener(
         topics = "otboo.DirectMessageCreatedEvent",
-        containerFactory = "processingKafkaListenerContainerFactory"
+        containerFactory = "processingBatchKafkaListenerContainerFactory"
     )
-    public void onDirectMessageCreated(String kafkaEvent, Acknowledgment ack) {
-        handle(
-            kafkaEvent, ack,
+    public void onDirectMessageCreated(List<ConsumerRecord<String, byte[]>> records,
+        Acknowledgment ack) {
+        handleBatch(
+            records, ack,
             "DirectMessageCreatedEvent",
             DirectMessageCreatedEvent.class,
-            event -> {
-                UUID senderId = event.data().sender().userId();
-                UUID receiverId = event.data().receiver().userId();
-
-                Profile sender = findProfile(senderId);
-                Profile receiver = findProfile(receiverId);
-
-                String title = sender.getNickname() + "님으로부터 메시지가 왔습니다.";
-                String content = event.data().content();
-
-                notificationService.create(Set.of(receiverId), title, content, Level.INFO);
-                log.debug(
-                    "[NotificationRequiredTopicListener] DM 이벤트 처리 - sender: {}, receiver: {}",
-                    sender.getNickname(), receiver.getNickname());
+            events -> {
+                Set<UUID> userIds = new HashSet<>();
+                for (DirectMessageCreatedEvent event : events) {
+                    userIds.add(event.data().sender().userId());
+                    userIds.add(event.data().receiver().userId());
+                }
+                Map<UUID, String> nicknames = nicknames(userIds);
+
+                return perEvent(event -> {
+                    UUID receiverId = event.data().receiver().userId();
+                    String sender = nickname(nicknames, event.data().sender().userId());
+                    nickname(nicknames, receiverId);
+
+                    return List.of(new NotificationDraft(
+                        receiverId,
+                        sender + "님으로부터 메시지가 왔습니다.",
+                        event.data().content(),
+                        Level.INFO
+                    ));
+                });
             }
         );
     }
 
     @KafkaListener(
         topics = "otboo.ClothesAttributeAddedEvent",
-        containerFactory = "processingKafkaListenerContainerFactory"
+        containerFactory = "processingBatchKafkaListenerContainerFactory"
     )
-    public void onClothesAttributeAdded(String kafkaEvent, Acknowledgment ack) {
-        handle(kafkaEvent, ack, "ClothesAttributeAddedEvent", ClothesAttributeAddedEvent.class,
-            event -> {
+    public void onClothesAttributeAdded(List<ConsumerRecord<String, byte[]>> records,
+        Acknowledgment ack) {
+        handleBatch(records, ack, "ClothesAttributeAddedEvent", ClothesAttributeAddedEvent.class,
+            events -> sideEffect(event -> {
                 String attributeName = event.data().name();
 
-                Set<UUID> allUserIds = userRepository.findAll()
-                    .stream()
-                    .map(User::getId)
-                    .collect(Collectors.toSet());
-
-                notificationService.create(
-                    allUserIds,
+                notificationService.broadcast(
                     "의상 속성 추가",
                     "새로운 의상 속성이 추가되었습니다: " + attributeName,
                     Level.INFO
                 );
 
                 log.debug(
-                    "[NotificationRequiredTopicListener] ClothesAttributeAddedEvent 처리 완료 - 전체 사용자 수: {}",
-                    allUserIds.size());
-            });
+                    "[NotificationRequiredTopicListener] ClothesAttributeAddedEvent 처리 완료 - 속성: {}",
+                    attributeName);
+            }));
     }
 
 
     @KafkaListener(
         topics = "otboo.FeedCommentCreatedEvent",
-        containerFactory = "processingKafkaListenerContainerFactory"
+        containerFactory = "processingBatchKafkaListenerContainerFactory"
     )
-    public void onFeedCommentCreated(String kafkaEvent, Acknowledgment ack) {
-        handle(
-            kafkaEvent, ack,
+    public void onFeedCommentCreated(List<ConsumerRecord<String, byte[]>> records,
+        Acknowledgment ack) {
+        handleBatch(
+            records, ack,
             "FeedCommentCreatedEvent",
             FeedCommentCreatedEvent.class,
-            event -> {
-                var dto = event.data();
-
-                UUID feedId = dto.feedId();
-                UUID commentAuthorId = dto.author().userId();
-
-                Feed feed = feedRepository.findById(feedId)
-                    .orElseThrow(() -> new IllegalArgumentException("Feed not found: " + feedId));
-                UUID feedAuthorId = feed.getAuthorId();
-
-                if (commentAuthorId.equals(feedAuthorId)) {
-                    log.debug("[NotificationRequiredTopicListener] 자기 피드 댓글, 알림 생략 - userId={}",
-                        feedAuthorId);
-                    return;
+            events -> {
+                // 작성자 ID가 없는 이전 레코드만 피드를 조회
+                Set<UUID> feedIds = new HashSet<>();
+                events.stream()
+                    .filter(event -> event.feedAuthorId() == null)
+                    .forEach(event -> feedIds.add(event.data().feedId()));
+                Map<UUID, UUID> feedAuthors = new HashMap<>();
+                if (!feedIds.isEmpty()) {
+                    for (Feed feed : feedRepository.findAllById(feedIds)) {
+                        feedAuthors.put(feed.getId(), feed.getAuthorId());
+                    }
                 }
 
-                notificationService.create(
-                    Set.of(feedAuthorId),
-                    "새 댓글",
-                    dto.author().name() + "님이 당신의 피드에 댓글을 남겼습니다.",
-                    Level.INFO
-                );
-
-                log.debug(
-                    "[NotificationRequiredTopicListener] FeedCommentCreatedEvent 처리 완료 - feedAuthorId={}, commenter={}",
-                    feedAuthorId, dto.author().name());
+                return perEvent(event -> {
+                    var dto = event.data();
+                    UUID feedId = dto.feedId();
+                    UUID feedAuthorId = event.feedAuthorId() != null
+                        ? event.feedAuthorId() : feedAuthors.get(feedId);
+                    if (feedAuthorId == null) {
+                        throw new IllegalArgumentException("Feed not found: " + feedId);
+                    }
+
+                    if (dto.author().userId().equals(feedAuthorId)) {
+                        log.debug("[NotificationRequiredTopicListener] 자기 피드 댓글, 알림 생략 - userId={}",
+                            feedAuthorId);
+                        return List.of();
+                    }
+
+                    return List.of(new NotificationDraft(
+                        feedAuthorId,
+                        "새 댓글",
+                        dto.author().name() + "님이 당신의 피드에 댓글을 남겼습니다.",
+                        Level.INFO
+                    ));
+                });
             }
         );
     }
 
     @KafkaListener(
         topics = "otboo.FeedLikedEvent",
-        containerFactory = "processingKafkaListenerContainerFactory"
+        containerFactory = "processingBatchKafkaListenerContainerFactory"
     )
-    public void onFeedLiked(String kafkaEvent, Acknowledgment ack) {
-        handle(
-            kafkaEvent, ack,
+    public void onFeedLiked(List<ConsumerRecord<String, byte[]>> records, Acknowledgment ack) {
+        handleBatch(
+            records, ack,
             "FeedLikedEvent",
             FeedLikedEvent.class,
-            event -> {
-                var feed = event.feed();
-                UUID likerId = event.likerId();
-
-                UUID feedAuthorId = feed.author().userId();
-                String feedAuthorName = feed.author().name();
-
-                if (likerId.equals(feedAuthorId)) {
-                    log.debug("[NotificationRequiredTopicListener] 자기 피드 좋아요, 알림 생략 - userId={}",
-                        feedAuthorId);
-                    return;
-                }
-
-                Profile liker = findProfile(likerId);
-
-                notificationService.create(
-                    Set.of(feedAuthorId),
-                    "피드 좋아요",
-                    liker.getNickname() + "님이 당신의 피드를 좋아했습니다.",
-                    Level.INFO
-                );
-
-                log.debug(
-                    "[NotificationRequiredTopicListener] FeedLikedEvent 처리 완료 - feedAuthorName={}, liker={}",
-                    feedAuthorName, liker.getNickname());
+            events -> {
+                Set<UUID> likerIds = new HashSet<>();
+                events.forEach(event -> likerIds.add(event.likerId()));
+                return new FeedLikePlan(nicknames(likerIds));
             }
         );
     }
@@ -199,128 +204,253 @@ public class NotificationRequiredTopicListener {
 
     @KafkaListener(
         topics = "otboo.FollowCreatedEvent",
-        containerFactory = "processingKafkaListenerContainerFactory"
+        containerFactory = "processingBatchKafkaListenerContainerFactory"
     )
-    public void onFollowCreated(String kafkaEvent, Acknowledgment ack) {
-        handle(
-            kafkaEvent, ack,
+    public void onFollowCreated(List<ConsumerRecord<String, byte[]>> records, Acknowledgment ack) {
+        handleBatch(
+            records, ack,
             "FollowCreatedEvent",
             FollowCreatedEvent.class,
-            event -> {
+            events -> perEvent(event -> {
                 var dto = event.data();
 
-                UUID followerId = dto.follower().userId();
-                UUID followeeId = dto.followee().userId();
-                String followerName = dto.follower().name();
-
-                notificationService.create(
-                    Set.of(followeeId),
+                return List.of(new NotificationDraft(
+                    dto.followee().userId(),
                     "새로운 팔로워",
-                    followerName + "님이 당신을 팔로우했습니다.",
+                    dto.follower().name() + "님이 당신을 팔로우했습니다.",
                     Level.INFO
-                );
-
-                log.debug(
-                    "[NotificationRequiredTopicListener] FollowCreatedEvent 처리 완료 - followerId={}, followeeId={}",
-                    followerId, followeeId);
-            }
+                ));
+            })
         );
     }
 
     @KafkaListener(
         topics = "otboo.FeedCreatedEvent",
-        containerFactory = "processingKafkaListenerContainerFactory"
+        containerFactory = "processingBatchKafkaListenerContainerFactory"
     )
-    public void onFeedCreated(String kafkaEvent, Acknowledgment ack) {
-        handle(
-            kafkaEvent, ack,
+    public void onFeedCreated(List<ConsumerRecord<String, byte[]>> records, Acknowledgment ack) {
+        handleBatch(
+            records, ack,
             "FeedCreatedEvent",
             FeedCreatedEvent.class,
-            event -> {
+            events -> sideEffect(event -> {
                 var dto = event.data();
 
                 UUID authorId = dto.author().userId();
                 String authorName = dto.author().name();
 
-                var followers = followRepository.findAllByFollowingId(authorId);
-                if (followers.isEmpty()) {
-                    log.debug("[NotificationRequiredTopicListener] 팔로워 없음, 알림 생략 - authorId={}",
-                        authorId);
-                    return;
-                }
-
-                Set<UUID> receiverIds = followers.stream()
-                    .map(f -> f.getFollower().getId())
-                    .collect(java.util.stream.Collectors.toSet());
-
-                notificationService.create(
-                    receiverIds,
-                    "새로운 피드 등록",
-                    authorName + "님이 새로운 피드를 올렸습니다.",
-                    Level.INFO
+                // 팔로워 ID를 배치 단위로 나눠 읽고 배치마다 알림을 저장해 메모리 사용량을 팔로워 수와 무관하게 유지.
+                // 배치마다 커밋되므로 중간에 실패해 레코드가 재시도되면 앞 배치가 다시 들어오며, 알림 ID를
+                // (피드 ID, 팔로워 ID)로 정해 이미 저장된 팔로워는 건너뜀
+                long followerCount = KeysetIdStreamer.forEachBatch(
+                    NotificationBulkRepository.BATCH_SIZE,
+                    (afterId, limit) -> followRepository.findFollowerIdsAfter(authorId, afterId, limit),
+                    followerIds -> notificationService.createOnce(
+                        dto.id(),
+                        new HashSet<>(followerIds),
+                        "새로운 피드 등록",
+                        authorName + "님이 새로운 피드를 올렸습니다.",
+                        Level.INFO
+                    )
                 );
 
                 log.debug(
                     "[NotificationRequiredTopicListener] FeedCreatedEvent 처리 완료 - author={}, followerCount={}",
-                    authorName, receiverIds.size());
-            }
+                    authorName, followerCount);
+            })
         );
     }
 
     @KafkaListener(
         topics = "otboo.RoleUpdatedEvent",
-        containerFactory = "processingKafkaListenerContainerFactory"
+        containerFactory = "processingBatchKafkaListenerContainerFactory"
     )
-    public void onRoleUpdated(String kafkaEvent, Acknowledgment ack) {
-        handle(
-            kafkaEvent, ack,
+    public void onRoleUpdated(List<ConsumerRecord<String, byte[]>> records, Acknowledgment ack) {
+        handleBatch(
+            records, ack,
             "RoleUpdatedEvent",
             RoleUpdatedEvent.class,
-            event -> {
+            events -> perEvent(event -> {
                 var dto = event.data();
 
-                UUID userId = dto.id();
-                String newRole = dto.role().name();
-
-                notificationService.create(
-                    Set.of(userId),
+                return List.of(new NotificationDraft(
+                    dto.id(),
                     "권한 변경",
-                    "당신의 권한이 '" + newRole + "'로 변경되었습니다.",
+                    "당신의 권한이 '" + dto.role().name() + "'로 변경되었습니다.",
                     Level.WARNING
-                );
-
-                log.debug(
-                    "[NotificationRequiredTopicListener] RoleUpdatedEvent 처리 완료 - userId={}, newRole={}",
-                    userId, newRole);
-            }
+                ));
+            })
         );
     }
 
 
-    private <T> void handle(
-        String kafkaEvent,
+    /**
+     * 레코드를 순서대로 파싱/처리하고, 처리된 레코드의 알림을 한 번에 저장합니다.
+     *
+     * @param planner 파싱된 이벤트 전체를 보고 필요한 데이터를 미리 조회한 뒤 처리 계획을 만듭니다.
+     */
+    private <T> void handleBatch(
+        List<ConsumerRecord<String, byte[]>> records,
         Acknowledgment ack,
         String eventName,
         Class<T> type,
-        Consumer<T> handler
+        Function<List<T>, BatchPlan<T>> planner
     ) {
-        try {
-            T event = objectMapper.readValue(kafkaEvent, type);
-            handler.accept(event);
-            ack.acknowledge();
-        } catch (JsonProcessingException e) {
-            log.error("[NotificationRequiredTopicListener] JSON 파싱 실패 ({}) - kafkaEvent: {}",
-                eventName, kafkaEvent, e);
-            throw new RuntimeException("Failed to parse " + eventName + " from Kafka message", e);
-        } catch (Exception e) {
-            log.error("[NotificationRequiredTopicListener] 처리 중 오류 발생 ({}) - kafkaEvent: {}",
-                eventName, kafkaEvent, e);
-            throw e;
+        BatchListenerFailedException failure = null;
+
+        List<T> events = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, byte[]> record : records) {
+            try {
+                events.add(eventCodec.decode(record, type));
+            } catch (SerializationException e) {
+                log.error("[NotificationRequiredTopicListener] 역직렬화 실패 ({}) - offset: {}",
+                    eventName, record.offset(), e);
+                failure = new BatchListenerFailedException(
+                    "Failed to parse " + eventName + " from Kafka message", e, events.size());
+                break;
+            }
         }
+
+        List<NotificationDraft> drafts = List.of();
+        if (!events.isEmpty()) {
+            BatchPlan<T> plan = planner.apply(events);
+            for (int i = 0; i < events.size(); i++) {
+                try {
+                    plan.add(events.get(i));
+                } catch (Exception e) {
+                    log.error("[NotificationRequiredTopicListener] 처리 중 오류 발생 ({}) - offset: {}",
+                        eventName, records.get(i).offset(), e);
+                    failure = new BatchListenerFailedException(
+                        "Failed to handle " + eventName + " from Kafka message", e, i);
+                    break;
+                }
+            }
+            drafts = plan.drafts();
+        }
+
+        // 실패 지점 앞 레코드의 알림은 먼저 저장해야, 에러 핸들러가 그 오프셋을 커밋해도 알림이 유실되지 않음
+        if (!drafts.isEmpty()) {
+            notificationService.createAll(drafts);
+        }
+        if (failure != null) {
+            throw failure;
+        }
+
+        ack.acknowledge();
+        log.debug("[NotificationRequiredTopicListener] {} 배치 처리 완료 - records: {}, notifications: {}",
+            eventName, records.size(), drafts.size());
+    }
+
+    private Map<UUID, String> nicknames(Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<UUID, String> nicknames = new HashMap<>();
+        for (Profile profile : profileRepository.findAllByUserIdIn(userIds)) {
+            nicknames.put(profile.getUser().getId(), profile.getNickname());
+        }
+        return nicknames;
+    }
+
+    private static String nickname(Map<UUID, String> nicknames, UUID userId) {
+        String nickname = nicknames.get(userId);
+        if (nickname == null) {
+            throw new ProfileNotFoundException(userId);
+        }
+        return nickname;
+    }
+
+    /**
+     * 배치 하나의 처리 계획. {@link #add}는 레코드 순서대로 호출되며, 예외가 나면 그 레코드부터 재시도/DLT 대상이 됩니다.
+     */
+    private interface BatchPlan<T> {
+
+        void add(T event);
+
+        List<NotificationDraft> drafts();
+    }
+
+    /**
+     * 이벤트마다 알림을 만들고, 같은 수신자/내용의 알림이 반복되면 하나만 남깁니다.
+     */
+    private static <T> BatchPlan<T> perEvent(Function<T, List<NotificationDraft>> mapper) {
+        Set<NotificationDraft> drafts = new LinkedHashSet<>();
+        return new BatchPlan<>() {
+            @Override
+            public void add(T event) {
+                drafts.addAll(mapper.apply(event));
+            }
+
+            @Override
+            public List<NotificationDraft> drafts() {
+                return List.copyOf(drafts);
+            }
+        };
     }
 
-    private Profile findProfile(UUID userId) {
-        return profileRepository.findByUserId(userId)
-            .orElseThrow(() -> new ProfileNotFoundException(userId));
+    /**
+     * 알림을 직접 저장하는 이벤트(전체 알림, 팔로워 fan-out)는 레코드마다 바로 처리합니다.
+     */
+    private static <T> BatchPlan<T> sideEffect(Consumer<T> handler) {
+        return new BatchPlan<>() {
+            @Override
+            public void add(T event) {
+                handler.accept(event);
+            }
+
+            @Override
+            public List<NotificationDraft> drafts() {
+                return List.of();
+            }
+        };
+    }
+
+    /**
+     * 좋아요 알림을 피드 작성자별로 묶습니다. 같은 사용자의 반복 좋아요는 한 번으로 셉니다.
+     */
+    private static final class FeedLikePlan implements BatchPlan<FeedLikedEvent> {
+
+        private final Map<UUID, String> nicknames;
+        private final Map<UUID, Map<UUID, String>> likersByAuthor = new LinkedHashMap<>();
+
+        private FeedLikePlan(Map<UUID, String> nicknames) {
+            this.nicknames = nicknames;
+        }
+
+        @Override
+        public void add(FeedLikedEvent event) {
+            UUID likerId = event.likerId();
+            UUID feedAuthorId = event.feedAuthorId();
+
+            if (likerId.equals(feedAuthorId)) {
+                log.debug("[NotificationRequiredTopicListener] 자기 피드 좋아요, 알림 생략 - userId={}",
+                    feedAuthorId);
+                return;
+            }
+
+            String liker = nickname(nicknames, likerId);
+            likersByAuthor.computeIfAbsent(feedAuthorId, k -> new LinkedHashMap<>())
+                .putIfAbsent(likerId, liker);
+        }
+
+        @Override
+        public List<NotificationDraft> drafts() {
+            List<NotificationDraft> drafts = new ArrayList<>(likersByAuthor.size());
+            likersByAuthor.forEach((feedAuthorId, likers) -> {
+                String first = likers.values().iterator().next();
+                String who = likers.size() == 1
+                    ? first + "님이"
+                    : first + "님 외 " + (likers.size() - 1) + "명이";
+
+                drafts.add(new NotificationDraft(
+                    feedAuthorId,
+                    "피드 좋아요",
+                    who + " 당신의 피드를 좋아했습니다.",
+                    Level.INFO
+                ));
+            });
+            return drafts;
+        }
     }
 }
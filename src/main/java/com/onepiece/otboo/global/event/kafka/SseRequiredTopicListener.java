@@ -0,0 +1,91 @@
+package com.onepiece.otboo.global.event.kafka;
+
+import static com.onepiece.otboo.global.event.listener.NotificationSseEventListener.EVENT_NAME;
+
+import com.onepiece.otboo.domain.notification.dto.response.NotificationResponse;
+import com.onepiece.otboo.global.event.codec.EventCodec;
+import com.onepiece.otboo.global.event.event.BroadcastNotificationCreatedEvent;
+import com.onepiece.otboo.global.event.event.NotificationsCreatedEvent;
+import com.onepiece.otboo.global.sse.SseEmitterRepository;
+import com.onepiece.otboo.global.sse.SseService;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.errors.SerializationException;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모든 인스턴스가 각자의 그룹으로 구독하여, 자신에게 연결된 사용자에게만 SSE를 전송합니다. 이벤트 기록은 발행 측에서 끝났으므로
+ * 여기서는 전달받은 이벤트 ID를 붙여 보내기만 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseRequiredTopicListener {
+
+    private final EventCodec eventCodec;
+    private final SseService sseService;
+    private final SseEmitterRepository emitterRepository;
+
+    @KafkaListener(
+        topics = "otboo.NotificationsCreatedEvent",
+        containerFactory = "broadcastKafkaListenerContainerFactory"
+    )
+    public void onNotificationsCreated(ConsumerRecord<String, byte[]> record, Acknowledgment ack) {
+        NotificationsCreatedEvent event = read(record, NotificationsCreatedEvent.class);
+
+        int sent = 0;
+        for (NotificationResponse notification : event.notifications()) {
+            if (sseService.isConnected(notification.getReceiverId())) {
+                send(notification.getReceiverId(), notification,
+                    event.eventIds().get(notification.getId()));
+                sent++;
+            }
+        }
+        ack.acknowledge();
+        log.debug("[SseRequiredTopicListener] SSE 전송 - total={}, local={}",
+            event.notifications().size(), sent);
+    }
+
+    @KafkaListener(
+        topics = "otboo.BroadcastNotificationCreatedEvent",
+        containerFactory = "broadcastKafkaListenerContainerFactory"
+    )
+    public void onBroadcastNotificationCreated(ConsumerRecord<String, byte[]> record,
+        Acknowledgment ack) {
+        BroadcastNotificationCreatedEvent event =
+            read(record, BroadcastNotificationCreatedEvent.class);
+
+        // 전체 알림은 수신자 행이 없으므로 연결된 사용자마다 수신자를 채워 전송
+        int sent = 0;
+        for (UUID userId : emitterRepository.getAllUserIds()) {
+            send(userId, event.notification().toBuilder().receiverId(userId).build(), null);
+            sent++;
+        }
+        ack.acknowledge();
+        log.debug("[SseRequiredTopicListener] 전체 알림 SSE 전송 - id={}, local={}",
+            event.notification().getId(), sent);
+    }
+
+    private void send(UUID userId, NotificationResponse notification, String eventId) {
+        try {
+            sseService.send(userId, EVENT_NAME, notification, eventId);
+        } catch (Exception e) {
+            log.warn("[SseRequiredTopicListener] SSE 전송 실패 - receiverId={}, 이유={}",
+                userId, e.getMessage());
+        }
+    }
+
+    private <T> T read(ConsumerRecord<String, byte[]> record, Class<T> type) {
+        try {
+            return eventCodec.decode(record, type);
+        } catch (SerializationException e) {
+            log.error("[SseRequiredTopicListener] 역직렬화 실패 ({}) - offset: {}",
+                type.getSimpleName(), record.offset(), e);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.onepiece.otboo.global.event.kafka;
+
+import com.onepiece.otboo.domain.feed.dto.response.FeedResponse;
+import com.onepiece.otboo.domain.feed.service.HomeTimelineService;
+import com.onepiece.otboo.global.event.codec.EventCodec;
+import com.onepiece.otboo.global.event.event.FeedCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.errors.SerializationException;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TimelineRequiredTopicListener {
+
+    private final EventCodec eventCodec;
+    private final HomeTimelineService homeTimelineService;
+
+    @KafkaListener(
+        topics = "otboo.FeedCreatedEvent",
+        containerFactory = "timelineKafkaListenerContainerFactory"
+    )
+    public void onFeedCreated(ConsumerRecord<String, byte[]> record, Acknowledgment ack) {
+        try {
+            FeedCreatedEvent event = eventCodec.decode(record, FeedCreatedEvent.class);
+            FeedResponse feed = event.data();
+
+            homeTimelineService.fanOut(feed.id(), feed.author().userId(), feed.createdAt());
+            ack.acknowledge();
+        } catch (SerializationException e) {
+            log.error("[TimelineRequiredTopicListener] 역직렬화 실패 - offset: {}", record.offset(), e);
+            throw e;
+        }
+    }
+}
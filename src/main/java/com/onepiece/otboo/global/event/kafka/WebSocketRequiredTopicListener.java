@@ -1,11 +1,12 @@
 package com.onepiece.otboo.global.event.kafka;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onepiece.otboo.global.event.codec.EventCodec;
 import com.onepiece.otboo.global.event.event.DirectMessageCreatedEvent;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.errors.SerializationException;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
@@ -15,16 +16,16 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class WebSocketRequiredTopicListener {
 
-    private final ObjectMapper objectMapper;
+    private final EventCodec eventCodec;
     private final SimpMessagingTemplate messagingTemplate;
 
     @KafkaListener(
         topics = "otboo.DirectMessageCreatedEvent",
         containerFactory = "subscriptionKafkaListenerContainerFactory"
     )
-    public void receiveDirectMessage(String kafkaEvent) {
+    public void receiveDirectMessage(ConsumerRecord<String, byte[]> record) {
         try {
-            DirectMessageCreatedEvent event = objectMapper.readValue(kafkaEvent,
+            DirectMessageCreatedEvent event = eventCodec.decode(record,
                 DirectMessageCreatedEvent.class);
 
             UUID senderId = event.data().sender().userId();
@@ -32,9 +33,9 @@ public class WebSocketRequiredTopicListener {
 
             String destination = buildSubPath(senderId, receiverId);
             messagingTemplate.convertAndSend(destination, event.data());
-        } catch (JsonProcessingException e) {
+        } catch (SerializationException e) {
             log.warn("[WebSocketRequiredTopicListener] 변환 실패: {}", e.getMessage());
-            throw new RuntimeException(e);
+            throw e;
         }
     }
 
@@ -0,0 +1,39 @@
+package com.onepiece.otboo.global.event.listener;
+
+import com.onepiece.otboo.domain.feed.search.FeedSearchBackend;
+import com.onepiece.otboo.global.event.event.FeedCreatedEvent;
+import com.onepiece.otboo.global.event.event.FeedDeletedEvent;
+import com.onepiece.otboo.global.event.event.FeedUpdatedEvent;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 피드 작성/수정/삭제를 검색 백엔드 색인에 반영합니다. DB 인덱스를 쓰는 백엔드에서는 아무 일도 하지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FeedSearchIndexEventListener {
+
+    private final List<FeedSearchBackend> searchBackends;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(FeedCreatedEvent event) {
+        if (event.data() == null) {
+            return;
+        }
+        searchBackends.forEach(b -> b.index(event.data().id(), event.data().content()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(FeedUpdatedEvent event) {
+        searchBackends.forEach(b -> b.index(event.feedId(), event.content()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(FeedDeletedEvent event) {
+        searchBackends.forEach(b -> b.remove(event.feedId()));
+    }
+}
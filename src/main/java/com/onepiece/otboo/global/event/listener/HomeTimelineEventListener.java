@@ -0,0 +1,43 @@
+package com.onepiece.otboo.global.event.listener;
+
+import com.onepiece.otboo.domain.feed.service.HomeTimelineService;
+import com.onepiece.otboo.global.event.event.FollowCreatedEvent;
+import com.onepiece.otboo.global.event.event.FollowDeletedEvent;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 팔로우/언팔로우 시 팔로워의 홈 타임라인을 비워 다음 조회에서 바뀐 팔로잉 기준으로 다시 채우게 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HomeTimelineEventListener {
+
+    private final HomeTimelineService homeTimelineService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(FollowCreatedEvent event) {
+        if (event.data() == null || event.data().follower() == null) {
+            return;
+        }
+        invalidate(event.data().follower().userId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(FollowDeletedEvent event) {
+        invalidate(event.followerId());
+    }
+
+    private void invalidate(UUID followerId) {
+        try {
+            homeTimelineService.invalidate(followerId);
+        } catch (Exception e) {
+            log.warn("[HomeTimelineEventListener] 타임라인 무효화 실패 - userId: {}", followerId, e);
+        }
+    }
+}
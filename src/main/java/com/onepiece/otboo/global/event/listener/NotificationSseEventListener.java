@@ -0,0 +1,116 @@
+package com.onepiece.otboo.global.event.listener;
+
+import com.onepiece.otboo.domain.notification.dto.response.NotificationResponse;
+import com.onepiece.otboo.global.event.codec.EventCodec;
+import com.onepiece.otboo.global.event.event.BroadcastNotificationCreatedEvent;
+import com.onepiece.otboo.global.event.event.NotificationsCreatedEvent;
+import com.onepiece.otboo.global.sse.SseEventHistory;
+import com.onepiece.otboo.global.sse.SseHistoryEntry;
+import com.onepiece.otboo.global.sse.SsePresenceRegistry;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.errors.SerializationException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 저장이 커밋된 알림을 SSE 전송용 토픽으로 발행합니다.
+ * <p>
+ * 수신자가 어느 인스턴스에 접속해 있는지는 알 수 없으므로 모든 인스턴스가 각자 구독하는 토픽으로 보내고, 각 인스턴스는
+ * 자신에게 연결된 수신자에게만 전송합니다. 발행 전에 접속 레지스트리로 어디에도 접속하지 않은 수신자를 걸러냅니다.
+ * </p>
+ * <p>
+ * 재연결 시 다시 보낼 수 있도록 알림은 접속 여부와 무관하게 모든 수신자의 SSE 기록에 여기서 한 번만 남기고, 각 인스턴스는
+ * 기록된 이벤트 ID를 그대로 붙여 전송합니다. 전체 알림은 수신자가 정해져 있지 않아 기록하지 않고 ID 없이 전송합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationSseEventListener {
+
+    public static final String NOTIFICATIONS_TOPIC =
+        "otboo." + NotificationsCreatedEvent.class.getSimpleName();
+    public static final String BROADCAST_TOPIC =
+        "otboo." + BroadcastNotificationCreatedEvent.class.getSimpleName();
+    public static final String EVENT_NAME = "notifications";
+
+    private final SsePresenceRegistry presenceRegistry;
+    private final SseEventHistory eventHistory;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final EventCodec eventCodec;
+
+    @Async("notificationSseExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(NotificationsCreatedEvent event) {
+        Map<UUID, String> eventIds = record(event.notifications());
+
+        Set<UUID> online = presenceRegistry.onlineAmong(
+            event.notifications().stream().map(NotificationResponse::getReceiverId).toList());
+        if (online.isEmpty()) {
+            log.debug("[NotificationSseEventListener] 접속 중인 수신자 없음, 전송 생략 - total={}",
+                event.notifications().size());
+            return;
+        }
+
+        List<NotificationResponse> targets = new ArrayList<>();
+        Map<UUID, String> targetEventIds = new HashMap<>();
+        for (NotificationResponse notification : event.notifications()) {
+            if (online.contains(notification.getReceiverId())) {
+                targets.add(notification);
+                String eventId = eventIds.get(notification.getId());
+                if (eventId != null) {
+                    targetEventIds.put(notification.getId(), eventId);
+                }
+            }
+        }
+        publish(NOTIFICATIONS_TOPIC, new NotificationsCreatedEvent(targets, targetEventIds));
+        log.debug("[NotificationSseEventListener] SSE 전송 발행 - total={}, online={}",
+            event.notifications().size(), targets.size());
+    }
+
+    @Async("notificationSseExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(BroadcastNotificationCreatedEvent event) {
+        publish(BROADCAST_TOPIC, event);
+        log.debug("[NotificationSseEventListener] 전체 알림 SSE 전송 발행 - id={}",
+            event.notification().getId());
+    }
+
+    private Map<UUID, String> record(List<NotificationResponse> notifications) {
+        List<SseHistoryEntry> entries = notifications.stream()
+            .map(notification -> new SseHistoryEntry(notification.getReceiverId(), notification))
+            .toList();
+        List<String> ids;
+        try {
+            ids = eventHistory.appendAll(EVENT_NAME, entries);
+        } catch (Exception e) {
+            // 기록에 실패한 알림은 ID 없이 보내 클라이언트의 재연결 기준을 흐트러뜨리지 않음
+            log.warn("[NotificationSseEventListener] SSE 기록 실패 - total={}", notifications.size(), e);
+            return Map.of();
+        }
+
+        Map<UUID, String> eventIds = new HashMap<>();
+        for (int i = 0; i < notifications.size(); i++) {
+            eventIds.put(notifications.get(i).getId(), ids.get(i));
+        }
+        return eventIds;
+    }
+
+    private void publish(String topic, Object event) {
+        try {
+            kafkaTemplate.send(eventCodec.encode(topic, event));
+        } catch (SerializationException e) {
+            log.error("[NotificationSseEventListener] 직렬화 실패 - topic={}", topic, e);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.onepiece.otboo.global.event.listener;
+
+import com.onepiece.otboo.domain.recommendation.cache.RecommendationVersionRegistry;
+import com.onepiece.otboo.domain.recommendation.service.WardrobeIndexProvider;
+import com.onepiece.otboo.global.event.event.FeedCreatedEvent;
+import com.onepiece.otboo.global.event.event.FeedDeletedEvent;
+import com.onepiece.otboo.global.event.event.ProfileUpdatedEvent;
+import com.onepiece.otboo.global.event.event.WardrobeChangedEvent;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 옷장/프로필 변경 시 추천 관련 캐시를 무효화합니다.
+ * <p>
+ * 옷장 인덱스는 즉시 제거하고, 추천 결과 캐시는 버전을 올려 이전 키가 더 이상 조회되지 않도록 합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendationInvalidateEventListener {
+
+    private final WardrobeIndexProvider wardrobeIndexProvider;
+    private final RecommendationVersionRegistry versionRegistry;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(WardrobeChangedEvent event) {
+        invalidateWardrobe(event.ownerId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(FeedCreatedEvent event) {
+        if (event.data() == null || event.data().author() == null) {
+            return;
+        }
+        invalidateWardrobe(event.data().author().userId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(FeedDeletedEvent event) {
+        if (event.authorId() == null) {
+            return;
+        }
+        invalidateWardrobe(event.authorId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(ProfileUpdatedEvent event) {
+        try {
+            versionRegistry.increaseProfileVersion(event.userId());
+        } catch (Exception e) {
+            log.warn("[RecommendationInvalidateEventListener] 프로필 버전 갱신 실패 - userId: {}",
+                event.userId(), e);
+        }
+    }
+
+    private void invalidateWardrobe(UUID ownerId) {
+        wardrobeIndexProvider.invalidate(ownerId);
+        try {
+            versionRegistry.increaseWardrobeVersion(ownerId);
+        } catch (Exception e) {
+            log.warn("[RecommendationInvalidateEventListener] 옷장 버전 갱신 실패 - ownerId: {}",
+                ownerId, e);
+        }
+    }
+}
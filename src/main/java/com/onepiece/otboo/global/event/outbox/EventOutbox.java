@@ -0,0 +1,58 @@
+package com.onepiece.otboo.global.event.outbox;
+
+import com.onepiece.otboo.global.base.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 비즈니스 트랜잭션 안에서 기록되는 Kafka 발행 대기 이벤트
+ * <p>
+ * 행은 {@link EventOutboxCommandRepository}가 JDBC로 추가/갱신하며, 이 엔티티는 테이블 매핑(스키마 검증, 테스트 DDL)에
+ * 쓰입니다. 본문과 헤더 값은 {@link com.onepiece.otboo.global.event.codec.EventCodec}이 만든 그대로 저장합니다.
+ * </p>
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "event_outbox")
+public class EventOutbox extends BaseEntity {
+
+    @Column(nullable = false)
+    private String topic;
+
+    @Column(name = "record_key")
+    private String recordKey;
+
+    @Column(nullable = false, length = 1_000_000)
+    private byte[] payload;
+
+    @Column(nullable = false, length = 100)
+    private String contentType;
+
+    @Column(nullable = false, length = 100)
+    private String schemaName;
+
+    @Column(nullable = false)
+    private int schemaVersion;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private Instant nextAttemptAt;
+
+    private Instant lockedUntil;
+
+    private Instant sentAt;
+}
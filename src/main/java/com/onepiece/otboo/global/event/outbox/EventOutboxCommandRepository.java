@@ -0,0 +1,184 @@
+package com.onepiece.otboo.global.event.outbox;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.onepiece.otboo.global.event.codec.EventCodec;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 이벤트 outbox 행을 JDBC로 추가/선점/갱신하는 저장소
+ * <p>
+ * 릴레이는 {@code FOR UPDATE SKIP LOCKED}로 다른 인스턴스가 잡은 행을 건너뛰며 가져가고, 같은 트랜잭션에서
+ * IN_FLIGHT와 임대 만료 시각({@code locked_until})을 기록한 뒤 바로 커밋합니다. 행 잠금은 선점하는 동안만 유지되고,
+ * 발행 중인 행은 임대가 끝날 때까지 다른 릴레이가 가져가지 않습니다. 상태 갱신은 {@code WHERE id IN (...)} 한 번으로
+ * 묶습니다.
+ * </p>
+ * <p>
+ * 선점은 행 단위라 같은 키의 행이 여러 릴레이에 나뉘어 동시에 발행될 수 있습니다. 같은 키의 순서는 보장하지 않습니다.
+ * </p>
+ */
+@Repository
+public class EventOutboxCommandRepository {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO event_outbox
+            (id, topic, record_key, payload, content_type, schema_name, schema_version, status, attempts,
+             next_attempt_at, created_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, 'PENDING', 0, ?, ?)
+        """;
+
+    private static final String CLAIM_SQL = """
+        SELECT id, topic, record_key, payload, content_type, schema_name, schema_version, attempts
+        FROM event_outbox
+        WHERE (status = 'PENDING' AND next_attempt_at <= ?)
+           OR (status = 'IN_FLIGHT' AND locked_until <= ?)
+        ORDER BY created_at
+        LIMIT ?
+        FOR UPDATE SKIP LOCKED
+        """;
+
+    private static final String LEASE_SQL =
+        "UPDATE event_outbox SET status = 'IN_FLIGHT', locked_until = ? WHERE id IN (%s)";
+
+    private static final String MARK_SENT_SQL =
+        "UPDATE event_outbox SET status = 'SENT', sent_at = ?, locked_until = NULL WHERE id IN (%s)";
+
+    // 임대가 끝나 다른 릴레이가 이미 발행한 행을 되돌리지 않도록 발행 중인 행만 갱신
+    private static final String MARK_FAILED_SQL = """
+        UPDATE event_outbox
+        SET attempts = attempts + 1,
+            status = CASE WHEN attempts + 1 >= ? THEN 'FAILED' ELSE 'PENDING' END,
+            next_attempt_at = ?,
+            locked_until = NULL
+        WHERE id IN (%s)
+          AND status = 'IN_FLIGHT'
+        """;
+
+    private static final String RELEASE_SQL = """
+        UPDATE event_outbox
+        SET status = 'PENDING',
+            next_attempt_at = ?,
+            locked_until = NULL
+        WHERE id IN (%s)
+          AND status = 'IN_FLIGHT'
+        """;
+
+    private static final String PURGE_SQL =
+        "DELETE FROM event_outbox WHERE status = 'SENT' AND sent_at < ?";
+
+    private static final RowMapper<OutboxRecord> ROW_MAPPER = (rs, rowNum) -> new OutboxRecord(
+        rs.getObject("id", UUID.class),
+        rs.getString("topic"),
+        rs.getString("record_key"),
+        rs.getBytes("payload"),
+        rs.getString("content_type"),
+        rs.getString("schema_name"),
+        rs.getInt("schema_version"),
+        rs.getInt("attempts")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EventOutboxCommandRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * {@link EventCodec}이 만든 레코드를 현재 트랜잭션에 기록합니다.
+     */
+    public void insert(ProducerRecord<String, byte[]> record) {
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.update(INSERT_SQL,
+            UUID.randomUUID(),
+            record.topic(),
+            record.key(),
+            record.value(),
+            header(record, EventCodec.CONTENT_TYPE_HEADER),
+            header(record, EventCodec.SCHEMA_HEADER),
+            Integer.parseInt(header(record, EventCodec.SCHEMA_VERSION_HEADER)),
+            now,
+            now);
+    }
+
+    /**
+     * 재시도 시각이 된 대기 행과 임대가 끝난 발행 중 행을 오래된 순으로 잠가 가져오고, {@code lockedUntil}까지 발행 중으로
+     * 표시합니다. 트랜잭션 안에서 호출해야 하며, 커밋한 뒤에 발행해야 잠금을 오래 잡지 않습니다.
+     */
+    public List<OutboxRecord> claim(int limit, Instant now, Instant lockedUntil) {
+        Timestamp at = Timestamp.from(now);
+        List<OutboxRecord> records = jdbcTemplate.query(CLAIM_SQL, ROW_MAPPER, at, at, limit);
+        if (!records.isEmpty()) {
+            List<Object> args = new ArrayList<>(records.size() + 1);
+            args.add(Timestamp.from(lockedUntil));
+            records.forEach(r -> args.add(r.id()));
+            jdbcTemplate.update(LEASE_SQL.formatted(placeholders(records.size())), args.toArray());
+        }
+        return records;
+    }
+
+    public int markSent(Collection<UUID> ids, Instant sentAt) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<Object> args = new ArrayList<>(ids.size() + 1);
+        args.add(Timestamp.from(sentAt));
+        args.addAll(ids);
+        return jdbcTemplate.update(MARK_SENT_SQL.formatted(placeholders(ids.size())), args.toArray());
+    }
+
+    /**
+     * 시도 횟수를 올리고 {@code nextAttemptAt}까지 다시 가져가지 않게 합니다. {@code maxAttempts}에 닿은 행은 FAILED로
+     * 바꿔 더 이상 가져가지 않습니다.
+     */
+    public int markFailed(Collection<UUID> ids, int maxAttempts, Instant nextAttemptAt) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<Object> args = new ArrayList<>(ids.size() + 2);
+        args.add(maxAttempts);
+        args.add(Timestamp.from(nextAttemptAt));
+        args.addAll(ids);
+        return jdbcTemplate.update(MARK_FAILED_SQL.formatted(placeholders(ids.size())), args.toArray());
+    }
+
+    /**
+     * 시도 횟수는 그대로 두고 대기 상태로 돌려 {@code nextAttemptAt}에 다시 가져가게 합니다. 브로커에 닿지 못해 레코드
+     * 자체의 문제인지 알 수 없는 실패에 씁니다.
+     */
+    public int release(Collection<UUID> ids, Instant nextAttemptAt) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<Object> args = new ArrayList<>(ids.size() + 1);
+        args.add(Timestamp.from(nextAttemptAt));
+        args.addAll(ids);
+        return jdbcTemplate.update(RELEASE_SQL.formatted(placeholders(ids.size())), args.toArray());
+    }
+
+    public int purgeSentBefore(Instant before) {
+        return jdbcTemplate.update(PURGE_SQL, Timestamp.from(before));
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static String header(ProducerRecord<String, byte[]> record, String key) {
+        Header header = record.headers().lastHeader(key);
+        if (header == null) {
+            throw new IllegalArgumentException("Missing header " + key + " on " + record.topic());
+        }
+        return new String(header.value(), UTF_8);
+    }
+}
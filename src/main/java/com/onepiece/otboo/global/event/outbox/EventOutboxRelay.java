@@ -0,0 +1,207 @@
+package com.onepiece.otboo.global.event.outbox;
+
+import com.onepiece.otboo.global.event.config.props.KafkaEventProperties;
+import com.onepiece.otboo.global.event.config.props.KafkaOutboxProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.errors.RetriableException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 이벤트 outbox를 Kafka로 옮기는 릴레이
+ * <p>
+ * 짧은 트랜잭션에서 대기 행을 {@code SKIP LOCKED}로 선점해 IN_FLIGHT로 바꾸고 커밋한 뒤, 트랜잭션 밖에서 모두
+ * 비동기로 보내고 수신 확인을 한꺼번에 기다립니다. 확인을 기다리는 동안 DB 잠금이나 커넥션을 잡지 않으며, 릴레이가
+ * 결과를 반영하지 못하고 멈춘 행은 임대 시간이 지나면 다시 가져갑니다. 결과는 성공/실패별로
+ * {@code UPDATE ... WHERE id IN (...)} 한 번씩 반영합니다. 가득 찬 배치가 나오면 밀린 행이 없을 때까지 이어서 처리합니다.
+ * </p>
+ * <p>
+ * 실패는 두 가지로 나눕니다. 타임아웃이나 연결 불가처럼 브로커에 닿지 못한 실패는 레코드의 문제가 아니므로 시도
+ * 횟수를 세지 않고 대기로 돌리며, 이어지는 동안 재시도 간격을 두 배씩 늘립니다. 그래서 브로커 장애가 길어져도 행이
+ * FAILED로 빠지지 않습니다. 브로커가 거절한 실패는 행마다 시도 횟수를 올리고 그 횟수만큼 늘린 간격 뒤에 다시
+ * 보내며, 최대 시도 횟수에 닿으면 FAILED로 남깁니다.
+ * </p>
+ * <p>
+ * 실패한 행은 다시 보내므로 at-least-once입니다. 같은 키의 발행 순서는 보장하지 않습니다. 선점은 키와 무관하게
+ * 오래된 순으로 하므로, 릴레이 인스턴스가 여럿이면 같은 키의 앞 레코드와 뒤 레코드가 서로 다른 배치로 동시에
+ * 발행되어 실패가 없어도 뒤 레코드가 먼저 파티션에 쌓일 수 있습니다. 인스턴스가 하나이고 실패가 없을 때만 생성
+ * 순서대로 나가며, 실패한 행은 재시도 간격 뒤에 다시 나가므로 그 사이 같은 키의 뒤 레코드가 먼저 나갑니다. 소비자는
+ * 같은 키의 이벤트가 뒤바뀌어 도착해도 결과가 같도록 처리해야 합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class EventOutboxRelay {
+
+    private static final String METRIC_PREFIX = "otboo.outbox";
+
+    private final EventOutboxCommandRepository outboxRepository;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final KafkaOutboxProperties properties;
+
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Counter deferredCounter;
+
+    // 브로커에 닿지 못한 배치가 이어진 횟수. 재시도 간격을 늘리는 데 쓰고 발행에 성공하면 초기화
+    private final AtomicInteger unavailableStreak = new AtomicInteger();
+
+    public EventOutboxRelay(
+        EventOutboxCommandRepository outboxRepository,
+        KafkaTemplate<String, byte[]> kafkaTemplate,
+        PlatformTransactionManager transactionManager,
+        KafkaEventProperties eventProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = eventProperties.outbox();
+
+        this.sentCounter = Counter.builder(METRIC_PREFIX + ".sent")
+            .description("Kafka로 발행된 outbox 이벤트 수")
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder(METRIC_PREFIX + ".failed")
+            .description("브로커가 거절해 시도 횟수를 올리고 재시도 대기로 돌아간 outbox 이벤트 수")
+            .register(meterRegistry);
+        this.deferredCounter = Counter.builder(METRIC_PREFIX + ".deferred")
+            .description("브로커에 닿지 못해 시도 횟수를 올리지 않고 재시도 대기로 돌아간 outbox 이벤트 수")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${otboo.kafka.outbox.relay-interval-ms:500}")
+    public void relay() {
+        int claimed;
+        do {
+            claimed = relayBatch();
+            // 브로커에 닿지 못하는 동안에는 다음 주기까지 기다림
+        } while (claimed >= properties.batchSize() && unavailableStreak.get() == 0);
+    }
+
+    @Scheduled(fixedDelayString = "${otboo.kafka.outbox.purge-interval-ms:3600000}")
+    public void purge() {
+        int purged = outboxRepository.purgeSentBefore(Instant.now().minus(properties.retention()));
+        if (purged > 0) {
+            log.info("[EventOutboxRelay] 발행 완료 행 정리 - rows: {}", purged);
+        }
+    }
+
+    /**
+     * @return 이번 배치에서 가져간 행 수
+     */
+    int relayBatch() {
+        Instant now = Instant.now();
+        List<OutboxRecord> records = transactionTemplate.execute(status ->
+            outboxRepository.claim(properties.batchSize(), now, now.plus(properties.leaseTimeout())));
+        if (records == null || records.isEmpty()) {
+            return 0;
+        }
+
+        List<CompletableFuture<SendResult<String, byte[]>>> futures = new ArrayList<>(records.size());
+        for (OutboxRecord record : records) {
+            futures.add(send(record));
+        }
+
+        List<UUID> sent = new ArrayList<>(records.size());
+        List<UUID> unavailable = new ArrayList<>();
+        Map<Integer, List<UUID>> rejectedByAttempts = new LinkedHashMap<>();
+        long deadline = System.nanoTime() + properties.sendTimeout().toNanos();
+        for (int i = 0; i < records.size(); i++) {
+            OutboxRecord record = records.get(i);
+            switch (await(futures.get(i), deadline, record)) {
+                case SENT -> sent.add(record.id());
+                case UNAVAILABLE -> unavailable.add(record.id());
+                case REJECTED -> rejectedByAttempts
+                    .computeIfAbsent(record.attempts(), k -> new ArrayList<>())
+                    .add(record.id());
+            }
+        }
+
+        Instant completedAt = Instant.now();
+        outboxRepository.markSent(sent, completedAt);
+        int rejected = 0;
+        for (Map.Entry<Integer, List<UUID>> entry : rejectedByAttempts.entrySet()) {
+            outboxRepository.markFailed(entry.getValue(), properties.maxAttempts(),
+                completedAt.plus(properties.backoff(entry.getKey())));
+            rejected += entry.getValue().size();
+        }
+        if (unavailable.isEmpty()) {
+            unavailableStreak.set(0);
+        } else {
+            outboxRepository.release(unavailable,
+                completedAt.plus(properties.backoff(unavailableStreak.getAndIncrement())));
+        }
+        sentCounter.increment(sent.size());
+        failedCounter.increment(rejected);
+        deferredCounter.increment(unavailable.size());
+
+        if (rejected == 0 && unavailable.isEmpty()) {
+            log.debug("[EventOutboxRelay] outbox 발행 - sent: {}", sent.size());
+        } else {
+            log.warn("[EventOutboxRelay] outbox 일부 발행 실패, 잠시 뒤 재시도 - sent: {}, rejected: {}, "
+                + "unavailable: {}", sent.size(), rejected, unavailable.size());
+        }
+        return records.size();
+    }
+
+    private CompletableFuture<SendResult<String, byte[]>> send(OutboxRecord record) {
+        try {
+            return kafkaTemplate.send(record.toProducerRecord());
+        } catch (Exception e) {
+            // 메타데이터 조회 실패 등 send 호출 자체가 실패한 경우
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private Outcome await(CompletableFuture<SendResult<String, byte[]>> future, long deadline,
+        OutboxRecord record) {
+        try {
+            future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return Outcome.SENT;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Outcome.UNAVAILABLE;
+        } catch (TimeoutException e) {
+            log.debug("[EventOutboxRelay] 수신 확인 시간 초과 - id: {}, topic: {}", record.id(), record.topic());
+            return Outcome.UNAVAILABLE;
+        } catch (ExecutionException e) {
+            log.debug("[EventOutboxRelay] 발행 실패 - id: {}, topic: {}, 이유: {}",
+                record.id(), record.topic(), e.getMessage());
+            return isRetriable(e) ? Outcome.UNAVAILABLE : Outcome.REJECTED;
+        }
+    }
+
+    // producer 내부 재시도로도 해결되지 않은 연결 불가, 리더 없음, 메타데이터/전송 타임아웃 등
+    private static boolean isRetriable(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RetriableException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private enum Outcome {
+        SENT,
+        UNAVAILABLE,
+        REJECTED
+    }
+}
@@ -0,0 +1,33 @@
+package com.onepiece.otboo.global.event.outbox;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.onepiece.otboo.global.event.codec.EventCodec;
+import java.util.UUID;
+import org.apache.kafka.clients.producer.ProducerRecord;
+
+/**
+ * 릴레이가 가져간 outbox 행
+ *
+ * @param attempts 지금까지 발행에 실패한 횟수 (브로커에 닿지 못한 실패는 세지 않음). 재시도 간격을 정하는 데 씁니다.
+ */
+public record OutboxRecord(
+    UUID id,
+    String topic,
+    String key,
+    byte[] payload,
+    String contentType,
+    String schemaName,
+    int schemaVersion,
+    int attempts
+) {
+
+    public ProducerRecord<String, byte[]> toProducerRecord() {
+        ProducerRecord<String, byte[]> record = new ProducerRecord<>(topic, key, payload);
+        record.headers()
+            .add(EventCodec.CONTENT_TYPE_HEADER, contentType.getBytes(UTF_8))
+            .add(EventCodec.SCHEMA_HEADER, schemaName.getBytes(UTF_8))
+            .add(EventCodec.SCHEMA_VERSION_HEADER, String.valueOf(schemaVersion).getBytes(UTF_8));
+        return record;
+    }
+}
@@ -0,0 +1,19 @@
+package com.onepiece.otboo.global.event.outbox;
+
+/**
+ * 이벤트 outbox 행의 발행 상태
+ *
+ * <ul>
+ *   <li>{@link #PENDING} - 발행 대기 (실패 후 {@code next_attempt_at}까지 재시도 대기 포함)</li>
+ *   <li>{@link #IN_FLIGHT} - 릴레이가 선점해 발행 중. {@code locked_until}이 지나도록 결과가 반영되지 않으면
+ *   (릴레이 중단 등) 다른 릴레이가 다시 가져감</li>
+ *   <li>{@link #SENT} - Kafka가 수신을 확인함</li>
+ *   <li>{@link #FAILED} - 브로커가 거절한 발행이 최대 시도 횟수를 넘겨 더 이상 재시도하지 않음</li>
+ * </ul>
+ */
+public enum OutboxStatus {
+    PENDING,
+    IN_FLIGHT,
+    SENT,
+    FAILED
+}
@@ -0,0 +1,66 @@
+package com.onepiece.otboo.global.sse;
+
+import com.onepiece.otboo.global.sse.config.props.SseProperties;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile("test | test-integration")
+public class InMemorySseEventHistory implements SseEventHistory {
+
+    private final Map<UUID, Deque<SseHistoryEvent>> histories = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final int capacity;
+
+    public InMemorySseEventHistory(SseProperties properties) {
+        this.capacity = properties.replay().capacity();
+    }
+
+    @Override
+    public String append(UUID userId, String eventName, Object data) {
+        Deque<SseHistoryEvent> history = histories.computeIfAbsent(userId, k -> new ArrayDeque<>());
+        synchronized (history) {
+            // 잠금 안에서 번호를 받아야 기록 순서와 ID 순서가 어긋나지 않음
+            String id = Long.toString(sequence.incrementAndGet());
+            history.addLast(new SseHistoryEvent(id, eventName, data));
+            while (history.size() > capacity) {
+                history.removeFirst();
+            }
+            return id;
+        }
+    }
+
+    @Override
+    public List<String> appendAll(String eventName, List<SseHistoryEntry> entries) {
+        return entries.stream()
+            .map(entry -> append(entry.userId(), eventName, entry.data()))
+            .toList();
+    }
+
+    @Override
+    public List<SseHistoryEvent> readAfter(UUID userId, String lastEventId) {
+        long after;
+        try {
+            after = Long.parseLong(lastEventId);
+        } catch (NumberFormatException e) {
+            return List.of();
+        }
+
+        Deque<SseHistoryEvent> history = histories.get(userId);
+        if (history == null) {
+            return List.of();
+        }
+        synchronized (history) {
+            return history.stream()
+                .filter(event -> Long.parseLong(event.id()) > after)
+                .toList();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.onepiece.otboo.global.sse;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile("test | test-integration")
+public class InMemorySsePresenceRegistry implements SsePresenceRegistry {
+
+    private final Set<UUID> online = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public void online(UUID userId) {
+        online.add(userId);
+    }
+
+    @Override
+    public void refresh(Collection<UUID> userIds) {
+        online.addAll(userIds);
+    }
+
+    @Override
+    public void offline(UUID userId) {
+        online.remove(userId);
+    }
+
+    @Override
+    public Set<UUID> onlineAmong(Collection<UUID> userIds) {
+        return userIds.stream().filter(online::contains).collect(Collectors.toSet());
+    }
+}
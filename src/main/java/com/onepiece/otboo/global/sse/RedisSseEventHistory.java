@@ -0,0 +1,164 @@
+package com.onepiece.otboo.global.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onepiece.otboo.global.sse.config.props.SseProperties;
+import com.onepiece.otboo.global.sse.config.props.SseReplayProperties;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link SseEventHistory}의 Redis Stream 기반 구현체입니다.
+ * <p>
+ * 스트림 엔트리 ID({@code <밀리초>-<순번>})를 그대로 SSE 이벤트 ID로 쓰므로, 다른 인스턴스로 재연결해도 같은 기준으로
+ * 이어서 받을 수 있습니다. 데이터는 JSON 문자열로 보관하며, 다시 보낼 때도 그대로 내보내므로 처음 전송과 같은 본문이
+ * 됩니다.
+ * </p>
+ *
+ * <p>키 스키마</p>
+ * <ul>
+ *     <li>{@code sse:history:{userId}} - 사용자별 이벤트 스트림 (필드: name, data). 기록할 때마다 개수를 대략
+ *     {@code capacity}로 자르고 TTL을 연장함</li>
+ * </ul>
+ * <p>
+ * 여러 건을 기록할 때는 XADD와 사용자별 EXPIRE를 한 파이프라인으로 보내 수신자 수만큼 왕복하지 않습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@Primary
+@Profile("!test & !test-integration")
+public class RedisSseEventHistory implements SseEventHistory {
+
+    private static final String KEY_PREFIX = "sse:history:";
+    private static final String NAME_FIELD = "name";
+    private static final String DATA_FIELD = "data";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final SseReplayProperties properties;
+
+    public RedisSseEventHistory(
+        StringRedisTemplate redisTemplate,
+        ObjectMapper objectMapper,
+        SseProperties sseProperties
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = sseProperties.replay();
+    }
+
+    @Override
+    public String append(UUID userId, String eventName, Object data) {
+        byte[] key = bytes(key(userId));
+        MapRecord<byte[], byte[], byte[]> record = record(key, eventName, data);
+
+        RecordId id = redisTemplate.execute((RedisCallback<RecordId>) connection -> {
+            RecordId added = connection.streamCommands().xAdd(record, xAddOptions());
+            connection.keyCommands().expire(key, properties.ttl().toSeconds());
+            return added;
+        });
+        return id.getValue();
+    }
+
+    @Override
+    public List<String> appendAll(String eventName, List<SseHistoryEntry> entries) {
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+        List<MapRecord<byte[], byte[], byte[]>> records = entries.stream()
+            .map(entry -> record(bytes(key(entry.userId())), eventName, entry.data()))
+            .toList();
+        Set<UUID> userIds = new LinkedHashSet<>();
+        entries.forEach(entry -> userIds.add(entry.userId()));
+
+        // XADD 결과가 앞에 오도록 EXPIRE는 사용자별로 한 번씩 뒤에 보냄
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            XAddOptions options = xAddOptions();
+            for (MapRecord<byte[], byte[], byte[]> record : records) {
+                connection.streamCommands().xAdd(record, options);
+            }
+            for (UUID userId : userIds) {
+                connection.keyCommands().expire(bytes(key(userId)), properties.ttl().toSeconds());
+            }
+            return null;
+        });
+
+        List<String> ids = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            ids.add(((RecordId) results.get(i)).getValue());
+        }
+        return ids;
+    }
+
+    @Override
+    public List<SseHistoryEvent> readAfter(UUID userId, String lastEventId) {
+        RecordId after;
+        try {
+            after = RecordId.of(lastEventId);
+        } catch (IllegalArgumentException e) {
+            return List.of();
+        }
+
+        // 경계 포함으로 읽고 마지막으로 받은 이벤트만 제외 (배타 경계는 Redis 6.2 이상에서만 지원)
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+            .range(key(userId), Range.rightUnbounded(Range.Bound.inclusive(after.getValue())));
+        if (records == null) {
+            return List.of();
+        }
+        return records.stream()
+            .filter(record -> !record.getId().equals(after))
+            .map(record -> new SseHistoryEvent(
+                record.getId().getValue(),
+                (String) record.getValue().get(NAME_FIELD),
+                record.getValue().get(DATA_FIELD)))
+            .toList();
+    }
+
+    private MapRecord<byte[], byte[], byte[]> record(byte[] key, String eventName, Object data) {
+        return StreamRecords.rawBytes(Map.of(
+            bytes(NAME_FIELD), bytes(eventName),
+            bytes(DATA_FIELD), bytes(serialize(data))
+        )).withStreamKey(key);
+    }
+
+    private XAddOptions xAddOptions() {
+        return XAddOptions.maxlen(properties.capacity()).approximateTrimming(true);
+    }
+
+    private String serialize(Object data) {
+        // 문자열은 그대로 전송되므로 JSON으로 감싸지 않음
+        if (data instanceof String s) {
+            return s;
+        }
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("SSE 이벤트 직렬화 실패", e);
+        }
+    }
+
+    private String key(UUID userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,104 @@
+package com.onepiece.otboo.global.sse;
+
+import com.onepiece.otboo.global.config.InstanceIdentity;
+import com.onepiece.otboo.global.sse.config.props.SseProperties;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link SsePresenceRegistry}의 Redis 기반 구현체입니다.
+ *
+ * <p>키 스키마</p>
+ * <ul>
+ *     <li>{@code sse:presence:{userId}} - 사용자가 접속한 인스턴스 ID 집합. 접속 시와 하트비트마다 TTL을 연장하므로,
+ *     종료 처리 없이 내려간 인스턴스의 기록도 하트비트 몇 주기 안에 사라짐</li>
+ * </ul>
+ */
+@Component
+@Primary
+@Profile("!test & !test-integration")
+public class RedisSsePresenceRegistry implements SsePresenceRegistry {
+
+    private static final String KEY_PREFIX = "sse:presence:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String instanceId;
+    private final Duration ttl;
+
+    public RedisSsePresenceRegistry(
+        StringRedisTemplate redisTemplate,
+        InstanceIdentity instance,
+        SseProperties sseProperties
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.instanceId = instance.getId();
+        this.ttl = sseProperties.heartbeat().presenceTtl();
+    }
+
+    @Override
+    public void online(UUID userId) {
+        String key = key(userId);
+        redisTemplate.opsForSet().add(key, instanceId);
+        redisTemplate.expire(key, ttl);
+    }
+
+    @Override
+    public void refresh(Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        byte[] member = instanceId.getBytes(StandardCharsets.UTF_8);
+        long seconds = ttl.toSeconds();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (UUID userId : userIds) {
+                byte[] key = key(userId).getBytes(StandardCharsets.UTF_8);
+                connection.setCommands().sAdd(key, member);
+                connection.keyCommands().expire(key, seconds);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void offline(UUID userId) {
+        redisTemplate.opsForSet().remove(key(userId), instanceId);
+    }
+
+    @Override
+    public Set<UUID> onlineAmong(Collection<UUID> userIds) {
+        List<UUID> ids = List.copyOf(userIds);
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+
+        List<Object> exists = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (UUID userId : ids) {
+                connection.keyCommands().exists(key(userId).getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+
+        Set<UUID> online = new HashSet<>();
+        for (int i = 0; i < ids.size(); i++) {
+            if (Boolean.TRUE.equals(exists.get(i))) {
+                online.add(ids.get(i));
+            }
+        }
+        return online;
+    }
+
+    private String key(UUID userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,102 @@
+package com.onepiece.otboo.global.sse;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+/**
+ * SSE 연결 하나와 그 연결로 보낼 이벤트 대기열
+ * <p>
+ * 대기열은 {@link SseDispatcher}가 연결마다 한 스레드씩만 비우므로 이벤트 순서가 유지됩니다. 대기열이 가득 차면 가장
+ * 오래된 이벤트를 버리고, 마지막 전송 성공 이후 버린 개수를 세어 느린 연결을 가려냅니다.
+ * </p>
+ */
+public class SseConnection {
+
+    @Getter
+    private final UUID userId;
+    @Getter
+    private final SseEmitter emitter;
+
+    private final Deque<SseEventBuilder> queue = new ArrayDeque<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private int dropsSinceSent;
+    private volatile long lastSentNanos = System.nanoTime();
+
+    public SseConnection(UUID userId, SseEmitter emitter) {
+        this.userId = userId;
+        this.emitter = emitter;
+    }
+
+    /**
+     * 이벤트를 대기열에 넣습니다.
+     *
+     * @return 대기열이 가득 차 가장 오래된 이벤트를 버렸으면 true
+     */
+    synchronized boolean offer(SseEventBuilder event, int capacity) {
+        boolean dropped = false;
+        if (queue.size() >= capacity) {
+            queue.pollFirst();
+            dropsSinceSent++;
+            dropped = true;
+        }
+        queue.addLast(event);
+        return dropped;
+    }
+
+    synchronized SseEventBuilder poll() {
+        return queue.pollFirst();
+    }
+
+    synchronized boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    synchronized void sent() {
+        dropsSinceSent = 0;
+        lastSentNanos = System.nanoTime();
+    }
+
+    /**
+     * 대기 중인 이벤트가 있는데 {@code timeoutNanos} 동안 전송이 한 번도 성공하지 않았는지 확인합니다.
+     */
+    synchronized boolean isStalled(long nowNanos, long timeoutNanos) {
+        return !queue.isEmpty() && nowNanos - lastSentNanos > timeoutNanos;
+    }
+
+    synchronized int dropsSinceSent() {
+        return dropsSinceSent;
+    }
+
+    boolean tryStartDrain() {
+        return draining.compareAndSet(false, true);
+    }
+
+    void endDrain() {
+        draining.set(false);
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    /**
+     * 연결을 닫힘으로 표시하고 대기 중인 이벤트를 버립니다.
+     *
+     * @return 처음 닫은 경우 버린 이벤트 수, 이미 닫혀 있었으면 -1
+     */
+    synchronized int close() {
+        if (!closed.compareAndSet(false, true)) {
+            return -1;
+        }
+        int discarded = queue.size();
+        queue.clear();
+        return discarded;
+    }
+}
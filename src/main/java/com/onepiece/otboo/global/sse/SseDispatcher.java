@@ -0,0 +1,169 @@
+package com.onepiece.otboo.global.sse;
+
+import com.onepiece.otboo.global.sse.config.props.SseDispatchProperties;
+import com.onepiece.otboo.global.sse.config.props.SseProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+/**
+ * 연결별 대기열을 전용 스레드풀에서 비우는 SSE 전송기
+ * <p>
+ * 호출 측(Kafka 컨슈머 등)은 이벤트를 대기열에 넣기만 하고 바로 돌아가므로, 느린 클라이언트 하나가 다른 사용자의
+ * 알림 처리를 막지 않습니다. 연결마다 동시에 하나의 작업만 대기열을 비워 이벤트 순서를 지킵니다.
+ * </p>
+ * <p>
+ * 대기열이 가득 차면 가장 오래된 이벤트를 버리고, 전송 성공 없이 {@code evictAfterDrops}개를 버린 연결은 끊습니다.
+ * 버려진 이벤트도 이벤트 기록에는 남아 있어, 재연결한 클라이언트가 {@code Last-Event-ID}로 다시 받을 수 있습니다.
+ * 스레드풀이 포화되어 예약이 거절되면 호출 스레드에서 대신 보내지 않고 이벤트를 대기열에 남겨 두며, 다음 이벤트나
+ * 하트비트가 다시 예약합니다. 응답 없는 클라이언트로의 쓰기는 서블릿 컨테이너의 쓰기 타임아웃
+ * ({@code server.tomcat.connection-timeout})이 지나면 실패하고 연결이 닫힙니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class SseDispatcher {
+
+    private static final String METRIC_PREFIX = "otboo.sse";
+
+    private final Executor executor;
+    private final SseDispatchProperties properties;
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Timer sendTimer;
+    private final Counter droppedCounter;
+    private final Counter evictedCounter;
+    private final Counter rejectedCounter;
+
+    public SseDispatcher(
+        @Qualifier("sseDispatchExecutor") Executor executor,
+        SseProperties sseProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.executor = executor;
+        this.properties = sseProperties.dispatch();
+
+        Gauge.builder(METRIC_PREFIX + ".queue.depth", queued, AtomicInteger::get)
+            .description("전송 대기 중인 SSE 이벤트 수 (전체 연결 합계)")
+            .register(meterRegistry);
+        this.sendTimer = Timer.builder(METRIC_PREFIX + ".send")
+            .description("SSE 이벤트 한 건 전송 시간")
+            .register(meterRegistry);
+        this.droppedCounter = Counter.builder(METRIC_PREFIX + ".dropped")
+            .description("대기열이 가득 차 버린 SSE 이벤트 수")
+            .register(meterRegistry);
+        this.evictedCounter = Counter.builder(METRIC_PREFIX + ".evicted")
+            .description("느린 연결로 판단해 끊은 SSE 연결 수")
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder(METRIC_PREFIX + ".rejected")
+            .description("전송 스레드풀이 가득 차 다음으로 미룬 SSE 전송 예약 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 이벤트를 연결의 대기열에 넣고 전송을 예약합니다. 닫힌 연결이면 무시합니다.
+     */
+    public void enqueue(SseConnection connection, SseEventBuilder event) {
+        if (connection.isClosed()) {
+            return;
+        }
+
+        if (connection.offer(event, properties.queueCapacity())) {
+            droppedCounter.increment();
+        } else {
+            queued.incrementAndGet();
+        }
+
+        int drops = connection.dropsSinceSent();
+        if (drops >= properties.evictAfterDrops()) {
+            log.warn("[SseDispatcher] 느린 연결 종료 - userId: {}, 버린 이벤트: {}",
+                connection.getUserId(), drops);
+            evictedCounter.increment();
+            close(connection);
+            return;
+        }
+        schedule(connection);
+    }
+
+    /**
+     * 연결을 닫힘으로 표시하고 대기 중인 이벤트를 버립니다. 이미 닫힌 연결이면 아무것도 하지 않습니다.
+     */
+    public void release(SseConnection connection) {
+        int discarded = connection.close();
+        if (discarded > 0) {
+            queued.addAndGet(-discarded);
+        }
+    }
+
+    private void schedule(SseConnection connection) {
+        if (!connection.tryStartDrain()) {
+            return;
+        }
+        try {
+            executor.execute(() -> drain(connection));
+        } catch (RejectedExecutionException e) {
+            // 이벤트는 대기열에 남아 있으므로, 표시만 풀어 두고 다음 예약에서 다시 시도
+            connection.endDrain();
+            rejectedCounter.increment();
+            log.debug("[SseDispatcher] 전송 예약 거절 - userId: {}", connection.getUserId());
+        }
+    }
+
+    private void drain(SseConnection connection) {
+        try {
+            SseEventBuilder event;
+            while (!connection.isClosed() && (event = connection.poll()) != null) {
+                queued.decrementAndGet();
+                long start = System.nanoTime();
+                try {
+                    connection.getEmitter().send(event);
+                    connection.sent();
+                } catch (IOException | IllegalStateException e) {
+                    log.debug("[SseDispatcher] 전송 실패로 연결 종료 - userId: {}, 이유: {}",
+                        connection.getUserId(), e.getMessage());
+                    close(connection, e);
+                    return;
+                } finally {
+                    sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            }
+        } finally {
+            connection.endDrain();
+        }
+
+        // 작업을 마치는 사이에 들어온 이벤트는 다시 예약
+        if (!connection.isClosed() && !connection.isEmpty()) {
+            schedule(connection);
+        }
+    }
+
+    /**
+     * 대기열을 비우고 emitter를 정상 종료합니다. 저장소/접속 기록 정리는 emitter 종료 콜백에서 처리됩니다.
+     */
+    public void close(SseConnection connection) {
+        close(connection, null);
+    }
+
+    private void close(SseConnection connection, Throwable error) {
+        release(connection);
+        try {
+            if (error == null) {
+                connection.getEmitter().complete();
+            } else {
+                connection.getEmitter().completeWithError(error);
+            }
+        } catch (Exception e) {
+            log.debug("[SseDispatcher] emitter 종료 실패 - userId: {}", connection.getUserId(), e);
+        }
+    }
+}
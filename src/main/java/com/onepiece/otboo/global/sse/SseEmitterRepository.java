@@ -1,41 +1,77 @@
 package com.onepiece.otboo.global.sse;
 
+import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.Map;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+/**
+ * 사용자별 SSE 연결 저장소
+ * <p>
+ * 한 사용자가 여러 탭/기기에서 동시에 연결할 수 있으므로 사용자마다 연결 집합을 보관합니다. 집합을 비우는 삭제와 새
+ * 연결 추가가 엇갈려 새 연결이 사라지지 않도록, 변경은 모두 {@link ConcurrentHashMap#compute}/
+ * {@link ConcurrentHashMap#computeIfPresent} 안에서 처리합니다.
+ * </p>
+ */
 @Slf4j
 @Repository
 public class SseEmitterRepository {
 
-    private final Map<UUID, SseEmitter> emitters = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, Set<SseConnection>> emitters = new ConcurrentHashMap<>();
 
-    public void save(UUID userId, SseEmitter emitter) {
-        emitters.put(userId, emitter);
-        log.debug("[SseEmitterRepository] Emitter 저장 - userId: {}, 총 연결 수: {}",
-            userId, emitters.size());
+    public void save(UUID userId, SseConnection connection) {
+        emitters.compute(userId, (k, set) -> {
+            Set<SseConnection> result = set == null ? ConcurrentHashMap.newKeySet() : set;
+            result.add(connection);
+            return result;
+        });
+        log.debug("[SseEmitterRepository] Emitter 저장 - userId: {}, 총 연결 수: {}", userId, size());
     }
 
-    public SseEmitter get(UUID userId) {
-        return emitters.get(userId);
+    public List<SseConnection> get(UUID userId) {
+        Set<SseConnection> set = emitters.get(userId);
+        return set == null ? List.of() : List.copyOf(set);
     }
 
-    public void delete(UUID userId) {
-        emitters.remove(userId);
-        log.debug("[SseEmitterRepository] Emitter 삭제 - userId: {}, 남은 연결 수: {}",
-            userId, emitters.size());
+    public List<SseConnection> getAll() {
+        List<SseConnection> all = new ArrayList<>(size());
+        for (Set<SseConnection> set : emitters.values()) {
+            all.addAll(set);
+        }
+        return all;
+    }
+
+    public boolean contains(UUID userId) {
+        return emitters.containsKey(userId);
+    }
+
+    /**
+     * 사용자의 연결 하나를 삭제합니다.
+     *
+     * @return 삭제 후 사용자에게 남은 연결이 없으면 true
+     */
+    public boolean delete(UUID userId, SseConnection connection) {
+        emitters.computeIfPresent(userId, (k, set) -> {
+            set.remove(connection);
+            return set.isEmpty() ? null : set;
+        });
+        log.debug("[SseEmitterRepository] Emitter 삭제 - userId: {}, 남은 연결 수: {}", userId, size());
+        return !emitters.containsKey(userId);
     }
 
     public int size() {
-        return emitters.size();
+        int total = 0;
+        for (Set<SseConnection> set : emitters.values()) {
+            total += set.size();
+        }
+        return total;
     }
 
     public Set<UUID> getAllUserIds() {
         return new HashSet<>(emitters.keySet());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,30 @@
+package com.onepiece.otboo.global.sse;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 사용자별로 최근 SSE 이벤트를 일정 개수만큼 보관하는 기록
+ * <p>
+ * 이벤트 ID는 사용자별로 단조 증가하므로, 재연결한 클라이언트가 보낸 {@code Last-Event-ID} 이후의 이벤트만 골라
+ * 다시 보낼 수 있습니다. 보관 개수를 넘긴 오래된 이벤트는 버려지며, 그보다 오래 끊겨 있던 클라이언트는 알림 목록을
+ * 다시 조회해야 합니다.
+ * </p>
+ */
+public interface SseEventHistory {
+
+    /**
+     * 이벤트를 기록하고 부여한 이벤트 ID를 반환합니다.
+     */
+    String append(UUID userId, String eventName, Object data);
+
+    /**
+     * 같은 이름의 이벤트 여러 건을 한 번에 기록하고, 부여한 이벤트 ID를 {@code entries}와 같은 순서로 반환합니다.
+     */
+    List<String> appendAll(String eventName, List<SseHistoryEntry> entries);
+
+    /**
+     * {@code lastEventId} 이후에 기록된 이벤트를 오래된 순으로 반환합니다. 알 수 없는 형식의 ID면 빈 목록을 반환합니다.
+     */
+    List<SseHistoryEvent> readAfter(UUID userId, String lastEventId);
+}
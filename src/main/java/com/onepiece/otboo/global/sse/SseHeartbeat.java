@@ -0,0 +1,104 @@
+package com.onepiece.otboo.global.sse;
+
+import com.onepiece.otboo.global.sse.config.props.SseHeartbeatProperties;
+import com.onepiece.otboo.global.sse.config.props.SseProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 모든 SSE 연결에 주기적으로 하트비트를 보내고 끊긴 연결을 정리하는 스케줄러
+ * <p>
+ * 하트비트는 주석 프레임({@code :ping})이라 클라이언트의 이벤트 처리나 {@code Last-Event-ID}에 영향을 주지 않으며,
+ * 프록시가 유휴 스트림을 먼저 닫지 않게 합니다. 하트비트도 일반 이벤트처럼 연결 대기열을 거치므로, 응답이 없는
+ * 연결은 쓰기 실패 시 {@link SseDispatcher}가 닫고, 대기열이 {@code stallTimeout} 동안 줄지 않는 연결은 여기서 끊습니다.
+ * 종료 콜백을 받지 못해 닫힌 채 남은 연결도 함께 저장소에서 제거합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class SseHeartbeat {
+
+    private static final String METRIC_PREFIX = "otboo.sse";
+
+    private final SseEmitterRepository emitterRepository;
+    private final SseDispatcher dispatcher;
+    private final SsePresenceRegistry presenceRegistry;
+    private final SseService sseService;
+    private final SseHeartbeatProperties properties;
+
+    private final AtomicInteger lastReaped = new AtomicInteger();
+
+    public SseHeartbeat(
+        SseEmitterRepository emitterRepository,
+        SseDispatcher dispatcher,
+        SsePresenceRegistry presenceRegistry,
+        SseService sseService,
+        SseProperties sseProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.emitterRepository = emitterRepository;
+        this.dispatcher = dispatcher;
+        this.presenceRegistry = presenceRegistry;
+        this.sseService = sseService;
+        this.properties = sseProperties.heartbeat();
+
+        Gauge.builder(METRIC_PREFIX + ".connections", emitterRepository, SseEmitterRepository::size)
+            .description("현재 인스턴스의 SSE 연결 수")
+            .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".heartbeat.reaped", lastReaped, AtomicInteger::get)
+            .description("직전 하트비트에서 정리한 SSE 연결 수")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${otboo.sse.heartbeat.interval-ms:15000}")
+    public void beat() {
+        List<SseConnection> connections = emitterRepository.getAll();
+        long now = System.nanoTime();
+        long stallNanos = properties.stallTimeout().toNanos();
+        int reaped = 0;
+
+        for (int from = 0; from < connections.size(); from += properties.batchSize()) {
+            List<SseConnection> batch =
+                connections.subList(from, Math.min(from + properties.batchSize(), connections.size()));
+            Set<UUID> alive = new HashSet<>();
+
+            for (SseConnection connection : batch) {
+                if (connection.isClosed()) {
+                    sseService.disconnect(connection);
+                    reaped++;
+                    continue;
+                }
+                if (connection.isStalled(now, stallNanos)) {
+                    log.warn("[SseHeartbeat] 응답 없는 연결 종료 - userId: {}", connection.getUserId());
+                    dispatcher.close(connection);
+                    sseService.disconnect(connection);
+                    reaped++;
+                    continue;
+                }
+                dispatcher.enqueue(connection, SseEmitter.event().comment("ping"));
+                alive.add(connection.getUserId());
+            }
+
+            try {
+                presenceRegistry.refresh(alive);
+            } catch (Exception e) {
+                log.warn("[SseHeartbeat] 접속 기록 갱신 실패 - users: {}", alive.size(), e);
+            }
+        }
+
+        lastReaped.set(reaped);
+        if (reaped > 0) {
+            log.info("[SseHeartbeat] 연결 정리 - reaped: {}, remaining: {}",
+                reaped, emitterRepository.size());
+        }
+    }
+}
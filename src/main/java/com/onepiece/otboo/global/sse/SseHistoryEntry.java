@@ -0,0 +1,10 @@
+package com.onepiece.otboo.global.sse;
+
+import java.util.UUID;
+
+public record SseHistoryEntry(
+    UUID userId,
+    Object data
+) {
+
+}
@@ -0,0 +1,9 @@
+package com.onepiece.otboo.global.sse;
+
+public record SseHistoryEvent(
+    String id,
+    String name,
+    Object data
+) {
+
+}
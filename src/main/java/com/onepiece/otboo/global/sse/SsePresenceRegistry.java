@@ -0,0 +1,35 @@
+package com.onepiece.otboo.global.sse;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 사용자별 SSE 접속 위치(인스턴스) 레지스트리
+ * <p>
+ * 알림 전송 전에 어느 인스턴스에도 접속하지 않은 수신자를 걸러내어, 클러스터 전체로 퍼지는 전송 메시지를 실제 접속자
+ * 몫으로 줄입니다.
+ * </p>
+ */
+public interface SsePresenceRegistry {
+
+    /**
+     * 현재 인스턴스에 사용자가 접속했음을 기록합니다. 이미 기록된 경우 만료 시각을 갱신합니다.
+     */
+    void online(UUID userId);
+
+    /**
+     * 현재 인스턴스에 여전히 접속해 있는 사용자들의 기록 만료 시각을 한 번에 갱신합니다. 하트비트마다 호출됩니다.
+     */
+    void refresh(Collection<UUID> userIds);
+
+    /**
+     * 현재 인스턴스에서 사용자의 접속이 모두 끊겼음을 기록합니다. 다른 인스턴스의 접속 기록은 유지됩니다.
+     */
+    void offline(UUID userId);
+
+    /**
+     * 주어진 사용자 중 어느 인스턴스에든 접속해 있는 사용자를 반환합니다.
+     */
+    Set<UUID> onlineAmong(Collection<UUID> userIds);
+}
@@ -1,11 +1,13 @@
 package com.onepiece.otboo.global.sse;
 
-import java.io.IOException;
+import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
 
 @Slf4j
 @Service
@@ -14,58 +16,102 @@ public class SseService {
 
     private static final long DEFAULT_TIMEOUT = 60L * 1000 * 60;
     private final SseEmitterRepository emitterRepository;
+    private final SsePresenceRegistry presenceRegistry;
+    private final SseEventHistory eventHistory;
+    private final SseDispatcher dispatcher;
 
     /**
-     * 클라이언트와 SSE 연결을 생성합니다.
+     * 클라이언트와 SSE 연결을 생성합니다. 같은 사용자의 기존 연결은 유지됩니다.
      *
      * @param userId      연결할 사용자 ID
-     * @param lastEventId 클라이언트가 마지막으로 수신한 이벤트 ID (재연결 시)
+     * @param lastEventId 클라이언트가 마지막으로 수신한 이벤트 ID (재연결 시). 이후 기록된 이벤트를 다시 전송합니다.
      */
     public SseEmitter connect(UUID userId, String lastEventId) {
         SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
-        emitterRepository.save(userId, emitter);
+        SseConnection connection = new SseConnection(userId, emitter);
+        // 재전송보다 먼저 등록해, 재전송 중에 도착한 이벤트를 놓치지 않음 (중복은 알림 ID로 구분 가능)
+        emitterRepository.save(userId, connection);
+        presenceRegistry.online(userId);
 
-        emitter.onCompletion(() -> emitterRepository.delete(userId));
-        emitter.onTimeout(() -> emitterRepository.delete(userId));
-        emitter.onError((e) -> emitterRepository.delete(userId));
+        emitter.onCompletion(() -> disconnect(connection));
+        emitter.onTimeout(() -> disconnect(connection));
+        emitter.onError((e) -> disconnect(connection));
 
-        try {
-            emitter.send(SseEmitter.event()
-                .id(UUID.randomUUID().toString())
-                .name("notifications")
-                .data("SSE connected successfully."));
-            log.info("[SSE] Connected: {}", userId);
-        } catch (IOException e) {
-            log.error("[SSE] Initial event send failed for user: {}", userId, e);
+        // 연결 확인 이벤트에는 ID를 붙이지 않아 클라이언트의 Last-Event-ID가 바뀌지 않음
+        dispatcher.enqueue(connection, SseEmitter.event()
+            .name("notifications")
+            .data("SSE connected successfully."));
+        if (lastEventId != null && !lastEventId.isBlank()) {
+            replay(connection, lastEventId);
         }
+        log.info("[SSE] Connected: {}", userId);
 
         return emitter;
     }
 
     /**
-     * 특정 사용자에게 이벤트를 전송합니다.
+     * 특정 사용자에게 이벤트를 전송합니다. 이벤트는 사용자의 모든 연결 대기열에 들어가며, 실제 전송은
+     * {@link SseDispatcher}가 비동기로 처리합니다. 재연결 시 다시 보낼 이벤트는 발행 측에서 {@link SseEventHistory}에
+     * 수신자별로 한 번만 기록하고, 여기서는 그 ID만 붙입니다.
      *
      * @param userId    수신자 ID
      * @param eventName 이벤트 이름 (예: "notifications", "directMessages" 등)
      * @param data      전송할 데이터 (DTO, 문자열 등)
+     * @param eventId   기록된 이벤트 ID. 기록되지 않은 이벤트면 null이며, ID 없이 보내 클라이언트의 Last-Event-ID를 바꾸지 않음
      */
-    public void send(UUID userId, String eventName, Object data) {
-        SseEmitter emitter = emitterRepository.get(userId);
-        if (emitter == null) {
+    public void send(UUID userId, String eventName, Object data, @Nullable String eventId) {
+        List<SseConnection> connections = emitterRepository.get(userId);
+        if (connections.isEmpty()) {
             log.warn("[SSE] No active emitter for user: {}", userId);
             return;
         }
 
+        for (SseConnection connection : connections) {
+            SseEventBuilder event = SseEmitter.event().name(eventName).data(data);
+            if (eventId != null) {
+                event.id(eventId);
+            }
+            dispatcher.enqueue(connection, event);
+        }
+        log.debug("[SSE] Queued event '{}' for user: {}, connections: {}",
+            eventName, userId, connections.size());
+    }
+
+    /**
+     * 현재 인스턴스에 연결된 사용자인지 확인합니다.
+     */
+    public boolean isConnected(UUID userId) {
+        return emitterRepository.contains(userId);
+    }
+
+    private void replay(SseConnection connection, String lastEventId) {
+        UUID userId = connection.getUserId();
+        List<SseHistoryEvent> missed;
         try {
-            emitter.send(SseEmitter.event()
-                .id(UUID.randomUUID().toString())
-                .name(eventName)
-                .data(data));
-            log.info("[SSE] Sent event '{}' to user: {}", eventName, userId);
-        } catch (IOException e) {
-            log.error("[SSE] Send failed, removing emitter for user: {}", userId, e);
-            emitterRepository.delete(userId);
-            emitter.completeWithError(e);
+            missed = eventHistory.readAfter(userId, lastEventId);
+        } catch (Exception e) {
+            log.warn("[SSE] Replay lookup failed for user: {}, lastEventId: {}", userId, lastEventId, e);
+            return;
+        }
+
+        for (SseHistoryEvent event : missed) {
+            dispatcher.enqueue(connection, SseEmitter.event()
+                .id(event.id())
+                .name(event.name())
+                .data(event.data()));
+        }
+        if (!missed.isEmpty()) {
+            log.info("[SSE] Replaying {} events to user: {}", missed.size(), userId);
+        }
+    }
+
+    /**
+     * 연결을 저장소에서 제거하고, 사용자의 마지막 연결이었으면 접속 기록을 지웁니다.
+     */
+    void disconnect(SseConnection connection) {
+        dispatcher.release(connection);
+        if (emitterRepository.delete(connection.getUserId(), connection)) {
+            presenceRegistry.offline(connection.getUserId());
         }
     }
-}
\ No newline at end of file
+}
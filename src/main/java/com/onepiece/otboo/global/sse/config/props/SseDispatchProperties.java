@@ -0,0 +1,19 @@
+package com.onepiece.otboo.global.sse.config.props;
+
+/**
+ * 연결별 SSE 전송 대기열 설정
+ *
+ * @param queueCapacity    연결마다 쌓아 둘 수 있는 최대 이벤트 수. 초과하면 가장 오래된 이벤트를 버립니다.
+ * @param evictAfterDrops  마지막 전송 성공 이후 이만큼 버리면 느린 연결로 보고 끊습니다. 클라이언트는 재연결하면서
+ *                         {@code Last-Event-ID} 이후 이벤트를 다시 받습니다.
+ */
+public record SseDispatchProperties(
+    Integer queueCapacity,
+    Integer evictAfterDrops
+) {
+
+    public SseDispatchProperties {
+        queueCapacity = queueCapacity == null ? 200 : queueCapacity;
+        evictAfterDrops = evictAfterDrops == null ? 50 : evictAfterDrops;
+    }
+}
@@ -0,0 +1,32 @@
+package com.onepiece.otboo.global.sse.config.props;
+
+import java.time.Duration;
+
+/**
+ * SSE 하트비트 및 끊긴 연결 정리 설정
+ *
+ * @param intervalMs   모든 연결에 하트비트(주석 프레임)를 보내는 주기. 프록시의 유휴 타임아웃(nginx 기본 60초)보다
+ *                     짧아야 합니다.
+ * @param batchSize    한 번에 처리하는 연결 수. 배치마다 접속 기록 만료 시각을 한 번에 갱신합니다.
+ * @param stallTimeout 대기 중인 이벤트가 있는데 이 시간 동안 전송이 한 번도 성공하지 않은 연결은 끊습니다.
+ */
+public record SseHeartbeatProperties(
+    Long intervalMs,
+    Integer batchSize,
+    Duration stallTimeout
+) {
+
+    public SseHeartbeatProperties {
+        intervalMs = intervalMs == null ? 15_000L : intervalMs;
+        batchSize = batchSize == null ? 500 : batchSize;
+        stallTimeout = stallTimeout == null ? Duration.ofSeconds(60) : stallTimeout;
+    }
+
+    /**
+     * 하트비트가 몇 번 빠져도 접속 기록이 유지되도록, 주기의 4배(최소 1분)를 접속 기록 보관 기간으로 씁니다.
+     */
+    public Duration presenceTtl() {
+        Duration ttl = Duration.ofMillis(intervalMs * 4);
+        return ttl.compareTo(Duration.ofMinutes(1)) < 0 ? Duration.ofMinutes(1) : ttl;
+    }
+}
@@ -0,0 +1,17 @@
+package com.onepiece.otboo.global.sse.config.props;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "otboo.sse")
+public record SseProperties(
+    SseReplayProperties replay,
+    SseDispatchProperties dispatch,
+    SseHeartbeatProperties heartbeat
+) {
+
+    public SseProperties {
+        replay = replay == null ? new SseReplayProperties(null, null) : replay;
+        dispatch = dispatch == null ? new SseDispatchProperties(null, null) : dispatch;
+        heartbeat = heartbeat == null ? new SseHeartbeatProperties(null, null, null) : heartbeat;
+    }
+}
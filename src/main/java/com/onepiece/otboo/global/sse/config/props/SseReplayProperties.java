@@ -0,0 +1,20 @@
+package com.onepiece.otboo.global.sse.config.props;
+
+import java.time.Duration;
+
+/**
+ * 재연결 시 놓친 이벤트를 다시 보내기 위한 사용자별 이벤트 기록 설정
+ *
+ * @param capacity 사용자별로 보관하는 최대 이벤트 수 (초과분은 오래된 것부터 제거)
+ * @param ttl      마지막 이벤트 이후 기록 보관 기간
+ */
+public record SseReplayProperties(
+    Integer capacity,
+    Duration ttl
+) {
+
+    public SseReplayProperties {
+        capacity = capacity == null ? 100 : capacity;
+        ttl = ttl == null ? Duration.ofMinutes(30) : ttl;
+    }
+}
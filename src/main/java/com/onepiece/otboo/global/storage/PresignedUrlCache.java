@@ -0,0 +1,78 @@
+package com.onepiece.otboo.global.storage;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 객체 키별 Presigned URL 캐시
+ * <p>
+ * 목록 한 페이지에서 같은 이미지 키에 대해 SigV4 서명을 반복하지 않도록 발급한 URL을 재사용합니다. 항목은 Presigned URL
+ * 만료 시간의 {@code ttl-ratio} 비율만큼만 유지되므로, 캐시에서 꺼낸 URL도 최소 (1 - ttl-ratio) 만큼의 유효 시간이
+ * 남아 있습니다.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "aws.storage.type", havingValue = "s3")
+public class PresignedUrlCache {
+
+    private final Cache<String, String> cache;
+
+    @Autowired
+    public PresignedUrlCache(
+        @Value("${aws.storage.presigned-url-expiration}") long presignedExpiration,
+        @Value("${aws.storage.presigned-url-cache.ttl-ratio:0.5}") double ttlRatio,
+        @Value("${aws.storage.presigned-url-cache.maximum-size:10000}") long maximumSize,
+        MeterRegistry meterRegistry
+    ) {
+        this(maximumSize, ttlOf(presignedExpiration, ttlRatio));
+        if (cache != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, "presignedUrls");
+        }
+    }
+
+    public PresignedUrlCache(long maximumSize, Duration ttl) {
+        this.cache = (maximumSize <= 0 || ttl.isZero() || ttl.isNegative())
+            ? null
+            : Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시를 사용하지 않고 매번 서명하는 인스턴스
+     */
+    public static PresignedUrlCache disabled() {
+        return new PresignedUrlCache(0, Duration.ZERO);
+    }
+
+    /**
+     * 캐시된 URL을 반환하고, 없으면 {@code presigner}로 발급해 저장합니다. 발급 중 예외는 캐시하지 않고 그대로 전파합니다.
+     */
+    public String get(String key, Function<String, String> presigner) {
+        if (cache == null || key == null) {
+            return presigner.apply(key);
+        }
+        return cache.get(key, presigner);
+    }
+
+    public void invalidate(String key) {
+        if (cache != null && key != null) {
+            cache.invalidate(key);
+        }
+    }
+
+    private static Duration ttlOf(long presignedExpirationSeconds, double ttlRatio) {
+        double ratio = Math.max(0.0, Math.min(1.0, ttlRatio));
+        return Duration.ofMillis((long) (presignedExpirationSeconds * 1000 * ratio));
+    }
+}
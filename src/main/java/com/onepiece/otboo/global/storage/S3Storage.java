@@ -8,6 +8,7 @@ import java.net.URL;
 import java.time.Duration;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
@@ -34,17 +35,26 @@ public class S3Storage implements FileStorage {
 
     private final String bucket;
 
+    private final PresignedUrlCache presignedUrlCache;
+
     private final long MAX_SIZE = 5 * 1024 * 1024;
 
     @Value("${aws.storage.presigned-url-expiration}")
     private long presignedExpiration;
 
+    @Autowired
     public S3Storage(S3Client s3Client,
         S3Presigner s3Presigner,
-        @Value("${aws.storage.bucket}") String bucket) {
+        @Value("${aws.storage.bucket}") String bucket,
+        PresignedUrlCache presignedUrlCache) {
         this.s3Client = s3Client;
         this.s3Presigner = s3Presigner;
         this.bucket = bucket;
+        this.presignedUrlCache = presignedUrlCache;
+    }
+
+    public S3Storage(S3Client s3Client, S3Presigner s3Presigner, String bucket) {
+        this(s3Client, s3Presigner, bucket, PresignedUrlCache.disabled());
     }
 
     @Override
@@ -82,27 +92,16 @@ public class S3Storage implements FileStorage {
                 .build();
 
             s3Client.deleteObject(deleteRequest);
+            presignedUrlCache.invalidate(key);
         } catch (Exception e) {
             log.warn("[S3Storage] S3에서 이미지 삭제 중 오류 발생- key: {}", key, e);
         }
     }
 
     public String generatePresignedUrl(String key) {
-        // Presigned Url 생성
+        // Presigned Url 생성 (만료 전까지 캐시된 URL 재사용)
         try {
-            GetObjectRequest getRequest = GetObjectRequest.builder()
-                .bucket(bucket)
-                .key(key)
-                .build();
-
-            GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
-                .signatureDuration(Duration.ofSeconds(presignedExpiration))
-                .getObjectRequest(getRequest)
-                .build();
-
-            return s3Presigner.presignGetObject(presignRequest)
-                .url()
-                .toString();
+            return presignedUrlCache.get(key, this::presign);
         } catch (Exception e) {
             log.warn("[S3Storage] Presigned URL 생성 실패, S3Utilities URL로 폴백 시도 - key: {}", key, e);
             URL url = s3Client.utilities().getUrl(GetUrlRequest.builder()
@@ -113,6 +112,22 @@ public class S3Storage implements FileStorage {
         }
     }
 
+    private String presign(String key) {
+        GetObjectRequest getRequest = GetObjectRequest.builder()
+            .bucket(bucket)
+            .key(key)
+            .build();
+
+        GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
+            .signatureDuration(Duration.ofSeconds(presignedExpiration))
+            .getObjectRequest(getRequest)
+            .build();
+
+        return s3Presigner.presignGetObject(presignRequest)
+            .url()
+            .toString();
+    }
+
     private void validateImage(String contentType, long size) {
         if (contentType == null) {
             throw new InvalidFileTypeException(contentType);
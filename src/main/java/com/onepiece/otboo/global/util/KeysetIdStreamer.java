@@ -0,0 +1,57 @@
+package com.onepiece.otboo.global.util;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.springframework.data.domain.Limit;
+
+/**
+ * ID 프로젝션을 키셋(id 오름차순, 마지막 id 이후) 방식으로 나눠 읽어 배치 단위로 넘겨주는 유틸
+ * <p>
+ * 대상이 몇 명이든 한 번에 메모리에 올라가는 ID는 {@code batchSize}개를 넘지 않습니다. 페이지 조회는
+ * {@code where id > :afterId order by id limit :limit} 형태여야 하며, 첫 페이지는 {@link #FIRST}부터 시작합니다.
+ * </p>
+ */
+public final class KeysetIdStreamer {
+
+    /**
+     * DB의 UUID 정렬(부호 없는 바이트 순)에서 가장 작은 값
+     */
+    public static final UUID FIRST = new UUID(0L, 0L);
+
+    private KeysetIdStreamer() {
+    }
+
+    @FunctionalInterface
+    public interface Page {
+
+        List<UUID> fetch(UUID afterId, Limit limit);
+    }
+
+    /**
+     * 모든 ID를 배치 단위로 소비합니다.
+     *
+     * @return 소비한 전체 ID 수
+     */
+    public static long forEachBatch(int batchSize, Page page, Consumer<List<UUID>> consumer) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+
+        Limit limit = Limit.of(batchSize);
+        UUID afterId = FIRST;
+        long total = 0;
+        while (true) {
+            List<UUID> batch = page.fetch(afterId, limit);
+            if (batch.isEmpty()) {
+                return total;
+            }
+            consumer.accept(batch);
+            total += batch.size();
+            if (batch.size() < batchSize) {
+                return total;
+            }
+            afterId = batch.get(batch.size() - 1);
+        }
+    }
+}
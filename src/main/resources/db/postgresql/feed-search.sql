@@ -0,0 +1,9 @@
+-- 피드 본문 키워드 검색용 인덱스 (PostgreSQL 전용, schema.sql은 H2와 호환되어야 하므로 분리)
+-- 운영(prod)에서는 spring.sql.init으로 기동 시마다, docker-compose DB는 최초 초기화 시 schema.sql 다음에 실행됩니다.
+-- otboo.feed.search.backend=trigram 의 조건식 lower(content) LIKE '%키워드%' 와 인덱스 식 lower(content)가
+-- 정확히 같아야 인덱스를 사용합니다 (TrigramFeedSearchBackend 참고).
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_feeds_content_trgm
+    ON feeds USING gin (lower(content) gin_trgm_ops);
@@ -29,6 +29,8 @@
 -- DROP TABLE IF EXISTS follows CASCADE;
 -- DROP TABLE IF EXISTS weather_data CASCADE;
 -- DROP TABLE IF EXISTS notifications CASCADE;
+-- DROP TABLE IF EXISTS broadcast_notification_dismissals CASCADE;
+-- DROP TABLE IF EXISTS broadcast_notifications CASCADE;
 -- DROP TABLE IF EXISTS user_profiles CASCADE;
 -- DROP TABLE IF EXISTS feeds CASCADE;
 -- DROP TABLE IF EXISTS clothes CASCADE;
@@ -99,6 +101,7 @@ CREATE TABLE IF NOT EXISTS clothes
     type       varchar(20),
     image_url  text,
     feed_count bigint                   NOT NULL DEFAULT 0,
+    season_mask smallint                NOT NULL DEFAULT 0,
     created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
     updated_at TIMESTAMP WITH TIME ZONE,
     FOREIGN KEY (owner_id) REFERENCES users (id) ON DELETE CASCADE,
@@ -294,18 +297,114 @@ CREATE TABLE IF NOT EXISTS notifications
     CHECK (level IN ('INFO', 'WARNING', 'ERROR'))
 );
 
+/*
+    전체 사용자 대상 알림: 수신자별로 복제하지 않고 한 행만 저장하며, 읽음 처리한 사용자만 별도로 기록한다.
+ */
+CREATE TABLE IF NOT EXISTS broadcast_notifications
+(
+    id         uuid PRIMARY KEY,
+    level      varchar(20)              NOT NULL,
+    title      varchar(255)             NOT NULL,
+    content    varchar(255)             NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    CHECK (level IN ('INFO', 'WARNING', 'ERROR'))
+);
+
+CREATE TABLE IF NOT EXISTS broadcast_notification_dismissals
+(
+    id           uuid PRIMARY KEY,
+    broadcast_id uuid                     NOT NULL,
+    user_id      uuid                     NOT NULL,
+    created_at   TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    UNIQUE (user_id, broadcast_id),
+    FOREIGN KEY (broadcast_id) REFERENCES broadcast_notifications (id) ON DELETE CASCADE,
+    FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+);
+
 CREATE TABLE IF NOT EXISTS weather_alert_outboxes
 (
-    id          uuid PRIMARY KEY,
-    location_id UUID                     NOT NULL,
-    title       VARCHAR(255)             NOT NULL,
-    message     TEXT                     NOT NULL,
-    status      VARCHAR(20)              NOT NULL DEFAULT 'PENDING',
-    created_at  TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    id              uuid PRIMARY KEY,
+    location_id     UUID                     NOT NULL,
+    title           VARCHAR(255)             NOT NULL,
+    message         TEXT                     NOT NULL,
+    status          VARCHAR(20)              NOT NULL DEFAULT 'PENDING',
+    recipient_count INTEGER                  NOT NULL DEFAULT 0,
+    sent_count      INTEGER                  NOT NULL DEFAULT 0,
+    failed_count    INTEGER                  NOT NULL DEFAULT 0,
+    created_at      TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
     FOREIGN KEY (location_id) REFERENCES locations (id) ON DELETE CASCADE,
-    CHECK (status IN ('PENDING', 'SEND', 'FAILED'))
+    CONSTRAINT weather_alert_outboxes_status_check CHECK (status IN ('PENDING', 'SENDING', 'SEND', 'FAILED'))
 );
 
+/*
+    도메인 이벤트 outbox: 비즈니스 트랜잭션 안에서 기록하고 릴레이가 SKIP LOCKED로 가져가 Kafka로 발행한다.
+ */
+CREATE TABLE IF NOT EXISTS event_outbox
+(
+    id             uuid PRIMARY KEY,
+    topic          VARCHAR(255)             NOT NULL,
+    record_key     VARCHAR(255),
+    payload        BYTEA                    NOT NULL,
+    content_type   VARCHAR(100)             NOT NULL,
+    schema_name    VARCHAR(100)             NOT NULL,
+    schema_version INT                      NOT NULL,
+    status          VARCHAR(20)              NOT NULL DEFAULT 'PENDING',
+    attempts        INT                      NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    locked_until    TIMESTAMP WITH TIME ZONE,
+    created_at      TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    sent_at         TIMESTAMP WITH TIME ZONE,
+    CONSTRAINT event_outbox_status_check CHECK (status IN ('PENDING', 'IN_FLIGHT', 'SENT', 'FAILED'))
+);
+
+/*
+    일회성 데이터 이관 기록: 이관 UPDATE는 여기에 이름이 없을 때만 실행하고 실행 후 이름을 남긴다.
+ */
+CREATE TABLE IF NOT EXISTS schema_migrations
+(
+    name       VARCHAR(100) PRIMARY KEY,
+    applied_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now()
+);
+
+/*
+    clothes.season_mask 도입 이전에 생성된 DB용: 컬럼 추가 후 계절 속성(봄=1, 여름=2, 가을=4, 겨울=8)으로 한 번만 채운다.
+    이후 값은 의상 생성/속성 변경 시 애플리케이션이 갱신한다.
+ */
+ALTER TABLE clothes ADD COLUMN IF NOT EXISTS season_mask smallint NOT NULL DEFAULT 0;
+UPDATE clothes
+SET season_mask = (SELECT COALESCE(SUM(DISTINCT CASE a.option_value
+                                                   WHEN '봄' THEN 1
+                                                   WHEN '여름' THEN 2
+                                                   WHEN '가을' THEN 4
+                                                   WHEN '겨울' THEN 8
+                                                   ELSE 0 END), 0)
+                   FROM clothes_attributes a
+                   WHERE a.clothes_id = clothes.id)
+WHERE season_mask = 0
+  AND NOT EXISTS (SELECT 1 FROM schema_migrations WHERE name = 'clothes_season_mask_backfill');
+INSERT INTO schema_migrations (name)
+SELECT 'clothes_season_mask_backfill'
+WHERE NOT EXISTS (SELECT 1 FROM schema_migrations WHERE name = 'clothes_season_mask_backfill');
+
+/*
+    발행 결과 집계 도입 이전에 생성된 weather_alert_outboxes용: 집계 컬럼을 추가하고 SENDING을 허용하도록 상태 제약을 다시 건다.
+ */
+ALTER TABLE weather_alert_outboxes ADD COLUMN IF NOT EXISTS recipient_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE weather_alert_outboxes ADD COLUMN IF NOT EXISTS sent_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE weather_alert_outboxes ADD COLUMN IF NOT EXISTS failed_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE weather_alert_outboxes DROP CONSTRAINT IF EXISTS weather_alert_outboxes_status_check;
+ALTER TABLE weather_alert_outboxes ADD CONSTRAINT weather_alert_outboxes_status_check
+    CHECK (status IN ('PENDING', 'SENDING', 'SEND', 'FAILED'));
+
+/*
+    재시도 간격/발행 임대 도입 이전에 생성된 event_outbox용: 컬럼을 추가하고 IN_FLIGHT를 허용하도록 상태 제약을 다시 건다.
+ */
+ALTER TABLE event_outbox ADD COLUMN IF NOT EXISTS next_attempt_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now();
+ALTER TABLE event_outbox ADD COLUMN IF NOT EXISTS locked_until TIMESTAMP WITH TIME ZONE;
+ALTER TABLE event_outbox DROP CONSTRAINT IF EXISTS event_outbox_status_check;
+ALTER TABLE event_outbox ADD CONSTRAINT event_outbox_status_check
+    CHECK (status IN ('PENDING', 'IN_FLIGHT', 'SENT', 'FAILED'));
+
 /*
 ============= INDEX (조회 성능 최적화용) =============
  */
@@ -315,6 +414,10 @@ CREATE INDEX IF NOT EXISTS idx_feed_comments_feed_created_at ON feed_comments (f
 CREATE INDEX IF NOT EXISTS idx_feed_likes_feed ON feed_likes (feed_id);
 CREATE INDEX IF NOT EXISTS idx_feed_author_created_at ON feeds (author_id, created_at DESC);
 CREATE INDEX IF NOT EXISTS idx_weather_location_time ON weather_data (location_id, forecast_at);
+-- 계절 필터를 옷장 인덱스로 옮겨 season_mask로 조회하는 쿼리가 없음
+DROP INDEX IF EXISTS idx_clothes_owner_type_season;
+CREATE INDEX IF NOT EXISTS idx_follows_following_follower ON follows (following_id, follower_id);
+CREATE INDEX IF NOT EXISTS idx_broadcast_notifications_created_at ON broadcast_notifications (created_at DESC);
 
 /*
     Batch Job을 커스터마이징하게 되면 batch.jdbc.initialize-schema=always 설정이 동작하지 않을 수 있다.
@@ -406,3 +509,8 @@ CREATE SEQUENCE IF NOT EXISTS BATCH_JOB_EXECUTION_SEQ AS BIGINT MAXVALUE 9223372
 CREATE SEQUENCE IF NOT EXISTS BATCH_JOB_SEQ AS BIGINT MAXVALUE 9223372036854775807 NO CYCLE;
 CREATE INDEX IF NOT EXISTS idx_weather_alert_outboxes_location_id ON weather_alert_outboxes (location_id);
 CREATE INDEX IF NOT EXISTS idx_weather_alert_outboxes_status ON weather_alert_outboxes (status);
+-- 상태를 앞에 둬 발행된 행이 쌓여도 선점/정리 조회가 해당 상태 구간만 읽음 (H2는 부분 인덱스를 지원하지 않음)
+DROP INDEX IF EXISTS idx_event_outbox_pending;
+DROP INDEX IF EXISTS idx_event_outbox_sent_at;
+CREATE INDEX IF NOT EXISTS idx_event_outbox_status_created_at ON event_outbox (status, created_at);
+CREATE INDEX IF NOT EXISTS idx_event_outbox_status_sent_at ON event_outbox (status, sent_at);
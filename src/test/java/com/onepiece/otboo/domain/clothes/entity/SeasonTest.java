@@ -0,0 +1,50 @@
+package com.onepiece.otboo.domain.clothes.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SeasonTest {
+
+    @Test
+    @DisplayName("계절 속성 값을 해당 계절 비트로 바꾼다")
+    void maskOf_seasonValue() {
+        assertThat(Season.maskOf("봄")).isEqualTo(Season.SPRING.getBit());
+        assertThat(Season.maskOf("여름")).isEqualTo(Season.SUMMER.getBit());
+        assertThat(Season.maskOf("가을")).isEqualTo(Season.FALL.getBit());
+        assertThat(Season.maskOf("겨울")).isEqualTo(Season.WINTER.getBit());
+    }
+
+    @Test
+    @DisplayName("계절이 아닌 값과 null은 0이다")
+    void maskOf_nonSeasonValue() {
+        assertThat(Season.maskOf("빨강")).isZero();
+        assertThat(Season.maskOf((String) null)).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 속성 값의 계절 비트를 합치고 계절이 아닌 값은 무시한다")
+    void maskOf_values() {
+        assertThat(Season.maskOf(List.of("봄", "빨강", "가을", "봄")))
+            .isEqualTo(Season.SPRING.getBit() | Season.FALL.getBit());
+        assertThat(Season.maskOf(List.of())).isZero();
+    }
+
+    @Test
+    @DisplayName("의상의 계절 비트마스크를 속성 값으로 다시 계산한다")
+    void clothes_updateSeasonMask() {
+        Clothes clothes = Clothes.builder()
+            .name("코트")
+            .type(ClothesType.TOP)
+            .build();
+
+        clothes.updateSeasonMask(List.of("가을", "겨울"));
+        assertThat(clothes.getSeasonMask())
+            .isEqualTo((short) (Season.FALL.getBit() | Season.WINTER.getBit()));
+
+        clothes.updateSeasonMask(List.of("빨강"));
+        assertThat(clothes.getSeasonMask()).isZero();
+    }
+}
@@ -5,11 +5,16 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
+import com.onepiece.otboo.domain.clothes.dto.data.ClothesAttributeDto;
 import com.onepiece.otboo.domain.clothes.dto.data.ClothesDto;
 import com.onepiece.otboo.domain.clothes.dto.request.ClothesAttributeDefCreateRequest;
+import com.onepiece.otboo.domain.clothes.dto.request.ClothesCreateRequest;
+import com.onepiece.otboo.domain.clothes.dto.request.ClothesUpdateRequest;
 import com.onepiece.otboo.domain.clothes.entity.Clothes;
 import com.onepiece.otboo.domain.clothes.entity.ClothesAttributeDefs;
+import com.onepiece.otboo.domain.clothes.entity.ClothesAttributes;
 import com.onepiece.otboo.domain.clothes.entity.ClothesType;
+import com.onepiece.otboo.domain.clothes.entity.Season;
 import com.onepiece.otboo.domain.clothes.mapper.ClothesAttributeMapper;
 import com.onepiece.otboo.domain.clothes.mapper.ClothesMapper;
 import com.onepiece.otboo.domain.clothes.repository.ClothesAttributeDefRepository;
@@ -18,16 +23,20 @@ import com.onepiece.otboo.domain.clothes.repository.ClothesAttributeRepository;
 import com.onepiece.otboo.domain.clothes.repository.ClothesRepository;
 import com.onepiece.otboo.domain.user.entity.User;
 import com.onepiece.otboo.domain.user.fixture.UserFixture;
+import com.onepiece.otboo.domain.user.repository.UserRepository;
 import com.onepiece.otboo.global.dto.response.CursorPageResponseDto;
 import com.onepiece.otboo.global.enums.SortBy;
 import com.onepiece.otboo.global.enums.SortDirection;
 import com.onepiece.otboo.global.event.event.ClothesAttributeAddedEvent;
+import com.onepiece.otboo.global.event.event.WardrobeChangedEvent;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -54,6 +63,9 @@ class ClothesServiceTest {
     @Mock
     private ClothesMapper clothesMapper;
 
+    @Mock
+    private UserRepository userRepository;
+
     @InjectMocks
     private ClothesServiceImpl clothesService;
 
@@ -217,4 +229,100 @@ class ClothesServiceTest {
 
         verify(eventPublisher).publishEvent(any(ClothesAttributeAddedEvent.class));
     }
+
+    @Test
+    void 의상_등록시_계절_속성으로_계절_비트마스크를_저장한다() throws Exception {
+        // given
+        UUID ownerId = UUID.randomUUID();
+        User owner = UserFixture.createUser("test@test.com");
+        ReflectionTestUtils.setField(owner, "id", ownerId);
+        ClothesAttributeDefs def = ClothesAttributeDefs.builder().name("계절").build();
+        ClothesCreateRequest request = new ClothesCreateRequest(ownerId, "코트", ClothesType.TOP,
+            List.of(new ClothesAttributeDto(UUID.randomUUID(), "봄"),
+                new ClothesAttributeDto(UUID.randomUUID(), "가을"),
+                new ClothesAttributeDto(UUID.randomUUID(), "빨강")));
+
+        given(userRepository.findById(ownerId)).willReturn(Optional.of(owner));
+        given(clothesAttributeDefRepository.findById(any())).willReturn(Optional.of(def));
+        given(clothesRepository.save(any())).willAnswer(inv -> inv.getArgument(0));
+        given(attributeRepository.saveAll(any())).willAnswer(inv -> inv.getArgument(0));
+
+        // when
+        clothesService.createClothes(request, null);
+
+        // then
+        ArgumentCaptor<Clothes> captor = ArgumentCaptor.forClass(Clothes.class);
+        verify(clothesRepository).save(captor.capture());
+        assertThat(captor.getValue().getSeasonMask())
+            .isEqualTo((short) (Season.SPRING.getBit() | Season.FALL.getBit()));
+    }
+
+    @Test
+    void 의상_속성_수정시_계절_비트마스크를_다시_계산한다() throws Exception {
+        // given
+        UUID clothesId = UUID.randomUUID();
+        User owner = UserFixture.createUser("test@test.com");
+        ReflectionTestUtils.setField(owner, "id", UUID.randomUUID());
+        Clothes clothes = Clothes.builder()
+            .owner(owner)
+            .name("코트")
+            .type(ClothesType.TOP)
+            .build();
+        clothes.updateSeasonMask(List.of("봄"));
+        ClothesAttributeDefs def = ClothesAttributeDefs.builder().name("계절").build();
+        ClothesUpdateRequest request = new ClothesUpdateRequest("코트", ClothesType.TOP,
+            List.of(new ClothesAttributeDto(UUID.randomUUID(), "여름"),
+                new ClothesAttributeDto(UUID.randomUUID(), "겨울")));
+
+        given(clothesRepository.findById(clothesId)).willReturn(Optional.of(clothes));
+        given(attributeRepository.findByClothesId(clothesId)).willReturn(List.of());
+        given(clothesAttributeDefRepository.findById(any())).willReturn(Optional.of(def));
+        given(attributeRepository.saveAll(any())).willAnswer(inv -> inv.getArgument(0));
+        given(clothesRepository.save(any())).willAnswer(inv -> inv.getArgument(0));
+
+        // when
+        clothesService.updateClothes(clothesId, request, null);
+
+        // then
+        assertThat(clothes.getSeasonMask())
+            .isEqualTo((short) (Season.SUMMER.getBit() | Season.WINTER.getBit()));
+    }
+
+    @Test
+    void 의상속성정의_삭제시_남은_속성으로_계절_비트마스크를_다시_계산하고_옷장_변경_이벤트를_발행한다() {
+        // given
+        UUID definitionId = UUID.randomUUID();
+        UUID clothesId = UUID.randomUUID();
+        UUID ownerId = UUID.randomUUID();
+        User owner = UserFixture.createUser("test@test.com");
+        ReflectionTestUtils.setField(owner, "id", ownerId);
+        Clothes clothes = Clothes.builder()
+            .owner(owner)
+            .name("코트")
+            .type(ClothesType.TOP)
+            .build();
+        ReflectionTestUtils.setField(clothes, "id", clothesId);
+        clothes.updateSeasonMask(List.of("봄", "겨울"));
+        ClothesAttributes remaining = ClothesAttributes.builder()
+            .clothes(clothes)
+            .definition(ClothesAttributeDefs.builder().name("계절").build())
+            .optionValue("겨울")
+            .build();
+
+        given(clothesAttributeDefRepository.findById(definitionId))
+            .willReturn(Optional.of(ClothesAttributeDefs.builder().name("봄 전용").build()));
+        given(attributeRepository.findClothesIdsByDefinitionId(definitionId))
+            .willReturn(List.of(clothesId));
+        given(attributeRepository.findByClothesIdIn(List.of(clothesId))).willReturn(List.of(remaining));
+        given(clothesRepository.findAllById(List.of(clothesId))).willReturn(List.of(clothes));
+
+        // when
+        clothesAttributeDefService.deleteClothesAttributeDef(definitionId);
+
+        // then
+        assertThat(clothes.getSeasonMask()).isEqualTo((short) Season.WINTER.getBit());
+        ArgumentCaptor<WardrobeChangedEvent> captor = ArgumentCaptor.forClass(WardrobeChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().ownerId()).isEqualTo(ownerId);
+    }
 }
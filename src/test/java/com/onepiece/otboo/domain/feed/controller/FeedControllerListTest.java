@@ -12,8 +12,10 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.onepiece.otboo.domain.feed.dto.response.FeedResponse;
+import com.onepiece.otboo.domain.feed.enums.FeedCountMode;
 import com.onepiece.otboo.domain.feed.service.FeedQueryService;
 import com.onepiece.otboo.domain.feed.service.FeedService;
+import com.onepiece.otboo.domain.feed.service.HomeTimelineService;
 import com.onepiece.otboo.global.dto.response.CursorPageResponseDto;
 import com.onepiece.otboo.global.enums.SortBy;
 import com.onepiece.otboo.global.enums.SortDirection;
@@ -45,6 +47,9 @@ class FeedControllerListTest {
     @MockitoBean
     FeedService feedService;
 
+    @MockitoBean
+    HomeTimelineService homeTimelineService;
+
     private CursorPageResponseDto<FeedResponse> 빈응답() {
         return new CursorPageResponseDto<>(
             List.of(), null, null, false, 0L, SortBy.CREATED_AT, SortDirection.DESCENDING
@@ -56,7 +61,7 @@ class FeedControllerListTest {
     void 비인증_필수파라미터만_OK_그리고_me_null() throws Exception {
         SecurityContextHolder.clearContext();
         given(feedQueryService.listFeeds(any(), any(), anyInt(), any(), any(),
-            any(), any(), any(), any(), isNull())).willReturn(빈응답());
+            any(), any(), any(), any(), isNull(), any())).willReturn(빈응답());
 
         mockMvc.perform(get("/api/feeds")
                 .queryParam("limit", "20")
@@ -74,7 +79,7 @@ class FeedControllerListTest {
         ArgumentCaptor<UUID> meCap = ArgumentCaptor.forClass(UUID.class);
         verify(feedQueryService).listFeeds(
             isNull(), isNull(), eq(20), eq(SortBy.CREATED_AT), eq(SortDirection.DESCENDING),
-            isNull(), isNull(), isNull(), isNull(), meCap.capture()
+            isNull(), isNull(), isNull(), isNull(), meCap.capture(), eq(FeedCountMode.EXACT)
         );
         assert meCap.getValue() == null;
     }
@@ -84,7 +89,7 @@ class FeedControllerListTest {
     @DisplayName("[인증] 모든 파라미터 전달 → 200 OK")
     void 인증_전체파라미터_OK_그리고_me_UUID() throws Exception {
         given(feedQueryService.listFeeds(any(), any(), anyInt(), any(), any(),
-            any(), any(), any(), any(), any())).willReturn(빈응답());
+            any(), any(), any(), any(), any(), any())).willReturn(빈응답());
 
         var cursor = Instant.now().toString();
         var idAfter = UUID.randomUUID().toString();
@@ -100,6 +105,7 @@ class FeedControllerListTest {
                 .queryParam("skyStatusEqual", "CLEAR")
                 .queryParam("precipitationTypeEqual", "NONE")
                 .queryParam("authorIdEqual", authorId)
+                .queryParam("countMode", "FIRST_PAGE")
                 .accept(MediaType.APPLICATION_JSON))
             .andExpect(status().isOk())
             .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
@@ -128,7 +134,8 @@ class FeedControllerListTest {
             skyCap.capture(),
             precipCap.capture(),
             authorCap.capture(),
-            meCap.capture()
+            meCap.capture(),
+            eq(FeedCountMode.FIRST_PAGE)
         );
 
         assert cursorCap.getValue().equals(cursor);
@@ -142,4 +149,21 @@ class FeedControllerListTest {
         assert authorCap.getValue().toString().equals(authorId);
         assert meCap.getValue().toString().equals("11111111-1111-1111-1111-111111111111");
     }
+
+    @Test
+    @WithMockUser(username = "11111111-1111-1111-1111-111111111111")
+    @DisplayName("[인증] 홈 타임라인 조회 → 200 OK, 요청자 ID로 위임")
+    void 인증_홈타임라인_OK() throws Exception {
+        given(homeTimelineService.listHomeTimeline(any(), any(), any(), anyInt()))
+            .willReturn(빈응답());
+
+        mockMvc.perform(get("/api/feeds/timeline")
+                .queryParam("limit", "10")
+                .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data").isArray());
+
+        verify(homeTimelineService).listHomeTimeline(
+            eq(UUID.fromString("11111111-1111-1111-1111-111111111111")), isNull(), isNull(), eq(10));
+    }
 }
@@ -15,6 +15,7 @@ import com.onepiece.otboo.domain.feed.dto.request.FeedCreateRequest;
 import com.onepiece.otboo.domain.feed.dto.response.FeedResponse;
 import com.onepiece.otboo.domain.feed.service.FeedQueryService;
 import com.onepiece.otboo.domain.feed.service.FeedService;
+import com.onepiece.otboo.domain.feed.service.HomeTimelineService;
 import com.onepiece.otboo.global.exception.ErrorCode;
 import com.onepiece.otboo.global.exception.GlobalException;
 import java.util.List;
@@ -41,6 +42,8 @@ class FeedControllerTest {
     FeedService feedService;
     @MockitoBean
     FeedQueryService feedQueryService;
+    @MockitoBean
+    HomeTimelineService homeTimelineService;
 
     @Test
     @WithMockUser
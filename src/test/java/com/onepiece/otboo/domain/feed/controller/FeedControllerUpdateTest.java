@@ -19,6 +19,7 @@ import com.onepiece.otboo.domain.feed.dto.request.FeedUpdateRequest;
 import com.onepiece.otboo.domain.feed.dto.response.FeedResponse;
 import com.onepiece.otboo.domain.feed.service.FeedQueryService;
 import com.onepiece.otboo.domain.feed.service.FeedService;
+import com.onepiece.otboo.domain.feed.service.HomeTimelineService;
 import com.onepiece.otboo.global.exception.ErrorCode;
 import com.onepiece.otboo.global.exception.GlobalException;
 import com.onepiece.otboo.infra.security.userdetails.CustomUserDetails;
@@ -49,6 +50,8 @@ class FeedControllerUpdateTest {
     FeedService feedService;
     @MockitoBean
     FeedQueryService feedQueryService;
+    @MockitoBean
+    HomeTimelineService homeTimelineService;
 
     @Test
     @WithMockUser(username = "11111111-1111-1111-1111-111111111111")
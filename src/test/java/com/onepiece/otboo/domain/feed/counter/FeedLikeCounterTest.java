@@ -0,0 +1,95 @@
+package com.onepiece.otboo.domain.feed.counter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.onepiece.otboo.domain.feed.config.props.FeedProperties;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class FeedLikeCounterTest {
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    FeedLikeCounter counter;
+
+    private final UUID feedId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        counter = new FeedLikeCounter(jdbcTemplate, new FeedProperties(null, null, null));
+    }
+
+    @Test
+    @DisplayName("피드별 증감분을 합쳐 한 번의 배치로 반영한다")
+    @SuppressWarnings("unchecked")
+    void flush_appliesSummedDeltaInOneBatch() {
+        IntStream.range(0, 5).parallel().forEach(i -> counter.add(feedId, 1));
+        counter.add(feedId, -1);
+
+        counter.flush();
+
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), captor.capture());
+        assertThat(captor.getValue()).hasSize(1);
+        assertThat(captor.getValue().get(0)).containsExactly(4L, feedId);
+        assertThat(counter.pending(feedId)).isZero();
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 증감분을 되돌려 다음 flush에서 다시 시도한다")
+    void flush_restoresDeltaOnFailure() {
+        given(jdbcTemplate.batchUpdate(anyString(), anyList()))
+            .willThrow(new DataAccessResourceFailureException("down"));
+        counter.add(feedId, 3);
+
+        counter.flush();
+
+        assertThat(counter.pending(feedId)).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("반영되지 않은 증감분이 남은 피드는 재계산하지 않는다")
+    void reconcile_skipsFeedsWithPendingDelta() {
+        counter.add(feedId, 1);
+        counter.flush();
+        counter.add(feedId, 1);
+
+        counter.reconcile();
+
+        verify(jdbcTemplate, never()).batchUpdate(contains("feed_likes"), anyList());
+    }
+
+    @Test
+    @DisplayName("증감분이 0이 된 피드도 유휴 기간 동안 카운터를 유지하고, 정리 뒤 들어온 증감분도 반영한다")
+    @SuppressWarnings("unchecked")
+    void flush_keepsIdleCounterBeforeEvicting() {
+        counter.add(feedId, 1);
+        counter.add(feedId, -1);
+        IntStream.range(0, 100).forEach(i -> counter.flush());
+
+        counter.add(feedId, 2);
+        counter.flush();
+
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), captor.capture());
+        assertThat(captor.getValue().get(0)).containsExactly(2L, feedId);
+    }
+}
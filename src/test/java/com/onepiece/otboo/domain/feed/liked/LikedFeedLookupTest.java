@@ -0,0 +1,124 @@
+package com.onepiece.otboo.domain.feed.liked;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import com.onepiece.otboo.domain.feed.config.props.FeedProperties;
+import com.onepiece.otboo.domain.feed.config.props.LikedFeedFilterProperties;
+import com.onepiece.otboo.domain.feed.repository.FeedLikeRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class LikedFeedLookupTest {
+
+    @Mock
+    private FeedLikeRepository feedLikeRepository;
+
+    private InMemoryLikedFeedFilter filter;
+    private LikedFeedLookup lookup;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID liked = UUID.randomUUID();
+    private final UUID notLiked = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        filter = spy(new InMemoryLikedFeedFilter(new FeedProperties(null, null, null)));
+        lookup = new LikedFeedLookup(filter, feedLikeRepository);
+    }
+
+    @Test
+    @DisplayName("필터가 없으면 좋아요한 피드 ID로 필터를 만들고 그 결과로 바로 답한다")
+    void likedAmong_buildsFilterOnMiss() {
+        given(feedLikeRepository.findFeedIdsByUserId(userId)).willReturn(List.of(liked));
+
+        Set<UUID> result = lookup.likedAmong(userId, List.of(liked, notLiked));
+
+        assertThat(result).containsExactly(liked);
+        verify(filter).build(userId, List.of(liked));
+        verify(feedLikeRepository, never()).findFeedIdsByUserIdAndFeedIdIn(any(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("필터가 있으면 후보만 DB로 확인한다")
+    void likedAmong_confirmsCandidatesOnly() {
+        filter.build(userId, List.of(liked));
+        given(feedLikeRepository.findFeedIdsByUserIdAndFeedIdIn(userId, Set.of(liked)))
+            .willReturn(List.of(liked));
+
+        Set<UUID> result = lookup.likedAmong(userId, List.of(liked, notLiked));
+
+        assertThat(result).containsExactly(liked);
+        verify(feedLikeRepository, never()).findFeedIdsByUserId(any());
+    }
+
+    @Test
+    @DisplayName("후보가 없으면 DB를 조회하지 않는다")
+    void likedAmong_noCandidates() {
+        filter.build(userId, List.of());
+
+        assertThat(lookup.likedAmong(userId, List.of(notLiked))).isEmpty();
+        verify(feedLikeRepository, never()).findFeedIdsByUserIdAndFeedIdIn(any(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("필터가 만들어지기 전에 추가된 좋아요도 build 이후 후보에 포함된다")
+    void onLiked_beforeBuildIsKept() {
+        lookup.onLiked(userId, liked);
+        assertThat(filter.mightContain(userId, List.of(liked))).isNull();
+
+        filter.build(userId, List.of());
+
+        assertThat(filter.mightContain(userId, List.of(liked))).containsExactly(liked);
+    }
+
+    @Test
+    @DisplayName("필터 조회가 실패하면 주어진 피드 전체를 DB로 확인한다")
+    void likedAmong_fallsBackToDbOnFilterFailure() {
+        LikedFeedFilter failing = mock(LikedFeedFilter.class);
+        given(failing.mightContain(any(), anyCollection()))
+            .willThrow(new IllegalStateException("redis down"));
+        given(feedLikeRepository.findFeedIdsByUserIdAndFeedIdIn(userId, List.of(liked, notLiked)))
+            .willReturn(List.of(liked));
+
+        Set<UUID> result = new LikedFeedLookup(failing, feedLikeRepository)
+            .likedAmong(userId, List.of(liked, notLiked));
+
+        assertThat(result).containsExactly(liked);
+        verify(failing, never()).build(any(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("필터 크기는 좋아요 수에 맞춰 정하고 최소·최대 크기 안으로 맞춘다")
+    void build_sizesFilterByLikeCount() {
+        LikedFeedFilterProperties props = new LikedFeedFilterProperties(null, null, null, null, null);
+        List<UUID> manyLikes = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            manyLikes.add(UUID.randomUUID());
+        }
+
+        filter.build(userId, List.of(liked));
+        UUID heavyUser = UUID.randomUUID();
+        filter.build(heavyUser, manyLikes);
+
+        assertThat(filter.sizeOf(userId)).isEqualTo(256);
+        assertThat(filter.sizeOf(heavyUser)).isEqualTo(16_384);
+        assertThat(props.bitsFor(100_000)).isEqualTo(65_536);
+        assertThat(filter.mightContain(heavyUser, manyLikes)).containsExactlyInAnyOrderElementsOf(manyLikes);
+    }
+}
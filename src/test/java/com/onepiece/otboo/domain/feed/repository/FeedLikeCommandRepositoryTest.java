@@ -0,0 +1,133 @@
+package com.onepiece.otboo.domain.feed.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.onepiece.otboo.domain.feed.entity.Feed;
+import com.onepiece.otboo.domain.user.entity.SocialAccount;
+import com.onepiece.otboo.domain.user.entity.User;
+import com.onepiece.otboo.domain.user.enums.Role;
+import com.onepiece.otboo.domain.user.repository.UserRepository;
+import com.onepiece.otboo.global.config.TestJpaConfig;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiPredicate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 여러 스레드가 같은 피드에 동시에 좋아요/취소를 보내도 사용자당 한 번만 반영되는지 검증합니다. 스레드마다 별도
+ * 커넥션에서 커밋되어야 하므로 테스트 트랜잭션은 사용하지 않습니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({TestJpaConfig.class, FeedLikeCommandRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class FeedLikeCommandRepositoryTest {
+
+    private static final int USERS = 8;
+    private static final int REQUESTS_PER_USER = 10;
+
+    @Autowired
+    private FeedLikeCommandRepository feedLikeCommandRepository;
+
+    @Autowired
+    private FeedLikeRepository feedLikeRepository;
+
+    @Autowired
+    private FeedRepository feedRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private List<UUID> userIds;
+    private UUID feedId;
+
+    @BeforeEach
+    void setUp() {
+        userIds = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            userIds.add(userRepository.save(createUser("liker" + i + "@test.com")).getId());
+        }
+        feedId = feedRepository.save(Feed.builder()
+            .authorId(userIds.get(0))
+            .content("인기 피드")
+            .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        feedLikeRepository.deleteAllInBatch();
+        feedRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("동시에 몰린 좋아요는 사용자당 한 번만 추가되고 나머지는 변경 없음으로 반환된다")
+    void insertIfAbsent_concurrent() throws Exception {
+        int changed = hammer(feedLikeCommandRepository::insertIfAbsent);
+
+        assertThat(changed).isEqualTo(USERS);
+        assertThat(feedLikeRepository.countByFeed_Id(feedId)).isEqualTo(USERS);
+    }
+
+    @Test
+    @DisplayName("동시에 몰린 좋아요 취소는 사용자당 한 번만 삭제된다")
+    void deleteIfPresent_concurrent() throws Exception {
+        userIds.forEach(userId -> feedLikeCommandRepository.insertIfAbsent(userId, feedId));
+
+        int changed = hammer(feedLikeCommandRepository::deleteIfPresent);
+
+        assertThat(changed).isEqualTo(USERS);
+        assertThat(feedLikeRepository.countByFeed_Id(feedId)).isZero();
+    }
+
+    private int hammer(BiPredicate<UUID, UUID> action) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(USERS * 2);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (UUID userId : userIds) {
+                for (int i = 0; i < REQUESTS_PER_USER; i++) {
+                    results.add(executor.submit(() -> {
+                        start.await();
+                        return action.test(userId, feedId);
+                    }));
+                }
+            }
+            start.countDown();
+
+            int changed = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get()) {
+                    changed++;
+                }
+            }
+            return changed;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private User createUser(String email) {
+        return User.builder()
+            .socialAccount(SocialAccount.builder().build())
+            .email(email)
+            .password("password123")
+            .locked(false)
+            .role(Role.USER)
+            .build();
+    }
+}
@@ -0,0 +1,52 @@
+package com.onepiece.otboo.domain.feed.search;
+
+import static com.onepiece.otboo.domain.feed.entity.QFeed.feed;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryFeedSearchBackendTest {
+
+    @Mock
+    private JPAQueryFactory qf;
+
+    @InjectMocks
+    private InMemoryFeedSearchBackend backend;
+
+    @Test
+    @DisplayName("색인된 피드만 후보로 골라 부분 일치 조건과 함께 반환한다")
+    void keywordCondition_narrowsToIndexedCandidates() {
+        UUID matched = UUID.randomUUID();
+        backend.index(matched, "오늘은 후드티에 청바지");
+        backend.index(UUID.randomUUID(), "반팔에 반바지");
+
+        assertThat(backend.keywordCondition("후드"))
+            .isEqualTo(feed.id.in(matched).and(feed.content.containsIgnoreCase("후드")));
+    }
+
+    @Test
+    @DisplayName("일치하는 피드가 없으면 DB 조회 없이 거짓 조건을 반환한다")
+    void keywordCondition_noCandidates() {
+        UUID feedId = UUID.randomUUID();
+        backend.index(feedId, "Hoodie Weather");
+        backend.remove(feedId);
+
+        assertThat(backend.keywordCondition("hoodie")).isEqualTo(Expressions.FALSE.isTrue());
+    }
+
+    @Test
+    @DisplayName("한 글자 키워드는 부분 일치 조건만 사용한다")
+    void keywordCondition_singleCharacterFallsBack() {
+        assertThat(backend.keywordCondition("옷"))
+            .isEqualTo(feed.content.containsIgnoreCase("옷"));
+    }
+}
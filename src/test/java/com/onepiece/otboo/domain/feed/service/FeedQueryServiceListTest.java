@@ -15,8 +15,9 @@ import static org.mockito.Mockito.when;
 
 import com.onepiece.otboo.domain.feed.dto.response.AuthorDto;
 import com.onepiece.otboo.domain.feed.dto.response.FeedResponse;
+import com.onepiece.otboo.domain.feed.liked.LikedFeedLookup;
 import com.onepiece.otboo.domain.feed.mapper.FeedMapper;
-import com.onepiece.otboo.domain.feed.repository.FeedLikeRepository;
+import com.onepiece.otboo.domain.feed.search.TrigramFeedSearchBackend;
 import com.onepiece.otboo.domain.weather.dto.response.PrecipitationDto;
 import com.onepiece.otboo.domain.weather.dto.response.TemperatureDto;
 import com.onepiece.otboo.domain.weather.dto.response.WeatherSummaryDto;
@@ -48,7 +49,7 @@ class FeedQueryServiceListTest {
 
     JPAQueryFactory qf;
     FeedMapper feedMapper;
-    FeedLikeRepository feedLikeRepository;
+    LikedFeedLookup likedFeedLookup;
     WeatherMapper weatherMapper;
     FeedQueryService sut;
     FileStorage storage = mock(FileStorage.class);
@@ -58,8 +59,9 @@ class FeedQueryServiceListTest {
     void setUp() {
         qf = mock(JPAQueryFactory.class);
         feedMapper = mock(FeedMapper.class);
-        feedLikeRepository = mock(FeedLikeRepository.class);
-        sut = new FeedQueryService(qf, feedMapper, feedLikeRepository, weatherMapper, storage);
+        likedFeedLookup = mock(LikedFeedLookup.class);
+        sut = new FeedQueryService(qf, feedMapper, likedFeedLookup, weatherMapper, storage,
+            List.of(new TrigramFeedSearchBackend()));
     }
 
     // -------------------- 예외 케이스 --------------------
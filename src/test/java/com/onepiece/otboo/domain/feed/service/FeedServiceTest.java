@@ -29,6 +29,7 @@ import com.onepiece.otboo.domain.user.repository.UserRepository;
 import com.onepiece.otboo.domain.weather.entity.Weather;
 import com.onepiece.otboo.domain.weather.mapper.WeatherMapper;
 import com.onepiece.otboo.domain.weather.repository.WeatherRepository;
+import com.onepiece.otboo.global.event.event.FeedDeletedEvent;
 import com.onepiece.otboo.global.exception.ErrorCode;
 import com.onepiece.otboo.global.exception.GlobalException;
 import java.util.ArrayList;
@@ -246,6 +247,30 @@ class FeedServiceTest {
         verify(feedRepository).delete(captor.capture());
     }
 
+    @Test
+    void 피드_삭제시_연결된_의상의_피드_수를_줄이고_작성자를_담아_이벤트를_발행한다() {
+        UUID feedId = UUID.randomUUID();
+
+        Feed feed = mock(Feed.class);
+        when(feedRepository.findById(feedId)).thenReturn(Optional.of(feed));
+        when(feed.getAuthorId()).thenReturn(authorId);
+        when(feed.getFeedClothes()).thenReturn(List.of(
+            FeedClothes.builder().clothesId(c1).build(),
+            FeedClothes.builder().clothesId(c2).build()));
+
+        var clothes1 = mock(Clothes.class);
+        var clothes2 = mock(Clothes.class);
+        when(clothesRepository.findAllById(List.of(c1, c2))).thenReturn(List.of(clothes1, clothes2));
+
+        feedService.delete(feedId, authorId);
+
+        verify(clothes1).decreaseFeedCount();
+        verify(clothes2).decreaseFeedCount();
+        verify(feedRepository).delete(feed);
+        verify(eventPublisher).publishEvent(argThat((Object e) ->
+            e instanceof FeedDeletedEvent deleted && authorId.equals(deleted.authorId())));
+    }
+
     @Test
     void 피드_삭제_타인소유_피드_삭제시_실패() {
         // given
@@ -0,0 +1,142 @@
+package com.onepiece.otboo.domain.feed.service;
+
+import static com.onepiece.otboo.domain.feed.entity.QFeed.feed;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.onepiece.otboo.domain.feed.config.props.FeedProperties;
+import com.onepiece.otboo.domain.feed.config.props.FeedTimelineProperties;
+import com.onepiece.otboo.domain.feed.timeline.HomeTimelineStore;
+import com.onepiece.otboo.domain.feed.timeline.InMemoryHomeTimelineStore;
+import com.onepiece.otboo.domain.follow.repository.FollowRepository;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class HomeTimelineServiceTest {
+
+    @Mock
+    HomeTimelineStore timelineStore;
+    @Mock
+    FollowRepository followRepository;
+    @Mock
+    FeedQueryService feedQueryService;
+    @Mock
+    JPAQueryFactory qf;
+
+    FeedProperties properties;
+    HomeTimelineService homeTimelineService;
+
+    private final UUID feedId = UUID.randomUUID();
+    private final UUID authorId = UUID.randomUUID();
+    private final Instant createdAt = Instant.parse("2025-09-10T00:00:00Z");
+
+    @BeforeEach
+    void setUp() {
+        properties = new FeedProperties(
+            new FeedTimelineProperties(null, 2, null), null, null);
+        homeTimelineService = new HomeTimelineService(timelineStore, followRepository,
+            feedQueryService, qf, properties);
+    }
+
+    @Test
+    @DisplayName("팔로워 타임라인과 작성자 본인 타임라인에 피드를 추가한다")
+    void fanOut_pushesToFollowersAndAuthor() {
+        UUID follower = UUID.randomUUID();
+        given(followRepository.countByFollowingId(authorId)).willReturn(1L);
+        given(followRepository.findFollowerIdsByFollowingId(authorId)).willReturn(List.of(follower));
+
+        homeTimelineService.fanOut(feedId, authorId, createdAt);
+
+        verify(timelineStore).push(List.of(follower, authorId), feedId, createdAt);
+        verify(timelineStore, never()).markLargeAuthor(any());
+    }
+
+    @Test
+    @DisplayName("팔로워가 fanOutLimit을 넘으면 fan-out 하지 않고 조회 시 병합 대상으로 등록한다")
+    void fanOut_largeAuthorIsMergedOnRead() {
+        given(followRepository.countByFollowingId(authorId)).willReturn(3L);
+
+        homeTimelineService.fanOut(feedId, authorId, createdAt);
+
+        verify(timelineStore).markLargeAuthor(authorId);
+        verify(timelineStore).push(List.of(authorId), feedId, createdAt);
+        verify(followRepository, never()).findFollowerIdsByFollowingId(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("만료 후 새 피드만 push 된 타임라인은 완전한 것으로 보지 않고 팔로잉 피드로 다시 채운다")
+    void listHomeTimeline_rematerializesTimelineRecreatedByPush() {
+        UUID me = UUID.randomUUID();
+        UUID oldFeedId = UUID.randomUUID();
+        Instant oldCreatedAt = createdAt.minusSeconds(3600);
+        InMemoryHomeTimelineStore store = new InMemoryHomeTimelineStore(properties);
+        HomeTimelineService service = new HomeTimelineService(store, followRepository,
+            feedQueryService, qf, properties);
+
+        // 만료된 뒤 팔로잉 작성자의 새 피드가 먼저 들어와 타임라인에는 새 피드 하나만 있음
+        store.push(List.of(me), feedId, createdAt);
+        assertThat(store.range(me, null, 10)).isNull();
+
+        given(followRepository.findFollowingIdsByFollowerId(me)).willReturn(List.of(authorId));
+        Tuple oldRow = mock(Tuple.class);
+        given(oldRow.get(feed.id)).willReturn(oldFeedId);
+        given(oldRow.get(feed.createdAt)).willReturn(oldCreatedAt);
+        JPAQuery<Tuple> rebuildQuery = mock(JPAQuery.class, RETURNS_SELF);
+        doReturn(rebuildQuery).when(qf).select(feed.id, feed.createdAt);
+        doReturn(List.of(oldRow)).when(rebuildQuery).fetch();
+        doReturn(mock(JPAQuery.class, RETURNS_SELF)).when(qf).selectFrom(feed);
+
+        service.listHomeTimeline(me, null, null, 10);
+
+        assertThat(store.range(me, null, 10)).containsExactly(feedId, oldFeedId);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("팔로잉이 바뀌면 타임라인을 지우고 다음 조회에서 현재 팔로잉 피드로 다시 채운다")
+    void invalidate_rebuildsTimelineWithCurrentFollowings() {
+        UUID me = UUID.randomUUID();
+        UUID unfollowedFeedId = UUID.randomUUID();
+        InMemoryHomeTimelineStore store = new InMemoryHomeTimelineStore(properties);
+        HomeTimelineService service = new HomeTimelineService(store, followRepository,
+            feedQueryService, qf, properties);
+
+        // 언팔로우한 작성자의 피드가 채워진 타임라인
+        store.materialize(me, Map.of(unfollowedFeedId, createdAt));
+
+        service.invalidate(me);
+        assertThat(store.range(me, null, 10)).isNull();
+
+        given(followRepository.findFollowingIdsByFollowerId(me)).willReturn(List.of(authorId));
+        Tuple row = mock(Tuple.class);
+        given(row.get(feed.id)).willReturn(feedId);
+        given(row.get(feed.createdAt)).willReturn(createdAt.minusSeconds(60));
+        JPAQuery<Tuple> rebuildQuery = mock(JPAQuery.class, RETURNS_SELF);
+        doReturn(rebuildQuery).when(qf).select(feed.id, feed.createdAt);
+        doReturn(List.of(row)).when(rebuildQuery).fetch();
+        doReturn(mock(JPAQuery.class, RETURNS_SELF)).when(qf).selectFrom(feed);
+
+        service.listHomeTimeline(me, null, null, 10);
+
+        assertThat(store.range(me, null, 10)).containsExactly(feedId);
+    }
+}
@@ -10,7 +10,12 @@ import com.onepiece.otboo.domain.user.entity.User;
 import com.onepiece.otboo.domain.user.enums.Role;
 import com.onepiece.otboo.domain.user.repository.UserRepository;
 import com.onepiece.otboo.global.config.TestJpaConfig;
+import com.onepiece.otboo.global.util.KeysetIdStreamer;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -184,4 +189,27 @@ class FollowRepositoryTest {
 
         assertThat(responses).hasSize(1);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("팔로워 ID 키셋 조회 - 배치로 나눠 읽어도 모든 팔로워를 한 번씩 조회")
+    void findFollowerIdsAfter_streamsAllFollowers() {
+        User following = userRepository.save(createUser("target@test.com"));
+        Set<UUID> expected = new HashSet<>();
+        for (int i = 0; i < 5; i++) {
+            User follower = userRepository.save(createUser("f" + i + "@test.com"));
+            followRepository.save(Follow.builder().follower(follower).following(following).build());
+            expected.add(follower.getId());
+        }
+
+        List<UUID> streamed = new ArrayList<>();
+        long total = KeysetIdStreamer.forEachBatch(2,
+            (afterId, limit) -> followRepository.findFollowerIdsAfter(following.getId(), afterId, limit),
+            batch -> {
+                assertThat(batch).hasSizeLessThanOrEqualTo(2);
+                streamed.addAll(batch);
+            });
+
+        assertThat(total).isEqualTo(5);
+        assertThat(streamed).containsExactlyInAnyOrderElementsOf(expected);
+    }
+}
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
@@ -24,6 +25,7 @@ import com.onepiece.otboo.domain.user.exception.UserNotFoundException;
 import com.onepiece.otboo.domain.user.repository.UserRepository;
 import com.onepiece.otboo.global.dto.response.CursorPageResponseDto;
 import com.onepiece.otboo.global.event.event.FollowCreatedEvent;
+import com.onepiece.otboo.global.event.event.FollowDeletedEvent;
 import com.onepiece.otboo.global.exception.ErrorCode;
 import com.onepiece.otboo.global.storage.FileStorage;
 import com.onepiece.otboo.infra.security.userdetails.CustomUserDetails;
@@ -236,18 +238,22 @@ class FollowServiceImplTest {
     @DisplayName("언팔로우 성공 - followId로 삭제")
     void deleteFollow_success() {
         UUID followId = (UUID) ReflectionTestUtils.getField(follow, "id");
-        given(followRepository.existsById(followId)).willReturn(true);
+        given(followRepository.findById(followId)).willReturn(Optional.of(follow));
 
         followService.deleteFollow(followId);
 
         verify(followRepository).deleteById(followId);
+        verify(eventPublisher).publishEvent(
+            argThat((Object e) -> e instanceof FollowDeletedEvent d
+                && d.followerId().equals(follower.getId())
+                && d.followingId().equals(followee.getId())));
     }
 
     @Test
     @DisplayName("언팔로우 실패 - Follow 없음")
     void deleteFollow_fail_notFound() {
         UUID followId = UUID.randomUUID();
-        given(followRepository.existsById(followId)).willReturn(false);
+        given(followRepository.findById(followId)).willReturn(Optional.empty());
 
         assertThatThrownBy(() -> followService.deleteFollow(followId))
             .isInstanceOf(FollowNotFoundException.class)
@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.doNothing;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -97,11 +98,26 @@ class NotificationControllerTest {
     @Test
     @DisplayName("알림 삭제 성공 (DELETE /api/notifications/{id})")
     void deleteNotification_Success() throws Exception {
+        UUID userId = UUID.randomUUID();
+        CustomUserDetails mockUser = new CustomUserDetails(
+            userId,
+            "test@email.com",
+            "password",
+            Role.USER,
+            false,
+            null,
+            Instant.now().plusSeconds(3600)
+        );
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(mockUser, null, mockUser.getAuthorities()));
+
         UUID notificationId = UUID.randomUUID();
-        doNothing().when(notificationService).deleteNotification(notificationId);
+        doNothing().when(notificationService).dismiss(userId, notificationId);
 
         mockMvc.perform(delete("/api/notifications/{id}", notificationId)
                 .accept(MediaType.APPLICATION_JSON))
             .andExpect(status().isNoContent());
+
+        verify(notificationService).dismiss(userId, notificationId);
     }
 }
\ No newline at end of file
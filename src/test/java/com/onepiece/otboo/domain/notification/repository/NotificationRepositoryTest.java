@@ -2,8 +2,13 @@ package com.onepiece.otboo.domain.notification.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.onepiece.otboo.domain.notification.entity.BroadcastNotification;
+import com.onepiece.otboo.domain.notification.entity.BroadcastNotificationDismissal;
 import com.onepiece.otboo.domain.notification.entity.Notification;
 import com.onepiece.otboo.domain.notification.enums.Level;
+import com.onepiece.otboo.domain.user.entity.SocialAccount;
+import com.onepiece.otboo.domain.user.entity.User;
+import com.onepiece.otboo.domain.user.enums.Role;
 import com.onepiece.otboo.global.config.TestJpaConfig;
 import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
@@ -126,4 +131,45 @@ class NotificationRepositoryTest {
 
         assertThat(count).isEqualTo(2L);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("전체 알림 조회 - 가입 이후 생성되고 읽음 처리하지 않은 알림만 조회")
+    void findBroadcasts_VisibleOnly() {
+        User user = User.builder()
+            .socialAccount(SocialAccount.builder().build())
+            .email("broadcast@test.com")
+            .password("password123")
+            .locked(false)
+            .role(Role.USER)
+            .build();
+        em.persist(user);
+        Instant joinedAt = user.getCreatedAt();
+
+        BroadcastNotification beforeJoin = broadcast("가입 전 알림", joinedAt.minusSeconds(60));
+        BroadcastNotification dismissed = broadcast("읽은 알림", joinedAt.plusSeconds(60));
+        BroadcastNotification visible = broadcast("새 알림", joinedAt.plusSeconds(120));
+        em.persist(beforeJoin);
+        em.persist(dismissed);
+        em.persist(visible);
+        em.persist(BroadcastNotificationDismissal.of(dismissed.getId(), user.getId()));
+        em.flush();
+        em.clear();
+
+        List<BroadcastNotification> result =
+            notificationRepository.findBroadcasts(user.getId(), null, null, 10);
+
+        assertThat(result).extracting(BroadcastNotification::getTitle).containsExactly("새 알림");
+        assertThat(notificationRepository.countBroadcasts(user.getId())).isEqualTo(1L);
+        assertThat(notificationRepository.findBroadcasts(user.getId(),
+            visible.getCreatedAt(), visible.getId(), 10)).isEmpty();
+    }
+
+    private BroadcastNotification broadcast(String title, Instant createdAt) {
+        return BroadcastNotification.builder()
+            .title(title)
+            .content("내용")
+            .level(Level.INFO)
+            .createdAt(createdAt)
+            .build();
+    }
+}
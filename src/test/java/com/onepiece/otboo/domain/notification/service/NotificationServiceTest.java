@@ -1,23 +1,33 @@
 package com.onepiece.otboo.domain.notification.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.onepiece.otboo.domain.notification.dto.data.NotificationDraft;
 import com.onepiece.otboo.domain.notification.dto.response.NotificationResponse;
+import com.onepiece.otboo.domain.notification.entity.BroadcastNotification;
+import com.onepiece.otboo.domain.notification.entity.BroadcastNotificationDismissal;
 import com.onepiece.otboo.domain.notification.entity.Notification;
 import com.onepiece.otboo.domain.notification.enums.Level;
 import com.onepiece.otboo.domain.notification.exception.NotificationNotFoundException;
 import com.onepiece.otboo.domain.notification.mapper.NotificationMapper;
+import com.onepiece.otboo.domain.notification.repository.BroadcastNotificationDismissalRepository;
+import com.onepiece.otboo.domain.notification.repository.BroadcastNotificationRepository;
+import com.onepiece.otboo.domain.notification.repository.NotificationBulkRepository;
 import com.onepiece.otboo.domain.notification.repository.NotificationRepository;
 import com.onepiece.otboo.global.dto.response.CursorPageResponseDto;
 import com.onepiece.otboo.global.enums.SortBy;
 import com.onepiece.otboo.global.enums.SortDirection;
-import com.onepiece.otboo.global.sse.SseService;
+import com.onepiece.otboo.global.event.event.BroadcastNotificationCreatedEvent;
+import com.onepiece.otboo.global.event.event.NotificationsCreatedEvent;
 import java.time.Instant;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -25,9 +35,11 @@ import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class NotificationServiceTest {
@@ -39,7 +51,16 @@ class NotificationServiceTest {
     private NotificationMapper notificationMapper;
 
     @Mock
-    private SseService sseService;
+    private BroadcastNotificationRepository broadcastNotificationRepository;
+
+    @Mock
+    private BroadcastNotificationDismissalRepository dismissalRepository;
+
+    @Mock
+    private NotificationBulkRepository notificationBulkRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private NotificationServiceImpl notificationService;
@@ -124,77 +145,218 @@ class NotificationServiceTest {
     }
     
     @Test
-    @DisplayName("알림 생성 성공 - 저장 후 SSE 전송 호출")
+    @DisplayName("알림 생성 성공 - 수신자 전체를 한 번에 저장하고 전송 이벤트 발행")
     void createNotification_Success() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        notificationService.create(Set.of(first, second), "테스트 알림", "내용", Level.INFO);
+
+        ArgumentCaptor<List<NotificationResponse>> rows = ArgumentCaptor.captor();
+        verify(notificationBulkRepository).insertAll(rows.capture());
+        assertThat(rows.getValue())
+            .extracting(NotificationResponse::getReceiverId)
+            .containsExactlyInAnyOrder(first, second);
+        assertThat(rows.getValue())
+            .extracting(NotificationResponse::getCreatedAt)
+            .containsOnly(rows.getValue().get(0).getCreatedAt());
+        assertThat(rows.getValue()).allSatisfy(n -> {
+            assertThat(n.getId()).isNotNull();
+            assertThat(n.getLevel()).isEqualTo("INFO");
+        });
+
+        ArgumentCaptor<NotificationsCreatedEvent> event =
+            ArgumentCaptor.forClass(NotificationsCreatedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().notifications()).isEqualTo(rows.getValue());
+    }
+
+    @Test
+    @DisplayName("수신자가 많으면 배치 크기 단위로 전송 이벤트를 나눠 발행")
+    void createNotification_SplitsEventsByBatch() {
+        Set<UUID> receivers = new HashSet<>();
+        for (int i = 0; i < NotificationBulkRepository.BATCH_SIZE + 1; i++) {
+            receivers.add(UUID.randomUUID());
+        }
+
+        notificationService.create(receivers, "테스트 알림", "내용", Level.INFO);
+
+        verify(notificationBulkRepository).insertAll(any());
+        verify(eventPublisher, times(2)).publishEvent(any(NotificationsCreatedEvent.class));
+    }
+
+    @Test
+    @DisplayName("같은 원천으로 다시 생성하면 이미 저장된 수신자는 건너뛰고 새 수신자만 저장/전송")
+    void createOnce_SkipsAlreadyCreatedReceivers() {
+        UUID feedId = UUID.randomUUID();
+        UUID done = UUID.randomUUID();
+        UUID fresh = UUID.randomUUID();
+        UUID doneId = NotificationServiceImpl.notificationId(feedId, done);
+        given(notificationBulkRepository.findExistingIds(any())).willReturn(Set.of(doneId));
+
+        notificationService.createOnce(feedId, Set.of(done, fresh), "새로운 피드 등록", "내용", Level.INFO);
+
+        ArgumentCaptor<List<NotificationResponse>> rows = ArgumentCaptor.captor();
+        verify(notificationBulkRepository).insertAllIfAbsent(rows.capture());
+        assertThat(rows.getValue())
+            .extracting(NotificationResponse::getId, NotificationResponse::getReceiverId)
+            .containsExactly(tuple(NotificationServiceImpl.notificationId(feedId, fresh), fresh));
+        verify(notificationBulkRepository, never()).insertAll(any());
+
+        ArgumentCaptor<NotificationsCreatedEvent> event =
+            ArgumentCaptor.forClass(NotificationsCreatedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().notifications()).isEqualTo(rows.getValue());
+    }
+
+    @Test
+    @DisplayName("같은 원천의 알림이 모두 저장돼 있으면 저장/전송하지 않음")
+    void createOnce_AllAlreadyCreated() {
+        UUID feedId = UUID.randomUUID();
+        UUID receiver = UUID.randomUUID();
+        given(notificationBulkRepository.findExistingIds(any()))
+            .willReturn(Set.of(NotificationServiceImpl.notificationId(feedId, receiver)));
+
+        notificationService.createOnce(feedId, Set.of(receiver), "새로운 피드 등록", "내용", Level.INFO);
+
+        verify(notificationBulkRepository, never()).insertAllIfAbsent(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("수신자별 내용이 다른 알림도 한 번에 저장하고 전송 이벤트 발행")
+    void createAll_SavesEveryDraft() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        notificationService.createAll(List.of(
+            new NotificationDraft(first, "새 댓글", "A님이 댓글을 남겼습니다.", Level.INFO),
+            new NotificationDraft(second, "권한 변경", "권한이 변경되었습니다.", Level.WARNING)));
+
+        ArgumentCaptor<List<NotificationResponse>> rows = ArgumentCaptor.captor();
+        verify(notificationBulkRepository).insertAll(rows.capture());
+        assertThat(rows.getValue())
+            .extracting(NotificationResponse::getReceiverId, NotificationResponse::getLevel)
+            .containsExactly(tuple(first, "INFO"), tuple(second, "WARNING"));
+        verify(eventPublisher).publishEvent(any(NotificationsCreatedEvent.class));
+    }
+
+    @Test
+    @DisplayName("수신자가 없으면 저장하지 않음")
+    void createNotification_NoReceivers() {
+        notificationService.create(Set.of(), "테스트 알림", "내용", Level.INFO);
+
+        verify(notificationBulkRepository, never()).insertAll(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("알림 목록 조회 - 개인 알림과 전체 알림을 최신순으로 병합")
+    void getNotifications_MergesBroadcasts() {
         UUID receiverId = UUID.randomUUID();
-        Set<UUID> receivers = Set.of(receiverId);
-        Notification notification = Notification.builder()
+        Instant now = Instant.now();
+
+        Notification personal = Notification.builder()
             .receiverId(receiverId)
-            .title("테스트 알림")
+            .title("개인 알림")
             .content("내용")
             .level(Level.INFO)
-            .createdAt(Instant.now())
+            .createdAt(now.minusSeconds(60))
             .build();
-
-        Notification saved = Notification.builder()
-            .receiverId(receiverId)
-            .title("테스트 알림")
+        BroadcastNotification newer = BroadcastNotification.builder()
+            .title("새 전체 알림")
             .content("내용")
             .level(Level.INFO)
-            .createdAt(notification.getCreatedAt())
+            .createdAt(now)
             .build();
-
-        NotificationResponse response = NotificationResponse.builder()
-            .receiverId(receiverId)
-            .title("테스트 알림")
+        BroadcastNotification older = BroadcastNotification.builder()
+            .title("이전 전체 알림")
             .content("내용")
-            .level("INFO")
-            .createdAt(saved.getCreatedAt())
+            .level(Level.INFO)
+            .createdAt(now.minusSeconds(120))
             .build();
 
-        given(notificationRepository.save(any(Notification.class))).willReturn(saved);
-        given(notificationMapper.toResponse(saved)).willReturn(response);
+        given(notificationRepository.findNotifications(receiverId, null, null, 3))
+            .willReturn(List.of(personal));
+        given(notificationRepository.findBroadcasts(receiverId, null, null, 3))
+            .willReturn(List.of(newer, older));
+        given(notificationMapper.toResponse(personal))
+            .willReturn(response(receiverId, "개인 알림", personal.getCreatedAt()));
+        given(notificationMapper.toResponse(newer, receiverId))
+            .willReturn(response(receiverId, "새 전체 알림", newer.getCreatedAt()));
+        given(notificationMapper.toResponse(older, receiverId))
+            .willReturn(response(receiverId, "이전 전체 알림", older.getCreatedAt()));
+        given(notificationRepository.countByReceiverId(receiverId)).willReturn(1L);
+        given(notificationRepository.countBroadcasts(receiverId)).willReturn(2L);
 
-        notificationService.create(receivers, "테스트 알림", "내용", Level.INFO);
+        CursorPageResponseDto<NotificationResponse> result =
+            notificationService.getNotifications(receiverId, null, null, 2);
+
+        assertThat(result.data())
+            .extracting(NotificationResponse::getTitle)
+            .containsExactly("새 전체 알림", "개인 알림");
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.nextCursor()).isEqualTo(personal.getCreatedAt().toString());
+        assertThat(result.totalCount()).isEqualTo(3L);
+    }
 
-        verify(notificationRepository).save(any(Notification.class));
-        verify(notificationMapper).toResponse(saved);
-        verify(sseService).send(receiverId, "notifications", response);
+    @Test
+    @DisplayName("전체 알림 생성 - 한 행만 저장하고 전송 이벤트 발행")
+    void broadcast_SavesSingleRow() {
+        given(broadcastNotificationRepository.save(any(BroadcastNotification.class)))
+            .willAnswer(invocation -> invocation.getArgument(0));
+
+        notificationService.broadcast("의상 속성 추가", "내용", Level.INFO);
+
+        verify(broadcastNotificationRepository).save(any(BroadcastNotification.class));
+        verify(eventPublisher).publishEvent(any(BroadcastNotificationCreatedEvent.class));
+        verify(notificationBulkRepository, never()).insertAll(any());
     }
 
     @Test
-    @DisplayName("알림 생성 중 SSE 전송 실패해도 예외 발생 없이 처리됨")
-    void createNotification_SSEFailure_NoException() {
+    @DisplayName("전체 알림 읽음 처리 - 사용자별 읽음 기록만 저장")
+    void dismiss_Broadcast() {
         UUID receiverId = UUID.randomUUID();
-        Set<UUID> receivers = Set.of(receiverId);
+        UUID broadcastId = UUID.randomUUID();
+        given(notificationRepository.findById(broadcastId)).willReturn(Optional.empty());
+        given(broadcastNotificationRepository.existsById(broadcastId)).willReturn(true);
+        given(dismissalRepository.existsByBroadcastIdAndUserId(broadcastId, receiverId))
+            .willReturn(false);
 
-        Notification saved = Notification.builder()
-            .receiverId(receiverId)
+        notificationService.dismiss(receiverId, broadcastId);
+
+        verify(dismissalRepository).save(any(BroadcastNotificationDismissal.class));
+        verify(notificationRepository, never()).deleteById(any());
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 개인 알림은 읽음 처리할 수 없음")
+    void dismiss_OtherUsersNotification() {
+        UUID id = UUID.randomUUID();
+        Notification notification = Notification.builder()
+            .receiverId(UUID.randomUUID())
             .title("테스트 알림")
             .content("내용")
             .level(Level.INFO)
-            .createdAt(Instant.now())
             .build();
+        given(notificationRepository.findById(id)).willReturn(Optional.of(notification));
 
-        NotificationResponse response = NotificationResponse.builder()
+        org.junit.jupiter.api.Assertions.assertThrows(
+            NotificationNotFoundException.class,
+            () -> notificationService.dismiss(UUID.randomUUID(), id)
+        );
+
+        verify(notificationRepository, never()).deleteById(any());
+    }
+
+    private NotificationResponse response(UUID receiverId, String title, Instant createdAt) {
+        return NotificationResponse.builder()
+            .id(UUID.randomUUID())
             .receiverId(receiverId)
-            .title("테스트 알림")
+            .title(title)
             .content("내용")
             .level("INFO")
-            .createdAt(saved.getCreatedAt())
+            .createdAt(createdAt)
             .build();
-
-        given(notificationRepository.save(any(Notification.class))).willReturn(saved);
-        given(notificationMapper.toResponse(saved)).willReturn(response);
-
-        org.mockito.Mockito.doThrow(new RuntimeException("SSE 실패"))
-            .when(sseService).send(any(UUID.class), any(), any());
-
-        notificationService.create(receivers, "테스트 알림", "내용", Level.INFO);
-
-        verify(notificationRepository).save(any(Notification.class));
-        verify(sseService).send(any(UUID.class), any(), any());
     }
-
-
-}
\ No newline at end of file
+}
@@ -0,0 +1,65 @@
+package com.onepiece.otboo.domain.recommendation.batch.partitioner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.onepiece.otboo.domain.profile.repository.ProfileRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
+
+@ExtendWith(MockitoExtension.class)
+class LocationRangePartitionerTest {
+
+    @Mock
+    private ProfileRepository profileRepository;
+
+    @InjectMocks
+    private LocationRangePartitioner partitioner;
+
+    @Test
+    @DisplayName("위치 ID를 겹치지 않는 연속 구간으로 나눈다")
+    void partition_splitsIntoContiguousRanges() {
+        List<UUID> ids = IntStream.range(0, 10).mapToObj(i -> UUID.randomUUID()).toList();
+        given(profileRepository.findDistinctLocationIds()).willReturn(ids);
+
+        Map<String, ExecutionContext> partitions = partitioner.partition(3);
+
+        assertThat(partitions).hasSize(3);
+        assertThat(partitions.get("partition0").getString(LocationRangePartitioner.MIN_LOCATION_ID))
+            .isEqualTo(ids.get(0).toString());
+        assertThat(partitions.get("partition0").getString(LocationRangePartitioner.MAX_LOCATION_ID))
+            .isEqualTo(ids.get(3).toString());
+        assertThat(partitions.get("partition1").getString(LocationRangePartitioner.MIN_LOCATION_ID))
+            .isEqualTo(ids.get(4).toString());
+        assertThat(partitions.get("partition2").getString(LocationRangePartitioner.MAX_LOCATION_ID))
+            .isEqualTo(ids.get(9).toString());
+    }
+
+    @Test
+    @DisplayName("위치 수가 gridSize보다 적으면 위치 수만큼만 나눈다")
+    void partition_fewerLocationsThanGrid() {
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+        given(profileRepository.findDistinctLocationIds()).willReturn(ids);
+
+        Map<String, ExecutionContext> partitions = partitioner.partition(8);
+
+        assertThat(partitions).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("위치가 설정된 프로필이 없으면 파티션이 없다")
+    void partition_empty() {
+        given(profileRepository.findDistinctLocationIds()).willReturn(List.of());
+
+        assertThat(partitioner.partition(4)).isEmpty();
+    }
+}
@@ -0,0 +1,199 @@
+package com.onepiece.otboo.domain.recommendation.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onepiece.otboo.domain.recommendation.config.props.RecommendationProperties;
+import com.onepiece.otboo.domain.recommendation.dto.data.RecommendationDto;
+import com.onepiece.otboo.global.config.CacheConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+
+class RecommendationCacheTest {
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID weatherId = UUID.randomUUID();
+
+    private InMemoryRecommendationVersionRegistry versionRegistry;
+    private ConcurrentMapCacheManager cacheManager;
+    private SimpleMeterRegistry meterRegistry;
+    private RecommendationCache recommendationCache;
+
+    @BeforeEach
+    void setUp() {
+        // given
+        versionRegistry = new InMemoryRecommendationVersionRegistry();
+        cacheManager = new ConcurrentMapCacheManager(CacheConfig.CACHE_RECOMMENDATIONS);
+        meterRegistry = new SimpleMeterRegistry();
+        recommendationCache = new RecommendationCache(versionRegistry, cacheManager,
+            meterRegistry, new RecommendationProperties(null, null, null, null, null));
+    }
+
+    @Test
+    void 저장한_추천_결과_조회_테스트() {
+
+        // given
+        String key = recommendationCache.keyOf(userId, weatherId);
+        RecommendationDto dto = new RecommendationDto(weatherId, userId, List.of());
+
+        // when
+        RecommendationDto before = recommendationCache.get(key);
+        recommendationCache.put(key, dto);
+        RecommendationDto after = recommendationCache.get(key);
+
+        // then
+        assertThat(before).isNull();
+        assertThat(after).isEqualTo(dto);
+        assertThat(meterRegistry.get("otboo.recommendation.cache").tag("result", "miss")
+            .counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("otboo.recommendation.cache").tag("result", "near_hit")
+            .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 옷장_버전이_바뀌면_이전_결과를_조회하지_않음_테스트() {
+
+        // given
+        String key = recommendationCache.keyOf(userId, weatherId);
+        recommendationCache.put(key, new RecommendationDto(weatherId, userId, List.of()));
+
+        // when
+        versionRegistry.increaseWardrobeVersion(userId);
+        String newKey = recommendationCache.keyOf(userId, weatherId);
+
+        // then
+        assertThat(newKey).isNotEqualTo(key);
+        assertThat(recommendationCache.get(newKey)).isNull();
+    }
+
+    @Test
+    void 로컬_캐시에_없으면_Redis_캐시에서_조회_테스트() {
+
+        // given
+        String key = recommendationCache.keyOf(userId, weatherId);
+        RecommendationDto dto = new RecommendationDto(weatherId, userId, List.of());
+        cacheManager.getCache(CacheConfig.CACHE_RECOMMENDATIONS).put(key, dto);
+
+        // when
+        RecommendationDto result = recommendationCache.get(key);
+
+        // then
+        assertThat(result).isEqualTo(dto);
+        assertThat(meterRegistry.get("otboo.recommendation.cache").tag("result", "redis_hit")
+            .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 배치가_Redis에만_저장한_결과를_로컬_캐시가_비어_있을_때_조회_테스트() {
+
+        // given
+        SimpleCacheManager serializingCacheManager = new SimpleCacheManager();
+        serializingCacheManager.setCaches(List.of(new SerializingCache(
+            CacheConfig.CACHE_RECOMMENDATIONS, recommendationValueSerializer())));
+        serializingCacheManager.afterPropertiesSet();
+        RecommendationCache precomputedCache = new RecommendationCache(versionRegistry,
+            serializingCacheManager, meterRegistry,
+            new RecommendationProperties(null, null, null, null, null));
+        String key = precomputedCache.keyOf(userId, weatherId);
+        RecommendationDto dto = new RecommendationDto(weatherId, userId, List.of());
+
+        // when
+        int stored = precomputedCache.putAllRemote(Map.of(key, dto));
+        RecommendationDto result = precomputedCache.get(key);
+
+        // then
+        assertThat(stored).isEqualTo(1);
+        assertThat(result).isEqualTo(dto);
+        assertThat(meterRegistry.get("otboo.recommendation.cache").tag("result", "redis_hit")
+            .counter().count()).isEqualTo(1.0);
+    }
+
+    private static SerializationPair<Object> recommendationValueSerializer() {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        CacheConfig cacheConfig = new CacheConfig();
+        return cacheConfig.redisCacheManager(mock(RedisConnectionFactory.class),
+                cacheConfig.baseRedisCacheConfiguration(objectMapper),
+                new RecommendationProperties(null, null, null, null, null), objectMapper)
+            .getCacheConfigurations().get(CacheConfig.CACHE_RECOMMENDATIONS)
+            .getValueSerializationPair();
+    }
+
+    /**
+     * 운영 Redis 캐시와 같은 값 직렬화기로 저장/조회하는 캐시
+     */
+    private static class SerializingCache extends AbstractValueAdaptingCache {
+
+        private final String name;
+        private final SerializationPair<Object> valueSerializer;
+        private final Map<Object, byte[]> store = new ConcurrentHashMap<>();
+
+        SerializingCache(String name, SerializationPair<Object> valueSerializer) {
+            super(false);
+            this.name = name;
+            this.valueSerializer = valueSerializer;
+        }
+
+        @Override
+        protected Object lookup(Object key) {
+            byte[] bytes = store.get(key);
+            return bytes == null ? null : valueSerializer.read(ByteBuffer.wrap(bytes));
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Object getNativeCache() {
+            return store;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            Object value = lookup(key);
+            if (value != null) {
+                return (T) value;
+            }
+            try {
+                T loaded = valueLoader.call();
+                put(key, loaded);
+                return loaded;
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            ByteBuffer buffer = valueSerializer.write(value);
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            store.put(key, bytes);
+        }
+
+        @Override
+        public void evict(Object key) {
+            store.remove(key);
+        }
+
+        @Override
+        public void clear() {
+            store.clear();
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.onepiece.otboo.domain.recommendation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.onepiece.otboo.domain.clothes.repository.ClothesRepository;
+import com.onepiece.otboo.domain.recommendation.config.props.RecommendationAuditProperties;
+import com.onepiece.otboo.domain.recommendation.config.props.RecommendationProperties;
+import com.onepiece.otboo.domain.recommendation.entity.Recommendation;
+import com.onepiece.otboo.domain.recommendation.entity.RecommendationParameter;
+import com.onepiece.otboo.domain.recommendation.repository.RecommendationClothesRepository;
+import com.onepiece.otboo.domain.recommendation.repository.RecommendationParameterRepository;
+import com.onepiece.otboo.domain.recommendation.repository.RecommendationRepository;
+import com.onepiece.otboo.domain.recommendation.support.RecommendationAudit;
+import com.onepiece.otboo.domain.user.entity.User;
+import com.onepiece.otboo.domain.user.repository.UserRepository;
+import com.onepiece.otboo.domain.weather.repository.WeatherRepository;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class RecommendationAuditRecorderTest {
+
+    @Mock
+    private RecommendationRepository recommendationRepository;
+
+    @Mock
+    private RecommendationParameterRepository parameterRepository;
+
+    @Mock
+    private RecommendationClothesRepository recommendationClothesRepository;
+
+    @Mock
+    private WeatherRepository weatherRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ClothesRepository clothesRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void 비활성화되어_있으면_이력을_쌓지_않음() {
+
+        // given
+        RecommendationAuditRecorder recorder = recorder(false, 1.0, 10);
+
+        // when
+        recorder.record(audit(UUID.randomUUID()));
+        recorder.flush();
+
+        // then
+        verify(recommendationRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void 샘플링_비율이_0이면_이력을_쌓지_않음() {
+
+        // given
+        RecommendationAuditRecorder recorder = recorder(true, 0.0, 10);
+
+        // when
+        recorder.record(audit(UUID.randomUUID()));
+        recorder.flush();
+
+        // then
+        verify(recommendationRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void 배치_크기만큼_나눠_저장() {
+
+        // given
+        RecommendationAuditRecorder recorder = recorder(true, 1.0, 2);
+        given(recommendationRepository.saveAll(anyList())).willAnswer(inv -> inv.getArgument(0));
+        recorder.record(audit(UUID.randomUUID()));
+        recorder.record(audit(UUID.randomUUID()));
+        recorder.record(audit(UUID.randomUUID()));
+
+        // when
+        recorder.flush();
+        recorder.flush();
+
+        // then
+        ArgumentCaptor<List<RecommendationParameter>> captor = ArgumentCaptor.forClass(List.class);
+        verify(parameterRepository, times(2)).saveAll(captor.capture());
+        assertThat(captor.getAllValues()).extracting(List::size).containsExactly(2, 1);
+    }
+
+    @Test
+    void 제약_위반이_난_이력만_건너뛰고_나머지는_저장() {
+
+        // given
+        RecommendationAuditRecorder recorder = recorder(true, 1.0, 10);
+        UUID goodUserId = UUID.randomUUID();
+        UUID badUserId = UUID.randomUUID();
+        User badUser = mock(User.class);
+        given(userRepository.getReferenceById(goodUserId)).willReturn(mock(User.class));
+        given(userRepository.getReferenceById(badUserId)).willReturn(badUser);
+        given(recommendationRepository.saveAll(anyList())).willAnswer(inv -> {
+            List<Recommendation> recommendations = inv.getArgument(0);
+            if (recommendations.stream().anyMatch(r -> r.getUser() == badUser)) {
+                throw new DataIntegrityViolationException("fk_recommendations_user");
+            }
+            return recommendations;
+        });
+        recorder.record(audit(goodUserId));
+        recorder.record(audit(badUserId));
+
+        // when
+        recorder.flush();
+        recorder.flush();
+
+        // then
+        ArgumentCaptor<List<RecommendationParameter>> captor = ArgumentCaptor.forClass(List.class);
+        verify(parameterRepository, times(1)).saveAll(captor.capture());
+        assertThat(captor.getValue()).hasSize(1);
+        verify(recommendationRepository, times(3)).saveAll(anyList());
+    }
+
+    @Test
+    void 일시적인_실패는_대기열에_되돌려_다음_주기에_저장() {
+
+        // given
+        RecommendationAuditRecorder recorder = recorder(true, 1.0, 10);
+        given(recommendationRepository.saveAll(anyList()))
+            .willThrow(new QueryTimeoutException("db down"))
+            .willAnswer(inv -> inv.getArgument(0));
+        recorder.record(audit(UUID.randomUUID()));
+        recorder.record(audit(UUID.randomUUID()));
+
+        // when
+        recorder.flush();
+        recorder.flush();
+
+        // then
+        ArgumentCaptor<List<RecommendationParameter>> captor = ArgumentCaptor.forClass(List.class);
+        verify(parameterRepository, times(1)).saveAll(captor.capture());
+        assertThat(captor.getValue()).hasSize(2);
+    }
+
+    private RecommendationAuditRecorder recorder(boolean enabled, double sampleRate,
+        int batchSize) {
+        RecommendationAuditProperties audit =
+            new RecommendationAuditProperties(enabled, sampleRate, 100, batchSize, null);
+        return new RecommendationAuditRecorder(recommendationRepository, parameterRepository,
+            recommendationClothesRepository, weatherRepository, userRepository, clothesRepository,
+            transactionManager, new RecommendationProperties(null, null, audit, null, null));
+    }
+
+    private RecommendationAudit audit(UUID userId) {
+        RecommendationParameter parameter = RecommendationParameter.builder()
+            .seasonInt(3)
+            .curTemp(18.0)
+            .build();
+        return new RecommendationAudit(UUID.randomUUID(), userId, parameter,
+            List.of(UUID.randomUUID()));
+    }
+}
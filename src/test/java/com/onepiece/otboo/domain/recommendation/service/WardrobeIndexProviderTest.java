@@ -0,0 +1,89 @@
+package com.onepiece.otboo.domain.recommendation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.onepiece.otboo.domain.clothes.repository.ClothesAttributeRepository;
+import com.onepiece.otboo.domain.clothes.repository.ClothesRepository;
+import com.onepiece.otboo.domain.recommendation.cache.InMemoryRecommendationVersionRegistry;
+import com.onepiece.otboo.domain.recommendation.config.props.RecommendationProperties;
+import com.onepiece.otboo.domain.recommendation.mapper.RecommendationMapper;
+import com.onepiece.otboo.domain.recommendation.support.WardrobeIndex;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class WardrobeIndexProviderTest {
+
+    private final UUID ownerId = UUID.randomUUID();
+
+    @Mock
+    private ClothesRepository clothesRepository;
+
+    @Mock
+    private ClothesAttributeRepository attributeRepository;
+
+    @Mock
+    private RecommendationMapper recommendationMapper;
+
+    private InMemoryRecommendationVersionRegistry versionRegistry;
+    private WardrobeIndexProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        versionRegistry = new InMemoryRecommendationVersionRegistry();
+        provider = new WardrobeIndexProvider(clothesRepository, attributeRepository,
+            recommendationMapper, versionRegistry,
+            new RecommendationProperties(null, null, null, null, null));
+        given(clothesRepository.getClothesByOwnerId(ownerId)).willReturn(List.of());
+    }
+
+    @Test
+    void 버전이_같으면_캐시된_인덱스_재사용_테스트() {
+
+        // when
+        WardrobeIndex first = provider.get(ownerId);
+        WardrobeIndex second = provider.get(ownerId);
+
+        // then
+        assertThat(second).isSameAs(first);
+        verify(clothesRepository, times(1)).getClothesByOwnerId(ownerId);
+    }
+
+    @Test
+    void 다른_인스턴스에서_옷장_버전이_오르면_다시_적재_테스트() {
+
+        // given
+        provider.get(ownerId);
+
+        // when (로컬 invalidate 없이 공유 버전만 오름)
+        versionRegistry.increaseWardrobeVersion(ownerId);
+        provider.get(ownerId);
+        provider.get(ownerId);
+
+        // then
+        verify(clothesRepository, times(2)).getClothesByOwnerId(ownerId);
+    }
+
+    @Test
+    void 배치_조회는_오래된_인덱스를_쓰지_않고_캐시도_채우지_않음_테스트() {
+
+        // given
+        provider.get(ownerId);
+        versionRegistry.increaseWardrobeVersion(ownerId);
+
+        // when
+        provider.peekOrLoad(ownerId);
+        provider.peekOrLoad(ownerId);
+
+        // then
+        verify(clothesRepository, times(3)).getClothesByOwnerId(ownerId);
+    }
+}
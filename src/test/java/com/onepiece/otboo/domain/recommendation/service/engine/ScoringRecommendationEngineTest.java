@@ -0,0 +1,82 @@
+package com.onepiece.otboo.domain.recommendation.service.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.onepiece.otboo.domain.clothes.entity.ClothesType;
+import com.onepiece.otboo.domain.feed.dto.response.OotdDto.OotdAttribute;
+import com.onepiece.otboo.domain.recommendation.config.props.RecommendationEngineProperties;
+import com.onepiece.otboo.domain.recommendation.config.props.RecommendationProperties;
+import com.onepiece.otboo.domain.recommendation.entity.RecommendationParameter;
+import com.onepiece.otboo.domain.recommendation.support.WardrobeIndex;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class ScoringRecommendationEngineTest {
+
+    private final ScoringRecommendationEngine engine = new ScoringRecommendationEngine(
+        new RecommendationProperties(new RecommendationEngineProperties(null, 1), null, null,
+            null, null));
+
+    private final UUID summerTopId = UUID.randomUUID();
+    private final UUID winterTopId = UUID.randomUUID();
+    private final UUID outerId = UUID.randomUUID();
+
+    private final WardrobeIndex index = WardrobeIndex.builder()
+        .add(summerTopId, "반팔", ClothesType.TOP, null, 0, List.of(season("여름")))
+        .add(winterTopId, "니트", ClothesType.TOP, null, 0, List.of(season("겨울")))
+        .add(outerId, "패딩", ClothesType.OUTER, null, 0, List.of(season("겨울")))
+        .build();
+
+    @Test
+    void 더운_날씨에는_여름_의상을_고르고_아우터를_제외한다() {
+
+        // when
+        List<UUID> result = recommend(parameter(32.0), 7);
+
+        // then
+        assertThat(result).containsExactly(summerTopId);
+    }
+
+    @Test
+    void 추운_날씨에는_겨울_의상과_아우터를_고른다() {
+
+        // when
+        List<UUID> result = recommend(parameter(-3.0), 1);
+
+        // then
+        assertThat(result).containsExactlyInAnyOrder(winterTopId, outerId);
+    }
+
+    @Test
+    void 빈_옷장이면_빈_결과를_반환한다() {
+
+        // when
+        int[] result = engine.recommend(WardrobeIndex.empty(), parameter(20.0), 5);
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    private List<UUID> recommend(RecommendationParameter parameter, int month) {
+        return Arrays.stream(engine.recommend(index, parameter, month))
+            .mapToObj(index::id)
+            .toList();
+    }
+
+    private RecommendationParameter parameter(double curTemp) {
+        return RecommendationParameter.builder()
+            .curTemp(curTemp)
+            .maxTemp(curTemp + 2)
+            .feelHot(0.0)
+            .feelCold(0.0)
+            .tempSens(3)
+            .build();
+    }
+
+    private OotdAttribute season(String value) {
+        return new OotdAttribute(UUID.randomUUID(), "계절", List.of("봄", "여름", "가을", "겨울"),
+            value);
+    }
+}
@@ -0,0 +1,107 @@
+package com.onepiece.otboo.domain.recommendation.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.onepiece.otboo.domain.clothes.entity.ClothesType;
+import com.onepiece.otboo.domain.clothes.entity.Season;
+import com.onepiece.otboo.domain.feed.dto.response.OotdDto;
+import com.onepiece.otboo.domain.feed.dto.response.OotdDto.OotdAttribute;
+import java.util.BitSet;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class WardrobeIndexTest {
+
+    private final UUID topId = UUID.randomUUID();
+    private final UUID dressId = UUID.randomUUID();
+    private final UUID outerId = UUID.randomUUID();
+
+    private WardrobeIndex index;
+
+    @BeforeEach
+    void setUp() {
+        // given
+        index = WardrobeIndex.builder()
+            .add(topId, "반팔", ClothesType.TOP, "clothes/top.png", 3, List.of(season("여름")))
+            .add(dressId, "원피스", ClothesType.DRESS, "clothes/dress.png", 1,
+                List.of(season("봄"), season("여름")))
+            .add(outerId, "패딩", ClothesType.OUTER, null, 0, List.of(season("겨울")))
+            .build();
+    }
+
+    @Test
+    void 타입별_위치_버킷과_피드_수_합계_계산_테스트() {
+
+        // then
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.count(ClothesType.TOP)).isEqualTo(1);
+        assertThat(index.count(ClothesType.BOTTOM)).isZero();
+        assertThat(index.id(index.positions(ClothesType.DRESS)[0])).isEqualTo(dressId);
+        assertThat(index.totalFeedCount()).isEqualTo(4L);
+        assertThat(index.feedCount(ClothesType.DRESS)).isEqualTo(1L);
+    }
+
+    @Test
+    void 계절_비트마스크로_후보_의상_조회_테스트() {
+
+        // when
+        BitSet summer = index.seasonCandidates(Season.SUMMER.getBit());
+        BitSet winter = index.seasonCandidates(Season.recommendableMask(1));
+
+        // then
+        assertThat(summer.cardinality()).isEqualTo(2);
+        assertThat(summer.get(index.positions(ClothesType.OUTER)[0])).isFalse();
+        assertThat(winter.cardinality()).isEqualTo(1);
+        assertThat(winter.get(index.positions(ClothesType.OUTER)[0])).isTrue();
+    }
+
+    @Test
+    void 위치에_해당하는_OotdDto_변환_테스트() {
+
+        // when
+        OotdDto dto = index.toOotdDto(index.positions(ClothesType.TOP)[0]);
+
+        // then
+        assertThat(dto.clothesId()).isEqualTo(topId);
+        assertThat(dto.imageUrl()).isEqualTo("clothes/top.png");
+        assertThat(dto.type()).isEqualTo("TOP");
+        assertThat(dto.attributes()).hasSize(1);
+    }
+
+    @Test
+    void 저장된_계절_비트마스크로_후보_의상_조회_테스트() {
+
+        // given (속성 목록 없이 clothes.season_mask 값만 있는 경우)
+        WardrobeIndex stored = WardrobeIndex.builder()
+            .add(topId, "반팔", ClothesType.TOP, null, 0, Season.SUMMER.getBit(), List.of())
+            .add(outerId, "패딩", ClothesType.OUTER, null, 0, Season.WINTER.getBit(), List.of())
+            .build();
+
+        // when
+        BitSet summer = stored.seasonCandidates(Season.SUMMER.getBit());
+
+        // then
+        assertThat(summer.cardinality()).isEqualTo(1);
+        assertThat(stored.id(summer.nextSetBit(0))).isEqualTo(topId);
+        assertThat(stored.seasonMask(summer.nextSetBit(0))).isEqualTo(Season.SUMMER.getBit());
+    }
+
+    @Test
+    void 빈_옷장_인덱스_테스트() {
+
+        // when
+        WardrobeIndex empty = WardrobeIndex.empty();
+
+        // then
+        assertThat(empty.isEmpty()).isTrue();
+        assertThat(empty.totalFeedCount()).isZero();
+        assertThat(empty.seasonCandidates(Season.recommendableMask(7)).isEmpty()).isTrue();
+    }
+
+    private OotdAttribute season(String value) {
+        return new OotdAttribute(UUID.randomUUID(), "계절", List.of("봄", "여름", "가을", "겨울"),
+            value);
+    }
+}
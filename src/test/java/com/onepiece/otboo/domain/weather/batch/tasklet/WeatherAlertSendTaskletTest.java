@@ -116,6 +116,7 @@ class WeatherAlertSendTaskletTest {
         List<WeatherAlertOutbox> saved = captor.getValue();
         assertThat(saved).hasSize(2);
         assertThat(saved).allMatch(x -> x.getStatus() == AlertStatus.SENDING);
+        assertThat(saved).extracting(WeatherAlertOutbox::getRecipientCount).containsExactly(2, 1);
         verify(outboxRepository).findTop100ByStatus(AlertStatus.PENDING);
         verify(profileRepository).findAllByLocationId(locationId1);
         verify(profileRepository).findAllByLocationId(locationId2);
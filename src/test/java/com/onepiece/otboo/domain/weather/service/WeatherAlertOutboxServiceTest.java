@@ -1,62 +1,156 @@
 package com.onepiece.otboo.domain.weather.service;
 
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.assertj.core.api.Assertions.assertThat;
 
 import com.onepiece.otboo.domain.notification.enums.AlertStatus;
 import com.onepiece.otboo.domain.weather.entity.WeatherAlertOutbox;
 import com.onepiece.otboo.domain.weather.repository.WeatherAlertOutboxRepository;
-import java.util.Optional;
+import com.onepiece.otboo.global.config.TestJpaConfig;
+import jakarta.persistence.EntityManager;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
-
-@ExtendWith(MockitoExtension.class)
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({TestJpaConfig.class, WeatherAlertOutboxService.class})
 class WeatherAlertOutboxServiceTest {
 
-    @Mock
+    @Autowired
+    private WeatherAlertOutboxService outboxService;
+
+    @Autowired
     private WeatherAlertOutboxRepository outboxRepository;
 
-    @InjectMocks
-    private WeatherAlertOutboxService outboxService;
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
 
     @Test
-    void 데이터가_있는_경우_상태_변경_테스트() {
+    void 모든_대상이_성공하면_SEND로_완료() {
 
         // given
-        UUID id = UUID.randomUUID();
+        UUID id = sendingOutbox(3);
 
-        WeatherAlertOutbox outbox = mock(WeatherAlertOutbox.class);
+        // when
+        outboxService.recordSent(id);
+        outboxService.recordSent(id);
+        outboxService.recordSent(id);
+        outboxService.flush();
 
-        given(outboxRepository.findById(id)).willReturn(Optional.of(outbox));
+        // then
+        WeatherAlertOutbox outbox = reload(id);
+        assertThat(outbox.getStatus()).isEqualTo(AlertStatus.SEND);
+        assertThat(outbox.getSentCount()).isEqualTo(3);
+        assertThat(outbox.getFailedCount()).isZero();
+    }
+
+    @Test
+    void 일부_대상이_실패하면_FAILED로_완료하고_성공_실패_수를_남김() {
+
+        // given
+        UUID id = sendingOutbox(3);
 
         // when
-        outboxService.updateStatus(id, AlertStatus.SEND);
+        outboxService.recordSent(id);
+        outboxService.recordFailed(id);
+        outboxService.recordSent(id);
+        outboxService.flush();
 
         // then
-        verify(outbox).updateStatus(AlertStatus.SEND);
-        verify(outboxRepository).findById(eq(id));
+        WeatherAlertOutbox outbox = reload(id);
+        assertThat(outbox.getStatus()).isEqualTo(AlertStatus.FAILED);
+        assertThat(outbox.getSentCount()).isEqualTo(2);
+        assertThat(outbox.getFailedCount()).isEqualTo(1);
     }
 
     @Test
-    void 데이터가_없는_경우_상태_변경_테스트() {
+    void 결과가_다_모이기_전에는_SENDING을_유지하고_다음_flush에_누적() {
 
         // given
-        UUID id = UUID.randomUUID();
+        UUID id = sendingOutbox(3);
 
-        given(outboxRepository.findById(id)).willReturn(Optional.empty());
+        // when
+        outboxService.recordSent(id);
+        outboxService.flush();
+
+        // then
+        assertThat(reload(id).getStatus()).isEqualTo(AlertStatus.SENDING);
 
         // when
-        outboxService.updateStatus(id, AlertStatus.SEND);
+        outboxService.recordSent(id);
+        outboxService.recordSent(id);
+        outboxService.flush();
 
         // then
-        verify(outboxRepository).findById(eq(id));
-        verifyNoMoreInteractions(outboxRepository);
+        WeatherAlertOutbox outbox = reload(id);
+        assertThat(outbox.getStatus()).isEqualTo(AlertStatus.SEND);
+        assertThat(outbox.getSentCount()).isEqualTo(3);
+    }
+
+    @Test
+    void 여러_outbox의_결과를_한_번에_반영() {
+
+        // given
+        UUID done = sendingOutbox(1);
+        UUID inProgress = sendingOutbox(2);
+
+        // when
+        outboxService.recordSent(done);
+        outboxService.recordFailed(inProgress);
+        outboxService.flush();
+
+        // then
+        assertThat(reload(done).getStatus()).isEqualTo(AlertStatus.SEND);
+        WeatherAlertOutbox outbox = reload(inProgress);
+        assertThat(outbox.getStatus()).isEqualTo(AlertStatus.SENDING);
+        assertThat(outbox.getFailedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 결과가_모이지_않은_채_오래된_SENDING은_모자라면_FAILED로_완료() {
+
+        // given
+        UUID stale = sendingOutbox(3);
+        UUID staleButDone = sendingOutbox(1);
+        UUID recent = sendingOutbox(3);
+        outboxService.recordSent(stale);
+        outboxService.recordSent(staleButDone);
+        outboxService.recordSent(recent);
+        outboxService.flush();
+        jdbcTemplate.update(
+            "UPDATE weather_alert_outboxes SET status = 'SENDING', created_at = ? WHERE id IN (?, ?)",
+            Timestamp.from(Instant.now().minus(Duration.ofHours(1))), stale, staleButDone);
+
+        // when
+        outboxService.finalizeStale();
+
+        // then
+        WeatherAlertOutbox outbox = reload(stale);
+        assertThat(outbox.getStatus()).isEqualTo(AlertStatus.FAILED);
+        assertThat(outbox.getSentCount()).isEqualTo(1);
+        assertThat(reload(staleButDone).getStatus()).isEqualTo(AlertStatus.SEND);
+        assertThat(reload(recent).getStatus()).isEqualTo(AlertStatus.SENDING);
+    }
+
+    private UUID sendingOutbox(int recipients) {
+        WeatherAlertOutbox outbox = WeatherAlertOutbox.create(UUID.randomUUID(), "강풍 주의",
+            "강풍이 예보되어 있습니다.");
+        outbox.startSending(recipients);
+        return outboxRepository.saveAndFlush(outbox).getId();
+    }
+
+    private WeatherAlertOutbox reload(UUID id) {
+        em.clear();
+        return outboxRepository.findById(id).orElseThrow();
     }
-}
\ No newline at end of file
+}
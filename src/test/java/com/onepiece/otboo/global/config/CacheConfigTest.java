@@ -0,0 +1,49 @@
+package com.onepiece.otboo.global.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onepiece.otboo.domain.feed.dto.response.OotdDto;
+import com.onepiece.otboo.domain.feed.dto.response.OotdDto.OotdAttribute;
+import com.onepiece.otboo.domain.recommendation.config.props.RecommendationProperties;
+import com.onepiece.otboo.domain.recommendation.dto.data.RecommendationDto;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+
+class CacheConfigTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void 추천_결과를_Redis_캐시_직렬화기로_저장하고_같은_타입으로_읽음_테스트() {
+
+        // given
+        CacheConfig cacheConfig = new CacheConfig();
+        RedisCacheManager cacheManager = cacheConfig.redisCacheManager(
+            mock(RedisConnectionFactory.class),
+            cacheConfig.baseRedisCacheConfiguration(objectMapper),
+            new RecommendationProperties(null, null, null, null, null),
+            objectMapper);
+        RedisCacheConfiguration configuration =
+            cacheManager.getCacheConfigurations().get(CacheConfig.CACHE_RECOMMENDATIONS);
+        SerializationPair<Object> valuePair = configuration.getValueSerializationPair();
+
+        RecommendationDto dto = new RecommendationDto(UUID.randomUUID(), UUID.randomUUID(),
+            List.of(new OotdDto(UUID.randomUUID(), "셔츠", "clothes/shirt.png", "TOP",
+                List.of(new OotdAttribute(UUID.randomUUID(), "계절", List.of("봄", "여름"), "봄")))));
+
+        // when
+        ByteBuffer written = valuePair.write(dto);
+        Object read = valuePair.read(written);
+
+        // then
+        assertThat(read).isInstanceOf(RecommendationDto.class).isEqualTo(dto);
+    }
+}
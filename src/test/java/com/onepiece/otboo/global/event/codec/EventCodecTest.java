@@ -0,0 +1,102 @@
+package com.onepiece.otboo.global.event.codec;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.onepiece.otboo.global.event.config.props.KafkaEventProperties;
+import com.onepiece.otboo.global.event.event.FeedLikedEvent;
+import com.onepiece.otboo.global.event.event.WeatherChangeEvent;
+import java.time.Instant;
+import java.util.UUID;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class EventCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final EventSchemaRegistry schemaRegistry = new EventSchemaRegistry();
+    private final EventKeyResolver keyResolver = new EventKeyResolver();
+    private final EventCodec smileCodec = new EventCodec(objectMapper, schemaRegistry, keyResolver,
+        new KafkaEventProperties(EventFormat.SMILE, null, null, null));
+    private final EventCodec jsonCodec = new EventCodec(objectMapper, schemaRegistry, keyResolver,
+        new KafkaEventProperties(EventFormat.JSON, null, null, null));
+
+    @Test
+    @DisplayName("Smile로 쓴 레코드는 형식/스키마/버전 헤더와 키를 달고, 같은 이벤트로 읽힌다")
+    void smileRoundTrip() {
+        FeedLikedEvent event = new FeedLikedEvent(
+            UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), Instant.now());
+
+        ProducerRecord<String, byte[]> produced = smileCodec.encode("otboo.FeedLikedEvent", event);
+
+        assertThat(header(produced, EventCodec.CONTENT_TYPE_HEADER))
+            .isEqualTo(EventFormat.SMILE.contentType());
+        assertThat(header(produced, EventCodec.SCHEMA_HEADER)).isEqualTo("FeedLikedEvent");
+        assertThat(header(produced, EventCodec.SCHEMA_VERSION_HEADER)).isEqualTo("2");
+        assertThat(produced.key()).isEqualTo(event.feedAuthorId().toString());
+        assertThat(smileCodec.decode(consumed(produced), FeedLikedEvent.class)).isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("읽는 쪽 설정과 무관하게 헤더의 형식으로 읽는다")
+    void decodeFollowsHeaderFormat() {
+        WeatherChangeEvent event =
+            new WeatherChangeEvent(UUID.randomUUID(), UUID.randomUUID(), "비 예보", "비가 옵니다.");
+
+        ProducerRecord<String, byte[]> produced = jsonCodec.encode("otboo.WeatherChangeEvent", event);
+
+        assertThat(produced.key()).isEqualTo(event.userId().toString());
+        assertThat(smileCodec.decode(consumed(produced), WeatherChangeEvent.class)).isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("헤더가 없는 이전 JSON 좋아요 레코드는 v2로 변환해 읽는다")
+    void legacyFeedLikedIsUpcast() {
+        UUID feedId = UUID.randomUUID();
+        UUID authorId = UUID.randomUUID();
+        UUID likerId = UUID.randomUUID();
+        String legacy = """
+            {"feed":{"id":"%s","author":{"userId":"%s","name":"작성자"},"content":"내용"},
+             "likerId":"%s","createdAt":"2025-10-15T08:30:01Z"}
+            """.formatted(feedId, authorId, likerId);
+
+        FeedLikedEvent event = smileCodec.decode(
+            new ConsumerRecord<>("otboo.FeedLikedEvent", 0, 0L, null, legacy.getBytes(UTF_8)),
+            FeedLikedEvent.class);
+
+        assertThat(event).isEqualTo(
+            new FeedLikedEvent(feedId, authorId, likerId, Instant.parse("2025-10-15T08:30:01Z")));
+    }
+
+    @Test
+    @DisplayName("알 수 없는 새 버전이나 다른 스키마의 레코드는 읽지 않는다")
+    void rejectsUnknownVersionOrSchema() {
+        WeatherChangeEvent event =
+            new WeatherChangeEvent(UUID.randomUUID(), UUID.randomUUID(), "비 예보", "비가 옵니다.");
+        ConsumerRecord<String, byte[]> newer = consumed(smileCodec.encode("otboo.WeatherChangeEvent", event));
+        newer.headers().add(EventCodec.SCHEMA_VERSION_HEADER, "9".getBytes(UTF_8));
+
+        assertThatThrownBy(() -> smileCodec.decode(newer, WeatherChangeEvent.class))
+            .isInstanceOf(SerializationException.class);
+        assertThatThrownBy(() -> smileCodec.decode(
+            consumed(smileCodec.encode("otboo.WeatherChangeEvent", event)), FeedLikedEvent.class))
+            .isInstanceOf(SerializationException.class);
+    }
+
+    private static ConsumerRecord<String, byte[]> consumed(ProducerRecord<String, byte[]> produced) {
+        ConsumerRecord<String, byte[]> record =
+            new ConsumerRecord<>(produced.topic(), 0, 0L, produced.key(), produced.value());
+        produced.headers().forEach(header -> record.headers().add(header));
+        return record;
+    }
+
+    private static String header(ProducerRecord<String, byte[]> record, String key) {
+        return new String(record.headers().lastHeader(key).value(), UTF_8);
+    }
+}
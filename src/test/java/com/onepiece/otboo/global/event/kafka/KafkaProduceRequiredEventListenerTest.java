@@ -2,18 +2,14 @@ package com.onepiece.otboo.global.event.kafka;
 
 import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.onepiece.otboo.domain.notification.enums.AlertStatus;
 import com.onepiece.otboo.domain.weather.service.WeatherAlertOutboxService;
+import com.onepiece.otboo.global.event.codec.EventCodec;
 import com.onepiece.otboo.global.event.event.ClothesAttributeAddedEvent;
 import com.onepiece.otboo.global.event.event.DirectMessageCreatedEvent;
 import com.onepiece.otboo.global.event.event.FeedCommentCreatedEvent;
@@ -21,11 +17,14 @@ import com.onepiece.otboo.global.event.event.FeedLikedEvent;
 import com.onepiece.otboo.global.event.event.FollowCreatedEvent;
 import com.onepiece.otboo.global.event.event.RoleUpdatedEvent;
 import com.onepiece.otboo.global.event.event.WeatherChangeEvent;
+import com.onepiece.otboo.global.event.outbox.EventOutboxCommandRepository;
 import java.time.Duration;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.errors.SerializationException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -41,14 +40,17 @@ import org.springframework.kafka.support.SendResult;
 class KafkaProduceRequiredEventListenerTest {
 
     @Mock
-    private KafkaTemplate<String, String> kafkaTemplate;
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
 
     @Mock
-    private ObjectMapper objectMapper;
+    private EventCodec eventCodec;
 
     @Mock
     private WeatherAlertOutboxService outboxService;
 
+    @Mock
+    private EventOutboxCommandRepository eventOutboxRepository;
+
     @InjectMocks
     private KafkaProduceRequiredEventListener listener;
 
@@ -62,11 +64,11 @@ class KafkaProduceRequiredEventListenerTest {
         WeatherChangeEvent event = mock(WeatherChangeEvent.class);
         given(event.outboxId()).willReturn(outboxId);
 
-        String payload = "{\"foo\":\"bar\"}";
-        given(objectMapper.writeValueAsString(event)).willReturn(payload);
+        ProducerRecord<String, byte[]> record = record(WEATHER_CHANGE_TOPIC, "{\"foo\":\"bar\"}");
+        given(eventCodec.encode(WEATHER_CHANGE_TOPIC, event)).willReturn(record);
 
-        CompletableFuture<SendResult<String, String>> future = new CompletableFuture<>();
-        given(kafkaTemplate.send(WEATHER_CHANGE_TOPIC, payload)).willReturn(future);
+        CompletableFuture<SendResult<String, byte[]>> future = new CompletableFuture<>();
+        given(kafkaTemplate.send(record)).willReturn(future);
 
         // when
         listener.on(event); // 내부에서 send(WeatherChangeEvent) 호출
@@ -79,34 +81,27 @@ class KafkaProduceRequiredEventListenerTest {
         future.complete(sendResult);
         await().atMost(Duration.ofSeconds(2))
             .untilAsserted(() -> {
-                verify(kafkaTemplate, times(1)).send(WEATHER_CHANGE_TOPIC, payload);
-                verify(outboxService, times(1)).updateStatus(outboxId, AlertStatus.SEND);
-                verify(outboxService, never()).updateStatus(outboxId, AlertStatus.FAILED);
+                verify(kafkaTemplate, times(1)).send(record);
+                verify(outboxService, times(1)).recordSent(outboxId);
+                verify(outboxService, never()).recordFailed(outboxId);
             });
     }
 
     @Test
-    void 일반적인_이벤트_전송_성공_테스트() throws Exception {
+    void 일반적인_이벤트는_카프카_대신_outbox에_기록() throws Exception {
 
         // given
         DirectMessageCreatedEvent event = mock(DirectMessageCreatedEvent.class);
 
-        String payload = "{\"dm\":\"send\"}";
-        given(objectMapper.writeValueAsString(event)).willReturn(payload);
-
-        CompletableFuture<SendResult<String, String>> future = new CompletableFuture<>();
-        given(kafkaTemplate.send(any(), eq(payload))).willReturn(future);
+        ProducerRecord<String, byte[]> record = record("otboo.DirectMessageCreatedEvent", "{\"dm\":\"send\"}");
+        given(eventCodec.encode("otboo.DirectMessageCreatedEvent", event)).willReturn(record);
 
         // when
         listener.on(event);
 
         // then
-        SendResult sendResult = mock(SendResult.class);
-        future.complete(sendResult);
-        await().atMost(Duration.ofSeconds(2))
-            .untilAsserted(() -> {
-                verify(kafkaTemplate, times(1)).send(any(), eq(payload));
-            });
+        verify(eventOutboxRepository, times(1)).insert(record);
+        verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
     }
 
     @Test
@@ -117,16 +112,15 @@ class KafkaProduceRequiredEventListenerTest {
         WeatherChangeEvent event = mock(WeatherChangeEvent.class);
         given(event.outboxId()).willReturn(outboxId);
 
-        given(objectMapper.writeValueAsString(event))
-            .willThrow(new JsonProcessingException("boom") {
-            });
+        given(eventCodec.encode(WEATHER_CHANGE_TOPIC, event))
+            .willThrow(new SerializationException("boom"));
 
         // when
         listener.on(event);
 
         // then
-        verify(outboxService, times(1)).updateStatus(outboxId, AlertStatus.FAILED);
-        verify(kafkaTemplate, never()).send(anyString(), anyString());
+        verify(outboxService, times(1)).recordFailed(outboxId);
+        verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
     }
 
     @Test
@@ -137,11 +131,11 @@ class KafkaProduceRequiredEventListenerTest {
         WeatherChangeEvent event = mock(WeatherChangeEvent.class);
         given(event.outboxId()).willReturn(outboxId);
 
-        String payload = "{\"ok\":true}";
-        given(objectMapper.writeValueAsString(event)).willReturn(payload);
+        ProducerRecord<String, byte[]> record = record(WEATHER_CHANGE_TOPIC, "{\"ok\":true}");
+        given(eventCodec.encode(WEATHER_CHANGE_TOPIC, event)).willReturn(record);
 
-        CompletableFuture<SendResult<String, String>> future = new CompletableFuture<>();
-        given(kafkaTemplate.send(WEATHER_CHANGE_TOPIC, payload)).willReturn(future);
+        CompletableFuture<SendResult<String, byte[]>> future = new CompletableFuture<>();
+        given(kafkaTemplate.send(record)).willReturn(future);
 
         // when
         listener.on(event);
@@ -150,23 +144,20 @@ class KafkaProduceRequiredEventListenerTest {
         future.completeExceptionally(new RuntimeException("send failed"));
         await().atMost(Duration.ofSeconds(2))
             .untilAsserted(() -> {
-                verify(kafkaTemplate, times(1)).send(WEATHER_CHANGE_TOPIC, payload);
-                verify(outboxService, times(1)).updateStatus(outboxId, AlertStatus.FAILED);
-                verify(outboxService, never()).updateStatus(outboxId, AlertStatus.SEND);
+                verify(kafkaTemplate, times(1)).send(record);
+                verify(outboxService, times(1)).recordFailed(outboxId);
+                verify(outboxService, never()).recordSent(outboxId);
             });
     }
 
     /**
-     * 여러 일반 이벤트(팔로우, 좋아요, 댓글, 의류속성, 역할변경)가 공통 send(Object) 메서드를 통해 정상적으로 Kafka로 전송되는지 확인
+     * 여러 일반 이벤트(팔로우, 좋아요, 댓글, 의류속성, 역할변경)가 공통 send(Object) 메서드를 통해 outbox에 기록되는지 확인
      */
     @ParameterizedTest
     @MethodSource("provideCommonEvents")
-    void 여러_일반_이벤트_전송_성공_테스트(Object event) throws Exception {
-        String payload = "{\"event\":\"ok\"}";
-        given(objectMapper.writeValueAsString(event)).willReturn(payload);
-
-        CompletableFuture<SendResult<String, String>> future = new CompletableFuture<>();
-        given(kafkaTemplate.send(anyString(), eq(payload))).willReturn(future);
+    void 여러_일반_이벤트_outbox_기록_테스트(Object event) throws Exception {
+        ProducerRecord<String, byte[]> record = record("otboo.event", "{\"event\":\"ok\"}");
+        given(eventCodec.encode(any(), any())).willReturn(record);
 
         if (event instanceof FollowCreatedEvent e) {
             listener.on(e);
@@ -180,11 +171,8 @@ class KafkaProduceRequiredEventListenerTest {
             listener.on(e);
         }
 
-        future.complete(mock(SendResult.class));
-        await().atMost(Duration.ofSeconds(2))
-            .untilAsserted(() ->
-                verify(kafkaTemplate, times(1)).send(anyString(), eq(payload))
-            );
+        verify(eventOutboxRepository, times(1)).insert(record);
+        verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
     }
 
     private static Stream<Object> provideCommonEvents() {
@@ -197,4 +185,7 @@ class KafkaProduceRequiredEventListenerTest {
         );
     }
 
+    private static ProducerRecord<String, byte[]> record(String topic, String payload) {
+        return new ProducerRecord<>(topic, payload.getBytes());
+    }
 }
@@ -1,9 +1,12 @@
 package com.onepiece.otboo.global.event.kafka;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anySet;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doThrow;
@@ -13,33 +16,41 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.onepiece.otboo.domain.dm.dto.response.DirectMessageDto;
 import com.onepiece.otboo.domain.feed.dto.response.AuthorDto;
+import com.onepiece.otboo.domain.notification.dto.data.NotificationDraft;
 import com.onepiece.otboo.domain.notification.enums.Level;
 import com.onepiece.otboo.domain.notification.service.NotificationService;
 import com.onepiece.otboo.domain.profile.entity.Profile;
 import com.onepiece.otboo.domain.profile.fixture.ProfileFixture;
 import com.onepiece.otboo.domain.profile.repository.ProfileRepository;
+import com.onepiece.otboo.domain.user.entity.User;
+import com.onepiece.otboo.domain.user.fixture.UserFixture;
+import com.onepiece.otboo.global.event.codec.EventCodec;
 import com.onepiece.otboo.global.event.event.DirectMessageCreatedEvent;
+import com.onepiece.otboo.global.event.event.FeedLikedEvent;
 import com.onepiece.otboo.global.event.event.WeatherChangeEvent;
-import java.util.Optional;
-import java.util.Set;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.errors.SerializationException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class NotificationRequiredTopicListenerTest {
 
     @Mock
-    private ObjectMapper objectMapper;
+    private EventCodec eventCodec;
 
     @Mock
     private NotificationService notificationService;
@@ -54,30 +65,23 @@ class NotificationRequiredTopicListenerTest {
     private NotificationRequiredTopicListener listener;
 
     @Test
-    void 날씨_변화_토픽_소비_정상_흐름_테스트() throws Exception {
+    void 날씨_변화_토픽_배치_소비_정상_흐름_테스트() throws Exception {
 
         // given
-        String kafkaEvent = "{\"userId\":\"6b2f0b90-6f3c-4e63-9a62-a1e6a2f7b5f4\",\"title\":\"비 예보\",\"message\":\"잠시 후 비가 옵니다.\"}";
-        UUID userId = UUID.fromString("6b2f0b90-6f3c-4e63-9a62-a1e6a2f7b5f4");
-
-        WeatherChangeEvent event = mock(WeatherChangeEvent.class);
-        given(event.userId()).willReturn(userId);
-        given(event.title()).willReturn("비 예보");
-        given(event.message()).willReturn("잠시 후 비가 옵니다.");
-
-        given(objectMapper.readValue(eq(kafkaEvent), eq(WeatherChangeEvent.class)))
-            .willReturn(event);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        given(eventCodec.decode(value("weather-1"), eq(WeatherChangeEvent.class)))
+            .willReturn(new WeatherChangeEvent(UUID.randomUUID(), first, "비 예보", "잠시 후 비가 옵니다."));
+        given(eventCodec.decode(value("weather-2"), eq(WeatherChangeEvent.class)))
+            .willReturn(new WeatherChangeEvent(UUID.randomUUID(), second, "기온 하강", "기온이 떨어집니다."));
 
         // when
-        listener.onWeatherChanged(kafkaEvent, ack);
+        listener.onWeatherChanged(records("otboo.WeatherChangeEvent", "weather-1", "weather-2"), ack);
 
         // then
-        ArgumentCaptor<Set<UUID>> setCaptor = ArgumentCaptor.forClass(Set.class);
-        verify(notificationService, times(1))
-            .create(setCaptor.capture(), eq("비 예보"), eq("잠시 후 비가 옵니다."), eq(Level.INFO));
-        Set<UUID> targetSet = setCaptor.getValue();
-        // 대상 집합에 해당 userId 포함 확인
-        assert targetSet.contains(userId);
+        verify(notificationService, times(1)).createAll(List.of(
+            new NotificationDraft(first, "비 예보", "잠시 후 비가 옵니다.", Level.INFO),
+            new NotificationDraft(second, "기온 하강", "기온이 떨어집니다.", Level.INFO)));
         verify(ack, times(1)).acknowledge();
         verifyNoMoreInteractions(notificationService, ack);
     }
@@ -86,30 +90,8 @@ class NotificationRequiredTopicListenerTest {
     void DM_생성_토픽_소비_정상_흐름_테스트() throws Exception {
 
         // given
-        Profile senderProfile = ProfileFixture.createProfile();
-
-        String kafkaEvent = """
-            {
-              "data": {
-                "id": "b4c5a8de-1f6d-4d1e-8b19-3b0bcd0ff011",
-                "createdAt": "2025-10-15T08:30:00Z",
-                "sender": {
-                  "userId": "6b2f0b90-6f3c-4e63-9a62-a1e6a2f7b5f4",
-                  "name": "test",
-                  "profileImageUrl": "null"
-                },
-                "receiver": {
-                  "userId": "6b2f0b90-6f3c-4e63-9a62-a1e6a2f7b5f5",
-                  "name": "han",
-                  "profileImageUrl": "null"
-                },
-                "content": "안녕"
-              },
-              "createdAt": "2025-10-15T08:30:01Z"
-            }
-            """;
-        UUID senderId = UUID.fromString("6b2f0b90-6f3c-4e63-9a62-a1e6a2f7b5f4");
-        UUID receiverId = UUID.fromString("6b2f0b90-6f3c-4e63-9a62-a1e6a2f7b5f5");
+        UUID senderId = UUID.randomUUID();
+        UUID receiverId = UUID.randomUUID();
 
         DirectMessageCreatedEvent event = mock(DirectMessageCreatedEvent.class);
         DirectMessageDto dto = mock(DirectMessageDto.class);
@@ -122,58 +104,126 @@ class NotificationRequiredTopicListenerTest {
         given(sender.userId()).willReturn(senderId);
         given(receiver.userId()).willReturn(receiverId);
         given(dto.content()).willReturn("안녕");
-        given(profileRepository.findByUserId(any(UUID.class))).willReturn(
-            Optional.of(senderProfile));
-        given(objectMapper.readValue(eq(kafkaEvent), eq(DirectMessageCreatedEvent.class)))
+        given(profileRepository.findAllByUserIdIn(any())).willReturn(
+            List.of(profile(senderId, "테스트닉네임"), profile(receiverId, "han")));
+        given(eventCodec.decode(value("dm"), eq(DirectMessageCreatedEvent.class)))
             .willReturn(event);
 
         // when
-        listener.onDirectMessageCreated(kafkaEvent, ack);
+        listener.onDirectMessageCreated(records("otboo.DirectMessageCreatedEvent", "dm"), ack);
 
         // then
-        ArgumentCaptor<Set<UUID>> setCaptor = ArgumentCaptor.forClass(Set.class);
-        verify(notificationService, times(1))
-            .create(setCaptor.capture(), eq("테스트닉네임님으로부터 메시지가 왔습니다."), eq("안녕"), eq(Level.INFO));
-        Set<UUID> targetSet = setCaptor.getValue();
-        // 대상 집합에 해당 userId 포함 확인
-        assert targetSet.contains(receiverId);
+        verify(notificationService, times(1)).createAll(List.of(
+            new NotificationDraft(receiverId, "테스트닉네임님으로부터 메시지가 왔습니다.", "안녕", Level.INFO)));
+        verify(profileRepository, times(1)).findAllByUserIdIn(any());
         verify(ack, times(1)).acknowledge();
         verifyNoMoreInteractions(notificationService, ack);
     }
 
     @Test
-    void JSON_파싱_실패_테스트() throws Exception {
+    void 좋아요_이벤트는_수신자별로_묶어_하나의_알림으로_저장() throws Exception {
+
         // given
-        String kafkaEvent = "malformed-json";
-        given(objectMapper.readValue(eq(kafkaEvent), eq(WeatherChangeEvent.class)))
-            .willThrow(new JsonProcessingException("boom") {
-            });
+        UUID authorId = UUID.randomUUID();
+        UUID likerA = UUID.randomUUID();
+        UUID likerB = UUID.randomUUID();
+        UUID likerC = UUID.randomUUID();
+        UUID feedId = UUID.randomUUID();
+
+        given(eventCodec.decode(value("like-a"), eq(FeedLikedEvent.class)))
+            .willReturn(new FeedLikedEvent(feedId, authorId, likerA, Instant.now()));
+        given(eventCodec.decode(value("like-b"), eq(FeedLikedEvent.class)))
+            .willReturn(new FeedLikedEvent(feedId, authorId, likerB, Instant.now()));
+        given(eventCodec.decode(value("like-c"), eq(FeedLikedEvent.class)))
+            .willReturn(new FeedLikedEvent(feedId, authorId, likerC, Instant.now()));
+        given(eventCodec.decode(value("self"), eq(FeedLikedEvent.class)))
+            .willReturn(new FeedLikedEvent(feedId, authorId, authorId, Instant.now()));
+        given(profileRepository.findAllByUserIdIn(any())).willReturn(List.of(
+            profile(likerA, "가나"), profile(likerB, "다라"), profile(likerC, "마바")));
+
+        // when (같은 사용자의 반복 좋아요와 자기 피드 좋아요 포함)
+        listener.onFeedLiked(
+            records("otboo.FeedLikedEvent", "like-a", "like-b", "like-a", "self", "like-c"), ack);
+
+        // then
+        ArgumentCaptor<List<NotificationDraft>> drafts = ArgumentCaptor.captor();
+        verify(notificationService, times(1)).createAll(drafts.capture());
+        assertThat(drafts.getValue())
+            .extracting(NotificationDraft::receiverId, NotificationDraft::content)
+            .containsExactly(tuple(authorId, "가나님 외 2명이 당신의 피드를 좋아했습니다."));
+        verify(ack, times(1)).acknowledge();
+    }
+
+    @Test
+    void 역직렬화_실패시_앞선_레코드만_저장하고_실패_위치를_알림() throws Exception {
+        // given
+        UUID userId = UUID.randomUUID();
+        given(eventCodec.decode(value("weather"), eq(WeatherChangeEvent.class)))
+            .willReturn(new WeatherChangeEvent(UUID.randomUUID(), userId, "비 예보", "비"));
+        given(eventCodec.decode(value("malformed-json"), eq(WeatherChangeEvent.class)))
+            .willThrow(new SerializationException("boom"));
 
         // when & then
-        assertThrows(RuntimeException.class, () -> listener.onWeatherChanged(kafkaEvent, ack));
-        verify(notificationService, never()).create(anySet(), anyString(), anyString(), any());
+        BatchListenerFailedException e = assertThrows(BatchListenerFailedException.class,
+            () -> listener.onWeatherChanged(
+                records("otboo.WeatherChangeEvent", "weather", "malformed-json", "weather"), ack));
+        assertThat(e.getIndex()).isEqualTo(1);
+        verify(notificationService, times(1)).createAll(List.of(
+            new NotificationDraft(userId, "비 예보", "비", Level.INFO)));
         verify(ack, never()).acknowledge();
     }
 
     @Test
-    void 알림_생성_중_예외_발생_테스트() throws Exception {
-
+    void 프로필이_없는_레코드는_실패_위치로_알림() throws Exception {
         // given
-        String kafkaEvent = "{\"ok\":true}";
-        WeatherChangeEvent event = mock(WeatherChangeEvent.class);
-        given(event.userId()).willReturn(UUID.randomUUID());
-        given(event.title()).willReturn("알림 제목");
-        given(event.message()).willReturn("알림 내용");
+        UUID authorId = UUID.randomUUID();
+        UUID unknownLiker = UUID.randomUUID();
+        given(eventCodec.decode(value("like"), eq(FeedLikedEvent.class)))
+            .willReturn(new FeedLikedEvent(UUID.randomUUID(), authorId, unknownLiker, Instant.now()));
+        given(profileRepository.findAllByUserIdIn(any())).willReturn(List.of());
 
-        given(objectMapper.readValue(eq(kafkaEvent), eq(WeatherChangeEvent.class)))
-            .willReturn(event);
+        // when & then
+        BatchListenerFailedException e = assertThrows(BatchListenerFailedException.class,
+            () -> listener.onFeedLiked(records("otboo.FeedLikedEvent", "like"), ack));
+        assertThat(e.getIndex()).isZero();
+        verify(notificationService, never()).createAll(anyList());
+        verify(ack, never()).acknowledge();
+    }
+
+    @Test
+    void 알림_저장_중_예외_발생_테스트() throws Exception {
+
+        // given
+        given(eventCodec.decode(value("weather"), eq(WeatherChangeEvent.class)))
+            .willReturn(new WeatherChangeEvent(UUID.randomUUID(), UUID.randomUUID(), "알림 제목", "알림 내용"));
 
         doThrow(new IllegalStateException("notification error"))
             .when(notificationService)
-            .create(anySet(), anyString(), anyString(), any());
+            .createAll(anyList());
 
         // when & then
-        assertThrows(IllegalStateException.class, () -> listener.onWeatherChanged(kafkaEvent, ack));
+        assertThrows(IllegalStateException.class,
+            () -> listener.onWeatherChanged(records("otboo.WeatherChangeEvent", "weather"), ack));
         verify(ack, never()).acknowledge();
     }
+
+    private List<ConsumerRecord<String, byte[]>> records(String topic, String... values) {
+        List<ConsumerRecord<String, byte[]>> records = new ArrayList<>();
+        for (int i = 0; i < values.length; i++) {
+            records.add(new ConsumerRecord<>(topic, 0, i, null, values[i].getBytes(UTF_8)));
+        }
+        return records;
+    }
+
+    private static ConsumerRecord<String, byte[]> value(String value) {
+        return argThat(record -> record != null && value.equals(new String(record.value(), UTF_8)));
+    }
+
+    private Profile profile(UUID userId, String nickname) {
+        User user = UserFixture.createUser();
+        ReflectionTestUtils.setField(user, "id", userId);
+        Profile profile = ProfileFixture.createProfile(user);
+        profile.updateNickname(nickname);
+        return profile;
+    }
 }
@@ -0,0 +1,115 @@
+package com.onepiece.otboo.global.event.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.onepiece.otboo.domain.notification.dto.response.NotificationResponse;
+import com.onepiece.otboo.global.event.codec.EventCodec;
+import com.onepiece.otboo.global.event.codec.EventKeyResolver;
+import com.onepiece.otboo.global.event.codec.EventSchemaRegistry;
+import com.onepiece.otboo.global.event.config.props.KafkaEventProperties;
+import com.onepiece.otboo.global.event.event.BroadcastNotificationCreatedEvent;
+import com.onepiece.otboo.global.event.event.NotificationsCreatedEvent;
+import com.onepiece.otboo.global.sse.SseEmitterRepository;
+import com.onepiece.otboo.global.sse.SseService;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.Acknowledgment;
+
+@ExtendWith(MockitoExtension.class)
+class SseRequiredTopicListenerTest {
+
+    @Mock
+    private SseService sseService;
+
+    @Mock
+    private SseEmitterRepository emitterRepository;
+
+    @Mock
+    private Acknowledgment ack;
+
+    private final EventCodec eventCodec = new EventCodec(
+        new ObjectMapper().registerModule(new JavaTimeModule()), new EventSchemaRegistry(),
+        new EventKeyResolver(), new KafkaEventProperties(null, null, null, null));
+
+    private SseRequiredTopicListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new SseRequiredTopicListener(eventCodec, sseService, emitterRepository);
+    }
+
+    @Test
+    @DisplayName("이 인스턴스에 연결된 수신자에게만 전송하고, 한 명의 실패가 나머지 전송을 막지 않음")
+    void onNotificationsCreated_sendsToLocalReceivers() throws Exception {
+        NotificationResponse local = notification();
+        NotificationResponse failing = notification();
+        NotificationResponse remote = notification();
+        given(sseService.isConnected(local.getReceiverId())).willReturn(true);
+        given(sseService.isConnected(failing.getReceiverId())).willReturn(true);
+        given(sseService.isConnected(remote.getReceiverId())).willReturn(false);
+        willThrow(new RuntimeException("SSE 실패"))
+            .given(sseService).send(eq(failing.getReceiverId()), any(), any(), any());
+
+        listener.onNotificationsCreated(record(new NotificationsCreatedEvent(
+            List.of(failing, local, remote), Map.of(local.getId(), "1-0"))), ack);
+
+        verify(sseService).send(eq(local.getReceiverId()), eq("notifications"), any(), eq("1-0"));
+        verify(sseService, never()).send(eq(remote.getReceiverId()), any(), any(), any());
+        verify(ack).acknowledge();
+    }
+
+    @Test
+    @DisplayName("전체 알림은 연결된 사용자마다 수신자를 채워 전송")
+    void onBroadcastNotificationCreated_fillsReceiver() throws Exception {
+        UUID connected = UUID.randomUUID();
+        given(emitterRepository.getAllUserIds()).willReturn(Set.of(connected));
+        NotificationResponse broadcast = notification().toBuilder().receiverId(null).build();
+
+        listener.onBroadcastNotificationCreated(
+            record(new BroadcastNotificationCreatedEvent(broadcast)), ack);
+
+        ArgumentCaptor<NotificationResponse> sent = ArgumentCaptor.forClass(NotificationResponse.class);
+        verify(sseService).send(eq(connected), eq("notifications"), sent.capture(), isNull());
+        assertThat(sent.getValue().getReceiverId()).isEqualTo(connected);
+        assertThat(sent.getValue().getId()).isEqualTo(broadcast.getId());
+        verify(ack).acknowledge();
+    }
+
+    private ConsumerRecord<String, byte[]> record(Object event) {
+        var produced = eventCodec.encode("otboo." + event.getClass().getSimpleName(), event);
+        var record = new ConsumerRecord<>(produced.topic(), 0, 0L, produced.key(), produced.value());
+        produced.headers().forEach(header -> record.headers().add(header));
+        return record;
+    }
+
+    private NotificationResponse notification() {
+        return NotificationResponse.builder()
+            .id(UUID.randomUUID())
+            .receiverId(UUID.randomUUID())
+            .title("테스트 알림")
+            .content("내용")
+            .level("INFO")
+            .createdAt(Instant.now())
+            .build();
+    }
+}
@@ -9,14 +9,15 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.onepiece.otboo.domain.dm.dto.response.DirectMessageDto;
 import com.onepiece.otboo.domain.dm.fixture.DirectMessageDtoFixture;
 import com.onepiece.otboo.domain.feed.dto.response.AuthorDto;
+import com.onepiece.otboo.global.event.codec.EventCodec;
 import com.onepiece.otboo.global.event.event.DirectMessageCreatedEvent;
 import java.time.Instant;
 import java.util.UUID;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.errors.SerializationException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -29,7 +30,7 @@ import org.springframework.messaging.simp.SimpMessagingTemplate;
 class WebSocketRequiredTopicListenerTest {
 
     @Mock
-    private ObjectMapper objectMapper;
+    private EventCodec eventCodec;
 
     @Mock
     private SimpMessagingTemplate messagingTemplate;
@@ -40,7 +41,7 @@ class WebSocketRequiredTopicListenerTest {
     @Test
     void 발신자_수신자_사전식_비교_그대로_연결하여_메시지_구독_테스트() throws Exception {
         // given
-        String kafkaEvent = "{mocked-json-not-used-because-of-stubbing}";
+        ConsumerRecord<String, byte[]> kafkaEvent = record("{mocked-payload-not-used-because-of-stubbing}");
         UUID senderId = UUID.fromString("11111111-1111-1111-1111-111111111111");
         UUID receiverId = UUID.fromString("22222222-2222-2222-2222-222222222222");
 
@@ -55,7 +56,7 @@ class WebSocketRequiredTopicListenerTest {
         DirectMessageCreatedEvent event =
             new DirectMessageCreatedEvent(dto, Instant.parse("2025-10-15T08:30:01Z"));
 
-        given(objectMapper.readValue(kafkaEvent, DirectMessageCreatedEvent.class))
+        given(eventCodec.decode(kafkaEvent, DirectMessageCreatedEvent.class))
             .willReturn(event);
 
         // when
@@ -75,7 +76,7 @@ class WebSocketRequiredTopicListenerTest {
     @Test
     void 발신자_수신자_사전식_비교_사전순으로_교체하여_메시지_구독_테스트() throws Exception {
         // given
-        String kafkaEvent = "{mocked-json-not-used-because-of-stubbing}";
+        ConsumerRecord<String, byte[]> kafkaEvent = record("{mocked-payload-not-used-because-of-stubbing}");
         UUID senderId = UUID.fromString("99999999-9999-9999-9999-999999999999");
         UUID receiverId = UUID.fromString("11111111-1111-1111-1111-111111111111");
 
@@ -90,7 +91,7 @@ class WebSocketRequiredTopicListenerTest {
         DirectMessageCreatedEvent event =
             new DirectMessageCreatedEvent(dto, Instant.parse("2025-10-15T08:30:01Z"));
 
-        given(objectMapper.readValue(kafkaEvent, DirectMessageCreatedEvent.class))
+        given(eventCodec.decode(kafkaEvent, DirectMessageCreatedEvent.class))
             .willReturn(event);
 
         // when
@@ -110,10 +111,9 @@ class WebSocketRequiredTopicListenerTest {
     @Test
     void 역직렬화_실패시_RuntimeException_발생() throws Exception {
         // given
-        String kafkaEvent = "{bad-json}";
-        given(objectMapper.readValue(kafkaEvent, DirectMessageCreatedEvent.class))
-            .willThrow(new JsonProcessingException("boom!") {
-            });
+        ConsumerRecord<String, byte[]> kafkaEvent = record("{bad-payload}");
+        given(eventCodec.decode(kafkaEvent, DirectMessageCreatedEvent.class))
+            .willThrow(new SerializationException("boom!"));
 
         // when
         Throwable thrown = catchThrowable(() -> listener.receiveDirectMessage(kafkaEvent));
@@ -123,4 +123,8 @@ class WebSocketRequiredTopicListenerTest {
             .isInstanceOf(RuntimeException.class);
         verifyNoInteractions(messagingTemplate);
     }
+
+    private ConsumerRecord<String, byte[]> record(String value) {
+        return new ConsumerRecord<>("otboo.DirectMessageCreatedEvent", 0, 0L, null, value.getBytes());
+    }
 }
@@ -0,0 +1,144 @@
+package com.onepiece.otboo.global.event.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.onepiece.otboo.domain.notification.dto.response.NotificationResponse;
+import com.onepiece.otboo.global.event.codec.EventCodec;
+import com.onepiece.otboo.global.event.codec.EventKeyResolver;
+import com.onepiece.otboo.global.event.codec.EventSchemaRegistry;
+import com.onepiece.otboo.global.event.config.props.KafkaEventProperties;
+import com.onepiece.otboo.global.event.event.BroadcastNotificationCreatedEvent;
+import com.onepiece.otboo.global.event.event.NotificationsCreatedEvent;
+import com.onepiece.otboo.global.sse.SseEventHistory;
+import com.onepiece.otboo.global.sse.SseHistoryEntry;
+import com.onepiece.otboo.global.sse.SsePresenceRegistry;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationSseEventListenerTest {
+
+    @Mock
+    private SsePresenceRegistry presenceRegistry;
+
+    @Mock
+    private SseEventHistory eventHistory;
+
+    @Mock
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    private final EventCodec eventCodec = new EventCodec(
+        new ObjectMapper().registerModule(new JavaTimeModule()), new EventSchemaRegistry(),
+        new EventKeyResolver(), new KafkaEventProperties(null, null, null, null));
+
+    private NotificationSseEventListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new NotificationSseEventListener(presenceRegistry, eventHistory, kafkaTemplate,
+            eventCodec);
+    }
+
+    @Test
+    @DisplayName("모든 수신자의 SSE 기록에 남기고, 접속 중인 수신자의 알림만 기록된 ID와 함께 발행")
+    void on_publishesOnlineReceiversOnly() throws Exception {
+        NotificationResponse online = notification();
+        NotificationResponse offline = notification();
+        given(eventHistory.appendAll("notifications", List.of(
+            new SseHistoryEntry(online.getReceiverId(), online),
+            new SseHistoryEntry(offline.getReceiverId(), offline))))
+            .willReturn(List.of("1-0", "2-0"));
+        given(presenceRegistry.onlineAmong(anyCollection())).willReturn(Set.of(online.getReceiverId()));
+
+        listener.on(new NotificationsCreatedEvent(List.of(online, offline)));
+
+        ArgumentCaptor<ProducerRecord<String, byte[]>> produced = ArgumentCaptor.captor();
+        verify(kafkaTemplate).send(produced.capture());
+        assertThat(produced.getValue().topic()).isEqualTo(NotificationSseEventListener.NOTIFICATIONS_TOPIC);
+        NotificationsCreatedEvent published =
+            eventCodec.decode(consumed(produced.getValue()), NotificationsCreatedEvent.class);
+        assertThat(published.notifications())
+            .extracting(NotificationResponse::getReceiverId)
+            .containsExactly(online.getReceiverId());
+        assertThat(published.eventIds()).containsExactly(entry(online.getId(), "1-0"));
+    }
+
+    @Test
+    @DisplayName("접속 중인 수신자가 없으면 기록만 남기고 발행하지 않음")
+    void on_skipsWhenNobodyOnline() {
+        NotificationResponse offline = notification();
+        given(presenceRegistry.onlineAmong(anyCollection())).willReturn(Set.of());
+
+        listener.on(new NotificationsCreatedEvent(List.of(offline)));
+
+        verify(eventHistory).appendAll("notifications",
+            List.of(new SseHistoryEntry(offline.getReceiverId(), offline)));
+        verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
+    }
+
+    @Test
+    @DisplayName("기록에 실패하면 이벤트 ID 없이 발행")
+    void on_publishesWithoutIdsWhenRecordFails() throws Exception {
+        NotificationResponse online = notification();
+        given(eventHistory.appendAll(any(), anyList())).willThrow(new IllegalStateException("redis down"));
+        given(presenceRegistry.onlineAmong(anyCollection())).willReturn(Set.of(online.getReceiverId()));
+
+        listener.on(new NotificationsCreatedEvent(List.of(online)));
+
+        ArgumentCaptor<ProducerRecord<String, byte[]>> produced = ArgumentCaptor.captor();
+        verify(kafkaTemplate).send(produced.capture());
+        NotificationsCreatedEvent published =
+            eventCodec.decode(consumed(produced.getValue()), NotificationsCreatedEvent.class);
+        assertThat(published.notifications()).hasSize(1);
+        assertThat(published.eventIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("전체 알림은 기록하지 않고 접속 여부와 무관하게 모든 인스턴스로 발행")
+    void on_broadcastIsPublished() {
+        listener.on(new BroadcastNotificationCreatedEvent(notification()));
+
+        verify(eventHistory, never()).appendAll(any(), anyList());
+        ArgumentCaptor<ProducerRecord<String, byte[]>> produced = ArgumentCaptor.captor();
+        verify(kafkaTemplate).send(produced.capture());
+        assertThat(produced.getValue().topic()).isEqualTo(NotificationSseEventListener.BROADCAST_TOPIC);
+    }
+
+    private ConsumerRecord<String, byte[]> consumed(ProducerRecord<String, byte[]> produced) {
+        var record = new ConsumerRecord<>(produced.topic(), 0, 0L, produced.key(), produced.value());
+        produced.headers().forEach(header -> record.headers().add(header));
+        return record;
+    }
+
+    private NotificationResponse notification() {
+        return NotificationResponse.builder()
+            .id(UUID.randomUUID())
+            .receiverId(UUID.randomUUID())
+            .title("테스트 알림")
+            .content("내용")
+            .level("INFO")
+            .createdAt(Instant.now())
+            .build();
+    }
+}
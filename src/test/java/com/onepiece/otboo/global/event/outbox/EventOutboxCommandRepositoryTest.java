@@ -0,0 +1,133 @@
+package com.onepiece.otboo.global.event.outbox;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.onepiece.otboo.global.config.TestJpaConfig;
+import com.onepiece.otboo.global.event.codec.EventCodec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({TestJpaConfig.class, EventOutboxCommandRepository.class})
+class EventOutboxCommandRepositoryTest {
+
+    @Autowired
+    private EventOutboxCommandRepository outboxRepository;
+
+    private static final Duration LEASE = Duration.ofMinutes(1);
+
+    @Test
+    @DisplayName("대기 행만 선점하고, 발행/최종 실패로 바뀐 행은 다시 가져가지 않는다")
+    void claim_skipsSentAndFailed() {
+        outboxRepository.insert(record("otboo.FeedLikedEvent", "author-1"));
+        outboxRepository.insert(record("otboo.FollowCreatedEvent", "followee-1"));
+        outboxRepository.insert(record("otboo.RoleUpdatedEvent", null));
+
+        List<OutboxRecord> claimed = claim(10);
+        assertThat(claimed).hasSize(3);
+
+        outboxRepository.markSent(List.of(claimed.get(0).id()), Instant.now());
+        outboxRepository.markFailed(List.of(claimed.get(1).id()), 1, Instant.now());
+        outboxRepository.release(List.of(claimed.get(2).id()), Instant.now());
+
+        assertThat(claim(10))
+            .extracting(OutboxRecord::id)
+            .containsExactly(claimed.get(2).id());
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수 전까지는 실패한 행을 다시 가져간다")
+    void markFailed_keepsPendingUntilMaxAttempts() {
+        outboxRepository.insert(record("otboo.FeedLikedEvent", "author-1"));
+        OutboxRecord claimed = claim(10).get(0);
+
+        outboxRepository.markFailed(List.of(claimed.id()), 3, Instant.now());
+        claim(10);
+        outboxRepository.markFailed(List.of(claimed.id()), 3, Instant.now());
+        assertThat(claim(10)).extracting(OutboxRecord::attempts).containsExactly(2);
+
+        outboxRepository.markFailed(List.of(claimed.id()), 3, Instant.now());
+        assertThat(claim(10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재시도 시각 전에는 실패하거나 되돌린 행을 가져가지 않는다")
+    void claim_waitsUntilNextAttemptAt() {
+        outboxRepository.insert(record("otboo.FeedLikedEvent", "author-1"));
+        outboxRepository.insert(record("otboo.FeedLikedEvent", "author-2"));
+        List<OutboxRecord> claimed = claim(10);
+        Instant later = Instant.now().plus(Duration.ofMinutes(5));
+
+        outboxRepository.markFailed(List.of(claimed.get(0).id()), 3, later);
+        outboxRepository.release(List.of(claimed.get(1).id()), later);
+
+        assertThat(claim(10)).isEmpty();
+        assertThat(outboxRepository.claim(10, later, later.plus(LEASE)))
+            .extracting(OutboxRecord::attempts)
+            .containsExactlyInAnyOrder(1, 0);
+    }
+
+    @Test
+    @DisplayName("발행 중인 행은 임대가 끝난 뒤에야 다시 가져간다")
+    void claim_reclaimsInFlightAfterLeaseExpires() {
+        outboxRepository.insert(record("otboo.FeedLikedEvent", "author-1"));
+        Instant now = Instant.now();
+        OutboxRecord claimed = outboxRepository.claim(10, now, now.plus(LEASE)).get(0);
+
+        assertThat(claim(10)).isEmpty();
+        assertThat(outboxRepository.claim(10, now.plus(LEASE), now.plus(LEASE).plus(LEASE)))
+            .extracting(OutboxRecord::id)
+            .containsExactly(claimed.id());
+    }
+
+    @Test
+    @DisplayName("저장한 키/본문/헤더로 같은 레코드를 다시 만든다")
+    void claim_restoresRecord() {
+        ProducerRecord<String, byte[]> original = record("otboo.FeedLikedEvent", "author-1");
+        outboxRepository.insert(original);
+
+        ProducerRecord<String, byte[]> restored = claim(1).get(0).toProducerRecord();
+
+        assertThat(restored.topic()).isEqualTo(original.topic());
+        assertThat(restored.key()).isEqualTo(original.key());
+        assertThat(restored.value()).isEqualTo(original.value());
+        assertThat(restored.headers().toArray()).isEqualTo(original.headers().toArray());
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 발행 완료 행만 지운다")
+    void purgeSentBefore() {
+        outboxRepository.insert(record("otboo.FeedLikedEvent", "old"));
+        outboxRepository.insert(record("otboo.FeedLikedEvent", "recent"));
+        List<OutboxRecord> claimed = claim(10);
+        Instant now = Instant.now();
+        outboxRepository.markSent(List.of(claimed.get(0).id()), now.minus(Duration.ofDays(2)));
+        outboxRepository.markSent(List.of(claimed.get(1).id()), now);
+
+        assertThat(outboxRepository.purgeSentBefore(now.minus(Duration.ofDays(1)))).isEqualTo(1);
+    }
+
+    private List<OutboxRecord> claim(int limit) {
+        Instant now = Instant.now();
+        return outboxRepository.claim(limit, now, now.plus(LEASE));
+    }
+
+    private ProducerRecord<String, byte[]> record(String topic, String key) {
+        ProducerRecord<String, byte[]> record = new ProducerRecord<>(topic, key, "payload".getBytes(UTF_8));
+        record.headers()
+            .add(EventCodec.CONTENT_TYPE_HEADER, "application/x-jackson-smile".getBytes(UTF_8))
+            .add(EventCodec.SCHEMA_HEADER, topic.substring("otboo.".length()).getBytes(UTF_8))
+            .add(EventCodec.SCHEMA_VERSION_HEADER, "1".getBytes(UTF_8));
+        return record;
+    }
+}
@@ -0,0 +1,174 @@
+package com.onepiece.otboo.global.event.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.onepiece.otboo.global.event.config.props.KafkaEventProperties;
+import com.onepiece.otboo.global.event.config.props.KafkaOutboxProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.NetworkException;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class EventOutboxRelayTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock
+    private EventOutboxCommandRepository outboxRepository;
+
+    @Mock
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private EventOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        KafkaOutboxProperties outbox =
+            new KafkaOutboxProperties(BATCH_SIZE, MAX_ATTEMPTS, Duration.ofSeconds(1), null,
+                Duration.ofSeconds(1), Duration.ofSeconds(10), null);
+        relay = new EventOutboxRelay(outboxRepository, kafkaTemplate, transactionManager,
+            new KafkaEventProperties(null, null, null, outbox), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("선점한 행을 모두 보낸 뒤 성공/실패를 각각 한 번에 반영한다")
+    void relayBatch_marksSentAndFailed() {
+        OutboxRecord acked = record();
+        OutboxRecord rejected = record();
+        given(outboxRepository.claim(eq(BATCH_SIZE), any(), any())).willReturn(List.of(acked, rejected));
+        given(kafkaTemplate.send(any(ProducerRecord.class)))
+            .willReturn(acked())
+            .willReturn(CompletableFuture.failedFuture(new RecordTooLargeException("too large")));
+
+        int claimed = relay.relayBatch();
+
+        assertThat(claimed).isEqualTo(2);
+        verify(outboxRepository).markSent(eq(List.of(acked.id())), any());
+        verify(outboxRepository).markFailed(eq(List.of(rejected.id())), eq(MAX_ATTEMPTS), any());
+    }
+
+    @Test
+    @DisplayName("send 호출 자체가 실패해도 나머지 행은 발행한다")
+    void relayBatch_sendThrows() {
+        OutboxRecord rejected = record();
+        OutboxRecord acked = record();
+        given(outboxRepository.claim(eq(BATCH_SIZE), any(), any())).willReturn(List.of(rejected, acked));
+        given(kafkaTemplate.send(any(ProducerRecord.class)))
+            .willThrow(new IllegalStateException("metadata timeout"))
+            .willReturn(acked());
+
+        relay.relayBatch();
+
+        verify(outboxRepository).markSent(eq(List.of(acked.id())), any());
+        verify(outboxRepository).markFailed(eq(List.of(rejected.id())), eq(MAX_ATTEMPTS), any());
+    }
+
+    @Test
+    @DisplayName("가득 찬 배치가 나오면 밀린 행이 없을 때까지 이어서 처리한다")
+    void relay_drainsFullBatches() {
+        given(outboxRepository.claim(eq(BATCH_SIZE), any(), any()))
+            .willReturn(List.of(record(), record()))
+            .willReturn(List.of(record()));
+        given(kafkaTemplate.send(any(ProducerRecord.class))).willReturn(acked());
+
+        relay.relay();
+
+        verify(outboxRepository, times(2)).claim(eq(BATCH_SIZE), any(), any());
+        verify(kafkaTemplate, times(3)).send(any(ProducerRecord.class));
+    }
+
+    @Test
+    @DisplayName("브로커가 거절하면 시도 횟수가 늘수록 재시도 간격을 늘린다")
+    void relayBatch_backsOffByAttempts() {
+        OutboxRecord first = record(0);
+        OutboxRecord retried = record(3);
+        given(outboxRepository.claim(eq(BATCH_SIZE), any(), any())).willReturn(List.of(first, retried));
+        given(kafkaTemplate.send(any(ProducerRecord.class)))
+            .willReturn(CompletableFuture.failedFuture(new RecordTooLargeException("too large")));
+
+        Instant before = Instant.now();
+        relay.relayBatch();
+
+        ArgumentCaptor<Instant> firstRetry = ArgumentCaptor.forClass(Instant.class);
+        ArgumentCaptor<Instant> laterRetry = ArgumentCaptor.forClass(Instant.class);
+        verify(outboxRepository).markFailed(eq(List.of(first.id())), eq(MAX_ATTEMPTS), firstRetry.capture());
+        verify(outboxRepository).markFailed(eq(List.of(retried.id())), eq(MAX_ATTEMPTS), laterRetry.capture());
+        assertThat(firstRetry.getValue()).isBetween(before.plusSeconds(1), before.plusSeconds(2));
+        assertThat(laterRetry.getValue()).isBetween(before.plusSeconds(8), before.plusSeconds(9));
+    }
+
+    @Test
+    @DisplayName("브로커에 닿지 못한 행은 시도 횟수를 올리지 않고 대기로 돌리며, 이어지면 간격을 늘린다")
+    void relayBatch_releasesWhenBrokerUnavailable() {
+        given(outboxRepository.claim(eq(BATCH_SIZE), any(), any()))
+            .willReturn(List.of(record(), record()));
+        given(kafkaTemplate.send(any(ProducerRecord.class)))
+            .willAnswer(inv -> CompletableFuture.failedFuture(new NetworkException("broker down")));
+
+        Instant before = Instant.now();
+        relay.relay();
+        relay.relay();
+
+        ArgumentCaptor<Instant> nextAttempt = ArgumentCaptor.forClass(Instant.class);
+        verify(outboxRepository, times(2)).release(anyList(), nextAttempt.capture());
+        verify(outboxRepository, never()).markFailed(anyList(), anyInt(), any());
+        // 가득 찬 배치였어도 브로커에 닿지 못하면 다음 주기까지 기다림
+        verify(outboxRepository, times(2)).claim(eq(BATCH_SIZE), any(), any());
+        assertThat(nextAttempt.getAllValues().get(0)).isBetween(before.plusSeconds(1), before.plusSeconds(2));
+        assertThat(nextAttempt.getAllValues().get(1)).isBetween(before.plusSeconds(2), before.plusSeconds(3));
+    }
+
+    @Test
+    @DisplayName("수신 확인이 제때 오지 않으면 브로커에 닿지 못한 것으로 보고 대기로 돌린다")
+    void relayBatch_releasesOnAckTimeout() {
+        OutboxRecord pending = record();
+        given(outboxRepository.claim(eq(BATCH_SIZE), any(), any())).willReturn(List.of(pending));
+        given(kafkaTemplate.send(any(ProducerRecord.class))).willReturn(new CompletableFuture<>());
+
+        relay.relayBatch();
+
+        verify(outboxRepository).release(eq(List.of(pending.id())), any());
+        verify(outboxRepository, never()).markFailed(anyList(), anyInt(), any());
+    }
+
+    private static CompletableFuture<SendResult<String, byte[]>> acked() {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private static OutboxRecord record() {
+        return record(0);
+    }
+
+    private static OutboxRecord record(int attempts) {
+        return new OutboxRecord(UUID.randomUUID(), "otboo.FeedLikedEvent", null, new byte[]{1},
+            "application/x-jackson-smile", "FeedLikedEvent", 2, attempts);
+    }
+}
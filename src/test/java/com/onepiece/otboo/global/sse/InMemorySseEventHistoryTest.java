@@ -0,0 +1,77 @@
+package com.onepiece.otboo.global.sse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.onepiece.otboo.global.sse.config.props.SseProperties;
+import com.onepiece.otboo.global.sse.config.props.SseReplayProperties;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InMemorySseEventHistoryTest {
+
+    private final InMemorySseEventHistory history =
+        new InMemorySseEventHistory(new SseProperties(new SseReplayProperties(3, null), null, null));
+
+    @Test
+    @DisplayName("이벤트 ID는 단조 증가하고, 마지막으로 받은 ID 이후의 이벤트만 순서대로 반환한다")
+    void readAfter_returnsEventsAfterLastId() {
+        UUID userId = UUID.randomUUID();
+        String first = history.append(userId, "notifications", "a");
+        String second = history.append(userId, "notifications", "b");
+        history.append(UUID.randomUUID(), "notifications", "other");
+        String third = history.append(userId, "notifications", "c");
+
+        assertThat(Long.parseLong(second)).isGreaterThan(Long.parseLong(first));
+        assertThat(history.readAfter(userId, first))
+            .extracting(SseHistoryEvent::id, SseHistoryEvent::data)
+            .containsExactly(
+                tuple(second, "b"),
+                tuple(third, "c"));
+    }
+
+    @Test
+    @DisplayName("보관 개수를 넘긴 오래된 이벤트는 버려진다")
+    void append_dropsOldestBeyondCapacity() {
+        UUID userId = UUID.randomUUID();
+        String first = history.append(userId, "notifications", 1);
+        for (int i = 2; i <= 5; i++) {
+            history.append(userId, "notifications", i);
+        }
+
+        assertThat(history.readAfter(userId, first))
+            .extracting(SseHistoryEvent::data)
+            .containsExactly(3, 4, 5);
+    }
+
+    @Test
+    @DisplayName("여러 건을 한 번에 기록하면 입력 순서대로 이벤트 ID를 반환한다")
+    void appendAll_returnsIdsInOrder() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        String before = history.append(first, "notifications", "before");
+
+        List<String> ids = history.appendAll("notifications", List.of(
+            new SseHistoryEntry(first, "a"),
+            new SseHistoryEntry(second, "b")));
+
+        assertThat(ids).hasSize(2);
+        assertThat(history.readAfter(first, before))
+            .extracting(SseHistoryEvent::id, SseHistoryEvent::data)
+            .containsExactly(tuple(ids.get(0), "a"));
+        assertThat(history.readAfter(second, "0"))
+            .extracting(SseHistoryEvent::id, SseHistoryEvent::data)
+            .containsExactly(tuple(ids.get(1), "b"));
+    }
+
+    @Test
+    @DisplayName("알 수 없는 형식의 Last-Event-ID면 빈 목록을 반환한다")
+    void readAfter_unknownIdFormat() {
+        UUID userId = UUID.randomUUID();
+        history.append(userId, "notifications", "a");
+
+        assertThat(history.readAfter(userId, UUID.randomUUID().toString())).isEmpty();
+    }
+}
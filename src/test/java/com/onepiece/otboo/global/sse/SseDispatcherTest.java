@@ -0,0 +1,146 @@
+package com.onepiece.otboo.global.sse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.onepiece.otboo.global.sse.config.props.SseDispatchProperties;
+import com.onepiece.otboo.global.sse.config.props.SseProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+class SseDispatcherTest {
+
+    // 예약된 작업을 바로 실행하지 않고 모아 두어, 느린 연결처럼 대기열이 쌓이는 상황을 재현
+    private final List<Runnable> tasks = new ArrayList<>();
+
+    private SimpleMeterRegistry meterRegistry;
+    private SseDispatcher dispatcher;
+    private SseEmitter emitter;
+    private SseConnection connection;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new SseDispatcher(tasks::add,
+            new SseProperties(null, new SseDispatchProperties(2, 3), null), meterRegistry);
+        emitter = mock(SseEmitter.class);
+        connection = new SseConnection(UUID.randomUUID(), emitter);
+    }
+
+    @Test
+    @DisplayName("호출 스레드에서는 대기열에 넣기만 하고, 연결마다 작업 하나가 순서대로 전송한다")
+    void enqueue_drainsInOrderOnExecutor() throws Exception {
+        SseEventBuilder first = SseEmitter.event().id("1");
+        SseEventBuilder second = SseEmitter.event().id("2");
+
+        dispatcher.enqueue(connection, first);
+        dispatcher.enqueue(connection, second);
+
+        verify(emitter, never()).send(any(SseEventBuilder.class));
+        assertThat(tasks).hasSize(1);
+        assertThat(meterRegistry.get("otboo.sse.queue.depth").gauge().value()).isEqualTo(2.0);
+
+        runTasks();
+
+        ArgumentCaptor<SseEventBuilder> sent = ArgumentCaptor.forClass(SseEventBuilder.class);
+        verify(emitter, times(2)).send(sent.capture());
+        assertThat(sent.getAllValues()).containsExactly(first, second);
+        assertThat(meterRegistry.get("otboo.sse.queue.depth").gauge().value()).isZero();
+        assertThat(meterRegistry.get("otboo.sse.send").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 가장 오래된 이벤트를 버린다")
+    void enqueue_dropsOldestWhenFull() throws Exception {
+        SseEventBuilder oldest = SseEmitter.event().id("1");
+        dispatcher.enqueue(connection, oldest);
+        dispatcher.enqueue(connection, SseEmitter.event().id("2"));
+        dispatcher.enqueue(connection, SseEmitter.event().id("3"));
+
+        runTasks();
+
+        verify(emitter, never()).send(oldest);
+        verify(emitter, times(2)).send(any(SseEventBuilder.class));
+        assertThat(meterRegistry.get("otboo.sse.dropped").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("전송 없이 계속 버리기만 하는 느린 연결은 끊는다")
+    void enqueue_evictsSlowConsumer() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            dispatcher.enqueue(connection, SseEmitter.event().id(String.valueOf(i)));
+        }
+
+        verify(emitter).complete();
+        assertThat(connection.isClosed()).isTrue();
+        assertThat(meterRegistry.get("otboo.sse.evicted").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("otboo.sse.queue.depth").gauge().value()).isZero();
+
+        runTasks();
+        verify(emitter, never()).send(any(SseEventBuilder.class));
+    }
+
+    @Test
+    @DisplayName("전송에 실패한 연결은 오류로 종료하고 이후 이벤트를 받지 않는다")
+    void drain_closesOnSendFailure() throws Exception {
+        IOException failure = new IOException("broken pipe");
+        willThrow(failure).given(emitter).send(any(SseEventBuilder.class));
+
+        dispatcher.enqueue(connection, SseEmitter.event().id("1"));
+        runTasks();
+        dispatcher.enqueue(connection, SseEmitter.event().id("2"));
+
+        verify(emitter).completeWithError(failure);
+        assertThat(tasks).isEmpty();
+    }
+
+    @Test
+    @DisplayName("스레드풀이 예약을 거절하면 호출 스레드에서 보내지 않고 대기열에 남겨 다음 예약에서 보낸다")
+    void enqueue_keepsEventsWhenExecutorRejects() throws Exception {
+        List<Runnable> accepted = new ArrayList<>();
+        AtomicBoolean saturated = new AtomicBoolean(true);
+        SseDispatcher rejecting = new SseDispatcher(task -> {
+            if (saturated.get()) {
+                throw new RejectedExecutionException("saturated");
+            }
+            accepted.add(task);
+        }, new SseProperties(null, new SseDispatchProperties(2, 3), null), meterRegistry);
+        SseEventBuilder first = SseEmitter.event().id("1");
+        SseEventBuilder second = SseEmitter.event().id("2");
+
+        rejecting.enqueue(connection, first);
+
+        verify(emitter, never()).send(any(SseEventBuilder.class));
+        assertThat(meterRegistry.get("otboo.sse.rejected").counter().count()).isEqualTo(1.0);
+
+        saturated.set(false);
+        rejecting.enqueue(connection, second);
+        accepted.remove(0).run();
+
+        ArgumentCaptor<SseEventBuilder> sent = ArgumentCaptor.forClass(SseEventBuilder.class);
+        verify(emitter, times(2)).send(sent.capture());
+        assertThat(sent.getAllValues()).containsExactly(first, second);
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.onepiece.otboo.global.sse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class SseEmitterRepositoryTest {
+
+    private final SseEmitterRepository repository = new SseEmitterRepository();
+
+    @Test
+    @DisplayName("같은 사용자의 두 번째 연결은 첫 연결을 대체하지 않는다")
+    void save_keepsEveryConnection() {
+        UUID userId = UUID.randomUUID();
+        SseConnection first = new SseConnection(userId, new SseEmitter());
+        SseConnection second = new SseConnection(userId, new SseEmitter());
+
+        repository.save(userId, first);
+        repository.save(userId, second);
+
+        assertThat(repository.get(userId)).containsExactlyInAnyOrder(first, second);
+        assertThat(repository.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("연결을 하나씩 삭제하고, 마지막 연결이 삭제될 때만 true를 반환한다")
+    void delete_reportsLastConnection() {
+        UUID userId = UUID.randomUUID();
+        SseConnection first = new SseConnection(userId, new SseEmitter());
+        SseConnection second = new SseConnection(userId, new SseEmitter());
+        repository.save(userId, first);
+        repository.save(userId, second);
+
+        assertThat(repository.delete(userId, first)).isFalse();
+        assertThat(repository.get(userId)).containsExactly(second);
+        assertThat(repository.delete(userId, second)).isTrue();
+        assertThat(repository.contains(userId)).isFalse();
+    }
+}
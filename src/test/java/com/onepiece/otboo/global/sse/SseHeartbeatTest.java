@@ -0,0 +1,91 @@
+package com.onepiece.otboo.global.sse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.onepiece.otboo.global.sse.config.props.SseHeartbeatProperties;
+import com.onepiece.otboo.global.sse.config.props.SseProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+class SseHeartbeatTest {
+
+    private final List<Runnable> tasks = new ArrayList<>();
+
+    private SimpleMeterRegistry meterRegistry;
+    private SseEmitterRepository emitterRepository;
+    private SseDispatcher dispatcher;
+    private SsePresenceRegistry presenceRegistry;
+    private SseService sseService;
+    private SseHeartbeat heartbeat;
+
+    @BeforeEach
+    void setUp() {
+        // 대기 중인 이벤트가 조금이라도 남아 있으면 멈춘 연결로 판단하도록 stallTimeout을 0으로 설정
+        SseProperties properties =
+            new SseProperties(null, null, new SseHeartbeatProperties(null, 1, Duration.ZERO));
+        meterRegistry = new SimpleMeterRegistry();
+        emitterRepository = new SseEmitterRepository();
+        dispatcher = new SseDispatcher(tasks::add, properties, meterRegistry);
+        presenceRegistry = mock(SsePresenceRegistry.class);
+        sseService = mock(SseService.class);
+        heartbeat = new SseHeartbeat(emitterRepository, dispatcher, presenceRegistry, sseService,
+            properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("살아 있는 연결에는 주석 프레임을 보내고 접속 기록을 갱신한다")
+    void beat_sendsCommentAndRefreshesPresence() throws Exception {
+        SseConnection connection = connect();
+
+        heartbeat.beat();
+        runTasks();
+
+        verify(connection.getEmitter()).send(any(SseEventBuilder.class));
+        verify(presenceRegistry).refresh(Set.of(connection.getUserId()));
+        assertThat(meterRegistry.get("otboo.sse.connections").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("otboo.sse.heartbeat.reaped").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기열이 줄지 않는 연결과 이미 닫힌 연결은 정리한다")
+    void beat_reapsStalledAndClosedConnections() {
+        SseConnection stalled = connect();
+        dispatcher.enqueue(stalled, SseEmitter.event().data("queued"));
+        SseConnection closed = connect();
+        dispatcher.release(closed);
+
+        heartbeat.beat();
+
+        verify(stalled.getEmitter()).complete();
+        verify(sseService).disconnect(stalled);
+        verify(sseService).disconnect(closed);
+        verify(presenceRegistry, never()).refresh(Set.of(stalled.getUserId()));
+        assertThat(meterRegistry.get("otboo.sse.heartbeat.reaped").gauge().value()).isEqualTo(2.0);
+    }
+
+    private SseConnection connect() {
+        UUID userId = UUID.randomUUID();
+        SseConnection connection = new SseConnection(userId, mock(SseEmitter.class));
+        emitterRepository.save(userId, connection);
+        return connection;
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+}
@@ -15,6 +15,7 @@ import com.onepiece.otboo.global.storage.exception.InvalidFileTypeException;
 import com.onepiece.otboo.global.storage.payload.UploadPayload;
 import java.io.IOException;
 import java.net.URL;
+import java.time.Duration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -136,6 +137,30 @@ class S3StorageTest {
         verify(s3Presigner).presignGetObject(captor.capture());
     }
 
+    @Test
+    void presigned_url_캐시가_있으면_같은_키는_한번만_서명한다() {
+
+        // given
+        String key = "image/test.jpg";
+        s3Storage = new S3Storage(s3Client, s3Presigner, "test-bucket",
+            new PresignedUrlCache(100, Duration.ofMinutes(5)));
+        URL fakeUrl = mock(URL.class);
+        PresignedGetObjectRequest presignedRequest = mock(PresignedGetObjectRequest.class);
+
+        given(fakeUrl.toString()).willReturn("https://fake-presigned-url.com/image/test.jpg");
+        given(presignedRequest.url()).willReturn(fakeUrl);
+        given(s3Presigner.presignGetObject(any(GetObjectPresignRequest.class)))
+            .willReturn(presignedRequest);
+
+        // when
+        String first = s3Storage.generatePresignedUrl(key);
+        String second = s3Storage.generatePresignedUrl(key);
+
+        // then
+        assertThat(second).isEqualTo(first);
+        verify(s3Presigner, times(1)).presignGetObject(any(GetObjectPresignRequest.class));
+    }
+
     @Test
     void 파일_삭제_테스트() {
 
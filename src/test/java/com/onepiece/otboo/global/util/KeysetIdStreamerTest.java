@@ -0,0 +1,44 @@
+package com.onepiece.otboo.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class KeysetIdStreamerTest {
+
+    @Test
+    void 마지막_ID_이후부터_배치_크기만큼_나눠_조회한다() {
+        List<UUID> ids = List.of(new UUID(0, 1), new UUID(0, 2), new UUID(0, 3));
+        List<UUID> afterIds = new ArrayList<>();
+        List<List<UUID>> batches = new ArrayList<>();
+
+        long total = KeysetIdStreamer.forEachBatch(2, (afterId, limit) -> {
+            afterIds.add(afterId);
+            return ids.stream()
+                .filter(id -> id.compareTo(afterId) > 0)
+                .limit(limit.max())
+                .toList();
+        }, batches::add);
+
+        assertThat(total).isEqualTo(3);
+        assertThat(batches).containsExactly(ids.subList(0, 2), ids.subList(2, 3));
+        assertThat(afterIds).containsExactly(KeysetIdStreamer.FIRST, ids.get(1));
+    }
+
+    @Test
+    void 배치가_가득_차면_빈_페이지를_확인한_뒤_종료한다() {
+        List<UUID> afterIds = new ArrayList<>();
+        UUID only = new UUID(0, 1);
+
+        long total = KeysetIdStreamer.forEachBatch(1, (afterId, limit) -> {
+            afterIds.add(afterId);
+            return afterId.equals(KeysetIdStreamer.FIRST) ? List.of(only) : List.of();
+        }, batch -> { });
+
+        assertThat(total).isEqualTo(1);
+        assertThat(afterIds).containsExactly(KeysetIdStreamer.FIRST, only);
+    }
+}